@@ -0,0 +1,110 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.benchmark;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.converter.HolidayConverter;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.Country;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.Holiday;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.external_api_dto.response.HolidayResponse;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.utility.HolidayFingerprint;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.utility.HolidayJsonDecoder;
+
+/**
+ * 공휴일 응답 디코딩: HolidayResponse 를 거치는 2단계(이전) vs 스트리밍 디코더(이후)
+ * <p>
+ * 공휴일 2,000건(일부 counties·여러 types 포함)짜리 Nager 형식 JSON 을 8KB 조각으로 나눠 둡니다. 이전 방식은 WebClient 의
+ * Jackson 디코더처럼 조각을 하나로 모은 뒤 HolidayResponse[] 로 읽고 HolidayConverter.toEntity 와 HolidayFingerprint.of 를
+ * 거칩니다. 이후 방식은 조각을 도착 순서대로 HolidayJsonDecoder 에 넣어 엔티티와 지문을 한 번에 만듭니다.
+ * <p>
+ * 실행: ./gradlew jmh (gc 프로파일러의 gc.alloc.rate.norm 으로 호출당 할당량 비교)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HolidayJsonDecodeBenchmark {
+
+    private static final int HOLIDAYS = 2_000;
+    private static final int CHUNK_SIZE = 8 * 1024;
+
+    private final Country country = Country.builder().id(1L).code("US").name("United States").build();
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private final HolidayConverter holidayConverter = new HolidayConverter();
+
+    private int bodyLength;
+    private List<byte[]> chunks;
+
+    @Setup
+    public void setUp() throws IOException {
+
+        List<HolidayResponse> responses = new ArrayList<>(HOLIDAYS);
+        LocalDate date = LocalDate.of(2000, 1, 1);
+        for (int i = 0; i < HOLIDAYS; i++) {
+            String[] counties = i % 5 == 0 ? new String[]{"US-CA", "US-CT", "US-NY"} : null;
+            String[] types = i % 3 == 0 ? new String[]{"Public", "Bank"} : new String[]{"Public"};
+            responses.add(new HolidayResponse(date.toString(), "Local holiday " + i, "Holiday " + i, "US",
+                i % 2 == 0, counties == null, counties, i % 4 == 0 ? 1950 + i % 50 : null, types));
+            date = date.plusDays(1);
+        }
+
+        byte[] body = objectMapper.writeValueAsBytes(responses);
+        bodyLength = body.length;
+        chunks = new ArrayList<>();
+        for (int offset = 0; offset < body.length; offset += CHUNK_SIZE) {
+            byte[] chunk = new byte[Math.min(CHUNK_SIZE, body.length - offset)];
+            System.arraycopy(body, offset, chunk, 0, chunk.length);
+            chunks.add(chunk);
+        }
+    }
+
+    @Benchmark
+    public void twoStage(Blackhole bh) throws IOException {
+
+        byte[] body = new byte[bodyLength];
+        int offset = 0;
+        for (byte[] chunk : chunks) {
+            System.arraycopy(chunk, 0, body, offset, chunk.length);
+            offset += chunk.length;
+        }
+
+        List<HolidayResponse> responses = List.of(objectMapper.readValue(body, HolidayResponse[].class));
+        List<Holiday> holidays = new ArrayList<>(responses.size());
+        for (HolidayResponse response : responses) {
+            holidays.add(holidayConverter.toEntity(response, country));
+        }
+
+        bh.consume(holidays);
+        bh.consume(HolidayFingerprint.of(responses));
+    }
+
+    @Benchmark
+    public void streaming(Blackhole bh) throws IOException {
+
+        try (HolidayJsonDecoder.Session session = new HolidayJsonDecoder.Session(country)) {
+            for (byte[] chunk : chunks) {
+                session.feed(ByteBuffer.wrap(chunk));
+            }
+            bh.consume(session.finish());
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.benchmark;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.enums.HolidayType;
+
+/**
+ * 타입 필터 검색 비교: CSV 컬럼 + LOWER LIKE OR 체인(이전) vs 비트마스크 컬럼 + BITAND(이후)
+ * <p>
+ * H2 인메모리 DB 에 두 형태의 테이블을 같은 합성 데이터(국가 120개 × 6년 × 연 125건 ≈ 9만 건)로 채우고, 저장소의 검색 쿼리와
+ * 같은 모양(국가 + 기간 + 타입, 날짜·ID 정렬, 페이지 크기 + 1)으로 조회합니다. 행 단위로 타입 목록을 복원하는 비용(split vs 캐시
+ * 조회)도 함께 측정합니다.
+ * <p>
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HolidayTypeFilterBenchmark {
+
+    private static final int COUNTRIES = 120;
+    private static final int YEARS = 6;
+    private static final int HOLIDAYS_PER_YEAR = 125;
+    private static final int FIRST_YEAR = 2020;
+    private static final int PAGE_SIZE = 20;
+
+    private static final String CSV_QUERY = """
+        SELECT holiday_id, holiday_date, holiday_types FROM holiday_csv
+        WHERE country_id = ? AND holiday_date BETWEEN ? AND ?
+          AND (LOWER(holiday_types) LIKE ? OR LOWER(holiday_types) LIKE ?)
+        ORDER BY holiday_date, holiday_id
+        LIMIT ?
+        """;
+
+    private static final String MASK_QUERY = """
+        SELECT holiday_id, holiday_date, holiday_type_mask FROM holiday_mask
+        WHERE country_id = ? AND holiday_date BETWEEN ? AND ?
+          AND BITAND(holiday_type_mask, ?) <> 0
+        ORDER BY holiday_date, holiday_id
+        LIMIT ?
+        """;
+
+    private static final String CSV_COUNT = """
+        SELECT COUNT(*) FROM holiday_csv
+        WHERE country_id = ? AND holiday_date BETWEEN ? AND ?
+          AND (LOWER(holiday_types) LIKE ? OR LOWER(holiday_types) LIKE ?)
+        """;
+
+    private static final String MASK_COUNT = """
+        SELECT COUNT(*) FROM holiday_mask
+        WHERE country_id = ? AND holiday_date BETWEEN ? AND ?
+          AND BITAND(holiday_type_mask, ?) <> 0
+        """;
+
+    private Connection connection;
+    private PreparedStatement csvQuery;
+    private PreparedStatement maskQuery;
+    private PreparedStatement csvCount;
+    private PreparedStatement maskCount;
+
+    private final List<String> csvValues = new ArrayList<>();
+    private final List<Integer> maskValues = new ArrayList<>();
+
+    private final int filterMask = HolidayType.BANK.getBit() | HolidayType.SCHOOL.getBit();
+    private int countryCursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+
+        connection = DriverManager.getConnection("jdbc:h2:mem:type-filter-bench;DB_CLOSE_DELAY=-1", "sa", "");
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                CREATE TABLE holiday_csv (
+                    holiday_id BIGINT PRIMARY KEY,
+                    country_id BIGINT NOT NULL,
+                    holiday_date DATE NOT NULL,
+                    holiday_types VARCHAR(255))
+                """);
+            statement.execute("""
+                CREATE TABLE holiday_mask (
+                    holiday_id BIGINT PRIMARY KEY,
+                    country_id BIGINT NOT NULL,
+                    holiday_date DATE NOT NULL,
+                    holiday_type_mask INTEGER DEFAULT 0 NOT NULL)
+                """);
+            statement.execute("CREATE INDEX idx_csv_country_date ON holiday_csv (country_id, holiday_date, holiday_id)");
+            statement.execute("CREATE INDEX idx_mask_country_date ON holiday_mask (country_id, holiday_date, holiday_id)");
+        }
+
+        populate();
+
+        csvQuery = connection.prepareStatement(CSV_QUERY);
+        maskQuery = connection.prepareStatement(MASK_QUERY);
+        csvCount = connection.prepareStatement(CSV_COUNT);
+        maskCount = connection.prepareStatement(MASK_COUNT);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public void searchCsvLike(Blackhole blackhole) throws SQLException {
+
+        bindCsv(csvQuery, nextCountry());
+        csvQuery.setInt(6, PAGE_SIZE + 1);
+
+        try (ResultSet rs = csvQuery.executeQuery()) {
+            while (rs.next()) {
+                blackhole.consume(rs.getLong(1));
+                blackhole.consume(rs.getString(3));
+            }
+        }
+    }
+
+    @Benchmark
+    public void searchBitmask(Blackhole blackhole) throws SQLException {
+
+        bindMask(maskQuery, nextCountry());
+        maskQuery.setInt(5, PAGE_SIZE + 1);
+
+        try (ResultSet rs = maskQuery.executeQuery()) {
+            while (rs.next()) {
+                blackhole.consume(rs.getLong(1));
+                blackhole.consume(rs.getInt(3));
+            }
+        }
+    }
+
+    @Benchmark
+    public long countCsvLike() throws SQLException {
+
+        bindCsv(csvCount, nextCountry());
+        try (ResultSet rs = csvCount.executeQuery()) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    @Benchmark
+    public long countBitmask() throws SQLException {
+
+        bindMask(maskCount, nextCountry());
+        try (ResultSet rs = maskCount.executeQuery()) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    @Benchmark
+    public void decodeCsvSplit(Blackhole blackhole) {
+
+        for (String csv : csvValues) {
+            blackhole.consume(csv == null || csv.isEmpty() ? List.of() : List.of(csv.split(",")));
+        }
+    }
+
+    @Benchmark
+    public void decodeBitmask(Blackhole blackhole) {
+
+        for (int mask : maskValues) {
+            blackhole.consume(HolidayType.valuesOf(mask));
+        }
+    }
+
+    private long nextCountry() {
+
+        countryCursor = (countryCursor + 1) % COUNTRIES;
+        return countryCursor + 1;
+    }
+
+    private void bindCsv(PreparedStatement statement, long countryId) throws SQLException {
+
+        statement.setLong(1, countryId);
+        statement.setDate(2, Date.valueOf(LocalDate.of(FIRST_YEAR, 1, 1)));
+        statement.setDate(3, Date.valueOf(LocalDate.of(FIRST_YEAR + YEARS - 1, 12, 31)));
+        statement.setString(4, "%bank%");
+        statement.setString(5, "%school%");
+    }
+
+    private void bindMask(PreparedStatement statement, long countryId) throws SQLException {
+
+        statement.setLong(1, countryId);
+        statement.setDate(2, Date.valueOf(LocalDate.of(FIRST_YEAR, 1, 1)));
+        statement.setDate(3, Date.valueOf(LocalDate.of(FIRST_YEAR + YEARS - 1, 12, 31)));
+        statement.setInt(4, filterMask);
+    }
+
+    private void populate() throws SQLException {
+
+        Random random = new Random(42);
+        HolidayType[] types = HolidayType.values();
+        long id = 0;
+
+        try (PreparedStatement csvInsert = connection.prepareStatement(
+            "INSERT INTO holiday_csv VALUES (?, ?, ?, ?)");
+            PreparedStatement maskInsert = connection.prepareStatement(
+                "INSERT INTO holiday_mask VALUES (?, ?, ?, ?)")) {
+
+            for (int country = 1; country <= COUNTRIES; country++) {
+                for (int year = FIRST_YEAR; year < FIRST_YEAR + YEARS; year++) {
+                    for (int n = 0; n < HOLIDAYS_PER_YEAR; n++) {
+                        id++;
+                        Date date = Date.valueOf(LocalDate.of(year, 1, 1).plusDays(random.nextInt(365)));
+
+                        // 대부분 Public 하나, 일부는 2~3개 타입 조합
+                        int mask = HolidayType.PUBLIC.getBit();
+                        if (random.nextInt(4) == 0) {
+                            mask |= types[1 + random.nextInt(types.length - 1)].getBit();
+                        }
+                        if (random.nextInt(10) == 0) {
+                            mask |= types[1 + random.nextInt(types.length - 1)].getBit();
+                        }
+                        String csv = String.join(",", HolidayType.valuesOf(mask));
+
+                        csvInsert.setLong(1, id);
+                        csvInsert.setLong(2, country);
+                        csvInsert.setDate(3, date);
+                        csvInsert.setString(4, csv);
+                        csvInsert.addBatch();
+
+                        maskInsert.setLong(1, id);
+                        maskInsert.setLong(2, country);
+                        maskInsert.setDate(3, date);
+                        maskInsert.setInt(4, mask);
+                        maskInsert.addBatch();
+
+                        csvValues.add(csv);
+                        maskValues.add(mask);
+                    }
+                    csvInsert.executeBatch();
+                    maskInsert.executeBatch();
+                }
+            }
+        }
+    }
+}
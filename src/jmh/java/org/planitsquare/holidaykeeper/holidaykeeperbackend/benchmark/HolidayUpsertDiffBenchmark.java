@@ -0,0 +1,142 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.Country;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.Holiday;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.utility.HolidayDiff;
+
+/**
+ * upsert 비교 단계: 문자열 키(이전) vs HolidayKey + HolidayDiff(이후)
+ * <p>
+ * 기존 12,000건과 새 12,000건(그중 10% 내용 변경, 5% 삭제, 5% 추가, 특수 따옴표 포함 영문명 일부)을 비교합니다. 이전 방식은
+ * "국가코드|날짜|정규화된 영문명" 문자열을 중복 제거·기존·신규 맵에서 각각 만들고 정규화에 String.replace 를 여섯 번 호출합니다.
+ * <p>
+ * 실행: ./gradlew jmh (gc 프로파일러의 gc.alloc.rate.norm 으로 호출당 할당량 비교)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HolidayUpsertDiffBenchmark {
+
+    private static final int HOLIDAYS = 12_000;
+
+    private final Country country = Country.builder().id(1L).code("KR").name("South Korea").build();
+
+    private List<Holiday> oldHolidays;
+    private List<Holiday> newHolidays;
+
+    /**
+     * 비교 결과로 기존 엔티티가 수정되므로 호출마다 새로 만듭니다. (이 준비 과정의 할당은 두 벤치마크에 똑같이 더해짐)
+     */
+    @Setup(Level.Invocation)
+    public void setUp() {
+
+        oldHolidays = new ArrayList<>(HOLIDAYS);
+        newHolidays = new ArrayList<>(HOLIDAYS);
+
+        LocalDate date = LocalDate.of(2000, 1, 1);
+        for (int i = 0; i < HOLIDAYS; i++) {
+            String name = i % 7 == 0 ? "Saint’s Day " + i : "Holiday " + i;
+
+            if (i % 20 != 0) {
+                oldHolidays.add(holiday(date, "local " + i, name));
+            }
+            if (i % 20 != 1) {
+                newHolidays.add(holiday(date, i % 10 == 2 ? "changed " + i : "local " + i, name.replace('’', '\'')));
+            }
+            date = date.plusDays(1);
+        }
+    }
+
+    @Benchmark
+    public void stringKeyDiff(Blackhole bh) {
+
+        Map<String, Holiday> deduped = newHolidays.stream()
+            .collect(Collectors.toMap(this::legacyKey, h -> h, (h1, h2) -> h1));
+        List<Holiday> distinct = deduped.values().stream().toList();
+
+        Map<String, Holiday> oldMap = oldHolidays.stream()
+            .collect(Collectors.toMap(this::legacyKey, h -> h));
+        Map<String, Holiday> newMap = distinct.stream()
+            .collect(Collectors.toMap(this::legacyKey, h -> h));
+
+        List<Holiday> toSave = new ArrayList<>();
+        for (Map.Entry<String, Holiday> entry : newMap.entrySet()) {
+            Holiday oldHoliday = oldMap.get(entry.getKey());
+            if (oldHoliday == null) {
+                toSave.add(entry.getValue());
+            } else if (!Objects.equals(oldHoliday.getLocalName(), entry.getValue().getLocalName())) {
+                oldHoliday.updateEntity(entry.getValue());
+                toSave.add(oldHoliday);
+            }
+        }
+        List<Holiday> toDelete = oldMap.keySet().stream()
+            .filter(key -> !newMap.containsKey(key))
+            .map(oldMap::get)
+            .toList();
+
+        bh.consume(toSave);
+        bh.consume(toDelete);
+    }
+
+    @Benchmark
+    public void holidayKeyDiff(Blackhole bh) {
+
+        bh.consume(HolidayDiff.of(oldHolidays, newHolidays));
+    }
+
+    private String legacyKey(Holiday h) {
+
+        return h.getCountry().getCode()
+            + "|" + h.getDate()
+            + "|" + legacyNormalize(h.getName());
+    }
+
+    private String legacyNormalize(String value) {
+
+        if (value == null) {
+            return "";
+        }
+        return value.trim()
+            .replace("’", "'")
+            .replace("‘", "'")
+            .replace("`", "'")
+            .replace("´", "'")
+            .replace("“", "\"")
+            .replace("”", "\"");
+    }
+
+    private Holiday holiday(LocalDate date, String localName, String name) {
+
+        return Holiday.builder()
+            .date(date)
+            .localName(localName)
+            .name(name)
+            .country(country)
+            .fixed(false)
+            .global(true)
+            .typeMask(1)
+            .build();
+    }
+}
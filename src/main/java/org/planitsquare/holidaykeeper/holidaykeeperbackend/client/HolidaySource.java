@@ -0,0 +1,24 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.client;
+
+import java.util.List;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.external_api_dto.response.CountryResponse;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.external_api_dto.response.HolidayResponse;
+
+/**
+ * 국가 목록·공휴일 제공처 (블로킹)
+ * <p>
+ * holiday.source.type 에 따라 Nager API({@link NagerApiClient}) 또는 로컬 디렉터리·zip({@link LocalHolidaySource}) 구현이
+ * 사용됩니다. 조회 실패 시 COUNTRY_API_CALL_FAILED / HOLIDAY_API_CALL_FAILED 를 던집니다.
+ */
+public interface HolidaySource {
+
+    /**
+     * 국가 목록 조회
+     */
+    List<CountryResponse> fetchAvailableCountries();
+
+    /**
+     * 특정 국가의 특정 연도 공휴일 조회 (데이터가 없으면 빈 리스트)
+     */
+    List<HolidayResponse> fetchPublicHolidays(String countryCode, int year);
+}
@@ -0,0 +1,30 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.client;
+
+import java.util.List;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.Country;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.external_api_dto.response.CountryResponse;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.external_api_dto.response.HolidayResponse;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.utility.HolidayJsonDecoder.Rows;
+import reactor.core.publisher.Mono;
+
+/**
+ * 국가 목록·공휴일 제공처 (리액티브, 전체 동기화용)
+ * <p>
+ * 호출 측이 flatMap 동시 실행 수로 병렬 조회하므로, 블로킹 I/O 가 필요한 구현은 이벤트 루프 밖에서 실행해야 합니다.
+ */
+public interface HolidaySourceReactive {
+
+    Mono<List<CountryResponse>> fetchAvailableCountries();
+
+    Mono<List<HolidayResponse>> fetchPublicHolidays(String countryCode, int year);
+
+    /**
+     * 공휴일 조회 (이전 조회 이후 변경이 없음을 알 수 있는 구현이면 notModified = true)
+     */
+    Mono<NagerFetchResult<List<HolidayResponse>>> fetchPublicHolidaysConditional(String countryCode, int year);
+
+    /**
+     * 공휴일 조회 결과를 저장할 엔티티와 응답 지문으로 바로 디코딩 (전체 동기화용, 변경 여부는 fetchPublicHolidaysConditional 과 같음)
+     */
+    Mono<NagerFetchResult<Rows>> fetchHolidayRows(Country country, int year);
+}
@@ -0,0 +1,171 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.exception.BusinessException;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.exception.ErrorCode;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.external_api_dto.response.CountryResponse;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.external_api_dto.response.HolidayResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬 디렉터리 또는 zip 의 Nager 형식 JSON 파일을 읽는 공휴일 제공처 (holiday.source.type=local)
+ * <p>
+ * 외부 호출이 막힌 환경이나 부하 테스트에서 Nager API 대신 사용합니다. 파일 배치는 API 경로와 같습니다.
+ * <pre>
+ * {path}/AvailableCountries.json
+ * {path}/PublicHolidays/{year}/{countryCode}.json
+ * </pre>
+ * zip 은 압축을 풀지 않고 zip 파일 시스템으로 바로 읽으며, 최상위에 폴더가 하나 더 있어도 됩니다. 파일은 Jackson 스트리밍 파서로 배열
+ * 원소를 하나씩 읽어 본문 전체를 문자열로 올리지 않습니다. 전체 동기화는 {@link LocalHolidaySourceReactive} 를 통해 호출 제한 없이
+ * fetch-concurrency 만큼 병렬로, 파일을 저장할 엔티티로 바로 디코딩하며 읽습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "holiday.source.type", havingValue = "local")
+public class LocalHolidaySource implements HolidaySource {
+
+    static final String COUNTRIES_FILE = "AvailableCountries.json";
+    static final String HOLIDAYS_DIR = "PublicHolidays";
+
+    private final ObjectReader countryReader;
+    private final ObjectReader holidayReader;
+    private final Path location;
+
+    // zip 인 경우 열어 둔 zip 파일 시스템
+    private FileSystem zipFileSystem;
+
+    // AvailableCountries.json 이 있는 위치
+    private Path root;
+
+    public LocalHolidaySource(
+        ObjectMapper objectMapper,
+        @Value("${holiday.source.local.path:./data/nager-export}") String location
+    ) {
+
+        this.countryReader = objectMapper.readerFor(CountryResponse.class);
+        this.holidayReader = objectMapper.readerFor(HolidayResponse.class);
+        this.location = Path.of(location);
+    }
+
+    @PostConstruct
+    void open() throws IOException {
+
+        Path base;
+        if (Files.isRegularFile(location)) {
+            zipFileSystem = FileSystems.newFileSystem(location);
+            base = zipFileSystem.getRootDirectories().iterator().next();
+        } else if (Files.isDirectory(location)) {
+            base = location;
+        } else {
+            throw new IllegalStateException("공휴일 데이터 경로가 없습니다: " + location.toAbsolutePath());
+        }
+
+        root = findRoot(base);
+        log.info("로컬 공휴일 데이터 사용: {}", location.toAbsolutePath());
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+
+        if (zipFileSystem != null) {
+            zipFileSystem.close();
+        }
+    }
+
+    @Override
+    public List<CountryResponse> fetchAvailableCountries() {
+
+        Path file = root.resolve(COUNTRIES_FILE);
+
+        try {
+            List<CountryResponse> countries = readArray(file, countryReader);
+            log.info("국가 목록 조회 성공: {} 개국 ({})", countries.size(), file);
+            return countries;
+
+        } catch (IOException e) {
+            log.error("국가 목록 파일 읽기 실패: {}", file, e);
+            throw new BusinessException(ErrorCode.COUNTRY_API_CALL_FAILED);
+        }
+    }
+
+    @Override
+    public List<HolidayResponse> fetchPublicHolidays(String countryCode, int year) {
+
+        Path file = holidaysFile(countryCode, year);
+        if (!Files.exists(file)) {
+            log.debug("공휴일 데이터 없음: {} - {}", countryCode, year);
+            return List.of();
+        }
+
+        try {
+            return readArray(file, holidayReader);
+
+        } catch (IOException e) {
+            log.error("공휴일 파일 읽기 실패: {}", file, e);
+            throw new BusinessException(ErrorCode.HOLIDAY_API_CALL_FAILED);
+        }
+    }
+
+    Path holidaysFile(String countryCode, int year) {
+
+        return root.resolve(HOLIDAYS_DIR).resolve(String.valueOf(year)).resolve(countryCode + ".json");
+    }
+
+    /**
+     * JSON 배열을 원소 단위로 읽음 (빈 파일은 빈 리스트, 204 No Content 를 그대로 저장한 경우)
+     */
+    private <T> List<T> readArray(Path file, ObjectReader reader) throws IOException {
+
+        try (InputStream in = Files.newInputStream(file);
+            JsonParser parser = reader.createParser(in)) {
+
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                return List.of();
+            }
+            if (token != JsonToken.START_ARRAY) {
+                throw new IOException("JSON 배열이 아닙니다: " + file);
+            }
+
+            List<T> result = new ArrayList<>();
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                result.add(reader.readValue(parser));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * AvailableCountries.json 이 있는 위치 (zip 안에 최상위 폴더가 하나 더 있는 경우 그 폴더)
+     */
+    private static Path findRoot(Path base) throws IOException {
+
+        if (Files.exists(base.resolve(COUNTRIES_FILE))) {
+            return base;
+        }
+
+        try (Stream<Path> children = Files.list(base)) {
+            return children
+                .filter(child -> Files.exists(child.resolve(COUNTRIES_FILE)))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException(COUNTRIES_FILE + " 파일이 없습니다: " + base));
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.client;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.exception.BusinessException;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.exception.ErrorCode;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.Country;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.external_api_dto.response.CountryResponse;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.external_api_dto.response.HolidayResponse;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.utility.HolidayJsonDecoder;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.utility.HolidayJsonDecoder.Rows;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * {@link LocalHolidaySource} 의 리액티브 버전 (holiday.source.type=local)
+ * <p>
+ * 파일 읽기는 블로킹 I/O 이므로 boundedElastic 에서 실행하며, 전체 동기화의 flatMap 동시 실행 수만큼 여러 파일을 병렬로 읽습니다.
+ * 변경 여부는 알 수 없으므로 notModified 는 항상 false 이고, 변경 없는 국가·연도는 응답 지문 비교로 건너뜁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "holiday.source.type", havingValue = "local")
+public class LocalHolidaySourceReactive implements HolidaySourceReactive {
+
+    private static final int READ_BUFFER_SIZE = 8192;
+
+    private final LocalHolidaySource localHolidaySource;
+
+    @Override
+    public Mono<List<CountryResponse>> fetchAvailableCountries() {
+
+        return Mono.fromCallable(localHolidaySource::fetchAvailableCountries)
+            .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @Override
+    public Mono<List<HolidayResponse>> fetchPublicHolidays(String countryCode, int year) {
+
+        return Mono.fromCallable(() -> localHolidaySource.fetchPublicHolidays(countryCode, year))
+            .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @Override
+    public Mono<NagerFetchResult<List<HolidayResponse>>> fetchPublicHolidaysConditional(String countryCode, int year) {
+
+        return fetchPublicHolidays(countryCode, year)
+            .map(body -> new NagerFetchResult<>(body, false));
+    }
+
+    /**
+     * 파일을 버퍼 단위로 읽으며 저장할 엔티티로 바로 디코딩 (파일이 없으면 빈 목록)
+     */
+    @Override
+    public Mono<NagerFetchResult<Rows>> fetchHolidayRows(Country country, int year) {
+
+        return Mono.defer(() -> {
+                Path file = localHolidaySource.holidaysFile(country.getCode(), year);
+                if (!Files.exists(file)) {
+                    return Mono.fromCallable(() -> HolidayJsonDecoder.decode(new byte[0], country));
+                }
+                Flux<DataBuffer> body = DataBufferUtils.readInputStream(
+                    () -> Files.newInputStream(file), DefaultDataBufferFactory.sharedInstance, READ_BUFFER_SIZE);
+                return HolidayJsonDecoder.decode(body, country)
+                    .onErrorMap(ex -> {
+                        log.error("공휴일 파일 읽기 실패: {}", file, ex);
+                        return new BusinessException(ErrorCode.HOLIDAY_API_CALL_FAILED);
+                    });
+            })
+            .subscribeOn(Schedulers.boundedElastic())
+            .map(rows -> new NagerFetchResult<>(rows, false));
+    }
+}
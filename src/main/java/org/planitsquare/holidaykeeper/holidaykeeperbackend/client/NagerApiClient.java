@@ -1,7 +1,10 @@
 package org.planitsquare.holidaykeeper.holidaykeeperbackend.client;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Supplier;
 import lombok.extern.slf4j.Slf4j;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.exception.BusinessException;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.exception.ErrorCode;
@@ -9,33 +12,65 @@ import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.external_api_dt
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.external_api_dto.response.HolidayResponse;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
 @Slf4j
 @Component
-public class NagerApiClient {
+@ConditionalOnProperty(name = "holiday.source.type", havingValue = "nager", matchIfMissing = true)
+public class NagerApiClient implements HolidaySource {
 
     private final RestTemplate restTemplate;
 
+    // NagerApiClientReactive 와 공유하는 호출 제한 (초당 요청 수 + 동시 호출 수)
+    private final NagerRequestLimiter nagerRequestLimiter;
+
+    // NagerApiClientReactive 와 공유하는 조건부 요청용 응답 캐시
+    private final NagerResponseCache nagerResponseCache;
+
+    // NagerApiClientReactive 와 공유하는 재시도 정책·서킷 브레이커
+    private final NagerRetryPolicy nagerRetryPolicy;
+    private final NagerCircuitBreaker nagerCircuitBreaker;
+
+    private final ObjectMapper objectMapper;
+
     @Value("${nager.api.base-url}")
     private String baseUrl;
 
-    public NagerApiClient(@Qualifier("nagerRestTemplate") RestTemplate restTemplate) {
+    public NagerApiClient(
+        @Qualifier("nagerRestTemplate") RestTemplate restTemplate,
+        NagerRequestLimiter nagerRequestLimiter,
+        NagerResponseCache nagerResponseCache,
+        NagerRetryPolicy nagerRetryPolicy,
+        NagerCircuitBreaker nagerCircuitBreaker,
+        ObjectMapper objectMapper
+    ) {
 
         this.restTemplate = restTemplate;
+        this.nagerRequestLimiter = nagerRequestLimiter;
+        this.nagerResponseCache = nagerResponseCache;
+        this.nagerRetryPolicy = nagerRetryPolicy;
+        this.nagerCircuitBreaker = nagerCircuitBreaker;
+        this.objectMapper = objectMapper;
     }
 
     /**
      * 국가 목록 조회
      */
+    @Override
     public List<CountryResponse> fetchAvailableCountries() {
 
         String url = baseUrl + "/AvailableCountries";
 
         try {
             log.debug("국가 목록 API 호출: {}", url);
-            CountryResponse[] response = restTemplate.getForObject(url, CountryResponse[].class);
+            CountryResponse[] response = call(() -> restTemplate.getForObject(url, CountryResponse[].class));
 
             if (response == null || response.length == 0) {
                 log.warn("국가 목록 응답이 비어있습니다.");
@@ -54,13 +89,16 @@ public class NagerApiClient {
     /**
      * 특정 국가의 특정 연도 공휴일 조회
      */
+    @Override
     public List<HolidayResponse> fetchPublicHolidays(String countryCode, int year) {
 
         String url = String.format("%s/PublicHolidays/%d/%s", baseUrl, year, countryCode);
 
         try {
             log.debug("공휴일 API 호출: {} - {}", countryCode, year);
-            HolidayResponse[] response = restTemplate.getForObject(url, HolidayResponse[].class);
+            HolidayResponse[] response = nagerResponseCache.isEnabled()
+                ? fetchConditional(url, NagerResponseCache.publicHolidaysPath(countryCode, year))
+                : call(() -> restTemplate.getForObject(url, HolidayResponse[].class));
 
             if (response == null || response.length == 0) {
                 log.debug("공휴일 데이터 없음: {} - {}", countryCode, year);
@@ -75,4 +113,43 @@ public class NagerApiClient {
             throw new BusinessException(ErrorCode.HOLIDAY_API_CALL_FAILED);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 디스크 캐시의 검증자로 조건부 요청. 304 이면 캐시된 본문을, 그 외에는 새 본문을 캐시에 저장한 뒤 사용합니다.
+     */
+    private HolidayResponse[] fetchConditional(String url, String path) throws JsonProcessingException {
+
+        NagerResponseCache.Entry cached = nagerResponseCache.get(path).orElse(null);
+
+        HttpHeaders headers = new HttpHeaders();
+        nagerResponseCache.applyValidators(headers, cached);
+
+        ResponseEntity<String> response = call(
+            () -> restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), String.class));
+
+        String body;
+        if (response.getStatusCode().value() == HttpStatus.NOT_MODIFIED.value() && cached != null) {
+            body = cached.body();
+        } else {
+            body = response.getBody();
+            nagerResponseCache.put(path, response.getHeaders().getETag(),
+                response.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED), body);
+        }
+
+        return body == null || body.isBlank()
+            ? null
+            : objectMapper.readValue(body, HolidayResponse[].class);
+    }
+
+    /**
+     * 재시도 → 호출 제한 → 서킷 브레이커 순으로 감싸 호출 (재시도마다 허가 획득과 서킷 확인을 다시 거침)
+     * <p>
+     * 허가는 서킷 바깥에서 받아, 허가 대기 시간 초과가 서킷 실패로 세어지지 않게 합니다.
+     */
+    private <T> T call(Supplier<T> request) {
+
+        return nagerRetryPolicy.execute(
+            () -> nagerRequestLimiter.execute(
+                () -> nagerCircuitBreaker.execute(request)));
+    }
+}
@@ -1,28 +1,56 @@
 package org.planitsquare.holidaykeeper.holidaykeeperbackend.client;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.Country;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.external_api_dto.response.CountryResponse;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.external_api_dto.response.HolidayResponse;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.utility.HolidayJsonDecoder;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.utility.HolidayJsonDecoder.Rows;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class NagerApiClientReactive {
+@ConditionalOnProperty(name = "holiday.source.type", havingValue = "nager", matchIfMissing = true)
+public class NagerApiClientReactive implements HolidaySourceReactive {
 
     private final WebClient nagerWebClient;
 
+    // NagerApiClient 와 공유하는 호출 제한 (초당 요청 수 + 동시 호출 수)
+    private final NagerRequestLimiter nagerRequestLimiter;
+
+    // NagerApiClient 와 공유하는 조건부 요청용 응답 캐시
+    private final NagerResponseCache nagerResponseCache;
+
+    // NagerApiClient 와 공유하는 재시도 정책·서킷 브레이커
+    private final NagerRetryPolicy nagerRetryPolicy;
+    private final NagerCircuitBreaker nagerCircuitBreaker;
+
+    private final ObjectMapper objectMapper;
+
+    @Override
     public Mono<List<CountryResponse>> fetchAvailableCountries() {
 
-        return nagerWebClient.get()
-            .uri("/AvailableCountries")
-            .retrieve()
-            .bodyToFlux(CountryResponse.class)
-            .collectList()
+        return call(nagerWebClient.get()
+                .uri("/AvailableCountries")
+                .retrieve()
+                .bodyToFlux(CountryResponse.class)
+                .collectList())
             .doOnNext(list ->
                 log.info("국가 목록 조회 성공: {} 개국", list.size())
             )
@@ -31,18 +59,158 @@ public class NagerApiClientReactive {
             );
     }
 
+    @Override
     public Mono<List<HolidayResponse>> fetchPublicHolidays(String countryCode, int year) {
 
-        return nagerWebClient.get()
-            .uri("/PublicHolidays/{year}/{code}", year, countryCode)
-            .retrieve()
-            .bodyToFlux(HolidayResponse.class)
-            .collectList()
-            .doOnNext(list ->
-                log.debug("공휴일 조회 성공: {} - {} ({} 건)", countryCode, year, list.size())
+        return fetchPublicHolidaysConditional(countryCode, year)
+            .map(NagerFetchResult::body);
+    }
+
+    /**
+     * 공휴일 조회 (조건부 요청)
+     * <p>
+     * 디스크 캐시에 이전 응답의 검증자가 있으면 If-None-Match / If-Modified-Since 를 붙여 요청하고, 304 응답이면 캐시된 본문과 함께
+     * notModified = true 를 반환합니다.
+     */
+    @Override
+    public Mono<NagerFetchResult<List<HolidayResponse>>> fetchPublicHolidaysConditional(
+        String countryCode,
+        int year
+    ) {
+
+        String path = NagerResponseCache.publicHolidaysPath(countryCode, year);
+
+        // 캐시 파일 읽기는 블로킹 I/O 이므로 이벤트 루프 밖에서 수행
+        return Mono.fromCallable(() -> nagerResponseCache.get(path))
+            .subscribeOn(Schedulers.boundedElastic())
+            .flatMap(cached -> call(nagerWebClient.get()
+                .uri(path)
+                .headers(headers -> nagerResponseCache.applyValidators(headers, cached.orElse(null)))
+                .exchangeToMono(response -> toHolidayResult(path, response, cached.orElse(null)))))
+            .doOnNext(result ->
+                log.debug("공휴일 조회 성공: {} - {} ({} 건{})", countryCode, year, result.body().size(),
+                    result.notModified() ? ", 변경 없음" : "")
             )
             .doOnError(ex ->
                 log.error("공휴일 조회 실패: {} - {}", countryCode, year, ex)
             );
     }
-}
\ No newline at end of file
+
+    /**
+     * 공휴일 조회 (조건부 요청, 스트리밍 디코딩)
+     * <p>
+     * 응답 버퍼를 도착하는 대로 {@link HolidayJsonDecoder} 에 넣어 저장할 엔티티와 지문으로 바로 만듭니다. 디스크 캐시에 저장할 때만
+     * 본문 바이트를 함께 모읍니다.
+     */
+    @Override
+    public Mono<NagerFetchResult<Rows>> fetchHolidayRows(Country country, int year) {
+
+        String path = NagerResponseCache.publicHolidaysPath(country.getCode(), year);
+
+        return Mono.fromCallable(() -> nagerResponseCache.get(path))
+            .subscribeOn(Schedulers.boundedElastic())
+            .flatMap(cached -> call(nagerWebClient.get()
+                .uri(path)
+                .headers(headers -> nagerResponseCache.applyValidators(headers, cached.orElse(null)))
+                .exchangeToMono(response -> toHolidayRows(path, response, cached.orElse(null), country))))
+            .doOnNext(result ->
+                log.debug("공휴일 조회 성공: {} - {} ({} 건{})", country.getCode(), year,
+                    result.body().holidays().size(), result.notModified() ? ", 변경 없음" : "")
+            )
+            .doOnError(ex ->
+                log.error("공휴일 조회 실패: {} - {}", country.getCode(), year, ex)
+            );
+    }
+
+    private Mono<NagerFetchResult<Rows>> toHolidayRows(
+        String path,
+        ClientResponse response,
+        NagerResponseCache.Entry cached,
+        Country country
+    ) {
+
+        if (response.statusCode().value() == HttpStatus.NOT_MODIFIED.value() && cached != null) {
+            return response.releaseBody()
+                .then(Mono.fromCallable(() -> new NagerFetchResult<>(
+                    HolidayJsonDecoder.decode(cached.body().getBytes(StandardCharsets.UTF_8), country), true)));
+        }
+
+        if (!response.statusCode().is2xxSuccessful()) {
+            return response.createError();
+        }
+
+        HttpHeaders headers = response.headers().asHttpHeaders();
+        String etag = headers.getETag();
+        String lastModified = headers.getFirst(HttpHeaders.LAST_MODIFIED);
+
+        Flux<DataBuffer> body = response.bodyToFlux(DataBuffer.class);
+        if (!nagerResponseCache.isEnabled() || (etag == null && lastModified == null)) {
+            return HolidayJsonDecoder.decode(body, country)
+                .map(rows -> new NagerFetchResult<>(rows, false));
+        }
+
+        // 디코더가 버퍼를 반납하기 전에 캐시용 사본을 남김
+        ByteArrayOutputStream copy = new ByteArrayOutputStream();
+        return HolidayJsonDecoder.decode(body.doOnNext(buffer -> copyTo(buffer, copy)), country)
+            .publishOn(Schedulers.boundedElastic())
+            .map(rows -> {
+                // 204 No Content 는 "[]" 로 저장 (fetchPublicHolidaysConditional 과 같은 캐시 사용)
+                String cachedBody = copy.size() == 0 ? "[]" : copy.toString(StandardCharsets.UTF_8);
+                nagerResponseCache.put(path, etag, lastModified, cachedBody);
+                return new NagerFetchResult<>(rows, false);
+            });
+    }
+
+    private static void copyTo(DataBuffer buffer, ByteArrayOutputStream copy) {
+
+        byte[] bytes = new byte[buffer.readableByteCount()];
+        int readPosition = buffer.readPosition();
+        buffer.read(bytes);
+        buffer.readPosition(readPosition);
+        copy.writeBytes(bytes);
+    }
+
+    private Mono<NagerFetchResult<List<HolidayResponse>>> toHolidayResult(
+        String path,
+        ClientResponse response,
+        NagerResponseCache.Entry cached
+    ) {
+
+        if (response.statusCode().value() == HttpStatus.NOT_MODIFIED.value() && cached != null) {
+            return response.releaseBody()
+                .then(Mono.fromCallable(() -> new NagerFetchResult<>(parseHolidays(cached.body()), true)));
+        }
+
+        if (!response.statusCode().is2xxSuccessful()) {
+            return response.createError();
+        }
+
+        HttpHeaders headers = response.headers().asHttpHeaders();
+        String etag = headers.getETag();
+        String lastModified = headers.getFirst(HttpHeaders.LAST_MODIFIED);
+
+        return response.bodyToMono(String.class)
+            .defaultIfEmpty("[]")   // 204 No Content (데이터 없는 국가·연도)
+            .publishOn(Schedulers.boundedElastic())
+            .map(body -> {
+                nagerResponseCache.put(path, etag, lastModified, body);
+                return body;
+            })
+            .flatMap(body -> Mono.fromCallable(() -> new NagerFetchResult<>(parseHolidays(body), false)));
+    }
+
+    /**
+     * 재시도 → 호출 제한 → 서킷 브레이커 순으로 감싸 호출 (재시도마다 허가 획득과 서킷 확인을 다시 거침)
+     * <p>
+     * 허가는 서킷 바깥에서 받아, 허가 대기 시간 초과가 서킷 실패로 세어지지 않게 합니다.
+     */
+    private <T> Mono<T> call(Mono<T> request) {
+
+        return nagerRetryPolicy.retry(nagerRequestLimiter.limit(nagerCircuitBreaker.protect(request)));
+    }
+
+    private List<HolidayResponse> parseHolidays(String body) throws JsonProcessingException {
+
+        return List.of(objectMapper.readValue(body, HolidayResponse[].class));
+    }
+}
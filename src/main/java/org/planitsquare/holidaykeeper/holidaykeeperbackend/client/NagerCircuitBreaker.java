@@ -0,0 +1,163 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.client;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Nager API 서킷 브레이커
+ * <p>
+ * 429, 5xx, 연결 실패·타임아웃({@link NagerRetryPolicy#isTransient})이 failure-threshold 번 연속되면 열려(OPEN) open-duration
+ * 동안 호출하지 않고 바로 {@link OpenException} 으로 실패시킵니다. 그 뒤 한 번의 시험 호출(HALF_OPEN)이 성공하면 닫히고, 실패하면
+ * 다시 열립니다. 404 처럼 제공처가 정상 응답한 오류는 실패로 세지 않습니다.
+ * <p>
+ * 리액티브·블로킹 클라이언트가 같은 인스턴스를 공유합니다.
+ */
+@Slf4j
+@Component
+public class NagerCircuitBreaker implements MeterBinder {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * 서킷이 열려 호출하지 않음
+     */
+    public static class OpenException extends RuntimeException {
+
+        public OpenException() {
+
+            super("Nager API 서킷이 열려 있어 호출하지 않습니다.");
+        }
+    }
+
+    private final int failureThreshold;
+    private final long openDurationNanos;
+
+    // 아래 상태는 모두 this 로 보호
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtNanos;
+    private boolean trialInFlight;
+
+    public NagerCircuitBreaker(
+        @Value("${nager.api.circuit-breaker.failure-threshold:5}") int failureThreshold,
+        @Value("${nager.api.circuit-breaker.open-duration:30000}") long openDurationMillis
+    ) {
+
+        this.failureThreshold = Math.max(failureThreshold, 1);
+        this.openDurationNanos = Duration.ofMillis(openDurationMillis).toNanos();
+    }
+
+    /**
+     * 구독할 때마다 서킷 상태를 확인하고 결과를 집계합니다.
+     */
+    public <T> Mono<T> protect(Mono<T> call) {
+
+        return Mono.defer(() -> {
+            if (!tryAcquire()) {
+                return Mono.error(new OpenException());
+            }
+            return call
+                .doOnSuccess(value -> onSuccess())
+                .doOnError(this::onError)
+                .doOnCancel(this::onCancel);
+        });
+    }
+
+    /**
+     * 블로킹 호출용
+     */
+    public <T> T execute(Supplier<T> call) {
+
+        if (!tryAcquire()) {
+            throw new OpenException();
+        }
+        try {
+            T result = call.get();
+            onSuccess();
+            return result;
+        } catch (RuntimeException e) {
+            onError(e);
+            throw e;
+        }
+    }
+
+    public synchronized State getState() {
+
+        if (state == State.OPEN && System.nanoTime() - openedAtNanos >= openDurationNanos) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+
+        Gauge.builder("nager.api.circuit.state", this, breaker -> breaker.getState().ordinal())
+            .description("Nager API 서킷 상태 (0 CLOSED, 1 OPEN, 2 HALF_OPEN)")
+            .register(registry);
+    }
+
+    private synchronized boolean tryAcquire() {
+
+        if (state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAtNanos < openDurationNanos) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+        }
+        // HALF_OPEN: 시험 호출 한 번만 허용
+        if (trialInFlight) {
+            return false;
+        }
+        trialInFlight = true;
+        return true;
+    }
+
+    private synchronized void onSuccess() {
+
+        if (state != State.CLOSED) {
+            log.info("Nager API 서킷 닫힘 (시험 호출 성공)");
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    private synchronized void onError(Throwable error) {
+
+        if (!NagerRetryPolicy.isTransient(error)) {
+            // 제공처는 정상 (잘못된 요청 등)
+            onSuccess();
+            return;
+        }
+
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            if (state != State.OPEN) {
+                log.warn("Nager API 서킷 열림: 연속 실패 {}회, {}ms 동안 호출 중단 ({})",
+                    consecutiveFailures, Duration.ofNanos(openDurationNanos).toMillis(), error.toString());
+            }
+            state = State.OPEN;
+            openedAtNanos = System.nanoTime();
+        }
+        trialInFlight = false;
+    }
+
+    private synchronized void onCancel() {
+
+        // 결과를 모르는 시험 호출은 다음 호출이 다시 시험하도록 허가만 반납
+        trialInFlight = false;
+    }
+}
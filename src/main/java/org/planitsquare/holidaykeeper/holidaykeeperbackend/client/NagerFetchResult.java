@@ -0,0 +1,14 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.client;
+
+/**
+ * 조건부 요청 결과
+ *
+ * @param body        응답 본문 (304 인 경우 캐시에 저장된 본문)
+ * @param notModified 서버가 304 Not Modified 로 응답했는지 여부
+ */
+public record NagerFetchResult<T>(
+    T body,
+    boolean notModified
+) {
+
+}
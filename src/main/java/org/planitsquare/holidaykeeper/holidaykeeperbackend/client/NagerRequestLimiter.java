@@ -0,0 +1,263 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.client;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Nager API 호출 제한기 (토큰 버킷 + 동시 호출 수 제한)
+ * <p>
+ * 리액티브 전체 동기화(NagerApiClientReactive)와 블로킹 재동기화(NagerApiClient)가 같은 인스턴스를 공유해, 어느 경로로 호출하든
+ * 초당 요청 수(permits-per-second, 최대 burst 만큼 몰아서 허용)와 동시 호출 수(max-in-flight)를 넘지 않습니다. 허가를 기다리는
+ * 호출은 스레드를 점유하지 않고 대기열에 쌓였다가 토큰이 채워지거나 진행 중인 호출이 끝나면 순서대로 진행합니다.
+ * <p>
+ * 허가 대기 시간 초과는 제공처 장애가 아니라 로컬 적체이므로 {@link AcquireTimeoutException} 으로 구분해, 재시도하지 않고 서킷
+ * 브레이커 실패로도 세지 않습니다.
+ */
+@Component
+public class NagerRequestLimiter implements MeterBinder {
+
+    /**
+     * acquireTimeout 안에 허가를 받지 못함 (호출하지 않음)
+     */
+    public static class AcquireTimeoutException extends RuntimeException {
+
+        public AcquireTimeoutException(Duration timeout) {
+
+            super("Nager API 호출 허가를 " + timeout.toMillis() + "ms 안에 받지 못했습니다.");
+        }
+    }
+
+    private final double permitsPerSecond;
+    private final int burst;
+    private final int maxInFlight;
+    private final Duration acquireTimeout;
+
+    // 아래 상태는 모두 this 로 보호
+    private final Deque<Waiter> waiters = new ArrayDeque<>();
+    private double tokens;
+    private long lastRefillNanos;
+    private int inFlight;
+    private boolean refillScheduled;
+
+    // 메트릭 조회용 (락 없이 읽는 근사값)
+    private final AtomicInteger inFlightGauge = new AtomicInteger();
+    private final AtomicInteger queueDepthGauge = new AtomicInteger();
+
+    public NagerRequestLimiter(
+        @Value("${nager.api.rate-limit.permits-per-second:10}") double permitsPerSecond,
+        @Value("${nager.api.rate-limit.burst:20}") int burst,
+        @Value("${nager.api.max-in-flight:8}") int maxInFlight,
+        @Value("${nager.api.acquire-timeout:30000}") long acquireTimeoutMillis
+    ) {
+
+        if (permitsPerSecond <= 0 || burst < 1 || maxInFlight < 1) {
+            throw new IllegalArgumentException("Nager API 호출 제한 설정이 올바르지 않습니다.");
+        }
+
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.maxInFlight = maxInFlight;
+        this.acquireTimeout = Duration.ofMillis(acquireTimeoutMillis);
+        this.tokens = burst;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * 허가를 받은 뒤 call 을 구독하고, 완료·오류·취소 시 허가를 반납합니다.
+     */
+    public <T> Mono<T> limit(Mono<T> call) {
+
+        return Mono.usingWhen(
+            acquire(),
+            permit -> call,
+            permit -> Mono.fromRunnable(permit::release)
+        );
+    }
+
+    /**
+     * 블로킹 호출용. 허가를 받을 때까지 현재 스레드에서 대기한 뒤 call 을 실행합니다.
+     */
+    public <T> T execute(Supplier<T> call) {
+
+        Permit permit = acquire().block();
+        try {
+            return call.get();
+        } finally {
+            permit.release();
+        }
+    }
+
+    /**
+     * 허가 1개 획득. acquireTimeout 안에 받지 못하면 {@link AcquireTimeoutException} 으로 실패합니다.
+     */
+    public Mono<Permit> acquire() {
+
+        return Mono.<Permit>create(sink -> {
+                Waiter waiter = new Waiter(sink);
+                sink.onCancel(() -> cancel(waiter));
+                synchronized (this) {
+                    waiters.addLast(waiter);
+                    queueDepthGauge.set(waiters.size());
+                }
+                drain();
+            })
+            // 허가를 내준 직후 취소(타임아웃 등)되어 전달되지 못한 허가는 버려지는 시점에 반납
+            .doOnDiscard(Permit.class, Permit::release)
+            .timeout(acquireTimeout, Mono.error(() -> new AcquireTimeoutException(acquireTimeout)));
+    }
+
+    public int getInFlight() {
+
+        return inFlightGauge.get();
+    }
+
+    public int getQueueDepth() {
+
+        return queueDepthGauge.get();
+    }
+
+    public synchronized double getAvailableTokens() {
+
+        refill();
+        return tokens;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+
+        Gauge.builder("nager.api.limiter.available.tokens", this, NagerRequestLimiter::getAvailableTokens)
+            .description("토큰 버킷에 남은 요청 허가 수")
+            .register(registry);
+        Gauge.builder("nager.api.limiter.available.permits", this, l -> l.maxInFlight - l.getInFlight())
+            .description("추가로 시작할 수 있는 동시 호출 수")
+            .register(registry);
+        Gauge.builder("nager.api.limiter.in.flight", this, NagerRequestLimiter::getInFlight)
+            .description("진행 중인 Nager API 호출 수")
+            .register(registry);
+        Gauge.builder("nager.api.limiter.queue.depth", this, NagerRequestLimiter::getQueueDepth)
+            .description("허가를 기다리는 호출 수")
+            .register(registry);
+    }
+
+    /**
+     * 토큰과 동시 호출 여유가 있는 만큼 대기열 앞에서부터 허가를 내주고, 토큰이 부족하면 다음 토큰이 채워질 시점에 다시 실행되도록
+     * 예약합니다.
+     */
+    private void drain() {
+
+        List<Waiter> granted = new ArrayList<>();
+        long delayNanos = -1;
+
+        synchronized (this) {
+            refill();
+
+            while (!waiters.isEmpty() && inFlight < maxInFlight && tokens >= 1) {
+                Waiter waiter = waiters.pollFirst();
+                if (!waiter.state.compareAndSet(Waiter.WAITING, Waiter.GRANTED)) {
+                    continue;
+                }
+                tokens -= 1;
+                inFlight++;
+                granted.add(waiter);
+            }
+
+            inFlightGauge.set(inFlight);
+            queueDepthGauge.set(waiters.size());
+
+            // 동시 호출 수가 찬 경우는 반납 시 drain 되므로, 토큰 부족일 때만 예약
+            if (!waiters.isEmpty() && inFlight < maxInFlight && !refillScheduled) {
+                refillScheduled = true;
+                delayNanos = (long) Math.ceil((1 - tokens) / permitsPerSecond * 1_000_000_000L);
+            }
+        }
+
+        if (delayNanos >= 0) {
+            Schedulers.parallel().schedule(() -> {
+                synchronized (this) {
+                    refillScheduled = false;
+                }
+                drain();
+            }, Math.max(delayNanos, 1), TimeUnit.NANOSECONDS);
+        }
+
+        for (Waiter waiter : granted) {
+            waiter.sink.success(new Permit());
+        }
+    }
+
+    private void refill() {
+
+        long now = System.nanoTime();
+        tokens = Math.min(burst, tokens + (now - lastRefillNanos) / 1_000_000_000d * permitsPerSecond);
+        lastRefillNanos = now;
+    }
+
+    private void cancel(Waiter waiter) {
+
+        if (waiter.state.compareAndSet(Waiter.WAITING, Waiter.CANCELLED)) {
+            synchronized (this) {
+                waiters.remove(waiter);
+                queueDepthGauge.set(waiters.size());
+            }
+        }
+        // 이미 허가를 받은 뒤의 취소는 doOnDiscard 또는 usingWhen 이 반납
+    }
+
+    private void release() {
+
+        synchronized (this) {
+            inFlight--;
+            inFlightGauge.set(inFlight);
+        }
+        drain();
+    }
+
+    private static final class Waiter {
+
+        static final int WAITING = 0;
+        static final int GRANTED = 1;
+        static final int CANCELLED = 2;
+
+        private final MonoSink<Permit> sink;
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+
+        private Waiter(MonoSink<Permit> sink) {
+
+            this.sink = sink;
+        }
+    }
+
+    /**
+     * 동시 호출 허가. 여러 번 반납해도 한 번만 반영됩니다.
+     */
+    public final class Permit {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit() {
+
+        }
+
+        public void release() {
+
+            if (released.compareAndSet(false, true)) {
+                NagerRequestLimiter.this.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+/**
+ * Nager API 응답 디스크 캐시 (ETag / Last-Modified 조건부 요청용)
+ * <p>
+ * 요청 경로별로 응답 본문과 검증자(ETag, Last-Modified)를 파일 하나에 저장합니다. 다음 요청에는 If-None-Match /
+ * If-Modified-Since 를 붙이고, 서버가 304 로 응답하면 저장해 둔 본문을 사용합니다. 검증자가 없는 응답은 저장하지 않습니다.
+ * <p>
+ * 캐시 파일을 읽거나 쓰지 못해도 호출은 실패시키지 않고 일반 요청으로 진행합니다.
+ */
+@Slf4j
+@Component
+public class NagerResponseCache {
+
+    /**
+     * 캐시 항목
+     */
+    public record Entry(
+        String path,
+        String etag,
+        String lastModified,
+        String body
+    ) {
+
+    }
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Path directory;
+
+    public NagerResponseCache(
+        ObjectMapper objectMapper,
+        @Value("${nager.api.cache.enabled:true}") boolean enabled,
+        @Value("${nager.api.cache.dir:./data/nager-cache}") String directory
+    ) {
+
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.directory = Paths.get(directory);
+    }
+
+    public boolean isEnabled() {
+
+        return enabled;
+    }
+
+    public Optional<Entry> get(String path) {
+
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        Path file = fileOf(path);
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(objectMapper.readValue(file.toFile(), Entry.class));
+        } catch (IOException e) {
+            log.warn("Nager 응답 캐시 읽기 실패: {} ({})", path, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 검증자가 있는 응답만 저장. 임시 파일에 쓴 뒤 교체하므로 읽는 쪽이 쓰다 만 파일을 보지 않습니다.
+     */
+    public void put(String path, String etag, String lastModified, String body) {
+
+        if (!enabled || (etag == null && lastModified == null)) {
+            return;
+        }
+
+        try {
+            Files.createDirectories(directory);
+            Path file = fileOf(path);
+            Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            objectMapper.writeValue(temp.toFile(), new Entry(path, etag, lastModified, body));
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Nager 응답 캐시 저장 실패: {} ({})", path, e.getMessage());
+        }
+    }
+
+    /**
+     * 캐시 항목의 검증자를 조건부 요청 헤더로 추가
+     */
+    public void applyValidators(HttpHeaders headers, Entry entry) {
+
+        if (entry == null) {
+            return;
+        }
+        if (entry.etag() != null) {
+            headers.set(HttpHeaders.IF_NONE_MATCH, entry.etag());
+        }
+        if (entry.lastModified() != null) {
+            headers.set(HttpHeaders.IF_MODIFIED_SINCE, entry.lastModified());
+        }
+    }
+
+    /**
+     * 공휴일 조회 경로 (두 클라이언트가 같은 캐시 항목을 공유하도록 baseUrl 을 제외한 경로를 키로 사용)
+     */
+    public static String publicHolidaysPath(String countryCode, int year) {
+
+        return "/PublicHolidays/" + year + "/" + countryCode;
+    }
+
+    private Path fileOf(String path) {
+
+        return directory.resolve(path.replaceAll("[^A-Za-z0-9]+", "_") + ".json");
+    }
+}
@@ -0,0 +1,190 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * Nager API 호출 재시도 정책 (지수 백오프 + 지터, Retry-After 준수)
+ * <p>
+ * 429, 5xx, 연결 실패·타임아웃처럼 잠시 뒤 다시 호출하면 성공할 수 있는 오류만 최대 max-retries 번 재시도합니다. 대기 시간은
+ * initial-backoff 부터 두 배씩 늘리되 max-backoff 를 넘지 않고, 그 절반 범위에서 무작위로 흔들어 여러 호출이 같은 시각에 다시 몰리지
+ * 않게 합니다. 응답에 Retry-After 가 있으면 그 시간을 기다리고, max-retry-after 보다 길면 재시도하지 않습니다. (다음 동기화 또는
+ * 재시도 큐가 처리)
+ * <p>
+ * 재시도마다 호출 제한기 허가와 서킷 브레이커 확인을 다시 거치도록 가장 바깥에서 감쌉니다.
+ */
+@Slf4j
+@Component
+public class NagerRetryPolicy {
+
+    private final int maxRetries;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration maxRetryAfter;
+
+    public NagerRetryPolicy(
+        @Value("${nager.api.retry.max-retries:3}") int maxRetries,
+        @Value("${nager.api.retry.initial-backoff:500}") long initialBackoffMillis,
+        @Value("${nager.api.retry.max-backoff:10000}") long maxBackoffMillis,
+        @Value("${nager.api.retry.max-retry-after:30000}") long maxRetryAfterMillis
+    ) {
+
+        this.maxRetries = Math.max(maxRetries, 0);
+        this.initialBackoff = Duration.ofMillis(Math.max(initialBackoffMillis, 1));
+        this.maxBackoff = Duration.ofMillis(Math.max(maxBackoffMillis, initialBackoffMillis));
+        this.maxRetryAfter = Duration.ofMillis(maxRetryAfterMillis);
+    }
+
+    /**
+     * 잠시 뒤 다시 호출하면 성공할 수 있는 오류인지 (서킷 브레이커의 실패 집계 기준과 같음)
+     */
+    public static boolean isTransient(Throwable error) {
+
+        Integer status = statusOf(error);
+        if (status != null) {
+            return status == HttpStatus.TOO_MANY_REQUESTS.value() || status >= 500;
+        }
+
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof JsonProcessingException) {
+                // 응답 본문이 잘못됨 (다시 받아도 같음)
+                return false;
+            }
+            if (cause instanceof NagerRequestLimiter.AcquireTimeoutException) {
+                // 로컬 허가 대기 초과 (제공처 장애 아님)
+                return false;
+            }
+            if (cause instanceof WebClientRequestException
+                || cause instanceof ResourceAccessException
+                || cause instanceof TimeoutException
+                || cause instanceof io.netty.handler.timeout.TimeoutException    // 응답 타임아웃 (responseTimeout)
+                || cause instanceof IOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 리액티브 호출 재시도 (call 은 구독할 때마다 새로 호출되는 cold Mono)
+     */
+    public <T> Mono<T> retry(Mono<T> call) {
+
+        return call.retryWhen(Retry.from(signals -> signals.concatMap(signal -> {
+            Duration delay = nextDelay(signal.failure(), signal.totalRetries());
+            return delay == null
+                ? Mono.error(signal.failure())
+                : Mono.delay(delay);
+        })));
+    }
+
+    /**
+     * 블로킹 호출 재시도 (현재 스레드에서 대기)
+     */
+    public <T> T execute(Supplier<T> call) {
+
+        for (long retries = 0; ; retries++) {
+            try {
+                return call.get();
+            } catch (RuntimeException e) {
+                Duration delay = nextDelay(e, retries);
+                if (delay == null) {
+                    throw e;
+                }
+                try {
+                    Thread.sleep(delay.toMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * 다음 재시도까지 대기 시간 (재시도하지 않으면 null)
+     *
+     * @param retries 지금까지 재시도한 횟수
+     */
+    Duration nextDelay(Throwable error, long retries) {
+
+        if (retries >= maxRetries || !isTransient(error)) {
+            return null;
+        }
+
+        Duration retryAfter = retryAfterOf(error);
+        if (retryAfter != null) {
+            if (retryAfter.compareTo(maxRetryAfter) > 0) {
+                log.warn("Retry-After 가 너무 길어 재시도하지 않습니다: {}초", retryAfter.toSeconds());
+                return null;
+            }
+            log.debug("Nager API 재시도 {}회: Retry-After {}ms", retries + 1, retryAfter.toMillis());
+            return retryAfter;
+        }
+
+        long base = Math.min(initialBackoff.toMillis() << Math.min(retries, 20), maxBackoff.toMillis());
+        long delay = base / 2 + ThreadLocalRandom.current().nextLong(base / 2 + 1);
+        log.debug("Nager API 재시도 {}회: {}ms 뒤 ({})", retries + 1, delay, error.toString());
+        return Duration.ofMillis(delay);
+    }
+
+    private static Integer statusOf(Throwable error) {
+
+        if (error instanceof WebClientResponseException e) {
+            return e.getStatusCode().value();
+        }
+        if (error instanceof RestClientResponseException e) {
+            return e.getStatusCode().value();
+        }
+        return null;
+    }
+
+    /**
+     * Retry-After (초 또는 HTTP 날짜)
+     */
+    private static Duration retryAfterOf(Throwable error) {
+
+        HttpHeaders headers = null;
+        if (error instanceof WebClientResponseException e) {
+            headers = e.getHeaders();
+        } else if (error instanceof RestClientResponseException e) {
+            headers = e.getResponseHeaders();
+        }
+
+        String value = headers == null ? null : headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+
+        try {
+            return Duration.ofSeconds(Math.max(Long.parseLong(value.trim()), 0));
+        } catch (NumberFormatException ignored) {
+            // HTTP 날짜 형식
+        }
+        try {
+            Duration until = Duration.between(ZonedDateTime.now(),
+                ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+            return until.isNegative() ? Duration.ZERO : until;
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
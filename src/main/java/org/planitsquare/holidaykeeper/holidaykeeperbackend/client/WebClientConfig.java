@@ -1,6 +1,5 @@
 package org.planitsquare.holidaykeeper.holidaykeeperbackend.client;
 
-import io.netty.channel.ChannelOption;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -14,17 +13,15 @@ public class WebClientConfig {
     @Value("${nager.api.base-url}")
     private String baseUrl;
 
+    /**
+     * RestTemplate 과 같은 커넥션 풀을 쓰는 HttpClient 사용 (NagerApiConfig)
+     */
     @Bean
-    public WebClient nagerWebClient() {
+    public WebClient nagerWebClient(HttpClient nagerHttpClient) {
 
         return WebClient.builder()
             .baseUrl(baseUrl)
-            .clientConnector(new ReactorClientHttpConnector(
-                HttpClient.create()
-                    .compress(true)
-                    .tcpConfiguration(
-                        client -> client.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 5000))
-            ))
+            .clientConnector(new ReactorClientHttpConnector(nagerHttpClient))
             .build();
     }
-}
\ No newline at end of file
+}
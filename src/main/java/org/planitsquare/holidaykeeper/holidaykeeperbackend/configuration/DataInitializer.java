@@ -1,15 +1,57 @@
 package org.planitsquare.holidaykeeper.holidaykeeperbackend.configuration;
 
+import jakarta.annotation.PreDestroy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.event.CountryDataChangedEvent;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.event.HolidayDataChangedEvent;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.exception.BusinessException;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.response.HolidaySyncResponse;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.Country;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.enums.SyncOutcome;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.enums.WarmupStatus;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository.CountryRepository;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository.HolidayRepository;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.service.CountryService;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.service.HolidayService;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.service.HolidaySnapshotService;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.service.LeaseService;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.service.SyncProgress;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.service.SyncTarget;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.service.SyncWorkService;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.utility.DateUtil;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
+/**
+ * 기동 시 데이터 적재
+ * <p>
+ * 외부 API 호출이 끝날 때까지 기동이 늦어지지 않도록 적재는 백그라운드 스레드에서 진행하고, 기동은 바로 끝납니다. (liveness 는 즉시
+ * UP) 우선 국가(priority-countries)의 최근 min-years 년이 DB 에 있을 때까지 readiness 는 WARMING 이며
+ * ({@link WarmupHealthIndicator}), 그 뒤 공휴일 테이블이 비어 있었으면 나머지 6년치를 공유 작업 큐로 채웁니다.
+ * <p>
+ * 여러 노드가 동시에 기동해도 동기화 임대를 획득한 한 노드만 적재하고, 나머지 노드는 최소 데이터가 DB 에 생길 때까지 기다립니다.
+ * 비활성 국가는 최소 데이터에서 빼고, max-attempts 번 실패한(빈 응답 포함) 국가·연도는 포기한 것으로 봅니다. 그래도 max-duration
+ * 안에 최소 데이터가 갖춰지지 않으면 경고를 남기고 readiness 를 UP 으로 넘깁니다.
+ * <p>
+ * snapshot-path 에 스냅샷 파일이 있고 DB 가 비어 있으면 외부 API 대신 스냅샷을 기동 중에 바로 적재합니다. (적재 실패 시 위 방식으로
+ * 진행)
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -19,18 +61,165 @@ public class DataInitializer implements CommandLineRunner {
     private final HolidayRepository holidayRepository;
     private final CountryService countryService;
     private final HolidayService holidayService;
+    private final HolidaySnapshotService holidaySnapshotService;
+    private final SyncWorkService syncWorkService;
+    private final LeaseService leaseService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ExecutorService warmupExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "holiday-warmup");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${holiday.warmup.enabled:true}")
+    private boolean enabled;
+
+    // readiness 전에 적재할 국가
+    @Value("${holiday.warmup.priority-countries:KR,US,JP,CN,GB,DE,FR}")
+    private String[] priorityCountries;
+
+    // readiness 전에 적재할 연도 수 (올해부터 과거로)
+    @Value("${holiday.warmup.min-years:1}")
+    private int minYears;
+
+    // 적재 실패·다른 노드 대기 시 재확인 간격 (ms)
+    @Value("${holiday.warmup.retry-interval:5000}")
+    private long retryIntervalMillis;
+
+    // 이 횟수만큼 적재에 실패한(빈 응답 포함) 우선 국가·연도는 최소 데이터에서 제외
+    @Value("${holiday.warmup.max-attempts:3}")
+    private int maxAttempts;
+
+    // 최소 데이터를 기다리는 최대 시간 (ms), 지나면 경고 후 readiness UP
+    @Value("${holiday.warmup.max-duration:600000}")
+    private long maxDurationMillis;
+
+    // 기동 시 적재할 바이너리 스냅샷 파일 (비어 있으면 사용 안 함)
+    @Value("${holiday.warmup.snapshot-path:}")
+    private String snapshotPath;
+
+    private volatile WarmupStatus status = WarmupStatus.WARMING;
+
+    // 우선 국가·연도별 적재 실패 횟수와, max-attempts 에 도달해 제외한 국가·연도 (백그라운드 스레드에서만 사용)
+    private final Map<String, Integer> failedAttempts = new HashMap<>();
+    private final Set<String> givenUp = new HashSet<>();
+
+    public WarmupStatus getStatus() {
+
+        return status;
+    }
 
     @Override
     public void run(String... args) {
 
-        log.info("=== 데이터 초기화 시작 ===");
+        if (loadSnapshot()) {
+            status = WarmupStatus.COMPLETED;
+            return;
+        }
+
+        if (!enabled) {
+            status = WarmupStatus.COMPLETED;
+            return;
+        }
+
+        warmupExecutor.execute(this::warmUp);
+    }
+
+    @PreDestroy
+    void shutdown() {
+
+        warmupExecutor.shutdownNow();
+    }
+
+    /**
+     * 최소 데이터 적재 → readiness UP → 나머지 연도 적재
+     */
+    void warmUp() {
+
+        log.info("=== 데이터 초기화 시작 (백그라운드) ===");
+
+        long deadline = System.nanoTime() + maxDurationMillis * 1_000_000;
+        AtomicBoolean backfill = new AtomicBoolean(false);
+        while (!Thread.currentThread().isInterrupted()) {
+            boolean ran = false;
+            try {
+                ran = leaseService.runWithLease(LeaseService.HOLIDAY_SYNC, () -> {
+                    initializeCountries();
+                    if (holidayRepository.count() == 0) {
+                        backfill.set(true);
+                    }
+                    loadMinimumDataset();
+                });
+            } catch (Exception e) {
+                log.error("[데이터 초기화 중 시스템 오류] {}", e.getMessage(), e);
+            }
+
+            if (hasMinimumDataset()) {
+                if (!ran) {
+                    // 다른 노드가 적재한 데이터로 이 노드의 국가 레지스트리·검색 인덱스 갱신
+                    eventPublisher.publishEvent(new CountryDataChangedEvent());
+                    eventPublisher.publishEvent(HolidayDataChangedEvent.all());
+                }
+                break;
+            }
+
+            if (System.nanoTime() - deadline >= 0) {
+                log.warn("{}ms 안에 최소 데이터가 갖춰지지 않아 일부 우선 국가·연도 없이 트래픽 수신을 시작합니다.",
+                    maxDurationMillis);
+                eventPublisher.publishEvent(new CountryDataChangedEvent());
+                eventPublisher.publishEvent(HolidayDataChangedEvent.all());
+                break;
+            }
 
-        initializeCountries();
-        initializeHolidays();
+            log.info("최소 데이터가 아직 없습니다. {}ms 뒤 다시 확인합니다. ({})",
+                retryIntervalMillis, ran ? "적재 실패" : "다른 노드에서 적재 중");
+            if (!sleep(retryIntervalMillis)) {
+                return;
+            }
+        }
+
+        status = WarmupStatus.BACKFILLING;
+        log.info("=== 최소 데이터 적재 완료, 트래픽 수신 시작 ===");
+
+        if (backfill.get()) {
+            backfillHolidays();
+        }
 
+        status = WarmupStatus.COMPLETED;
         log.info("=== 데이터 초기화 완료 ===");
     }
 
+    /**
+     * 스냅샷 파일 적재 (외부 API 호출 없이 끝나므로 기동 스레드에서 바로 실행해, 준비 완료 시점에 검색 인덱스도 채워져 있도록 함)
+     *
+     * @return 적재 여부 (파일이 없거나, DB 가 비어 있지 않거나, 다른 노드가 적재 중이거나, 실패하면 false)
+     */
+    private boolean loadSnapshot() {
+
+        if (!StringUtils.hasText(snapshotPath)) {
+            return false;
+        }
+
+        Path path = Path.of(snapshotPath);
+        if (!Files.isRegularFile(path)) {
+            log.warn("스냅샷 파일이 없습니다: {}", path);
+            return false;
+        }
+
+        AtomicBoolean loaded = new AtomicBoolean(false);
+        try {
+            leaseService.runWithLease(LeaseService.HOLIDAY_SYNC,
+                () -> loaded.set(holidaySnapshotService.importSnapshot(path)));
+
+        } catch (BusinessException e) {
+            log.error("[스냅샷 적재 실패] {} - {}", e.getErrorCode(), e.getMessage());
+        } catch (Exception e) {
+            log.error("[스냅샷 적재 중 시스템 오류] {}", e.getMessage(), e);
+        }
+        return loaded.get();
+    }
+
     /**
      * 국가 데이터 초기화
      */
@@ -48,36 +237,151 @@ public class DataInitializer implements CommandLineRunner {
             log.info("국가 데이터 동기화 완료: 총 {}개 국가 저장됨", countryRepository.count());
 
         } catch (BusinessException e) {
-            // ErrorCode 기반 예외 처리
+            // ErrorCode 기반 예외 처리 (다음 확인 때 재시도)
             log.error("[국가 동기화 실패] {} - {}", e.getErrorCode(), e.getMessage());
         } catch (Exception e) {
-            // 예상치 못한 오류
             log.error("[국가 동기화 중 시스템 오류] {}", e.getMessage(), e);
-            throw new RuntimeException("국가 데이터 초기화 실패", e); // 앱 실행 중단 여부 선택 가능
         }
     }
 
     /**
-     * 공휴일 데이터 초기화
+     * 우선 국가의 최근 연도 중 DB 에 없는 것만 적재
      */
-    private void initializeHolidays() {
+    private void loadMinimumDataset() {
 
-        if (holidayRepository.count() > 0) {
-            log.info("공휴일 데이터가 이미 존재합니다. ({}개)", holidayRepository.count());
+        List<SyncTarget> targets = new ArrayList<>();
+        for (Country country : priorityCountryList()) {
+            for (int year : minimumYears()) {
+                if (!givenUp.contains(targetKey(country, year)) && !hasHolidays(country, year)) {
+                    targets.add(new SyncTarget(country, year));
+                }
+            }
+        }
+        if (targets.isEmpty()) {
             return;
         }
 
-        log.info("공휴일 데이터가 없습니다. 6년치 API 동기화를 시작합니다.");
+        log.info("최소 데이터 적재 시작: 우선 국가·연도 {}건", targets.size());
+
+        try {
+            List<SyncOutcome> outcomes = holidayService.syncEachCountryYear(targets);
+
+            int failCount = 0;
+            for (int i = 0; i < targets.size(); i++) {
+                if (outcomes.get(i) == SyncOutcome.FAILED) {
+                    failCount++;
+                    recordFailure(targets.get(i));
+                }
+            }
+            log.info("최소 데이터 적재: 성공 {} / 실패 {}", targets.size() - failCount, failCount);
+
+        } catch (BusinessException e) {
+            log.error("[최소 데이터 적재 실패] {} - {}", e.getErrorCode(), e.getMessage());
+        } catch (Exception e) {
+            log.error("[최소 데이터 적재 중 시스템 오류] {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 실패 횟수가 max-attempts 에 도달한 국가·연도는 최소 데이터에서 제외 (외부 API 가 계속 빈 응답을 주는 경우 등)
+     */
+    private void recordFailure(SyncTarget target) {
+
+        String key = targetKey(target.country(), target.year());
+        int attempts = failedAttempts.merge(key, 1, Integer::sum);
+        if (attempts >= Math.max(maxAttempts, 1) && givenUp.add(key)) {
+            log.warn("우선 국가·연도 {} 적재가 {}번 실패해 최소 데이터에서 제외합니다.", key, attempts);
+        }
+    }
+
+    /**
+     * 우선 국가의 최근 연도 공휴일이 모두 있는지 (국가 데이터는 있는데 우선 국가가 하나도 없으면 국가 데이터만으로 충분)
+     */
+    private boolean hasMinimumDataset() {
+
+        List<Country> countries = priorityCountryList();
+        if (countries.isEmpty()) {
+            return countryRepository.count() > 0;
+        }
+
+        for (Country country : countries) {
+            for (int year : minimumYears()) {
+                if (!givenUp.contains(targetKey(country, year)) && !hasHolidays(country, year)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 공휴일 데이터가 없던 경우 나머지 6년치를 공유 작업 큐로 적재 (임대를 못 얻으면 주기 동기화가 채움)
+     */
+    private void backfillHolidays() {
+
+        log.info("공휴일 데이터가 없었습니다. 6년치 백그라운드 적재를 시작합니다.");
 
         try {
-            holidayService.syncHolidaysFor6Years();
-            log.info("공휴일 데이터 동기화 완료: 총 {}개 공휴일 저장됨", holidayRepository.count());
+            boolean ran = leaseService.runWithLease(LeaseService.HOLIDAY_SYNC, () -> {
+                HolidaySyncResponse response = syncWorkService.runFullSync(new SyncProgress());
+                log.info("공휴일 데이터 동기화 완료: 성공 {} / 실패 {}, 총 {}개 공휴일 저장됨",
+                    response.successCount(), response.failCount(), holidayRepository.count());
+            });
+            if (!ran) {
+                log.info("다른 노드에서 동기화 중이므로 백그라운드 적재를 건너뜁니다.");
+            }
 
         } catch (BusinessException e) {
             log.error("[공휴일 동기화 실패] {} - {}", e.getErrorCode(), e.getMessage());
         } catch (Exception e) {
             log.error("[공휴일 동기화 중 시스템 오류] {}", e.getMessage(), e);
-            throw new RuntimeException("공휴일 데이터 초기화 실패", e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 우선 국가 중 DB 에 있는 활성 국가 (국가 동기화가 다른 노드에서 일어났을 수 있으므로 레지스트리가 아닌 DB 에서 조회)
+     */
+    private List<Country> priorityCountryList() {
+
+        List<Country> countries = new ArrayList<>(priorityCountries.length);
+        for (String code : priorityCountries) {
+            countryRepository.findByCode(code.trim().toUpperCase())
+                .filter(country -> Boolean.TRUE.equals(country.getActive()))
+                .ifPresent(countries::add);
+        }
+        return countries;
+    }
+
+    private int[] minimumYears() {
+
+        int endYear = DateUtil.getTodayYear();
+        int count = Math.max(minYears, 1);
+        int[] years = new int[count];
+        for (int i = 0; i < count; i++) {
+            years[i] = endYear - i;
+        }
+        return years;
+    }
+
+    private static String targetKey(Country country, int year) {
+
+        return country.getCode() + "-" + year;
+    }
+
+    private boolean hasHolidays(Country country, int year) {
+
+        return holidayRepository.existsByCountryAndDateBetween(
+            country, LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31));
+    }
+
+    private static boolean sleep(long millis) {
+
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.configuration;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.utility.HolidayKey;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 정규화 영문명 컬럼(name_key)을 채우고 자연 키 제약을 옮기는 일회성 마이그레이션
+ * <p>
+ * ddl-auto: update 는 name_key 를 빈 문자열 기본값으로 추가만 하고, 기존 행이 모두 같은 빈 값이라 새 유니크 제약은 만들지 못하며 영문명
+ * 기준 구 제약도 남겨 둡니다. 기동 시 빈 name_key 가 있거나 구 제약이 남아 있으면 HolidayKey 규칙으로 값을 채우고, 구 제약을 지운 뒤
+ * name_key 기준 제약을 추가합니다. 데이터 초기화(DataInitializer)보다 먼저 실행됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class HolidayNameKeyMigration implements ApplicationRunner {
+
+    private static final String TABLE = "COUNTRY_HOLIDAY";
+    private static final String LEGACY_CONSTRAINT = "UK_HOLIDAY_COUNTRY_DATE_NAME";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public void run(ApplicationArguments args) {
+
+        List<Object[]> missing = jdbcTemplate.query(
+            "SELECT holiday_id, holiday_name FROM country_holiday WHERE name_key = ''",
+            (rs, rowNum) -> new Object[]{HolidayKey.normalizedName(rs.getString(2)), rs.getLong(1)});
+
+        if (missing.isEmpty() && !legacyConstraintExists()) {
+            return;
+        }
+
+        log.info("=== 공휴일 name_key 마이그레이션 시작: {}건 ===", missing.size());
+
+        jdbcTemplate.batchUpdate("UPDATE country_holiday SET name_key = ? WHERE holiday_id = ?",
+            missing);
+        jdbcTemplate.execute("ALTER TABLE country_holiday DROP CONSTRAINT IF EXISTS uk_holiday_country_date_name");
+        jdbcTemplate.execute("ALTER TABLE country_holiday ADD CONSTRAINT IF NOT EXISTS uk_holiday_country_date_name_key "
+            + "UNIQUE (country_id, holiday_date, name_key)");
+
+        log.info("=== 공휴일 name_key 마이그레이션 완료 ===");
+    }
+
+    private boolean legacyConstraintExists() {
+
+        Integer count = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS WHERE TABLE_NAME = ? AND CONSTRAINT_NAME = ?",
+            Integer.class,
+            TABLE,
+            LEGACY_CONSTRAINT
+        );
+        return count != null && count > 0;
+    }
+}
@@ -0,0 +1,74 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.configuration;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.enums.HolidayType;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 기존 CSV 컬럼(holiday_types)을 비트마스크 컬럼(holiday_type_mask)으로 옮기는 일회성 마이그레이션
+ * <p>
+ * ddl-auto: update 는 새 컬럼을 기본값 0 으로 추가만 하고 기존 컬럼은 남겨 두므로, 기동 시 구 컬럼이 남아 있으면 값을 비트마스크로
+ * 변환한 뒤 구 컬럼을 삭제합니다. 데이터 초기화(DataInitializer)보다 먼저 실행됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class HolidayTypeMaskMigration implements ApplicationRunner {
+
+    private static final String TABLE = "COUNTRY_HOLIDAY";
+    private static final String LEGACY_COLUMN = "HOLIDAY_TYPES";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public void run(ApplicationArguments args) {
+
+        if (!legacyColumnExists()) {
+            return;
+        }
+
+        log.info("=== 공휴일 타입 컬럼 마이그레이션 시작 (holiday_types → holiday_type_mask) ===");
+
+        int updated = jdbcTemplate.update(
+            "UPDATE country_holiday SET holiday_type_mask = " + maskExpression()
+                + " WHERE holiday_types IS NOT NULL");
+        jdbcTemplate.execute("ALTER TABLE country_holiday DROP COLUMN holiday_types");
+
+        log.info("=== 공휴일 타입 컬럼 마이그레이션 완료: {}건 변환 ===", updated);
+    }
+
+    private boolean legacyColumnExists() {
+
+        Integer count = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_NAME = ? AND COLUMN_NAME = ?",
+            Integer.class,
+            TABLE,
+            LEGACY_COLUMN
+        );
+        return count != null && count > 0;
+    }
+
+    /**
+     * 타입별로 CSV 에 포함되어 있으면 해당 비트를 더하는 식
+     * <p>
+     * 예: (CASE WHEN ',' || LOWER(holiday_types) || ',' LIKE '%,public,%' THEN 1 ELSE 0 END) + ...
+     */
+    private String maskExpression() {
+
+        return Arrays.stream(HolidayType.values())
+            .map(type -> "(CASE WHEN ',' || LOWER(holiday_types) || ',' LIKE '%,"
+                + type.getValue().toLowerCase() + ",%' THEN " + type.getBit() + " ELSE 0 END)")
+            .collect(Collectors.joining(" + "));
+    }
+}
@@ -0,0 +1,67 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.configuration;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * IDENTITY → 시퀀스 ID 전환 시 시퀀스 시작값 보정
+ * <p>
+ * ddl-auto: update 로 새로 만들어진 시퀀스는 1부터 시작하므로, 기존 IDENTITY 로 저장된 행이 있으면 ID 가 충돌합니다. 기동 시
+ * 시퀀스 다음 값이 (기존 최대 ID + 할당 크기) 보다 작으면 그 이후로 재시작합니다. pooled 할당은 시퀀스 값을 할당 구간의 끝으로 쓰므로
+ * 할당 크기만큼 여유를 둡니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class IdSequenceMigration implements ApplicationRunner {
+
+    // 엔티티의 @SequenceGenerator allocationSize 와 같아야 함
+    private static final int ALLOCATION_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+
+        alignSequences();
+    }
+
+    /**
+     * ID 를 직접 지정해 적재한 뒤(스냅샷 등)에도 호출
+     */
+    public void alignSequences() {
+
+        alignSequence("COUNTRY_SEQ", "country", "country_id");
+        alignSequence("COUNTRY_HOLIDAY_SEQ", "country_holiday", "holiday_id");
+    }
+
+    private void alignSequence(String sequenceName, String table, String idColumn) {
+
+        Long nextValue = jdbcTemplate.query(
+            "SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = ?",
+            rs -> rs.next() ? rs.getLong(1) : null,
+            sequenceName
+        );
+        if (nextValue == null) {
+            return;
+        }
+
+        Long maxId = jdbcTemplate.queryForObject(
+            "SELECT COALESCE(MAX(" + idColumn + "), 0) FROM " + table, Long.class);
+        if (maxId == null || maxId == 0 || nextValue >= maxId + ALLOCATION_SIZE) {
+            return;
+        }
+
+        long restartWith = maxId + ALLOCATION_SIZE + 1;
+        jdbcTemplate.execute("ALTER SEQUENCE " + sequenceName + " RESTART WITH " + restartWith);
+
+        log.info("ID 시퀀스 보정: {} → {} (기존 최대 ID {})", sequenceName, restartWith, maxId);
+    }
+}
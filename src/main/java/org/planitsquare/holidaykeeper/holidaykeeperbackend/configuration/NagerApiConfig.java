@@ -1,17 +1,34 @@
 package org.planitsquare.holidaykeeper.holidaykeeperbackend.configuration;
 
+import io.netty.channel.ChannelOption;
 import java.time.Duration;
 import lombok.Getter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ReactorClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
+/**
+ * Nager API HTTP 클라이언트 설정
+ * <p>
+ * 리액티브(WebClient)·블로킹(RestTemplate) 클라이언트가 같은 Reactor Netty 커넥션 풀({@link ConnectionProvider})과
+ * {@link HttpClient} 를 공유합니다. 같은 호스트에 대한 연결이 한 풀에서 재사용되고, 연결 수·대기열·유휴 정리·타임아웃 설정이 한
+ * 곳에 모입니다. https 주소이면 ALPN 으로 HTTP/2 를 협상하고, 지원하지 않으면 HTTP/1.1 로 연결합니다.
+ * <p>
+ * 풀 현황은 reactor.netty.connection.provider.* (name=nager) 메트릭으로 노출됩니다. (active/idle/pending connections,
+ * 연결 획득 대기 시간 pending.connections.time)
+ */
 @Configuration
 @Getter
 public class NagerApiConfig {
 
+    static final String POOL_NAME = "nager";
+
     @Value("${nager.api.base-url}")
     private String baseUrl;
 
@@ -21,13 +38,73 @@ public class NagerApiConfig {
     @Value("${nager.api.read-timeout}")
     private int readTimeout;
 
+    // 풀 최대 연결 수 (HTTP/2 는 연결당 여러 스트림)
+    @Value("${nager.api.pool.max-connections:16}")
+    private int maxConnections;
+
+    // 연결을 기다리는 요청 최대 수 (넘으면 바로 실패)
+    @Value("${nager.api.pool.pending-acquire-max-count:256}")
+    private int pendingAcquireMaxCount;
+
+    // 연결 획득 대기 최대 시간 (ms)
+    @Value("${nager.api.pool.pending-acquire-timeout:30000}")
+    private long pendingAcquireTimeout;
+
+    // 이 시간 동안 쓰지 않은 연결은 닫음 (ms, 서버·LB 의 유휴 종료보다 짧게)
+    @Value("${nager.api.pool.max-idle-time:20000}")
+    private long maxIdleTime;
+
+    // 연결 최대 수명 (ms, DNS 변경 반영)
+    @Value("${nager.api.pool.max-life-time:300000}")
+    private long maxLifeTime;
+
+    // 유휴·수명 초과 연결을 백그라운드에서 정리하는 주기 (ms)
+    @Value("${nager.api.pool.evict-interval:30000}")
+    private long evictInterval;
+
+    @Value("${nager.api.pool.http2:true}")
+    private boolean http2;
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider nagerConnectionProvider() {
+
+        return ConnectionProvider.builder(POOL_NAME)
+            .maxConnections(maxConnections)
+            .pendingAcquireMaxCount(pendingAcquireMaxCount)
+            .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeout))
+            .maxIdleTime(Duration.ofMillis(maxIdleTime))
+            .maxLifeTime(Duration.ofMillis(maxLifeTime))
+            .evictInBackground(Duration.ofMillis(evictInterval))
+            .metrics(true)
+            .build();
+    }
+
     @Bean
-    public RestTemplate nagerRestTemplate(RestTemplateBuilder builder) {
+    public HttpClient nagerHttpClient(ConnectionProvider nagerConnectionProvider) {
+
+        HttpClient httpClient = HttpClient.create(nagerConnectionProvider)
+            .compress(true)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeout)
+            .responseTimeout(Duration.ofMillis(readTimeout));
+
+        // HTTP/2 는 TLS(ALPN) 에서만 협상
+        if (http2 && baseUrl.startsWith("https")) {
+            httpClient = httpClient
+                .secure()
+                .protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+        }
+        return httpClient;
+    }
+
+    @Bean
+    public RestTemplate nagerRestTemplate(RestTemplateBuilder builder, HttpClient nagerHttpClient) {
+
+        ReactorClientHttpRequestFactory requestFactory = new ReactorClientHttpRequestFactory(nagerHttpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeout));
 
         return builder
-            .connectTimeout(Duration.ofMillis(connectTimeout))
-            .readTimeout(Duration.ofMillis(readTimeout))
+            .requestFactory(() -> requestFactory)
             .build();
     }
 
-}
\ No newline at end of file
+}
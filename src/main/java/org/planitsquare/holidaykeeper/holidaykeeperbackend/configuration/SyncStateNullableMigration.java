@@ -0,0 +1,44 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.configuration;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 동기화 상태의 지문·반영 시각 컬럼 NOT NULL 해제
+ * <p>
+ * 조회만 실패한 국가·연도도 다음 재시도 시각을 남기도록 지문(fingerprint)과 반영 시각(synced_at) 없이 상태 행을 만듭니다.
+ * ddl-auto: update 는 기존 컬럼의 NOT NULL 제약을 풀지 않으므로, 기동 시 남아 있으면 해제합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SyncStateNullableMigration implements ApplicationRunner {
+
+    private static final String TABLE = "COUNTRY_YEAR_SYNC_STATE";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+
+        List<String> columns = jdbcTemplate.queryForList(
+            "SELECT COLUMN_NAME FROM INFORMATION_SCHEMA.COLUMNS "
+                + "WHERE TABLE_NAME = ? AND COLUMN_NAME IN ('FINGERPRINT', 'SYNCED_AT') AND IS_NULLABLE = 'NO'",
+            String.class,
+            TABLE
+        );
+
+        for (String column : columns) {
+            jdbcTemplate.execute("ALTER TABLE country_year_sync_state ALTER COLUMN " + column + " SET NULL");
+            log.info("동기화 상태 컬럼 NOT NULL 해제: {}", column);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.configuration;
+
+import lombok.RequiredArgsConstructor;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.enums.WarmupStatus;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 데이터 적재 상태 (readiness 그룹에 포함)
+ * <p>
+ * 최소 데이터 적재 전에는 WARMING(503)을, 그 뒤에는 나머지 연도 적재 중이어도 UP 을 보고합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class WarmupHealthIndicator implements HealthIndicator {
+
+    public static final Status WARMING = new Status("WARMING", "최소 데이터 적재 중");
+
+    private final DataInitializer dataInitializer;
+
+    @Override
+    public Health health() {
+
+        WarmupStatus status = dataInitializer.getStatus();
+        Health.Builder builder = status.isReady() ? Health.up() : Health.status(WARMING);
+        return builder.withDetail("phase", status.name()).build();
+    }
+}
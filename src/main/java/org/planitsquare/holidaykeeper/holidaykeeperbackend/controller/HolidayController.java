@@ -5,6 +5,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.net.URI;
 import lombok.RequiredArgsConstructor;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.request.HolidayDeleteRequest;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.request.HolidayRefreshRequest;
@@ -12,16 +13,24 @@ import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.request.Hol
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.response.HolidayDeleteResponse;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.response.HolidayRefreshResponse;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.response.HolidaySearchResponse;
-import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.response.HolidaySyncResponse;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.response.SyncJobResponse;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.service.HolidayService;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.service.HolidaySnapshotService;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.service.SyncJobService;
 import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Tag(name = "Holiday", description = "공휴일 관리 API")
 @RestController
@@ -30,22 +39,73 @@ import org.springframework.web.bind.annotation.RestController;
 public class HolidayController {
 
     private final HolidayService holidayService;
+    private final SyncJobService syncJobService;
+    private final HolidaySnapshotService holidaySnapshotService;
 
     @Operation(
         summary = "전체 공휴일 데이터 초기 적재",
-        description = "최근 6년(2020-2025)의 전체 국가 공휴일 데이터를 동기화하고 처리 결과를 반환합니다."
+        description = "최근 6년(2020-2025)의 전체 국가 공휴일 동기화를 백그라운드 작업으로 시작하고 작업 ID 를 반환합니다. "
+            + "이미 실행 중인 작업이 있으면 새로 시작하지 않고 그 작업을 반환합니다."
     )
     @ApiResponses({
-        @ApiResponse(responseCode = "200", description = "공휴일 데이터 적재 성공"),
+        @ApiResponse(responseCode = "202", description = "동기화 작업 시작 (또는 실행 중인 작업에 연결)"),
         @ApiResponse(responseCode = "500", description = "서버 내부 오류")
     })
     @PostMapping("/sync/all")
-    public ResponseEntity<HolidaySyncResponse> loadHolidayData() {
+    public ResponseEntity<SyncJobResponse> loadHolidayData() {
 
-        HolidaySyncResponse response = holidayService.syncHolidaysFor6Years();
+        SyncJobResponse response = syncJobService.submitFullSync();
+        return ResponseEntity
+            .accepted()
+            .location(URI.create("/holidays/sync/" + response.jobId()))
+            .body(response);
+    }
+
+    @Operation(
+        summary = "동기화 작업 진행 상황 조회",
+        description = "처리한·실패한·남은 국가·연도 수, 처리 속도, 예상 남은 시간과 완료 시 적재 결과를 반환합니다."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "404", description = "없는 작업")
+    })
+    @GetMapping("/sync/{jobId}")
+    public ResponseEntity<SyncJobResponse> getSyncJob(@PathVariable String jobId) {
+
+        SyncJobResponse response = syncJobService.getJob(jobId);
         return ResponseEntity.ok(response);
     }
 
+    @Operation(
+        summary = "동기화 작업 진행 상황 구독 (SSE)",
+        description = "진행 중에는 progress 이벤트를 주기적으로 보내고, 끝나면 completed 또는 failed 이벤트를 보낸 뒤 닫습니다."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "구독 시작"),
+        @ApiResponse(responseCode = "404", description = "없는 작업")
+    })
+    @GetMapping(path = "/sync/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeSyncJob(@PathVariable String jobId) {
+
+        return syncJobService.subscribe(jobId);
+    }
+
+    @Operation(
+        summary = "공휴일 스냅샷 내보내기",
+        description = "국가·공휴일 전체를 바이너리 스냅샷으로 내려받습니다. 새 노드의 holiday.warmup.snapshot-path 로 지정하면 외부 API 없이 기동합니다."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "내보내기 성공")
+    })
+    @GetMapping(path = "/snapshot", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportSnapshot() {
+
+        return ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename("holidays.snapshot").build().toString())
+            .body(holidaySnapshotService::exportSnapshot);
+    }
+
     @Operation(
         summary = "공휴일 재동기화",
         description = "연도, 국가 코드로 공휴일을 재동기화합니다"
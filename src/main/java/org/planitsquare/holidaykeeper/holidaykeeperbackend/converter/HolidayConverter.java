@@ -2,11 +2,13 @@ package org.planitsquare.holidaykeeper.holidaykeeperbackend.converter;
 
 import java.time.LocalDate;
 import java.util.List;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.request.HolidayCursor;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.response.HolidaySearchResponse;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.response.HolidaySearchResponse.HolidayItemDto;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.response.HolidaySearchResponse.PageInfo;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.Country;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.Holiday;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.enums.HolidayType;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.external_api_dto.response.HolidayResponse;
 import org.springframework.stereotype.Component;
 
@@ -24,39 +26,38 @@ public class HolidayConverter {
             .global(response.global())
             .counties(convertArrayToString(response.counties()))
             .launchYear(response.launchYear())
-            .types(convertArrayToString(response.types()))
+            .typeMask(HolidayType.toMask(response.types()))
             .build();
     }
 
     /**
      * 페이징 정보를 포함한 검색 결과를 응답으로 변환
+     * <p>
+     * 전체 개수는 인메모리 인덱스·개수 캐시·COUNT 쿼리 중 적용된 곳에서 받고, 슬라이스 모드처럼 개수를 구하지 않은 경우 null 로
+     * 전달합니다. 마지막 페이지 여부는 항상 hasNext 로 판단하며, 다음 페이지가 있으면 마지막 항목으로 nextCursor 를 만듭니다.
      */
     public HolidaySearchResponse toSearchResponseWithPaging(
-        List<Holiday> holidays,
+        List<HolidayItemDto> holidays,
         int currentPage,
         int pageSize,
-        long totalElements
+        Long totalElements,
+        boolean isFirst,
+        boolean hasNext
     ) {
 
-        int totalPages = (int) Math.ceil((double) totalElements / pageSize);
-        boolean isFirst = currentPage == 0;
-        boolean isLast = currentPage >= totalPages - 1;
+        Integer totalPages = totalElements == null
+            ? null
+            : (int) Math.ceil((double) totalElements / pageSize);
         boolean isEmpty = holidays.isEmpty();
 
+        String nextCursor = null;
+        if (hasNext && !isEmpty) {
+            HolidayItemDto last = holidays.get(holidays.size() - 1);
+            nextCursor = new HolidayCursor(last.date(), last.id()).encode();
+        }
+
         return HolidaySearchResponse.builder()
-            .holidays(holidays.stream()
-                .map(holiday ->
-                    HolidayItemDto.builder()
-                        .id(holiday.getId())
-                        .date(holiday.getDate())
-                        .localName(holiday.getLocalName())
-                        .name(holiday.getName())
-                        .countryId(holiday.getCountry().getId())
-                        .countryName(holiday.getCountry().getName())
-                        .types(holiday.getTypesList())
-                        .build())
-                .toList()
-            )
+            .holidays(holidays)
             .pageInfo(PageInfo.builder()
                 .currentPage(currentPage)
                 .pageSize(pageSize)
@@ -64,8 +65,10 @@ public class HolidayConverter {
                 .totalElements(totalElements)
                 .totalPages(totalPages)
                 .isFirst(isFirst)
-                .isLast(isLast)
+                .isLast(!hasNext)
                 .isEmpty(isEmpty)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
                 .build()
             )
             .build();
@@ -0,0 +1,8 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.event;
+
+/**
+ * 국가 데이터가 변경(국가 동기화)되었음을 알리는 이벤트입니다.
+ */
+public record CountryDataChangedEvent() {
+
+}
@@ -0,0 +1,28 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.event;
+
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.Country;
+
+/**
+ * 공휴일 데이터가 변경(동기화·재동기화·삭제)되었음을 알리는 이벤트입니다. countryId 또는 year 가 null 이면 전체 데이터가
+ * 변경된 것으로 간주합니다.
+ */
+public record HolidayDataChangedEvent(
+    Long countryId,
+    Integer year
+) {
+
+    public static HolidayDataChangedEvent of(Country country, int year) {
+
+        return new HolidayDataChangedEvent(country.getId(), year);
+    }
+
+    public static HolidayDataChangedEvent all() {
+
+        return new HolidayDataChangedEvent(null, null);
+    }
+
+    public boolean isAll() {
+
+        return countryId == null || year == null;
+    }
+}
@@ -19,9 +19,16 @@ public enum ErrorCode {
     // 국가 코드 오류
     INVALID_COUNTRY_CODE(HttpStatus.BAD_REQUEST, "유효하지 않은 국가 코드입니다."),
 
+    // 페이징 오류
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다."),
+
     // 공휴일 동기화·조회 관련 오류
     COUNTRY_API_CALL_FAILED(HttpStatus.BAD_REQUEST, "국가 목록 API 호출에 실패했습니다."),
-    HOLIDAY_API_CALL_FAILED(HttpStatus.BAD_REQUEST, "공휴일 API 호출에 실패했습니다.");
+    HOLIDAY_API_CALL_FAILED(HttpStatus.BAD_REQUEST, "공휴일 API 호출에 실패했습니다."),
+    SYNC_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "동기화 작업을 찾을 수 없습니다."),
+    SYNC_LEASE_HELD(HttpStatus.CONFLICT, "다른 노드에서 동기화가 진행 중입니다."),
+    SYNC_LEASE_LOST(HttpStatus.CONFLICT, "동기화 임대를 잃어 작업을 중단했습니다."),
+    SNAPSHOT_INVALID(HttpStatus.INTERNAL_SERVER_ERROR, "스냅샷 파일을 읽을 수 없습니다.");
 
     private final HttpStatus status;
     private final String message;
@@ -0,0 +1,145 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.index;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.event.CountryDataChangedEvent;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.Country;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository.CountryRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 국가 조회용 인메모리 레지스트리입니다.
+ * <p>
+ * 국가 데이터는 국가 동기화 때만 바뀌므로, 전체 국가를 불변 스냅샷으로 보관하고 요청마다 DB 를 조회하지 않습니다. 대문자 ISO alpha-2
+ * 코드는 26×26 배열 인덱스로 바로 찾고, 그 외 형식의 코드는 맵으로 찾습니다. 국가 동기화가 커밋되면 새 스냅샷을 만들어 참조 하나를
+ * 통째로 교체하므로 읽기 쪽은 락 없이 항상 일관된 스냅샷을 봅니다.
+ * <p>
+ * 비활성(외부 API 목록에서 빠진) 국가도 코드·ID 로는 찾을 수 있어 기존 공휴일 조회가 가능하고, 동기화 대상 목록에서만 제외됩니다.
+ * 보관하는 Country 는 준영속 상태이며, 연관 관계 참조·조회 조건 등 ID 만 쓰는 용도로 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CountryRegistry {
+
+    private static final int ALPHABET = 26;
+
+    private final CountryRepository countryRepository;
+
+    // null: 아직 적재 전 (첫 조회 시 적재)
+    private volatile Snapshot snapshot;
+
+    private record Snapshot(
+        Country[] byAlpha2,             // (첫 글자 - 'A') * 26 + (둘째 글자 - 'A')
+        Map<String, Country> byCode,    // alpha-2 형식이 아닌 코드
+        Map<Long, Country> byId,
+        List<Country> active
+    ) {
+
+        static Snapshot of(List<Country> countries) {
+
+            Country[] byAlpha2 = new Country[ALPHABET * ALPHABET];
+            Map<String, Country> byCode = new HashMap<>();
+            Map<Long, Country> byId = new HashMap<>();
+
+            for (Country country : countries) {
+                int slot = alpha2Slot(country.getCode());
+                if (slot >= 0) {
+                    byAlpha2[slot] = country;
+                } else {
+                    byCode.put(country.getCode(), country);
+                }
+                byId.put(country.getId(), country);
+            }
+
+            List<Country> active = countries.stream()
+                .filter(c -> Boolean.TRUE.equals(c.getActive()))
+                .toList();
+
+            return new Snapshot(byAlpha2, Map.copyOf(byCode), Map.copyOf(byId), active);
+        }
+
+        Country find(String code) {
+
+            int slot = alpha2Slot(code);
+            return slot >= 0 ? byAlpha2[slot] : byCode.get(code);
+        }
+    }
+
+    public Optional<Country> findByCode(String code) {
+
+        if (code == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(current().find(code));
+    }
+
+    public Optional<Country> findById(Long id) {
+
+        return Optional.ofNullable(current().byId().get(id));
+    }
+
+    /**
+     * 활성 국가 (불변 목록, 동기화 대상)
+     */
+    public List<Country> findActive() {
+
+        return current().active();
+    }
+
+    /**
+     * 국가 동기화 트랜잭션이 커밋된 뒤 다시 적재
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCountryDataChanged(CountryDataChangedEvent event) {
+
+        reload();
+    }
+
+    /**
+     * DB 에서 전체 국가를 읽어 새 스냅샷으로 교체
+     */
+    public synchronized void reload() {
+
+        List<Country> countries = countryRepository.findAll();
+        snapshot = Snapshot.of(countries);
+
+        log.info("국가 레지스트리 적재 완료: {} 개국", countries.size());
+    }
+
+    private Snapshot current() {
+
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+
+        synchronized (this) {
+            if (snapshot == null) {
+                reload();
+            }
+            return snapshot;
+        }
+    }
+
+    /**
+     * 대문자 알파벳 2자면 배열 위치, 아니면 -1
+     */
+    private static int alpha2Slot(String code) {
+
+        if (code == null || code.length() != 2) {
+            return -1;
+        }
+        int first = code.charAt(0) - 'A';
+        int second = code.charAt(1) - 'A';
+        if (first < 0 || first >= ALPHABET || second < 0 || second >= ALPHABET) {
+            return -1;
+        }
+        return first * ALPHABET + second;
+    }
+}
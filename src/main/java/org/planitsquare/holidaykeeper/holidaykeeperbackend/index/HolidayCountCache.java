@@ -0,0 +1,106 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.index;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.event.HolidayDataChangedEvent;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.enums.HolidayType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 검색 조건(국가, 기간, 타입 비트마스크)별 전체 개수 캐시입니다.
+ * <p>
+ * 페이지 조회와 같은 조건으로 매번 COUNT 를 다시 실행하지 않도록 결과를 기억하고, 재동기화·삭제가 커밋되면 해당 국가·연도와 겹치는
+ * 항목만 무효화합니다. 값에는 계산을 시작한 세대(generation)를 함께 저장하고, 저장 직후 세대가 바뀌었으면 그 값만 다시 지워
+ * 무효화와 겹쳐 계산된 커밋 이전 개수가 남지 않게 합니다.
+ */
+@Component
+public class HolidayCountCache {
+
+    // 조건 수가 비정상적으로 많아지면 통째로 비운다 (국가 × 기간 조합은 보통 수백 개 이내)
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final Map<Key, Entry> counts = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    private record Key(
+        Long countryId,
+        LocalDate start,
+        LocalDate end,
+        int typeMask
+    ) {
+
+    }
+
+    private record Entry(
+        long count,
+        long generation
+    ) {
+
+    }
+
+    /**
+     * 캐시된 개수를 반환하고, 없으면 loader 로 계산해 저장합니다.
+     */
+    public long get(
+        Long countryId,
+        LocalDate start,
+        LocalDate end,
+        List<HolidayType> types,
+        LongSupplier loader
+    ) {
+
+        Key key = new Key(countryId, start, end, HolidayType.toMask(types));
+
+        Entry cached = counts.get(key);
+        if (cached != null) {
+            return cached.count();
+        }
+
+        long loadedGeneration = generation.get();
+        long count = loader.getAsLong();
+
+        if (generation.get() != loadedGeneration) {
+            return count;
+        }
+        if (counts.size() >= MAX_ENTRIES) {
+            counts.clear();
+        }
+
+        Entry entry = new Entry(count, loadedGeneration);
+        counts.putIfAbsent(key, entry);
+
+        // 확인과 저장 사이에 무효화가 끼어들어 removeIf 가 이 값을 못 봤을 수 있으므로 저장 후 다시 확인
+        if (generation.get() != loadedGeneration) {
+            counts.remove(key, entry);
+        }
+        return count;
+    }
+
+    /**
+     * 공휴일 변경 커밋 이후 해당 국가·연도와 기간이 겹치는 개수 무효화
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHolidayDataChanged(HolidayDataChangedEvent event) {
+
+        generation.incrementAndGet();
+
+        if (event.isAll()) {
+            counts.clear();
+            return;
+        }
+
+        LocalDate yearStart = LocalDate.of(event.year(), 1, 1);
+        LocalDate yearEnd = LocalDate.of(event.year(), 12, 31);
+
+        counts.keySet().removeIf(key ->
+            key.countryId().equals(event.countryId())
+                && !key.end().isBefore(yearStart)
+                && !key.start().isAfter(yearEnd)
+        );
+    }
+}
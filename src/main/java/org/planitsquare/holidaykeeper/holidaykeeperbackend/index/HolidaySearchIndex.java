@@ -0,0 +1,386 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.index;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.event.HolidayDataChangedEvent;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.response.HolidaySearchResponse.HolidayItemDto;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.Country;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.Holiday;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.enums.HolidayType;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository.CountryRepository;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository.HolidayRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 공휴일 검색용 인메모리 읽기 모델입니다.
+ * <p>
+ * 국가·연도별로 날짜 순 정렬된 불변 배열을 보관하고, 검색·개수·페이징을 이진 탐색과 구간 슬라이싱으로 처리합니다. 데이터가 변경되면
+ * (동기화·재동기화·삭제 커밋 이후) 새 스냅샷을 만들어 참조 하나를 통째로 교체하므로, 읽기 쪽은 락 없이 항상 일관된 스냅샷을 봅니다.
+ * <p>
+ * 아직 적재되지 않았거나 인덱스에 없는 국가 코드는 {@link Optional#empty()} 를 반환하며, 이 경우 호출 측은 DB 조회로 대체합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HolidaySearchIndex {
+
+    private final HolidayRepository holidayRepository;
+    private final CountryRepository countryRepository;
+    private final CountryRegistry countryRegistry;
+
+    // 국가 코드 → 국가별 인덱스 (null: 아직 적재 전)
+    private volatile Map<String, CountryIndex> countries;
+
+    // 애플리케이션 기동 완료 여부. 기동 중 초기 적재(DataInitializer)의 국가·연도별 이벤트는 무시하고 기동 완료 시 한 번에 적재한다.
+    private volatile boolean started;
+
+    /**
+     * 인덱스 검색 결과 (현재 페이지 항목 + 전체 개수 + 다음 페이지 존재 여부)
+     */
+    public record SearchResult(
+        List<HolidayItemDto> holidays,
+        long totalElements,
+        boolean hasNext
+    ) {
+
+    }
+
+    private record CountryIndex(
+        Long countryId,
+        String countryName,
+        Map<Integer, YearIndex> years
+    ) {
+
+    }
+
+    /**
+     * 한 국가·연도의 공휴일. 세 배열은 같은 인덱스끼리 같은 공휴일을 가리키며 (날짜, ID) 순으로 정렬되어 있습니다.
+     */
+    private record YearIndex(
+        int[] epochDays,
+        int[] typeMasks,
+        HolidayItemDto[] items
+    ) {
+
+        static YearIndex of(List<Holiday> holidays, Long countryId, String countryName) {
+
+            List<Holiday> sorted = holidays.stream()
+                .sorted(Comparator.comparing(Holiday::getDate).thenComparing(Holiday::getId))
+                .toList();
+
+            int size = sorted.size();
+            int[] epochDays = new int[size];
+            int[] typeMasks = new int[size];
+            HolidayItemDto[] items = new HolidayItemDto[size];
+
+            for (int i = 0; i < size; i++) {
+                Holiday holiday = sorted.get(i);
+                int typeMask = holiday.getTypeMask() == null ? 0 : holiday.getTypeMask();
+
+                epochDays[i] = (int) holiday.getDate().toEpochDay();
+                typeMasks[i] = typeMask;
+                items[i] = HolidayItemDto.builder()
+                    .id(holiday.getId())
+                    .date(holiday.getDate())
+                    .localName(holiday.getLocalName())
+                    .name(holiday.getName())
+                    .countryId(countryId)
+                    .countryName(countryName)
+                    .types(HolidayType.valuesOf(typeMask))
+                    .build();
+            }
+            return new YearIndex(epochDays, typeMasks, items);
+        }
+    }
+
+    public boolean isReady() {
+
+        return countries != null;
+    }
+
+    /**
+     * 국가 코드·기간·타입 조건으로 공휴일을 검색합니다. 정렬 순서는 DB 조회와 동일하게 (날짜, ID) 오름차순입니다.
+     *
+     * @return 인덱스로 응답할 수 없으면 {@link Optional#empty()}
+     */
+    public Optional<SearchResult> search(
+        String countryCode,
+        LocalDate start,
+        LocalDate end,
+        List<HolidayType> types,
+        int page,
+        int size
+    ) {
+
+        return search(countryCode, start, end, types, (long) page * size, null, 0L, size);
+    }
+
+    /**
+     * 키셋 페이징 검색. (cursorDate, cursorId) 보다 뒤에 있는 공휴일부터 size 건을 반환합니다.
+     *
+     * @return 인덱스로 응답할 수 없으면 {@link Optional#empty()}
+     */
+    public Optional<SearchResult> searchAfter(
+        String countryCode,
+        LocalDate start,
+        LocalDate end,
+        List<HolidayType> types,
+        LocalDate cursorDate,
+        long cursorId,
+        int size
+    ) {
+
+        return search(countryCode, start, end, types, 0L, cursorDate, cursorId, size);
+    }
+
+    /**
+     * totalElements 는 조건에 맞는 전체 개수이고, 페이지 항목은 커서 이후(eligible) 항목 중 offset 건을 건너뛴 뒤 size 건입니다.
+     */
+    private Optional<SearchResult> search(
+        String countryCode,
+        LocalDate start,
+        LocalDate end,
+        List<HolidayType> types,
+        long offset,
+        LocalDate cursorDate,
+        long cursorId,
+        int size
+    ) {
+
+        Map<String, CountryIndex> snapshot = countries;
+        if (snapshot == null) {
+            return Optional.empty();
+        }
+
+        CountryIndex country = snapshot.get(countryCode);
+        if (country == null) {
+            return Optional.empty();
+        }
+
+        int typeMask = HolidayType.toMask(types);
+        int startDay = (int) start.toEpochDay();
+        int endDay = (int) end.toEpochDay();
+
+        List<HolidayItemDto> holidays = new ArrayList<>(Math.min(size, 32));
+        long total = 0;
+        long eligible = 0;
+
+        for (int year = start.getYear(); year <= end.getYear(); year++) {
+            YearIndex yearIndex = country.years().get(year);
+            if (yearIndex == null) {
+                continue;
+            }
+
+            int from = lowerBound(yearIndex.epochDays(), startDay);
+            int to = upperBound(yearIndex.epochDays(), endDay);
+            int eligibleFrom = cursorDate == null
+                ? from
+                : Math.max(from, firstAfter(yearIndex, (int) cursorDate.toEpochDay(), cursorId));
+
+            if (typeMask == 0) {
+                // 타입 필터가 없으면 구간 길이로 개수를 구하고, 현재 페이지와 겹치는 부분만 잘라 담는다
+                int count = Math.max(to - eligibleFrom, 0);
+                long pageFrom = Math.max(offset - eligible, 0);
+                long pageTo = Math.min(offset + size - eligible, count);
+                for (long i = pageFrom; i < pageTo; i++) {
+                    holidays.add(yearIndex.items()[eligibleFrom + (int) i]);
+                }
+                total += to - from;
+                eligible += count;
+                continue;
+            }
+
+            for (int i = from; i < to; i++) {
+                if ((yearIndex.typeMasks()[i] & typeMask) == 0) {
+                    continue;
+                }
+                total++;
+                if (i < eligibleFrom) {
+                    continue;
+                }
+                if (eligible >= offset && holidays.size() < size) {
+                    holidays.add(yearIndex.items()[i]);
+                }
+                eligible++;
+            }
+        }
+
+        boolean hasNext = eligible > offset + size;
+        return Optional.of(new SearchResult(holidays, total, hasNext));
+    }
+
+    /**
+     * 애플리케이션 기동 완료 시 전체 인덱스 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void onApplicationReady() {
+
+        started = true;
+        rebuildSafely();
+    }
+
+    /**
+     * 공휴일 변경 트랜잭션이 커밋된 뒤 해당 국가·연도(또는 전체)를 다시 적재
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onHolidayDataChanged(HolidayDataChangedEvent event) {
+
+        if (!started) {
+            return;
+        }
+
+        if (event.isAll() || countries == null) {
+            rebuildSafely();
+            return;
+        }
+
+        try {
+            reload(event.countryId(), event.year());
+        } catch (Exception e) {
+            // 부분 갱신에 실패하면 오래된 데이터를 응답하지 않도록 인덱스를 내리고 DB 조회로 대체
+            log.error("공휴일 인덱스 갱신 실패: countryId={}, year={}", event.countryId(), event.year(), e);
+            countries = null;
+        }
+    }
+
+    private void rebuildSafely() {
+
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("공휴일 인덱스 적재 실패", e);
+            countries = null;
+        }
+    }
+
+    private synchronized void rebuild() {
+
+        long startNanos = System.nanoTime();
+
+        Map<Long, List<Holiday>> holidaysByCountryId = holidayRepository.findAll().stream()
+            .collect(Collectors.groupingBy(h -> h.getCountry().getId()));
+
+        Map<String, CountryIndex> next = new HashMap<>();
+        for (Country country : countryRepository.findAll()) {
+            List<Holiday> holidays = holidaysByCountryId.getOrDefault(country.getId(), List.of());
+            next.put(country.getCode(), buildCountryIndex(country, holidays));
+        }
+
+        countries = Map.copyOf(next);
+
+        log.info("공휴일 인덱스 적재 완료: {} 개국, {} 건 ({} ms)",
+            next.size(),
+            holidaysByCountryId.values().stream().mapToInt(List::size).sum(),
+            (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    private synchronized void reload(Long countryId, int year) {
+
+        Map<String, CountryIndex> current = countries;
+
+        Country country = countryRegistry.findById(countryId).orElse(null);
+        if (current == null || country == null) {
+            rebuild();
+            return;
+        }
+
+        List<Holiday> holidays = holidayRepository.findByCountryAndDateBetween(
+            country, LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31));
+
+        CountryIndex old = current.get(country.getCode());
+        Map<Integer, YearIndex> years = old == null ? new HashMap<>() : new HashMap<>(old.years());
+        if (holidays.isEmpty()) {
+            years.remove(year);
+        } else {
+            years.put(year, YearIndex.of(holidays, country.getId(), country.getName()));
+        }
+
+        Map<String, CountryIndex> next = new HashMap<>(current);
+        next.put(country.getCode(),
+            new CountryIndex(country.getId(), country.getName(), Map.copyOf(years)));
+
+        countries = Map.copyOf(next);
+
+        log.debug("공휴일 인덱스 갱신: {} - {} ({} 건)", country.getCode(), year, holidays.size());
+    }
+
+    private CountryIndex buildCountryIndex(Country country, List<Holiday> holidays) {
+
+        Map<Integer, YearIndex> years = holidays.stream()
+            .collect(Collectors.groupingBy(h -> h.getDate().getYear()))
+            .entrySet()
+            .stream()
+            .collect(Collectors.toUnmodifiableMap(
+                Map.Entry::getKey,
+                e -> YearIndex.of(e.getValue(), country.getId(), country.getName())
+            ));
+
+        return new CountryIndex(country.getId(), country.getName(), years);
+    }
+
+    /**
+     * 정렬 키 (epochDay, id) 가 커서보다 큰 첫 위치
+     */
+    private static int firstAfter(YearIndex yearIndex, int cursorDay, long cursorId) {
+
+        int[] epochDays = yearIndex.epochDays();
+        int i = lowerBound(epochDays, cursorDay);
+        while (i < epochDays.length
+            && epochDays[i] == cursorDay
+            && yearIndex.items()[i].id() <= cursorId) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * key 이상인 첫 위치
+     */
+    private static int lowerBound(int[] sorted, int key) {
+
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * key 초과인 첫 위치
+     */
+    private static int upperBound(int[] sorted, int key) {
+
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] <= key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,48 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.request;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Base64;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.exception.BusinessException;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.exception.ErrorCode;
+
+/**
+ * 키셋(seek) 페이징 커서. 마지막으로 응답한 공휴일의 (날짜, ID) 를 담으며, 정렬 키 (holiday_date, holiday_id) 가 유일하므로
+ * 다음 페이지는 이 키보다 큰 행부터 시작합니다.
+ * <p>
+ * 클라이언트에는 "epochDay:id" 를 URL-safe Base64 로 인코딩한 불투명 문자열로 전달합니다.
+ */
+public record HolidayCursor(
+    LocalDate date,
+    Long id
+) {
+
+    private static final char SEPARATOR = ':';
+
+    public String encode() {
+
+        String raw = date.toEpochDay() + String.valueOf(SEPARATOR) + id;
+        return Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    public static HolidayCursor decode(String cursor) {
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            int separatorIndex = raw.indexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new BusinessException(ErrorCode.INVALID_CURSOR);
+            }
+
+            LocalDate date = LocalDate.ofEpochDay(Long.parseLong(raw.substring(0, separatorIndex)));
+            long id = Long.parseLong(raw.substring(separatorIndex + 1));
+            return new HolidayCursor(date, id);
+
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -80,7 +80,29 @@ public record HolidaySearchRequest(
     @NonNull
     @Min(value = 5, message = "페이지 크기는 5 이상이여야 합니다.")
     @Max(value = 100, message = "페이지 크기는 100 이하여야 합니다.")
-    Integer size
+    Integer size,
+
+    @Schema(
+        description = """
+            다음 페이지 커서 (선택사항)
+            - 이전 응답의 pageInfo.nextCursor 값을 그대로 전달하면 키셋(seek) 방식으로 다음 페이지를 조회합니다.
+            - 커서를 전달하면 page 값은 무시됩니다.
+            """,
+        nullable = true
+    )
+    String cursor,
+
+    @Schema(
+        description = """
+            슬라이스 모드 (선택사항, 기본값 false)
+            - true 이면 전체 개수(COUNT)를 계산하지 않고 다음 페이지 존재 여부(hasNext)만 반환합니다.
+            - 이 경우 pageInfo.totalElements, pageInfo.totalPages 는 null 입니다.
+            """,
+        example = "false",
+        defaultValue = "false",
+        nullable = true
+    )
+    Boolean slice
 ) {
 
     public HolidaySearchRequest {
@@ -0,0 +1,45 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Builder;
+
+@Schema(description = "국가 동기화 결과")
+@Builder
+public record CountrySyncResponse(
+
+    @Schema(description = "새로 추가된 국가 코드", example = "[\"XK\"]")
+    List<String> addedCodes,
+
+    @Schema(description = "목록에서 빠졌다가 다시 포함된 국가 코드", example = "[]")
+    List<String> reactivatedCodes,
+
+    @Schema(description = "국가명이 바뀐 국가 코드", example = "[\"TR\"]")
+    List<String> renamedCodes,
+
+    @Schema(description = "목록에서 빠져 비활성화된 국가 코드", example = "[]")
+    List<String> retiredCodes,
+
+    @Schema(description = "변경 없는 국가 수", example = "118")
+    int unchangedCount
+) {
+
+    /**
+     * 공휴일을 새로 가져와야 하는 국가 코드 (추가 + 재활성화)
+     */
+    public List<String> codesToFetch() {
+
+        List<String> codes = new ArrayList<>(addedCodes);
+        codes.addAll(reactivatedCodes);
+        return codes;
+    }
+
+    public boolean hasChanges() {
+
+        return !addedCodes.isEmpty()
+            || !reactivatedCodes.isEmpty()
+            || !renamedCodes.isEmpty()
+            || !retiredCodes.isEmpty();
+    }
+}
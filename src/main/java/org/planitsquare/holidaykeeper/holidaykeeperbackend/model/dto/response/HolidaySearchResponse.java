@@ -33,11 +33,11 @@ public record HolidaySearchResponse(
         @Schema(description = "현재 페이지의 항목 수", example = "20")
         int numberOfElements,
 
-        @Schema(description = "전체 항목 수", example = "150")
-        long totalElements,
+        @Schema(description = "전체 항목 수 (슬라이스 모드면 null)", example = "150", nullable = true)
+        Long totalElements,
 
-        @Schema(description = "전체 페이지 수", example = "8")
-        int totalPages,
+        @Schema(description = "전체 페이지 수 (슬라이스 모드면 null)", example = "8", nullable = true)
+        Integer totalPages,
 
         @Schema(description = "첫 페이지 여부", example = "true")
         boolean isFirst,
@@ -46,7 +46,17 @@ public record HolidaySearchResponse(
         boolean isLast,
 
         @Schema(description = "비어있는지 여부", example = "false")
-        boolean isEmpty
+        boolean isEmpty,
+
+        @Schema(description = "다음 페이지 존재 여부", example = "true")
+        boolean hasNext,
+
+        @Schema(
+            description = "다음 페이지 커서 (마지막 페이지면 null). 다음 요청의 cursor 파라미터로 전달",
+            example = "NDk3NDg6MTAx",
+            nullable = true
+        )
+        String nextCursor
     ) {
 
     }
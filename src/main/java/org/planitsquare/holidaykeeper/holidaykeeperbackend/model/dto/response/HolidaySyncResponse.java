@@ -16,6 +16,9 @@ public record HolidaySyncResponse(
     @Schema(description = "실패 건수", example = "20")
     Integer failCount,
 
+    @Schema(description = "성공 건수 중 외부 API 응답이 변경되지 않아(304) 저장을 건너뛴 건수", example = "1000")
+    Integer skippedCount,
+
     @Schema(description = "처리된 국가 수", example = "200")
     Integer countryCount,
 
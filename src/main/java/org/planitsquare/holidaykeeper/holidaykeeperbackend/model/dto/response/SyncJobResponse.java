@@ -0,0 +1,48 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.enums.SyncJobStatus;
+
+@Schema(description = "공휴일 동기화 작업 진행 상황")
+@Builder
+public record SyncJobResponse(
+
+    @Schema(description = "작업 ID", example = "3f2b1c9e-8a4d-4f6e-9b7a-1c2d3e4f5a6b")
+    String jobId,
+
+    @Schema(description = "작업 상태", example = "RUNNING")
+    SyncJobStatus status,
+
+    @Schema(description = "처리할 국가·연도 수", example = "714")
+    int totalCount,
+
+    @Schema(description = "성공한 국가·연도 수", example = "320")
+    int doneCount,
+
+    @Schema(description = "실패한 국가·연도 수", example = "2")
+    int failedCount,
+
+    @Schema(description = "남은 국가·연도 수", example = "392")
+    int remainingCount,
+
+    @Schema(description = "초당 처리한 국가·연도 수", example = "6.4")
+    double throughputPerSecond,
+
+    @Schema(description = "예상 남은 시간 (초), 처리 속도를 아직 모르면 null", example = "62")
+    Long etaSeconds,
+
+    @Schema(description = "작업 시작 시간", example = "2025-01-15T10:30:00")
+    String startTime,
+
+    @Schema(description = "작업 종료 시간 (진행 중이면 null)", example = "2025-01-15T10:31:30")
+    String endTime,
+
+    @Schema(description = "완료된 작업의 적재 결과 (진행 중·실패 시 null)")
+    HolidaySyncResponse result,
+
+    @Schema(description = "실패 사유 (실패 시에만)")
+    String errorMessage
+) {
+
+}
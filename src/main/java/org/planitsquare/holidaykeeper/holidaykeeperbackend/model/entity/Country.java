@@ -6,6 +6,7 @@ import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
@@ -13,6 +14,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -26,8 +28,10 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @Table(name = "country")
 public class Country {
 
+    // 시퀀스 + pooled 할당(50개씩): IDENTITY 와 달리 INSERT 전에 ID 를 알 수 있어 JDBC 배치 INSERT 가 가능
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "country_id_generator")
+    @SequenceGenerator(name = "country_id_generator", sequenceName = "country_seq", allocationSize = 50)
     @Column(name = "country_id")
     private Long id;
 
@@ -40,6 +44,12 @@ public class Country {
     @Column(name = "country_name", nullable = false)
     private String name;
 
+    // 외부 API 국가 목록에 있는지 여부 (목록에서 빠지면 행을 지우지 않고 false 로 표시, 공휴일 데이터는 유지)
+    @Builder.Default
+    @ColumnDefault("true")
+    @Column(name = "active", nullable = false)
+    private Boolean active = true;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -47,4 +57,19 @@ public class Country {
     @LastModifiedDate
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
+
+    public void updateName(String name) {
+
+        this.name = name;
+    }
+
+    public void retire() {
+
+        this.active = false;
+    }
+
+    public void reactivate() {
+
+        this.active = true;
+    }
 }
@@ -0,0 +1,82 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 국가·연도별 마지막 동기화 상태
+ * <p>
+ * 마지막으로 DB 에 반영한 외부 API 응답의 지문(fingerprint)을 저장해, 다음 동기화에서 응답 지문이 같으면 기존 데이터 조회와 비교를
+ * 생략합니다. 마지막 조회 시각과 다음 조회 예정 시각은 연도 구간별 주기 스케줄러가 사용합니다.
+ * <p>
+ * 한 번도 반영하지 못한 채 조회가 실패한 국가·연도도 다음 재시도 시각을 남기도록 지문·반영 시각 없이 행을 만듭니다.
+ */
+@Entity
+@Builder
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(
+    name = "country_year_sync_state",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_sync_state_country_year", columnNames = {"country_id", "sync_year"})
+    }
+)
+public class CountryYearSyncState {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "sync_state_id")
+    private Long id;
+
+    // 국가
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "country_id", nullable = false)
+    private Country country;
+
+    // 연도
+    @Column(name = "sync_year", nullable = false)
+    private Integer year;
+
+    // 마지막으로 반영한 응답의 64비트 지문 (HolidayFingerprint, 반영한 적이 없으면 null)
+    @Column(name = "fingerprint")
+    private Long fingerprint;
+
+    // 마지막 동기화 시각 (데이터를 반영한 시각, 반영한 적이 없으면 null)
+    @Column(name = "synced_at")
+    private LocalDateTime syncedAt;
+
+    // 마지막 조회 시각 (변경이 없어 반영을 건너뛴 경우 포함)
+    @Column(name = "checked_at")
+    private LocalDateTime checkedAt;
+
+    // 다음 조회 예정 시각 (null 이면 바로 조회 대상)
+    @Column(name = "next_sync_at")
+    private LocalDateTime nextSyncAt;
+
+    public void updateFingerprint(long fingerprint, LocalDateTime syncedAt) {
+
+        this.fingerprint = fingerprint;
+        this.syncedAt = syncedAt;
+    }
+
+    public void markChecked(LocalDateTime checkedAt, LocalDateTime nextSyncAt) {
+
+        this.checkedAt = checkedAt;
+        this.nextSyncAt = nextSyncAt;
+    }
+}
@@ -7,20 +7,28 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.Transient;
+import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.enums.HolidayType;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.utility.HolidayKey;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -31,11 +39,26 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "country_holiday")
+@Table(
+    name = "country_holiday",
+    indexes = {
+        // 국가 + 기간 조회/삭제, 검색(date, id 정렬)·키셋 페이징 공용
+        @Index(name = "idx_holiday_country_date", columnList = "country_id, holiday_date, holiday_id")
+    },
+    uniqueConstraints = {
+        // 재동기화(upsert) 시 비교 키와 같은 자연 키 (정규화된 영문명 기준, merge 방식의 비교 조인도 이 인덱스 사용)
+        @UniqueConstraint(
+            name = "uk_holiday_country_date_name_key",
+            columnNames = {"country_id", "holiday_date", "name_key"}
+        )
+    }
+)
 public class Holiday {
 
+    // 시퀀스 + pooled 할당(50개씩): IDENTITY 와 달리 INSERT 전에 ID 를 알 수 있어 JDBC 배치 INSERT 가 가능
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "holiday_id_generator")
+    @SequenceGenerator(name = "holiday_id_generator", sequenceName = "country_holiday_seq", allocationSize = 50)
     @Column(name = "holiday_id")
     private Long id;
 
@@ -50,6 +73,11 @@ public class Holiday {
     @Column(name = "holiday_name", nullable = false)
     private String name;
 
+    // 비교용 정규화 영문명 (HolidayKey.normalizedName, 저장 시 영문명으로 채움)
+    @ColumnDefault("''")
+    @Column(name = "name_key", nullable = false)
+    private String nameKey;
+
     // 국가
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "country_id", nullable = false)
@@ -81,17 +109,22 @@ public class Holiday {
     @Column(name = "holiday_launch_year")
     private Integer launchYear;
 
-    // 공휴일 유형 배열 (Public, Bank, School, Authorities, Optional, Observance)
-    // 저장 예시: "School,Authorities"
-    @Column(name = "holiday_types")
-    private String types;
+    // 공휴일 유형 비트마스크 (HolidayType.bit 의 OR)
+    // 저장 예시: School(4) + Authorities(8) = 12
+    @ColumnDefault("0")
+    @Column(name = "holiday_type_mask", nullable = false)
+    private Integer typeMask;
+
+    @Transient
+    public Set<HolidayType> getTypeSet() {
+
+        return HolidayType.setOf(typeMask == null ? 0 : typeMask);
+    }
 
     @Transient
     public List<String> getTypesList() {
 
-        return types == null || types.isEmpty()
-            ? Collections.emptyList()
-            : Arrays.asList(types.split(","));
+        return HolidayType.valuesOf(typeMask == null ? 0 : typeMask);
     }
 
     @CreatedDate
@@ -103,6 +136,12 @@ public class Holiday {
     private LocalDateTime updatedAt;
 
 
+    @PrePersist
+    void fillNameKey() {
+
+        this.nameKey = HolidayKey.normalizedName(name);
+    }
+
     /**
      * 엔티티를 생성하지 않고, update 하는 메서드
      *
@@ -112,9 +151,10 @@ public class Holiday {
 
         this.localName = source.getLocalName();
         this.name = source.getName();
+        this.nameKey = HolidayKey.normalizedName(source.getName());
         this.fixed = source.getFixed();
         this.counties = source.getCounties();
         this.launchYear = source.getLaunchYear();
-        this.types = source.getTypes();
+        this.typeMask = source.getTypeMask();
     }
 }
@@ -1,6 +1,12 @@
 package org.planitsquare.holidaykeeper.holidaykeeperbackend.model.enums;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -10,24 +16,142 @@ import lombok.Getter;
 public enum HolidayType {
 
     @Schema(description = "공휴일")
-    PUBLIC("Public", "공휴일"),
+    PUBLIC("Public", "공휴일", 1),
 
     @Schema(description = "은행 및 관공서 휴무일")
-    BANK("Bank", "은행 및 관공서 휴무일"),
+    BANK("Bank", "은행 및 관공서 휴무일", 1 << 1),
 
     @Schema(description = "학교 휴일")
-    SCHOOL("School", "학교 휴일"),
+    SCHOOL("School", "학교 휴일", 1 << 2),
 
     @Schema(description = "관공서 휴무일")
-    AUTHORITIES("Authorities", "관공서 휴무일"),
+    AUTHORITIES("Authorities", "관공서 휴무일", 1 << 3),
 
     @Schema(description = "선택적 휴일 (대부분 휴무)")
-    OPTIONAL("Optional", "대부분이 휴무하는 선택적 휴일"),
+    OPTIONAL("Optional", "대부분이 휴무하는 선택적 휴일", 1 << 4),
 
     @Schema(description = "기념일 (유급 휴일 아님)")
-    OBSERVANCE("Observance", "기념일, 유급 휴일 아님");
+    OBSERVANCE("Observance", "기념일, 유급 휴일 아님", 1 << 5);
 
     private final String value;
 
     private final String description;
-}
\ No newline at end of file
+
+    // DB(holiday_type_mask)에 저장되는 비트. 저장된 값과 호환되도록 기존 상수의 비트는 바꾸지 않는다.
+    private final int bit;
+
+    // values() 는 호출마다 배열을 복사하므로 한 번만 만들어 둠
+    private static final HolidayType[] TYPES = values();
+
+    // 6개 타입의 모든 조합(2^6)에 대해 미리 만들어 둔 불변 집합·값 목록
+    private static final int MASK_COUNT = 1 << 6;
+    private static final List<Set<HolidayType>> SETS_BY_MASK;
+    private static final List<List<String>> VALUES_BY_MASK;
+
+    static {
+        List<Set<HolidayType>> sets = new ArrayList<>(MASK_COUNT);
+        List<List<String>> values = new ArrayList<>(MASK_COUNT);
+
+        for (int mask = 0; mask < MASK_COUNT; mask++) {
+            EnumSet<HolidayType> set = EnumSet.noneOf(HolidayType.class);
+            for (HolidayType type : values()) {
+                if ((mask & type.bit) != 0) {
+                    set.add(type);
+                }
+            }
+            sets.add(Collections.unmodifiableSet(set));
+            values.add(set.stream().map(HolidayType::getValue).toList());
+        }
+
+        SETS_BY_MASK = List.copyOf(sets);
+        VALUES_BY_MASK = List.copyOf(values);
+    }
+
+    /**
+     * 외부 API 값("Public" 등, 대소문자 무시)에 해당하는 타입. 알 수 없는 값이면 null
+     */
+    public static HolidayType fromValue(String value) {
+
+        for (HolidayType type : values()) {
+            if (type.value.equalsIgnoreCase(value)) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    public static int toMask(Collection<HolidayType> types) {
+
+        if (types == null) {
+            return 0;
+        }
+
+        int mask = 0;
+        for (HolidayType type : types) {
+            mask |= type.bit;
+        }
+        return mask;
+    }
+
+    /**
+     * 외부 API 의 타입 값 배열을 비트마스크로 변환. 알 수 없는 값은 무시합니다.
+     */
+    public static int toMask(String[] typeValues) {
+
+        if (typeValues == null) {
+            return 0;
+        }
+
+        int mask = 0;
+        for (String value : typeValues) {
+            HolidayType type = fromValue(value);
+            if (type != null) {
+                mask |= type.bit;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * 외부 API 의 타입 값(대소문자 무시)에 해당하는 비트. 알 수 없는 값이면 0
+     * <p>
+     * 스트리밍 JSON 파서의 문자 버퍼에서 문자열을 만들지 않고 바로 비교합니다.
+     */
+    public static int bitOf(char[] chars, int offset, int length) {
+
+        for (HolidayType type : TYPES) {
+            if (equalsIgnoreCase(type.value, chars, offset, length)) {
+                return type.bit;
+            }
+        }
+        return 0;
+    }
+
+    private static boolean equalsIgnoreCase(String value, char[] chars, int offset, int length) {
+
+        if (value.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char a = value.charAt(i);
+            char b = chars[offset + i];
+            if (a != b && Character.toLowerCase(a) != Character.toLowerCase(b)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static Set<HolidayType> setOf(int mask) {
+
+        return SETS_BY_MASK.get(mask & (MASK_COUNT - 1));
+    }
+
+    /**
+     * 비트마스크에 해당하는 타입 값 목록 ("Public", "Bank" ...). 미리 만들어 둔 불변 리스트를 반환하므로 호출마다 할당이 없습니다.
+     */
+    public static List<String> valuesOf(int mask) {
+
+        return VALUES_BY_MASK.get(mask & (MASK_COUNT - 1));
+    }
+}
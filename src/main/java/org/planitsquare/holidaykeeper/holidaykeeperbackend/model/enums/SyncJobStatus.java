@@ -0,0 +1,15 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.model.enums;
+
+/**
+ * 백그라운드 공휴일 동기화 작업 상태
+ */
+public enum SyncJobStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED;
+
+    public boolean isFinished() {
+
+        return this != RUNNING;
+    }
+}
@@ -0,0 +1,10 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.model.enums;
+
+/**
+ * 국가·연도 하나의 동기화 결과
+ */
+public enum SyncOutcome {
+    SUCCESS,    // 반영함
+    SKIPPED,    // 변경이 없어 반영을 건너뜀 (성공으로도 셈)
+    FAILED
+}
@@ -0,0 +1,15 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.model.enums;
+
+/**
+ * 기동 시 백그라운드 데이터 적재 단계
+ */
+public enum WarmupStatus {
+    WARMING,        // 최소 데이터(우선 국가의 최근 연도) 적재 중, 트래픽 받지 않음
+    BACKFILLING,    // 최소 데이터 적재 완료, 나머지 연도 적재 중
+    COMPLETED;
+
+    public boolean isReady() {
+
+        return this != WARMING;
+    }
+}
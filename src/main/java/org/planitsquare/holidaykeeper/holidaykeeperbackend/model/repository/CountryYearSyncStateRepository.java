@@ -0,0 +1,26 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository;
+
+import java.util.List;
+import java.util.Optional;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.Country;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.CountryYearSyncState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface CountryYearSyncStateRepository extends JpaRepository<CountryYearSyncState, Long> {
+
+    Optional<CountryYearSyncState> findByCountryAndYear(Country country, Integer year);
+
+    List<CountryYearSyncState> findByYearBetween(Integer startYear, Integer endYear);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM CountryYearSyncState s " +
+        "WHERE s.country = :country " +
+        "AND s.year = :year")
+    int deleteByCountryAndYear(
+        @Param("country") Country country,
+        @Param("year") Integer year
+    );
+}
@@ -0,0 +1,267 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository;
+
+import jakarta.annotation.PostConstruct;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.RequiredArgsConstructor;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.Country;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.Holiday;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.utility.HolidayKey;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 집합 기반 공휴일 동기화 (스테이징 테이블 + MERGE)
+ * <p>
+ * 여러 국가·연도의 새 공휴일을 엔티티로 영속화하지 않고 스테이징 테이블에 JDBC 배치로 적재한 뒤, 삭제·수정·추가를 각각 한 번의 JDBC
+ * 배치(국가·연도별 DELETE ... NOT EXISTS / MERGE / INSERT ... SELECT)로 반영합니다. 기존 데이터를 영속성 컨텍스트로 읽어 와
+ * 비교하지 않으므로 전체 재동기화 시 힙 사용량과 문장 수가 국가·연도 수에 비례해 늘지 않습니다.
+ * <p>
+ * 비교 키는 엔티티 방식과 같은 (국가, 날짜, 정규화된 영문명) 입니다. 정규화된 영문명은 자바에서 HolidayKey 규칙으로 계산해
+ * name_key 컬럼에 저장하므로 비교 조인이 자연 키 유니크 인덱스를 그대로 탑니다. 추가·삭제 건수는 국가·연도별 update count 로
+ * 돌려줍니다.
+ * merge 는 호출 측 트랜잭션 안에서 실행되어야 합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class HolidayBulkRepository {
+
+    private static final String STAGING_TABLE = "holiday_sync_staging";
+
+    private static final String CREATE_STAGING_SQL =
+        "CREATE TABLE IF NOT EXISTS " + STAGING_TABLE + " ("
+            + "batch_id VARCHAR(36) NOT NULL, "
+            + "country_id BIGINT NOT NULL, "
+            + "sync_year INT NOT NULL, "
+            + "holiday_date DATE NOT NULL, "
+            + "holiday_local_name VARCHAR(255) NOT NULL, "
+            + "holiday_name VARCHAR(255) NOT NULL, "
+            + "name_key VARCHAR(255) NOT NULL, "
+            + "fixed BOOLEAN NOT NULL, "
+            + "global BOOLEAN NOT NULL, "
+            + "counties VARCHAR(255), "
+            + "holiday_launch_year INT, "
+            + "holiday_type_mask INT NOT NULL)";
+
+    private static final String CREATE_STAGING_INDEX_SQL =
+        "CREATE INDEX IF NOT EXISTS idx_holiday_sync_staging_batch ON " + STAGING_TABLE
+            + " (batch_id, country_id, sync_year)";
+
+    private static final String STAGE_SQL =
+        "INSERT INTO " + STAGING_TABLE + " (batch_id, country_id, sync_year, holiday_date, holiday_local_name, "
+            + "holiday_name, name_key, fixed, global, counties, holiday_launch_year, holiday_type_mask) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // 새 응답에 없는 기존 공휴일 삭제
+    private static final String DELETE_SQL =
+        "DELETE FROM country_holiday h "
+            + "WHERE h.country_id = ? AND h.holiday_date BETWEEN ? AND ? "
+            + "AND NOT EXISTS (SELECT 1 FROM " + STAGING_TABLE + " s "
+            + "WHERE s.batch_id = ? AND s.country_id = h.country_id AND s.holiday_date = h.holiday_date "
+            + "AND s.name_key = h.name_key)";
+
+    // 키가 같고 내용이 달라진 공휴일 수정 (비교 항목은 Holiday.updateEntity 와 동일)
+    private static final String UPDATE_SQL =
+        "MERGE INTO country_holiday h "
+            + "USING (SELECT * FROM " + STAGING_TABLE + " WHERE batch_id = ? AND country_id = ? AND sync_year = ?) s "
+            + "ON (h.country_id = s.country_id AND h.holiday_date = s.holiday_date "
+            + "AND h.name_key = s.name_key) "
+            + "WHEN MATCHED AND (h.holiday_local_name IS DISTINCT FROM s.holiday_local_name "
+            + "OR h.holiday_name IS DISTINCT FROM s.holiday_name "
+            + "OR h.fixed IS DISTINCT FROM s.fixed "
+            + "OR h.counties IS DISTINCT FROM s.counties "
+            + "OR h.holiday_launch_year IS DISTINCT FROM s.holiday_launch_year "
+            + "OR h.holiday_type_mask IS DISTINCT FROM s.holiday_type_mask) "
+            + "THEN UPDATE SET holiday_local_name = s.holiday_local_name, holiday_name = s.holiday_name, "
+            + "fixed = s.fixed, counties = s.counties, holiday_launch_year = s.holiday_launch_year, "
+            + "holiday_type_mask = s.holiday_type_mask, updated_at = CURRENT_TIMESTAMP";
+
+    // 기존에 없던 공휴일 추가 (ID 는 엔티티와 같은 시퀀스에서 발급)
+    private static final String INSERT_SQL =
+        "INSERT INTO country_holiday (holiday_id, holiday_date, holiday_local_name, holiday_name, name_key, country_id, "
+            + "fixed, global, counties, holiday_launch_year, holiday_type_mask, created_at, updated_at) "
+            + "SELECT NEXT VALUE FOR country_holiday_seq, s.holiday_date, s.holiday_local_name, s.holiday_name, "
+            + "s.name_key, s.country_id, s.fixed, s.global, s.counties, s.holiday_launch_year, s.holiday_type_mask, "
+            + "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP "
+            + "FROM " + STAGING_TABLE + " s "
+            + "WHERE s.batch_id = ? AND s.country_id = ? AND s.sync_year = ? "
+            + "AND NOT EXISTS (SELECT 1 FROM country_holiday h "
+            + "WHERE h.country_id = s.country_id AND h.holiday_date = s.holiday_date "
+            + "AND h.name_key = s.name_key)";
+
+    private static final String CLEAR_STAGING_SQL =
+        "DELETE FROM " + STAGING_TABLE + " WHERE batch_id = ?";
+
+    private static final String MARK_CHECKED_SQL =
+        "UPDATE country_year_sync_state SET checked_at = ?, next_sync_at = ? "
+            + "WHERE country_id = ? AND sync_year = ?";
+
+    private static final String INSERT_CHECKED_SQL =
+        "INSERT INTO country_year_sync_state "
+            + "(country_id, sync_year, fingerprint, synced_at, checked_at, next_sync_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 한 국가·연도의 새 공휴일 (같은 키는 호출 측에서 미리 하나로 합친 상태)
+     */
+    public record CountryYearRows(
+        Country country,
+        int year,
+        List<Holiday> holidays
+    ) {
+
+    }
+
+    @Builder
+    public record MergeCount(
+        int oldCount,       // 반영 전 레코드 수
+        int newCount,       // 반영 후 레코드 수
+        int addedCount,     // 추가된 레코드 수
+        int deletedCount,   // 삭제된 레코드 수
+        int updatedCount    // 내용이 바뀌어 수정된 레코드 수
+    ) {
+
+    }
+
+    /**
+     * 반영 없이 조회만 마친 국가·연도 (fingerprint 는 상태 행이 없을 때 새 행에만 사용, 조회 실패면 null)
+     */
+    public record SyncCheck(
+        Long countryId,
+        int year,
+        Long fingerprint,
+        LocalDateTime checkedAt,
+        LocalDateTime nextSyncAt
+    ) {
+
+    }
+
+    @PostConstruct
+    void createStagingTable() {
+
+        jdbcTemplate.execute(CREATE_STAGING_SQL);
+        jdbcTemplate.execute(CREATE_STAGING_INDEX_SQL);
+    }
+
+    /**
+     * 국가·연도 묶음을 한 번에 반영하고, 입력 순서대로 국가·연도별 건수를 돌려줍니다.
+     */
+    public List<MergeCount> merge(List<CountryYearRows> batch) {
+
+        if (batch.isEmpty()) {
+            return List.of();
+        }
+
+        String batchId = UUID.randomUUID().toString();
+
+        // 1. 새 공휴일을 스테이징 테이블에 적재
+        List<Object[]> staged = new ArrayList<>();
+        for (CountryYearRows rows : batch) {
+            for (Holiday h : rows.holidays()) {
+                staged.add(new Object[]{
+                    batchId,
+                    rows.country().getId(),
+                    rows.year(),
+                    Date.valueOf(h.getDate()),
+                    h.getLocalName(),
+                    h.getName(),
+                    HolidayKey.normalizedName(h.getName()),
+                    h.getFixed(),
+                    h.getGlobal(),
+                    new SqlParameterValue(Types.VARCHAR, h.getCounties()),
+                    new SqlParameterValue(Types.INTEGER, h.getLaunchYear()),
+                    h.getTypeMask()
+                });
+            }
+        }
+        jdbcTemplate.batchUpdate(STAGE_SQL, staged);
+
+        // 2. 국가·연도별 삭제 → 수정 → 추가 (각각 하나의 JDBC 배치)
+        List<Object[]> deleteArgs = new ArrayList<>();
+        List<Object[]> scopeArgs = new ArrayList<>();
+        for (CountryYearRows rows : batch) {
+            Long countryId = rows.country().getId();
+            deleteArgs.add(new Object[]{
+                countryId,
+                Date.valueOf(LocalDate.of(rows.year(), 1, 1)),
+                Date.valueOf(LocalDate.of(rows.year(), 12, 31)),
+                batchId
+            });
+            scopeArgs.add(new Object[]{batchId, countryId, rows.year()});
+        }
+
+        int[] deleted = jdbcTemplate.batchUpdate(DELETE_SQL, deleteArgs);
+        int[] updated = jdbcTemplate.batchUpdate(UPDATE_SQL, scopeArgs);
+        int[] added = jdbcTemplate.batchUpdate(INSERT_SQL, scopeArgs);
+
+        jdbcTemplate.update(CLEAR_STAGING_SQL, batchId);
+
+        // 3. 국가·연도별 건수 (반영 후 = 새 응답 수, 반영 전 = 반영 후 - 추가 + 삭제)
+        List<MergeCount> counts = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            int newCount = batch.get(i).holidays().size();
+            counts.add(MergeCount.builder()
+                .oldCount(newCount - added[i] + deleted[i])
+                .newCount(newCount)
+                .addedCount(added[i])
+                .deletedCount(deleted[i])
+                .updatedCount(updated[i])
+                .build());
+        }
+        return counts;
+    }
+
+    /**
+     * 조회 시각과 다음 조회 예정 시각을 한 번의 JDBC 배치로 갱신하고, 상태 행이 없는 국가·연도는 새로 추가합니다.
+     * <p>
+     * 지문이 없는(조회 실패) 새 행은 반영 시각도 비워 두고 다음 조회 예정 시각만 남겨, 처음부터 실패한 국가·연도가 매 주기 다시
+     * 선택되지 않게 합니다.
+     * <p>
+     * 변경이 없어 반영을 건너뛴 국가·연도용이므로 트랜잭션 없이 실행해도 됩니다. (엔티티를 읽어 오지 않음)
+     */
+    public void markChecked(List<SyncCheck> checks) {
+
+        if (checks.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> updateArgs = new ArrayList<>(checks.size());
+        for (SyncCheck check : checks) {
+            updateArgs.add(new Object[]{
+                Timestamp.valueOf(check.checkedAt()),
+                Timestamp.valueOf(check.nextSyncAt()),
+                check.countryId(),
+                check.year()
+            });
+        }
+        int[] updated = jdbcTemplate.batchUpdate(MARK_CHECKED_SQL, updateArgs);
+
+        List<Object[]> insertArgs = new ArrayList<>();
+        for (int i = 0; i < checks.size(); i++) {
+            SyncCheck check = checks.get(i);
+            if (updated[i] == 0) {
+                insertArgs.add(new Object[]{
+                    check.countryId(),
+                    check.year(),
+                    check.fingerprint(),
+                    check.fingerprint() != null ? Timestamp.valueOf(check.checkedAt()) : null,
+                    Timestamp.valueOf(check.checkedAt()),
+                    Timestamp.valueOf(check.nextSyncAt())
+                });
+            }
+        }
+        if (!insertArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_CHECKED_SQL, insertArgs);
+        }
+    }
+}
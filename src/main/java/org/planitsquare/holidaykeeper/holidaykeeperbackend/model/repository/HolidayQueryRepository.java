@@ -1,13 +1,18 @@
 package org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository;
 
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.FactoryExpressionBase;
+import com.querydsl.core.types.Visitor;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.time.LocalDate;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.response.HolidaySearchResponse.HolidayItemDto;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.Country;
-import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.Holiday;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.QHoliday;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.enums.HolidayType;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -18,36 +23,58 @@ public class HolidayQueryRepository {
 
     /**
      * 공휴일 검색 (페이징 적용)
+     * <p>
+     * 다음 페이지 존재 여부를 COUNT 없이 알 수 있도록 호출 측은 보통 limit 을 페이지 크기 + 1 로 지정합니다. 응답에 필요한 컬럼만 읽어
+     * {@link HolidayItemDto} 로 바로 만들며, 엔티티를 영속성 컨텍스트에 올리지 않습니다.
      */
-    public List<Holiday> searchWithPaging(
+    public List<HolidayItemDto> searchWithPaging(
         Country country,
         LocalDate start,
         LocalDate end,
-        List<String> types,
-        int page,
-        int size
+        int typeMask,
+        long offset,
+        int limit
     ) {
 
         QHoliday h = QHoliday.holiday;
 
-        BooleanExpression predicate = h.country.eq(country)
-            .and(h.date.between(start, end));
+        return queryFactory
+            .select(new HolidayItemProjection(h, country))
+            .from(h)
+            .where(searchCondition(h, country, start, end, typeMask))
+            .orderBy(h.date.asc(), h.id.asc()) // 날짜 순으로 정렬, 같은 날짜는 ID 순
+            .offset(offset)
+            .limit(limit)
+            .fetch();
+    }
 
-        if (types != null && !types.isEmpty()) {
-            BooleanExpression typeExpr = null;
-            for (String type : types) {
-                BooleanExpression containsType = h.types.containsIgnoreCase(type);
-                typeExpr = (typeExpr == null) ? containsType : typeExpr.or(containsType);
-            }
-            predicate = predicate.and(typeExpr);
-        }
+    /**
+     * 공휴일 검색 (키셋 페이징 적용)
+     * <p>
+     * 정렬 키 (date, id) 가 커서보다 큰 행부터 limit 건을 조회합니다. OFFSET 없이 인덱스 위치로 바로 이동하므로 페이지가 깊어져도
+     * 비용이 일정하고, 페이지 사이에 재동기화가 일어나도 행이 건너뛰어지거나 중복되지 않습니다.
+     */
+    public List<HolidayItemDto> searchAfter(
+        Country country,
+        LocalDate start,
+        LocalDate end,
+        int typeMask,
+        LocalDate cursorDate,
+        Long cursorId,
+        int limit
+    ) {
+
+        QHoliday h = QHoliday.holiday;
+
+        BooleanExpression seek = h.date.gt(cursorDate)
+            .or(h.date.eq(cursorDate).and(h.id.gt(cursorId)));
 
         return queryFactory
-            .selectFrom(h)
-            .where(predicate)
-            .orderBy(h.date.asc(), h.id.asc()) // 날짜 순으로 정렬, 같은 날짜는 ID 순
-            .offset((long) page * size)
-            .limit(size)
+            .select(new HolidayItemProjection(h, country))
+            .from(h)
+            .where(searchCondition(h, country, start, end, typeMask).and(seek))
+            .orderBy(h.date.asc(), h.id.asc())
+            .limit(limit)
             .fetch();
     }
 
@@ -58,29 +85,93 @@ public class HolidayQueryRepository {
         Country country,
         LocalDate start,
         LocalDate end,
-        List<String> types
+        int typeMask
     ) {
 
         QHoliday h = QHoliday.holiday;
 
-        BooleanExpression predicate = h.country.eq(country)
-            .and(h.date.between(start, end));
-
-        if (types != null && !types.isEmpty()) {
-            BooleanExpression typeExpr = null;
-            for (String type : types) {
-                BooleanExpression containsType = h.types.containsIgnoreCase(type);
-                typeExpr = (typeExpr == null) ? containsType : typeExpr.or(containsType);
-            }
-            predicate = predicate.and(typeExpr);
-        }
-
         Long count = queryFactory
             .select(h.count())
             .from(h)
-            .where(predicate)
+            .where(searchCondition(h, country, start, end, typeMask))
             .fetchOne();
 
         return count != null ? count : 0L;
     }
-}
\ No newline at end of file
+
+    /**
+     * 검색·개수 조회 공통 조건 (국가 + 기간 + 타입)
+     * <p>
+     * 타입 조건은 요청 타입 중 하나라도 가진 행을 찾는 단일 비트 연산 BITAND(holiday_type_mask, mask) != 0 입니다. typeMask 가 0 이면 타입
+     * 조건을 걸지 않습니다.
+     */
+    private BooleanExpression searchCondition(
+        QHoliday h,
+        Country country,
+        LocalDate start,
+        LocalDate end,
+        int typeMask
+    ) {
+
+        BooleanExpression predicate = h.country.eq(country)
+            .and(h.date.between(start, end));
+
+        if (typeMask != 0) {
+            predicate = predicate.and(
+                Expressions.numberTemplate(Integer.class, "function('bitand', {0}, {1})", h.typeMask, typeMask)
+                    .ne(0)
+            );
+        }
+
+        return predicate;
+    }
+
+    /**
+     * 검색 결과 한 행을 {@link HolidayItemDto} 로 바로 만드는 프로젝션
+     * <p>
+     * country_holiday 의 다섯 컬럼만 읽고, 국가 정보는 이미 조회한 Country 에서 채워 조인하지 않습니다. 타입 목록은 비트마스크별로 미리
+     * 만든 목록을 공유하므로 행마다 DTO 하나만 만듭니다. (상수 인자는 JPQL SELECT 절에 넣을 수 없어 Projections.constructor 대신 직접
+     * 구현)
+     */
+    private static final class HolidayItemProjection extends FactoryExpressionBase<HolidayItemDto> {
+
+        private final List<Expression<?>> args;
+        private final Long countryId;
+        private final String countryName;
+
+        HolidayItemProjection(QHoliday h, Country country) {
+
+            super(HolidayItemDto.class);
+            this.args = List.of(h.id, h.date, h.localName, h.name, h.typeMask);
+            this.countryId = country.getId();
+            this.countryName = country.getName();
+        }
+
+        @Override
+        public List<Expression<?>> getArgs() {
+
+            return args;
+        }
+
+        @Override
+        public HolidayItemDto newInstance(Object... row) {
+
+            Integer typeMask = (Integer) row[4];
+            return new HolidayItemDto(
+                (Long) row[0],
+                (LocalDate) row[1],
+                (String) row[2],
+                (String) row[3],
+                countryId,
+                countryName,
+                HolidayType.valuesOf(typeMask == null ? 0 : typeMask)
+            );
+        }
+
+        @Override
+        public <R, C> R accept(Visitor<R, C> v, C context) {
+
+            return v.visit(this, context);
+        }
+    }
+}
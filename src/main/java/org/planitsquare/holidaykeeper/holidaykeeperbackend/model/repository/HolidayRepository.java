@@ -16,6 +16,11 @@ public interface HolidayRepository extends JpaRepository<Holiday, Long> {
         LocalDate startDate,
         LocalDate endDate);
 
+    boolean existsByCountryAndDateBetween(
+        Country country,
+        LocalDate startDate,
+        LocalDate endDate);
+
     @Modifying(clearAutomatically = true)
     @Query("DELETE FROM Holiday h " +
         "WHERE h.country = :country " +
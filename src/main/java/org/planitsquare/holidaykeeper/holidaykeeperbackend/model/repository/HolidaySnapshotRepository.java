@@ -0,0 +1,107 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository;
+
+import java.sql.Date;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.utility.HolidayKey;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.utility.HolidaySnapshot.SnapshotCountry;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.utility.HolidaySnapshot.SnapshotHoliday;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 바이너리 스냅샷용 국가·공휴일 전체 조회 / 적재
+ * <p>
+ * 엔티티를 거치지 않고 행을 그대로 읽고 쓰며, 적재 시 스냅샷의 ID 를 유지하므로 적재 후에는 ID 시퀀스를 보정해야 합니다. name_key 는
+ * 스냅샷에 담지 않고 적재할 때 영문명으로 다시 계산합니다. 적재는 호출 측 트랜잭션 안에서 실행되어야 합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class HolidaySnapshotRepository {
+
+    private static final String SELECT_COUNTRIES_SQL =
+        "SELECT country_id, country_code, country_name, active FROM country ORDER BY country_id";
+
+    private static final String SELECT_HOLIDAYS_SQL =
+        "SELECT holiday_id, country_id, holiday_date, holiday_local_name, holiday_name, fixed, global, counties, "
+            + "holiday_launch_year, holiday_type_mask FROM country_holiday ORDER BY holiday_id";
+
+    private static final String INSERT_COUNTRY_SQL =
+        "INSERT INTO country (country_id, country_code, country_name, active, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)";
+
+    private static final String INSERT_HOLIDAY_SQL =
+        "INSERT INTO country_holiday (holiday_id, holiday_date, holiday_local_name, holiday_name, country_id, "
+            + "fixed, global, counties, holiday_launch_year, holiday_type_mask, name_key, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)";
+
+    private static final String COUNT_SQL =
+        "SELECT (SELECT COUNT(*) FROM country) + (SELECT COUNT(*) FROM country_holiday)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<SnapshotCountry> findAllCountries() {
+
+        return jdbcTemplate.query(SELECT_COUNTRIES_SQL, (rs, rowNum) -> new SnapshotCountry(
+            rs.getLong(1), rs.getString(2), rs.getString(3), rs.getBoolean(4)));
+    }
+
+    public List<SnapshotHoliday> findAllHolidays() {
+
+        return jdbcTemplate.query(SELECT_HOLIDAYS_SQL, (rs, rowNum) -> new SnapshotHoliday(
+            rs.getLong(1),
+            rs.getLong(2),
+            (int) rs.getDate(3).toLocalDate().toEpochDay(),
+            rs.getString(4),
+            rs.getString(5),
+            rs.getBoolean(6),
+            rs.getBoolean(7),
+            rs.getString(8),
+            rs.getObject(9, Integer.class),
+            rs.getInt(10)));
+    }
+
+    /**
+     * 국가·공휴일 테이블이 모두 비어 있는지
+     */
+    public boolean isEmpty() {
+
+        Long count = jdbcTemplate.queryForObject(COUNT_SQL, Long.class);
+        return count == null || count == 0;
+    }
+
+    public void insertCountries(List<SnapshotCountry> countries) {
+
+        jdbcTemplate.batchUpdate(INSERT_COUNTRY_SQL, countries, countries.size(),
+            (ps, country) -> {
+                ps.setLong(1, country.id());
+                ps.setString(2, country.code());
+                ps.setString(3, country.name());
+                ps.setBoolean(4, country.active());
+            });
+    }
+
+    public void insertHolidays(List<SnapshotHoliday> holidays) {
+
+        jdbcTemplate.batchUpdate(INSERT_HOLIDAY_SQL, holidays, holidays.size(),
+            (ps, holiday) -> {
+                ps.setLong(1, holiday.id());
+                ps.setDate(2, Date.valueOf(LocalDate.ofEpochDay(holiday.epochDay())));
+                ps.setString(3, holiday.localName());
+                ps.setString(4, holiday.name());
+                ps.setLong(5, holiday.countryId());
+                ps.setBoolean(6, holiday.fixed());
+                ps.setBoolean(7, holiday.global());
+                ps.setString(8, holiday.counties());
+                if (holiday.launchYear() == null) {
+                    ps.setNull(9, Types.INTEGER);
+                } else {
+                    ps.setInt(9, holiday.launchYear());
+                }
+                ps.setInt(10, holiday.typeMask());
+                ps.setString(11, HolidayKey.normalizedName(holiday.name()));
+            });
+    }
+}
@@ -0,0 +1,96 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 노드 간 작업 임대(lease) 테이블
+ * <p>
+ * 임대 이름마다 행 하나를 두고 소유 노드, 만료 시각, 마지막 갱신 시각을 저장합니다. 획득·갱신은 조건부 UPDATE(없으면 INSERT) 한 문장으로
+ * 처리해 여러 노드가 동시에 시도해도 한 노드만 성공합니다. 시각은 모두 DB 시계(LOCALTIMESTAMP)를 기준으로 하므로 노드 간 시계 차이의
+ * 영향을 받지 않습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SyncLeaseRepository {
+
+    private static final String CREATE_TABLE_SQL =
+        "CREATE TABLE IF NOT EXISTS sync_lease ("
+            + "lease_name VARCHAR(64) NOT NULL PRIMARY KEY, "
+            + "owner_id VARCHAR(128) NOT NULL, "
+            + "expires_at TIMESTAMP NOT NULL, "
+            + "heartbeat_at TIMESTAMP NOT NULL)";
+
+    // 만료된 임대만 넘겨받음 (같은 노드라도 만료 전에는 다시 획득하지 않음)
+    private static final String TAKE_OVER_SQL =
+        "UPDATE sync_lease SET owner_id = ?, expires_at = DATEADD(MILLISECOND, ?, LOCALTIMESTAMP), "
+            + "heartbeat_at = LOCALTIMESTAMP "
+            + "WHERE lease_name = ? AND expires_at < LOCALTIMESTAMP";
+
+    private static final String INSERT_SQL =
+        "INSERT INTO sync_lease (lease_name, owner_id, expires_at, heartbeat_at) "
+            + "VALUES (?, ?, DATEADD(MILLISECOND, ?, LOCALTIMESTAMP), LOCALTIMESTAMP)";
+
+    private static final String RENEW_SQL =
+        "UPDATE sync_lease SET expires_at = DATEADD(MILLISECOND, ?, LOCALTIMESTAMP), "
+            + "heartbeat_at = LOCALTIMESTAMP "
+            + "WHERE lease_name = ? AND owner_id = ?";
+
+    private static final String RELEASE_SQL =
+        "DELETE FROM sync_lease WHERE lease_name = ? AND owner_id = ?";
+
+    private static final String FIND_OWNER_SQL =
+        "SELECT owner_id FROM sync_lease WHERE lease_name = ? AND expires_at >= LOCALTIMESTAMP";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    void createTable() {
+
+        jdbcTemplate.execute(CREATE_TABLE_SQL);
+    }
+
+    /**
+     * 임대가 없거나 만료됐으면 ttlMillis 동안 획득
+     *
+     * @return 획득 여부
+     */
+    public boolean tryAcquire(String leaseName, String ownerId, long ttlMillis) {
+
+        if (jdbcTemplate.update(TAKE_OVER_SQL, ownerId, ttlMillis, leaseName) == 1) {
+            return true;
+        }
+        try {
+            return jdbcTemplate.update(INSERT_SQL, leaseName, ownerId, ttlMillis) == 1;
+        } catch (DuplicateKeyException e) {
+            // 다른 노드가 보유 중
+            return false;
+        }
+    }
+
+    /**
+     * 보유 중인 임대의 만료 시각을 지금부터 ttlMillis 뒤로 연장
+     *
+     * @return 연장 여부 (만료 후 다른 노드로 넘어갔으면 false, 만료됐어도 아직 아무도 가져가지 않았으면 연장)
+     */
+    public boolean renew(String leaseName, String ownerId, long ttlMillis) {
+
+        return jdbcTemplate.update(RENEW_SQL, ttlMillis, leaseName, ownerId) == 1;
+    }
+
+    public void release(String leaseName, String ownerId) {
+
+        jdbcTemplate.update(RELEASE_SQL, leaseName, ownerId);
+    }
+
+    /**
+     * 현재 유효한 임대의 소유 노드 (없으면 null)
+     */
+    public String findOwner(String leaseName) {
+
+        return jdbcTemplate.query(FIND_OWNER_SQL, rs -> rs.next() ? rs.getString(1) : null, leaseName);
+    }
+}
@@ -0,0 +1,172 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository;
+
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 동기화에 실패한 국가·연도 재시도 큐
+ * <p>
+ * 외부 API 조회가 실패한 국가·연도를 (국가, 연도) 당 한 행으로 쌓고, 실패할 때마다 다음 시도 시각을 initialDelay 부터 두 배씩
+ * maxDelay 까지 늘립니다. 주기 스케줄러가 시도 시각이 지난 행만 가져가 다시 동기화하고, 어느 경로로든 동기화에 성공하면 행을
+ * 지웁니다. 최대 시도 횟수를 넘긴 행은 가져가지 않고 남겨 두며(확인용), 이후 TTL 주기 동기화가 성공하면 함께 지워집니다.
+ * <p>
+ * 트랜잭션 없이 실행해도 됩니다. 시각은 모두 DB 시계 기준입니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SyncRetryQueueRepository {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private static final String CREATE_TABLE_SQL =
+        "CREATE TABLE IF NOT EXISTS sync_retry_item ("
+            + "country_id BIGINT NOT NULL, "
+            + "sync_year INT NOT NULL, "
+            + "attempts INT NOT NULL, "
+            + "next_attempt_at TIMESTAMP NOT NULL, "
+            + "last_error VARCHAR(" + MAX_ERROR_LENGTH + "), "
+            + "created_at TIMESTAMP NOT NULL, "
+            + "updated_at TIMESTAMP NOT NULL, "
+            + "PRIMARY KEY (country_id, sync_year))";
+
+    private static final String CREATE_DUE_INDEX_SQL =
+        "CREATE INDEX IF NOT EXISTS idx_sync_retry_item_due ON sync_retry_item (next_attempt_at)";
+
+    // 다음 시도 시각 = 지금 + min(initialDelay * 2^(시도 횟수 - 1), maxDelay)
+    private static final String FAIL_AGAIN_SQL =
+        "UPDATE sync_retry_item SET attempts = attempts + ?, "
+            + "next_attempt_at = DATEADD(MILLISECOND, "
+            + "CAST(LEAST(? * POWER(2, LEAST(GREATEST(attempts + ? - 1, 0), 20)), ?) AS BIGINT), LOCALTIMESTAMP), "
+            + "last_error = ?, updated_at = LOCALTIMESTAMP "
+            + "WHERE country_id = ? AND sync_year = ?";
+
+    private static final String INSERT_SQL =
+        "INSERT INTO sync_retry_item (country_id, sync_year, attempts, next_attempt_at, last_error, "
+            + "created_at, updated_at) "
+            + "VALUES (?, ?, ?, DATEADD(MILLISECOND, ?, LOCALTIMESTAMP), ?, LOCALTIMESTAMP, LOCALTIMESTAMP)";
+
+    private static final String DUE_SQL =
+        "SELECT country_id, sync_year, attempts FROM sync_retry_item "
+            + "WHERE next_attempt_at <= LOCALTIMESTAMP AND attempts < ? "
+            + "ORDER BY next_attempt_at LIMIT ?";
+
+    private static final String FIND_ALL_SQL =
+        "SELECT country_id, sync_year, attempts FROM sync_retry_item";
+
+    private static final String DELETE_SQL =
+        "DELETE FROM sync_retry_item WHERE country_id = ? AND sync_year = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 재시도 대기 중인 국가·연도
+     */
+    public record RetryItem(
+        long countryId,
+        int year,
+        int attempts
+    ) {
+
+    }
+
+    /**
+     * 실패한 국가·연도
+     *
+     * @param attempted 실제로 호출했는지 (서킷이 열려 호출하지 않은 경우 false, 시도 횟수를 늘리지 않음)
+     */
+    public record Failure(
+        long countryId,
+        int year,
+        boolean attempted,
+        String error
+    ) {
+
+    }
+
+    @PostConstruct
+    void createTable() {
+
+        jdbcTemplate.execute(CREATE_TABLE_SQL);
+        jdbcTemplate.execute(CREATE_DUE_INDEX_SQL);
+    }
+
+    /**
+     * 실패 기록 (없으면 추가, 있으면 시도 횟수와 다음 시도 시각 갱신)
+     */
+    public void recordFailures(List<Failure> failures, long initialDelayMillis, long maxDelayMillis) {
+
+        if (failures.isEmpty()) {
+            return;
+        }
+
+        int[] updated = jdbcTemplate.batchUpdate(FAIL_AGAIN_SQL, failures, failures.size(),
+            (ps, failure) -> {
+                ps.setInt(1, failure.attempted() ? 1 : 0);
+                ps.setLong(2, initialDelayMillis);
+                ps.setInt(3, failure.attempted() ? 1 : 0);
+                ps.setLong(4, maxDelayMillis);
+                ps.setString(5, truncate(failure.error()));
+                ps.setLong(6, failure.countryId());
+                ps.setInt(7, failure.year());
+            })[0];
+
+        for (int i = 0; i < failures.size(); i++) {
+            if (updated[i] != 0) {
+                continue;
+            }
+            Failure failure = failures.get(i);
+            try {
+                jdbcTemplate.update(INSERT_SQL, failure.countryId(), failure.year(), failure.attempted() ? 1 : 0,
+                    initialDelayMillis, truncate(failure.error()));
+            } catch (DuplicateKeyException e) {
+                // 다른 노드가 먼저 추가 → 갱신으로 처리
+                recordFailures(List.of(failure), initialDelayMillis, maxDelayMillis);
+            }
+        }
+    }
+
+    /**
+     * 다음 시도 시각이 지났고 시도 횟수가 maxAttempts 미만인 항목 (오래 기다린 순)
+     */
+    public List<RetryItem> findDue(int limit, int maxAttempts) {
+
+        return jdbcTemplate.query(DUE_SQL,
+            (rs, rowNum) -> new RetryItem(rs.getLong(1), rs.getInt(2), rs.getInt(3)),
+            maxAttempts, limit);
+    }
+
+    public List<RetryItem> findAll() {
+
+        return jdbcTemplate.query(FIND_ALL_SQL,
+            (rs, rowNum) -> new RetryItem(rs.getLong(1), rs.getInt(2), rs.getInt(3)));
+    }
+
+    /**
+     * 동기화에 성공한 국가·연도 제거
+     */
+    public void remove(List<RetryItem> items) {
+
+        if (items.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> args = new ArrayList<>(items.size());
+        for (RetryItem item : items) {
+            args.add(new Object[]{item.countryId(), item.year()});
+        }
+        jdbcTemplate.batchUpdate(DELETE_SQL, args);
+    }
+
+    private static String truncate(String error) {
+
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
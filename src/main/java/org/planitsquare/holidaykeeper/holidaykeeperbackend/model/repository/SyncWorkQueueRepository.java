@@ -0,0 +1,320 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository;
+
+import jakarta.annotation.PostConstruct;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.enums.SyncOutcome;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 노드 간 공유 동기화 작업 큐 (국가·연도 단위)
+ * <p>
+ * 전체 동기화 한 번(run)의 국가·연도를 행으로 적재하면 모든 노드가 묶음으로 가져가(claim) 처리합니다. 가져가기는 읽어 둔 시도
+ * 횟수(attempts)를 비교 조건으로 한 UPDATE 로 처리하므로, 여러 노드가 같은 행을 동시에 노려도 한 노드만 성공합니다. 가져간 행은
+ * visible_at 까지 다른 노드에 보이지 않고, 그 전에 완료되지 않으면(노드 장애) 다시 보이게 되어 다른 노드가 가져갑니다.
+ * <p>
+ * 국가·연도별 성공·실패·건너뜀 수는 run 행에 누적하므로 어느 노드에서든 전체 진행 상황을 볼 수 있습니다. 시각은 모두 DB 시계 기준입니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SyncWorkQueueRepository {
+
+    public static final String PENDING = "PENDING";
+    public static final String CLAIMED = "CLAIMED";
+    public static final String DONE = "DONE";
+    public static final String FAILED = "FAILED";
+
+    private static final String CREATE_RUN_TABLE_SQL =
+        "CREATE TABLE IF NOT EXISTS sync_work_run ("
+            + "run_id VARCHAR(36) NOT NULL PRIMARY KEY, "
+            + "total_count INT NOT NULL, "
+            + "success_count INT NOT NULL DEFAULT 0, "
+            + "fail_count INT NOT NULL DEFAULT 0, "
+            + "skipped_count INT NOT NULL DEFAULT 0, "
+            + "created_at TIMESTAMP NOT NULL, "
+            + "finished_at TIMESTAMP)";
+
+    private static final String CREATE_ITEM_TABLE_SQL =
+        "CREATE TABLE IF NOT EXISTS sync_work_item ("
+            + "work_item_id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+            + "run_id VARCHAR(36) NOT NULL, "
+            + "country_id BIGINT NOT NULL, "
+            + "sync_year INT NOT NULL, "
+            + "status VARCHAR(16) NOT NULL, "
+            + "owner_id VARCHAR(128), "
+            + "visible_at TIMESTAMP NOT NULL, "
+            + "attempts INT NOT NULL DEFAULT 0)";
+
+    private static final String CREATE_ITEM_CLAIM_INDEX_SQL =
+        "CREATE INDEX IF NOT EXISTS idx_sync_work_item_claim ON sync_work_item (status, visible_at, work_item_id)";
+
+    private static final String CREATE_ITEM_RUN_INDEX_SQL =
+        "CREATE INDEX IF NOT EXISTS idx_sync_work_item_run ON sync_work_item (run_id, status)";
+
+    private static final String INSERT_RUN_SQL =
+        "INSERT INTO sync_work_run (run_id, total_count, created_at) VALUES (?, ?, LOCALTIMESTAMP)";
+
+    private static final String INSERT_ITEM_SQL =
+        "INSERT INTO sync_work_item (run_id, country_id, sync_year, status, visible_at) "
+            + "VALUES (?, ?, ?, '" + PENDING + "', LOCALTIMESTAMP)";
+
+    // 대기 중이거나, 가져갔지만 visibility timeout 이 지난 항목
+    private static final String CLAIMABLE_SQL =
+        "SELECT work_item_id, run_id, country_id, sync_year, attempts FROM sync_work_item "
+            + "WHERE status IN ('" + PENDING + "', '" + CLAIMED + "') AND visible_at <= LOCALTIMESTAMP "
+            + "ORDER BY work_item_id LIMIT ?";
+
+    // 읽은 뒤 아무도 가져가지 않았을 때만 성공 (attempts 비교)
+    private static final String CLAIM_SQL =
+        "UPDATE sync_work_item SET status = '" + CLAIMED + "', owner_id = ?, "
+            + "visible_at = DATEADD(MILLISECOND, ?, LOCALTIMESTAMP), attempts = attempts + 1 "
+            + "WHERE work_item_id = ? AND attempts = ? AND status IN ('" + PENDING + "', '" + CLAIMED + "')";
+
+    // 최대 시도 횟수만큼 가져갔는데도 완료되지 않은 항목은 실패로 종료
+    private static final String ABANDON_SQL =
+        "UPDATE sync_work_item SET status = '" + FAILED + "' "
+            + "WHERE status = '" + CLAIMED + "' AND visible_at <= LOCALTIMESTAMP AND attempts >= ?";
+
+    private static final String COMPLETE_SQL =
+        "UPDATE sync_work_item SET status = '" + DONE + "', visible_at = LOCALTIMESTAMP "
+            + "WHERE work_item_id = ? AND owner_id = ? AND status = '" + CLAIMED + "'";
+
+    private static final String ADD_COUNTS_SQL =
+        "UPDATE sync_work_run SET success_count = success_count + ?, fail_count = fail_count + ?, "
+            + "skipped_count = skipped_count + ? WHERE run_id = ?";
+
+    private static final String FIND_RUN_SQL =
+        "SELECT r.total_count, r.success_count, r.fail_count, r.skipped_count, r.finished_at, "
+            + "(SELECT COUNT(*) FROM sync_work_item i WHERE i.run_id = r.run_id "
+            + "AND i.status IN ('" + PENDING + "', '" + CLAIMED + "')) AS open_count, "
+            + "(SELECT COUNT(*) FROM sync_work_item i WHERE i.run_id = r.run_id "
+            + "AND i.status = '" + FAILED + "') AS abandoned_count "
+            + "FROM sync_work_run r WHERE r.run_id = ?";
+
+    private static final String FINISH_RUN_SQL =
+        "UPDATE sync_work_run SET finished_at = LOCALTIMESTAMP WHERE run_id = ?";
+
+    private static final String DELETE_RUN_ITEMS_SQL =
+        "DELETE FROM sync_work_item WHERE run_id = ?";
+
+    private static final String CANCEL_OTHER_RUN_ITEMS_SQL =
+        "DELETE FROM sync_work_item WHERE run_id <> ?";
+
+    private static final String CANCEL_OTHER_RUNS_SQL =
+        "UPDATE sync_work_run SET finished_at = LOCALTIMESTAMP WHERE run_id <> ? AND finished_at IS NULL";
+
+    private static final String DELETE_OLD_RUNS_SQL =
+        "DELETE FROM sync_work_run WHERE finished_at < DATEADD(DAY, -?, LOCALTIMESTAMP)";
+
+    private static final String LATEST_FINISHED_AT_SQL =
+        "SELECT MAX(finished_at) FROM sync_work_run";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 가져간 국가·연도 하나
+     */
+    public record WorkItem(
+        long workItemId,
+        String runId,
+        long countryId,
+        int year
+    ) {
+
+    }
+
+    /**
+     * 처리를 마친 항목과 그 결과
+     */
+    public record CompletedItem(
+        WorkItem item,
+        SyncOutcome outcome
+    ) {
+
+    }
+
+    /**
+     * 가져가기 전 후보 (읽은 시점의 시도 횟수를 비교 조건으로 사용)
+     */
+    private record Candidate(
+        WorkItem item,
+        int attempts
+    ) {
+
+    }
+
+    /**
+     * run 진행 상황
+     *
+     * @param openCount      아직 완료되지 않은(대기·처리 중) 항목 수
+     * @param abandonedCount 최대 시도 횟수를 넘겨 실패로 종료된 항목 수
+     */
+    public record RunStatus(
+        int totalCount,
+        int successCount,
+        int failCount,
+        int skippedCount,
+        int openCount,
+        int abandonedCount,
+        LocalDateTime finishedAt
+    ) {
+
+    }
+
+    @PostConstruct
+    void createTables() {
+
+        jdbcTemplate.execute(CREATE_RUN_TABLE_SQL);
+        jdbcTemplate.execute(CREATE_ITEM_TABLE_SQL);
+        jdbcTemplate.execute(CREATE_ITEM_CLAIM_INDEX_SQL);
+        jdbcTemplate.execute(CREATE_ITEM_RUN_INDEX_SQL);
+    }
+
+    /**
+     * run 과 국가·연도 항목을 적재합니다. (호출 측 트랜잭션 안에서 실행)
+     *
+     * @param items 국가 ID, 연도 (workItemId 는 무시)
+     */
+    public void enqueue(String runId, List<WorkItem> items) {
+
+        jdbcTemplate.update(INSERT_RUN_SQL, runId, items.size());
+        jdbcTemplate.batchUpdate(INSERT_ITEM_SQL, items, items.size(),
+            (ps, item) -> {
+                ps.setString(1, runId);
+                ps.setLong(2, item.countryId());
+                ps.setInt(3, item.year());
+            });
+    }
+
+    /**
+     * 가져갈 수 있는 항목을 최대 limit 개 가져갑니다. 다른 노드와 경합해 놓친 항목은 빠지므로 limit 보다 적을 수 있습니다.
+     * <p>
+     * maxAttempts 번 가져갔는데도 완료되지 않고 visibility timeout 이 지난 항목은 먼저 실패로 종료해 다시 가져가지 않습니다.
+     *
+     * @param visibilityMillis 이 시간 안에 완료하지 않으면 다른 노드가 다시 가져갈 수 있음
+     */
+    public List<WorkItem> claim(String ownerId, int limit, long visibilityMillis, int maxAttempts) {
+
+        jdbcTemplate.update(ABANDON_SQL, maxAttempts);
+
+        List<Candidate> candidates = jdbcTemplate.query(CLAIMABLE_SQL,
+            (rs, rowNum) -> new Candidate(
+                new WorkItem(rs.getLong(1), rs.getString(2), rs.getLong(3), rs.getInt(4)),
+                rs.getInt(5)),
+            limit);
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        int[][] counts = jdbcTemplate.batchUpdate(CLAIM_SQL, candidates, candidates.size(),
+            (ps, candidate) -> {
+                ps.setString(1, ownerId);
+                ps.setLong(2, visibilityMillis);
+                ps.setLong(3, candidate.item().workItemId());
+                ps.setInt(4, candidate.attempts());
+            });
+
+        List<WorkItem> claimed = new ArrayList<>(candidates.size());
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count == 1) {
+                    claimed.add(candidates.get(index).item());
+                }
+                index++;
+            }
+        }
+        return claimed;
+    }
+
+    /**
+     * 처리한 항목을 완료로 표시하고, 완료로 표시된 항목의 결과만 run 에 누적합니다. (호출 측 트랜잭션 안에서 실행)
+     * <p>
+     * visibility timeout 이 지나 다른 노드가 다시 가져간 항목은 완료로 표시하지 않고 결과도 세지 않습니다. (가져간 노드가 셈)
+     */
+    public void complete(String runId, List<CompletedItem> items, String ownerId) {
+
+        if (items.isEmpty()) {
+            return;
+        }
+
+        int[][] counts = jdbcTemplate.batchUpdate(COMPLETE_SQL, items, items.size(),
+            (ps, completed) -> {
+                ps.setLong(1, completed.item().workItemId());
+                ps.setString(2, ownerId);
+            });
+
+        int successCount = 0;
+        int failCount = 0;
+        int skippedCount = 0;
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count == 1) {
+                    switch (items.get(index).outcome()) {
+                        case SUCCESS -> successCount++;
+                        case SKIPPED -> {
+                            successCount++;
+                            skippedCount++;
+                        }
+                        case FAILED -> failCount++;
+                    }
+                }
+                index++;
+            }
+        }
+
+        if (successCount + failCount > 0) {
+            jdbcTemplate.update(ADD_COUNTS_SQL, successCount, failCount, skippedCount, runId);
+        }
+    }
+
+    /**
+     * run 진행 상황 (없으면 null)
+     */
+    public RunStatus findRun(String runId) {
+
+        return jdbcTemplate.query(FIND_RUN_SQL, rs -> {
+            if (!rs.next()) {
+                return null;
+            }
+            Timestamp finishedAt = rs.getTimestamp(5);
+            return new RunStatus(rs.getInt(1), rs.getInt(2), rs.getInt(3), rs.getInt(4),
+                rs.getInt(6), rs.getInt(7), finishedAt == null ? null : finishedAt.toLocalDateTime());
+        }, runId);
+    }
+
+    /**
+     * run 을 종료로 표시하고 항목을 삭제합니다. (호출 측 트랜잭션 안에서 실행)
+     */
+    public void finishRun(String runId) {
+
+        jdbcTemplate.update(FINISH_RUN_SQL, runId);
+        jdbcTemplate.update(DELETE_RUN_ITEMS_SQL, runId);
+    }
+
+    /**
+     * runId 가 아닌 미완료 run 을 종료하고 남은 항목을 삭제합니다. (이전 실행 노드가 끝내지 못한 run 정리)
+     *
+     * @param retentionDays 이보다 오래전에 끝난 run 은 삭제
+     */
+    public void cancelOtherRuns(String runId, int retentionDays) {
+
+        jdbcTemplate.update(CANCEL_OTHER_RUN_ITEMS_SQL, runId);
+        jdbcTemplate.update(CANCEL_OTHER_RUNS_SQL, runId);
+        jdbcTemplate.update(DELETE_OLD_RUNS_SQL, retentionDays);
+    }
+
+    /**
+     * 가장 최근에 끝난 run 의 종료 시각 (없으면 null)
+     */
+    public LocalDateTime findLatestFinishedAt() {
+
+        Timestamp latest = jdbcTemplate.queryForObject(LATEST_FINISHED_AT_SQL, Timestamp.class);
+        return latest == null ? null : latest.toLocalDateTime();
+    }
+}
@@ -4,45 +4,137 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.response.CountrySyncResponse;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.response.HolidaySyncResponse;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.service.CountryService;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.service.HolidayService;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.service.LeaseService;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.service.SyncWorkService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+/**
+ * 공휴일 주기 동기화
+ * <p>
+ * 1년에 한 번 전체 국가의 2년치를 한꺼번에 다시 받는 대신, 국가·연도별 다음 조회 예정 시각(연도 구간별 TTL + 지터)이 지난 것만
+ * tick-interval 마다 최대 max-per-tick 개씩 동기화합니다. 외부 API 호출과 DB 쓰기가 하루 전체에 고르게 퍼지고, 연중 정정도
+ * TTL 안에 반영됩니다. 같은 주기에 재시도 큐에서 시도 시각이 지난 국가·연도를 먼저 다시 동기화합니다.
+ * <p>
+ * 모든 노드에서 스케줄이 실행되지만, 동기화 임대(lease)를 획득한 한 노드만 실제로 동기화합니다. 전체 동기화 작업 큐의 항목은
+ * 임대 없이 모든 노드가 poll-interval 마다 나눠 가져가 처리합니다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class HolidaySyncScheduler {
 
+    private final CountryService countryService;
     private final HolidayService holidayService;
+    private final LeaseService leaseService;
+    private final SyncWorkService syncWorkService;
+
+    @Value("${holiday.sync.schedule.enabled:true}")
+    private boolean enabled;
+
+    // 한 주기에 동기화하는 최대 국가·연도 수
+    @Value("${holiday.sync.schedule.max-per-tick:20}")
+    private int maxPerTick;
 
     /**
-     * 매년 1월 2일 01:00 KST에 전년도·금년도 공휴일 데이터 자동 동기화 cron: 초 분 시 일 월 요일
+     * 조회 예정 시각이 지난 국가·연도 동기화 (이전 실행이 끝난 뒤 tick-interval 만큼 대기)
      */
-    @Scheduled(cron = "0 0 1 2 1 *", zone = "Asia/Seoul")
-    public void syncHolidaysAutomatically() {
+    @Scheduled(
+        initialDelayString = "${holiday.sync.schedule.initial-delay:300000}",
+        fixedDelayString = "${holiday.sync.schedule.tick-interval:60000}"
+    )
+    public void syncDueHolidays() {
 
-        log.info("========================================");
-        log.info("공휴일 자동 동기화 시작: {}", LocalDateTime.now(ZoneId.of("Asia/Seoul")));
-        log.info("========================================");
+        if (!enabled) {
+            return;
+        }
 
         try {
-            HolidaySyncResponse response = holidayService.syncHolidaysFor2Years();
-
-            log.info("========================================");
-            log.info("공휴일 자동 동기화 완료");
-            log.info("처리 총 건수: {}", response.totalCount());
-            log.info("성공 건수: {}", response.successCount());
-            log.info("실패 건수: {}", response.failCount());
-            log.info("처리된 국가 수: {}", response.countryCount());
-            log.info("처리된 연도 범위: {}", response.yearRange());
-            log.info("소요 시간: {}초", response.durationSeconds());
-            log.info("========================================");
+            leaseService.runWithLease(LeaseService.HOLIDAY_SYNC, () -> {
+                HolidaySyncResponse retried = holidayService.syncRetryQueue(maxPerTick);
+                if (retried != null) {
+                    log.info("공휴일 재시도 큐 동기화: 처리 {}, 성공 {}, 실패 {}",
+                        retried.totalCount(), retried.successCount(), retried.failCount());
+                }
+
+                HolidaySyncResponse response = holidayService.syncDueCountryYears(maxPerTick);
+                if (response != null) {
+                    log.info("공휴일 주기 동기화: 처리 {}, 성공 {} (변경 없음 {}), 실패 {}, {}초",
+                        response.totalCount(), response.successCount(), response.skippedCount(),
+                        response.failCount(), response.durationSeconds());
+                }
+            });
+        } catch (Exception e) {
+            log.error("공휴일 주기 동기화 실패: {}", e.getMessage(), e);
+        }
+    }
 
+    /**
+     * 전체 동기화 작업 큐에 남은 국가·연도를 가져가 처리 (모든 노드)
+     */
+    @Scheduled(
+        initialDelayString = "${holiday.sync.work-queue.poll-interval:2000}",
+        fixedDelayString = "${holiday.sync.work-queue.poll-interval:2000}"
+    )
+    public void processSyncWork() {
+
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            int processed = syncWorkService.processAvailable();
+            if (processed > 0) {
+                log.info("전체 동기화 작업 큐 처리: {}건", processed);
+            }
+        } catch (Exception e) {
+            log.error("전체 동기화 작업 큐 처리 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 매일 01:00 KST에 국가 목록을 비교 동기화하고, 새로 추가·재활성화된 국가는 최근 6년 공휴일을 바로 적재합니다. cron: 초 분 시 일 월
+     * 요일
+     */
+    @Scheduled(cron = "${holiday.sync.schedule.country-cron:0 0 1 * * *}", zone = "Asia/Seoul")
+    public void syncCountriesAutomatically() {
+
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            leaseService.runWithLease(LeaseService.HOLIDAY_SYNC, this::syncCountries);
         } catch (Exception e) {
             log.error("========================================");
-            log.error("공휴일 자동 동기화 실패: {}", e.getMessage(), e);
+            log.error("국가 자동 동기화 실패: {}", e.getMessage(), e);
             log.error("========================================");
         }
     }
+
+    private void syncCountries() {
+
+        log.info("========================================");
+        log.info("국가 자동 동기화 시작: {}", LocalDateTime.now(ZoneId.of("Asia/Seoul")));
+        log.info("========================================");
+
+        CountrySyncResponse countrySync = countryService.syncCountries();
+        if (!countrySync.codesToFetch().isEmpty()) {
+            HolidaySyncResponse backfill = holidayService.syncHolidaysForCountries(countrySync.codesToFetch());
+            log.info("신규 국가 공휴일 적재: {}개국, 성공 {} / 실패 {}",
+                backfill.countryCount(), backfill.successCount(), backfill.failCount());
+        }
+
+        log.info("========================================");
+        log.info("국가 자동 동기화 완료");
+        log.info("추가 {}, 재활성화 {}, 이름 변경 {}, 비활성화 {}",
+            countrySync.addedCodes().size(), countrySync.reactivatedCodes().size(),
+            countrySync.renamedCodes().size(), countrySync.retiredCodes().size());
+        log.info("========================================");
+    }
 }
@@ -1,6 +1,7 @@
 package org.planitsquare.holidaykeeper.holidaykeeperbackend.service;
 
 import java.util.List;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.response.CountrySyncResponse;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.Country;
 
 public interface CountryService {
@@ -14,12 +15,14 @@ public interface CountryService {
     Country getCountryByCode(String countryCode);
 
     /**
-     * 나라 목록 조회
+     * 나라 목록 조회 (외부 API 목록에서 빠져 비활성화된 국가 제외)
      */
     List<Country> getCountryList();
 
     /**
-     * 싱크 맞추기 (기존 db에 저장되어 있는 국가 정보 제거하고 api로 다시 호출하여 저장)
+     * 싱크 맞추기 (api 국가 목록과 국가 코드 기준으로 비교해 추가·이름 변경·비활성화만 반영)
+     *
+     * @return 변경 내역 (새 국가만 공휴일을 새로 가져오도록 {@link CountrySyncResponse#codesToFetch()} 제공)
      */
-    void syncCountries();
+    CountrySyncResponse syncCountries();
 }
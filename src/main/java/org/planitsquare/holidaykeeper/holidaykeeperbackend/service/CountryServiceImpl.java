@@ -1,15 +1,25 @@
 package org.planitsquare.holidaykeeper.holidaykeeperbackend.service;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.planitsquare.holidaykeeper.holidaykeeperbackend.client.NagerApiClient;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.client.HolidaySource;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.converter.CountryConverter;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.event.CountryDataChangedEvent;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.exception.BusinessException;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.exception.ErrorCode;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.index.CountryRegistry;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.response.CountrySyncResponse;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.Country;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.external_api_dto.response.CountryResponse;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository.CountryRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,44 +31,116 @@ public class CountryServiceImpl implements CountryService {
 
     private final CountryRepository countryRepository;
 
-    private final NagerApiClient nagerApiClient;
+    private final HolidaySource holidaySource;
 
     private final CountryConverter countryConverter;
 
+    private final CountryRegistry countryRegistry;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 인메모리 국가 레지스트리에서 조회 (DB 조회 없음)
+     */
     @Override
     public Country getCountryByCode(String countryCode) {
 
-        return countryRepository.findByCode(countryCode)
+        return countryRegistry.findByCode(countryCode)
             .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_COUNTRY_CODE));
     }
 
     @Override
-    @Transactional
     public List<Country> getCountryList() {
 
-        List<Country> countryList = countryRepository.findAll();
+        List<Country> countryList = countryRegistry.findActive();
 
         log.info("국가 목록 조회 완료: {} 개국", countryList.size());
         return countryList;
     }
 
+    /**
+     * 국가 코드 기준으로 외부 API 목록과 비교해 새 국가는 추가, 이름이 바뀐 국가는 수정, 목록에서 빠진 국가는 비활성화합니다. 변경 없는
+     * 행은 건드리지 않으므로 country_id 와 이를 참조하는 공휴일 데이터가 그대로 유지됩니다.
+     */
     @Override
     @Transactional
-    public void syncCountries() {
+    public CountrySyncResponse syncCountries() {
         // api로 국가 정보 가져오기
-        List<CountryResponse> responses = nagerApiClient.fetchAvailableCountries();
+        List<CountryResponse> responses = holidaySource.fetchAvailableCountries();
         // 빈 응답은 에러 던지기
         if (responses == null || responses.isEmpty()) {
             throw new BusinessException(ErrorCode.HOLIDAY_API_CALL_FAILED);
         }
-        // 변환
-        List<Country> countries = responses.stream()
-            .map(countryConverter::toEntity)
-            .toList();
-
-        // 가존에 저장되어 있던 국가 정보 모두 삭제
-        countryRepository.deleteAll();
-        // 저장
-        countryRepository.saveAll(countries);
+
+        // 국가 코드 → 기존 국가 (비활성 포함)
+        Map<String, Country> existing = countryRepository.findAll().stream()
+            .collect(Collectors.toMap(Country::getCode, c -> c));
+
+        List<Country> toInsert = new ArrayList<>();
+        List<String> addedCodes = new ArrayList<>();
+        List<String> reactivatedCodes = new ArrayList<>();
+        List<String> renamedCodes = new ArrayList<>();
+        int unchangedCount = 0;
+
+        Set<String> seen = new HashSet<>();
+        for (CountryResponse response : responses) {
+            // 중복 코드는 첫 번째 값 유지
+            if (response.countryCode() == null || !seen.add(response.countryCode())) {
+                continue;
+            }
+
+            Country country = existing.get(response.countryCode());
+            if (country == null) {
+                toInsert.add(countryConverter.toEntity(response));
+                addedCodes.add(response.countryCode());
+                continue;
+            }
+
+            boolean changed = false;
+            if (!Boolean.TRUE.equals(country.getActive())) {
+                country.reactivate();
+                reactivatedCodes.add(country.getCode());
+                changed = true;
+            }
+            if (!Objects.equals(country.getName(), response.name())) {
+                country.updateName(response.name());
+                renamedCodes.add(country.getCode());
+                changed = true;
+            }
+            if (!changed) {
+                unchangedCount++;
+            }
+        }
+
+        // 목록에서 빠진 국가는 비활성화 (삭제하지 않음)
+        List<String> retiredCodes = new ArrayList<>();
+        for (Country country : existing.values()) {
+            if (!seen.contains(country.getCode()) && Boolean.TRUE.equals(country.getActive())) {
+                country.retire();
+                retiredCodes.add(country.getCode());
+            }
+        }
+
+        if (!toInsert.isEmpty()) {
+            countryRepository.saveAll(toInsert);
+        }
+
+        CountrySyncResponse result = CountrySyncResponse.builder()
+            .addedCodes(addedCodes)
+            .reactivatedCodes(reactivatedCodes)
+            .renamedCodes(renamedCodes)
+            .retiredCodes(retiredCodes)
+            .unchangedCount(unchangedCount)
+            .build();
+
+        log.info("국가 동기화 완료: 추가 {}, 재활성화 {}, 이름 변경 {}, 비활성화 {}, 변경 없음 {}",
+            addedCodes.size(), reactivatedCodes.size(), renamedCodes.size(), retiredCodes.size(), unchangedCount);
+
+        // 커밋 후 국가 레지스트리 재적재
+        if (result.hasChanges()) {
+            eventPublisher.publishEvent(new CountryDataChangedEvent());
+        }
+
+        return result;
     }
 }
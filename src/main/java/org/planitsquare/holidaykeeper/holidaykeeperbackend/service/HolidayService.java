@@ -1,5 +1,6 @@
 package org.planitsquare.holidaykeeper.holidaykeeperbackend.service;
 
+import java.util.List;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.request.HolidayDeleteRequest;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.request.HolidayRefreshRequest;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.request.HolidaySearchRequest;
@@ -7,6 +8,7 @@ import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.response.Ho
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.response.HolidayRefreshResponse;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.response.HolidaySearchResponse;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.response.HolidaySyncResponse;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.enums.SyncOutcome;
 
 /**
  * 공휴일(Holiday) 데이터의 적재·재동기화·조회·삭제를 담당하는 서비스 인터페이스입니다. 외부 API 또는 공휴일 제공처에서 데이터를 가져와 저장하거나, 특정 국가·연도
@@ -43,6 +45,59 @@ public interface HolidayService {
      */
     HolidaySyncResponse syncHolidaysFor6Years();
 
+    /**
+     * {@link #syncHolidaysFor6Years()} 와 같고, 국가·연도를 처리할 때마다 진행 상황을 progress 에 기록합니다. 백그라운드 동기화 작업의
+     * 진행률 조회에 사용합니다.
+     *
+     * @param progress 진행 상황 기록 대상
+     * @return HolidaySyncResponse 공휴일 대량 적재 결과
+     */
+    HolidaySyncResponse syncHolidaysFor6Years(SyncProgress progress);
+
+    /**
+     * 지정한 국가들만 최근 6년 공휴일을 동기화합니다. 국가 동기화에서 새로 추가·재활성화된 국가의 공휴일을 채울 때 사용하며, 활성 국가가
+     * 아닌 코드는 무시합니다.
+     *
+     * @param countryCodes 대상 국가 코드 목록
+     * @return HolidaySyncResponse 공휴일 적재 결과
+     */
+    HolidaySyncResponse syncHolidaysForCountries(List<String> countryCodes);
+
+    /**
+     * 다음 조회 예정 시각이 지난(또는 한 번도 조회하지 않은) 국가·연도를 오래 기다린 순서로 최대 limit 개 동기화합니다. 조회 주기는
+     * {@link SyncFreshnessPolicy} 의 연도 구간별 TTL 을 따릅니다.
+     *
+     * @param limit 이번에 동기화할 최대 국가·연도 수
+     * @return HolidaySyncResponse 공휴일 적재 결과 (대상이 없으면 null)
+     */
+    HolidaySyncResponse syncDueCountryYears(int limit);
+
+    /**
+     * 지정한 국가·연도만 동기화합니다. 공유 작업 큐에서 가져간 묶음을 처리할 때 사용하며, 검색 인덱스 전체 재적재는 하지 않습니다.
+     *
+     * @param targets 동기화할 국가·연도 목록
+     * @return HolidaySyncResponse 공휴일 적재 결과
+     */
+    HolidaySyncResponse syncCountryYears(List<SyncTarget> targets);
+
+    /**
+     * {@link #syncCountryYears(List)} 와 같게 동기화하고 국가·연도별 결과를 targets 와 같은 순서로 반환합니다. 공유 작업 큐에서
+     * 완료로 표시된 항목의 결과만 세거나, 기동 시 국가·연도별 실패 횟수를 세기 위해 사용합니다.
+     *
+     * @param targets 동기화할 국가·연도 목록
+     * @return 국가·연도별 결과
+     */
+    List<SyncOutcome> syncEachCountryYear(List<SyncTarget> targets);
+
+    /**
+     * 재시도 큐에서 다음 시도 시각이 지난 국가·연도를 최대 limit 개 다시 동기화합니다. 전체·주기·작업 큐 동기화에서 조회·반영에
+     * 실패한 국가·연도가 재시도 큐에 쌓이며, 이후 성공하면 큐에서 제거됩니다.
+     *
+     * @param limit 이번에 동기화할 최대 국가·연도 수
+     * @return HolidaySyncResponse 공휴일 적재 결과 (대상이 없으면 null)
+     */
+    HolidaySyncResponse syncRetryQueue(int limit);
+
     /**
      * 날짜 범위, 국가 코드, 공휴일 타입 등의 조건에 따라 공휴일 정보를 조회합니다. 페이징 처리된 결과를 {@link HolidaySearchResponse} 로
      * 반환합니다.
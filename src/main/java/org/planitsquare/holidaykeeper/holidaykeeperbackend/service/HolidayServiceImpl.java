@@ -4,34 +4,62 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.Builder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.planitsquare.holidaykeeper.holidaykeeperbackend.client.NagerApiClient;
-import org.planitsquare.holidaykeeper.holidaykeeperbackend.client.NagerApiClientReactive;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.client.HolidaySource;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.client.HolidaySourceReactive;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.client.NagerCircuitBreaker;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.client.NagerRequestLimiter;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.converter.HolidayConverter;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.event.HolidayDataChangedEvent;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.exception.BusinessException;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.exception.ErrorCode;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.index.HolidayCountCache;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.index.HolidaySearchIndex;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.request.HolidayCursor;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.request.HolidayDeleteRequest;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.request.HolidayRefreshRequest;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.request.HolidaySearchRequest;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.response.HolidayDeleteResponse;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.response.HolidayRefreshResponse;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.response.HolidaySearchResponse;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.response.HolidaySearchResponse.HolidayItemDto;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.response.HolidaySyncResponse;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.Country;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.CountryYearSyncState;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.Holiday;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.enums.HolidayType;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.enums.SyncOutcome;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.external_api_dto.response.HolidayResponse;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository.CountryYearSyncStateRepository;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository.HolidayBulkRepository;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository.HolidayBulkRepository.CountryYearRows;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository.HolidayBulkRepository.MergeCount;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository.HolidayBulkRepository.SyncCheck;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository.HolidayQueryRepository;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository.HolidayRepository;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository.SyncRetryQueueRepository;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository.SyncRetryQueueRepository.Failure;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository.SyncRetryQueueRepository.RetryItem;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.utility.DateUtil;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.utility.HolidayDiff;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.utility.HolidayFingerprint;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -43,14 +71,57 @@ public class HolidayServiceImpl implements HolidayService {
 
     private final HolidayRepository holidayRepository;
     private final HolidayQueryRepository holidayQueryRepository;
+    private final HolidayBulkRepository holidayBulkRepository;
+    private final CountryYearSyncStateRepository countryYearSyncStateRepository;
+    private final SyncRetryQueueRepository syncRetryQueueRepository;
 
-    private final NagerApiClient nagerApiClient;
-    private final NagerApiClientReactive nagerApiClientReactive;
+    private final HolidaySource holidaySource;
+    private final HolidaySourceReactive holidaySourceReactive;
 
     private final CountryService countryService;
 
     private final HolidayConverter holidayConverter;
 
+    private final HolidaySearchIndex holidaySearchIndex;
+
+    private final HolidayCountCache holidayCountCache;
+
+    private final SyncFreshnessPolicy syncFreshnessPolicy;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final LeaseService leaseService;
+
+    // 전체 동기화 시 외부 API 동시 호출 수
+    @Value("${holiday.sync.fetch-concurrency:8}")
+    private int fetchConcurrency;
+
+    // 전체 동기화 시 저장을 기다리며 메모리에 보관하는 국가·연도 응답 수
+    @Value("${holiday.sync.write-buffer:16}")
+    private int writeBuffer;
+
+    // 동기화 저장 방식 (entity: 엔티티 단위 비교 후 저장, merge: 스테이징 테이블 + 집합 기반 MERGE)
+    @Value("${holiday.sync.engine:entity}")
+    private String syncEngine;
+
+    // merge 방식에서 한 트랜잭션으로 묶어 반영하는 국가·연도 수
+    @Value("${holiday.sync.merge-batch-size:32}")
+    private int mergeBatchSize;
+
+    // 실패한 국가·연도의 첫 재시도 대기 시간 (ms, 실패할 때마다 두 배)
+    @Value("${holiday.sync.retry.initial-delay:60000}")
+    private long retryInitialDelayMillis;
+
+    // 재시도 대기 시간 상한 (ms)
+    @Value("${holiday.sync.retry.max-delay:3600000}")
+    private long retryMaxDelayMillis;
+
+    // 재시도 큐에서 가져가는 최대 시도 횟수 (넘으면 TTL 주기 동기화에 맡김)
+    @Value("${holiday.sync.retry.max-attempts:6}")
+    private int retryMaxAttempts;
+
     @Builder
     private record SyncResult(
         int oldCount,            // 이전에 저장되었던 레코드 수
@@ -62,19 +133,34 @@ public class HolidayServiceImpl implements HolidayService {
     }
 
     /**
-     * (국가, 연도, 응답 리스트)를 한 번에 담는 record
+     * 저장 대기 중인 국가·연도 (응답 지문은 반영 후 함께 저장)
+     */
+    private record PendingWrite(
+        Country country,
+        int year,
+        List<Holiday> holidays, // 저장 전 엔티티
+        long fingerprint
+    ) {
+
+    }
+
+    /**
+     * (국가, 연도, 디코딩된 공휴일)을 한 번에 담는 record
      */
     @Builder
     private record CountryYearHolidays(
         Country country,
         int year,
-        List<HolidayResponse> responses
+        List<Holiday> holidays, // 응답을 바로 디코딩한 저장 전 엔티티
+        long fingerprint,       // 응답 지문
+        boolean notModified,    // 외부 API 가 304 Not Modified 로 응답 (이전 동기화 이후 변경 없음)
+        Throwable error         // 조회 실패 (재시도 큐 적재 대상)
     ) {
 
     }
 
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public HolidaySyncResponse syncHolidaysFor2Years() {
 
         int startYear = DateUtil.getTodayYear() - 1;
@@ -84,13 +170,125 @@ public class HolidayServiceImpl implements HolidayService {
     }
 
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public HolidaySyncResponse syncHolidaysFor6Years() {
 
+        return syncHolidaysFor6Years(new SyncProgress());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public HolidaySyncResponse syncHolidaysFor6Years(SyncProgress progress) {
+
         int startYear = DateUtil.getTodayYear() - 5;
         int endYear = DateUtil.getTodayYear();
 
-        return syncHolidays(startYear, endYear);
+        return syncHolidays(countryService.getCountryList(), startYear, endYear, progress);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public HolidaySyncResponse syncHolidaysForCountries(List<String> countryCodes) {
+
+        int startYear = DateUtil.getTodayYear() - 5;
+        int endYear = DateUtil.getTodayYear();
+
+        Set<String> codes = Set.copyOf(countryCodes);
+        List<Country> countries = countryService.getCountryList().stream()
+            .filter(country -> codes.contains(country.getCode()))
+            .toList();
+
+        return syncHolidays(countries, startYear, endYear, new SyncProgress());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public HolidaySyncResponse syncDueCountryYears(int limit) {
+
+        int firstYear = syncFreshnessPolicy.firstYear();
+        int lastYear = syncFreshnessPolicy.lastYear();
+        LocalDateTime now = LocalDateTime.now();
+
+        Map<String, LocalDateTime> nextSyncAt = new HashMap<>();
+        for (CountryYearSyncState state : countryYearSyncStateRepository.findByYearBetween(firstYear, lastYear)) {
+            nextSyncAt.put(buildStateKey(state.getCountry().getId(), state.getYear()), state.getNextSyncAt());
+        }
+
+        // 상태가 없거나(처음) 예정 시각이 지난 국가·연도를 오래 기다린 순서로 limit 개까지
+        List<SyncTarget> due = new ArrayList<>();
+        for (Country country : countryService.getCountryList()) {
+            for (int year = firstYear; year <= lastYear; year++) {
+                LocalDateTime next = nextSyncAt.get(buildStateKey(country.getId(), year));
+                if (next == null || !next.isAfter(now)) {
+                    due.add(new SyncTarget(country, year));
+                }
+            }
+        }
+        if (due.isEmpty()) {
+            return null;
+        }
+
+        List<SyncTarget> targets = due.stream()
+            .sorted(Comparator.comparing(
+                (SyncTarget t) -> nextSyncAt.get(buildStateKey(t.country().getId(), t.year())),
+                Comparator.nullsFirst(Comparator.naturalOrder())))
+            .limit(Math.max(limit, 1))
+            .toList();
+
+        log.info("재조회 예정 국가·연도 {}건 중 {}건 동기화", due.size(), targets.size());
+
+        return syncTargets(targets, new SyncProgress(), false);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public HolidaySyncResponse syncCountryYears(List<SyncTarget> targets) {
+
+        return syncTargets(targets, new SyncProgress(), false);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<SyncOutcome> syncEachCountryYear(List<SyncTarget> targets) {
+
+        Map<String, SyncOutcome> outcomes = new HashMap<>();
+        syncTargets(targets, new SyncProgress(), false, outcomes);
+
+        return targets.stream()
+            .map(target -> outcomes.getOrDefault(
+                buildStateKey(target.country().getId(), target.year()), SyncOutcome.FAILED))
+            .toList();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public HolidaySyncResponse syncRetryQueue(int limit) {
+
+        List<RetryItem> due = syncRetryQueueRepository.findDue(Math.max(limit, 1), retryMaxAttempts);
+        if (due.isEmpty()) {
+            return null;
+        }
+
+        Map<Long, Country> countries = countryService.getCountryList().stream()
+            .collect(Collectors.toMap(Country::getId, country -> country));
+
+        List<SyncTarget> targets = new ArrayList<>(due.size());
+        List<RetryItem> retired = new ArrayList<>();
+        for (RetryItem item : due) {
+            Country country = countries.get(item.countryId());
+            if (country == null) {
+                retired.add(item);      // 그 사이 비활성화된 국가
+            } else {
+                targets.add(new SyncTarget(country, item.year()));
+            }
+        }
+        syncRetryQueueRepository.remove(retired);
+        if (targets.isEmpty()) {
+            return null;
+        }
+
+        log.info("재시도 큐 국가·연도 {}건 동기화", targets.size());
+        return syncTargets(targets, new SyncProgress(), false);
     }
 
     @Override
@@ -101,6 +299,8 @@ public class HolidayServiceImpl implements HolidayService {
 
         SyncResult syncResult = syncHolidaysByYear(country, request.year());
 
+        eventPublisher.publishEvent(HolidayDataChangedEvent.of(country, request.year()));
+
         return HolidayRefreshResponse.builder()
             .oldCount(syncResult.oldCount())
             .newCount(syncResult.newCount())
@@ -109,41 +309,97 @@ public class HolidayServiceImpl implements HolidayService {
             .build();
     }
 
+    /**
+     * 인메모리 인덱스로 응답할 수 있으면 DB 커넥션 없이 바로 반환합니다. SUPPORTS 전파는 트랜잭션(커넥션)을 미리 열지 않으면서,
+     * 인덱스 미적중으로 DB 조회가 필요할 때는 하나의 영속성 컨텍스트를 공유하게 해줍니다.
+     */
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public HolidaySearchResponse searchHolidays(HolidaySearchRequest request) {
 
-        Country country = countryService.getCountryByCode(request.countryCode());
-
-        List<String> typeValues = (request.types() == null || request.types().isEmpty())
+        HolidayCursor cursor = request.cursor() == null
             ? null
-            : request.types().stream()
-                .map(HolidayType::getValue)
-                .toList();
+            : HolidayCursor.decode(request.cursor());
+        boolean slice = Boolean.TRUE.equals(request.slice());
+        boolean isFirst = cursor == null && request.page() == 0;
+
+        // 0. 인메모리 인덱스 조회
+        Optional<HolidaySearchIndex.SearchResult> indexed = cursor == null
+            ? holidaySearchIndex.search(
+                request.countryCode(),
+                request.startDate(),
+                request.endDate(),
+                request.types(),
+                request.page(),
+                request.size())
+            : holidaySearchIndex.searchAfter(
+                request.countryCode(),
+                request.startDate(),
+                request.endDate(),
+                request.types(),
+                cursor.date(),
+                cursor.id(),
+                request.size());
+
+        if (indexed.isPresent()) {
+            return holidayConverter.toSearchResponseWithPaging(
+                indexed.get().holidays(),
+                request.page(),
+                request.size(),
+                slice ? null : indexed.get().totalElements(),
+                isFirst,
+                indexed.get().hasNext()
+            );
+        }
 
-        // 1. 페이징 적용하여 데이터 조회
-        List<Holiday> holidays = holidayQueryRepository.searchWithPaging(
-            country,
-            request.startDate(),
-            request.endDate(),
-            typeValues,
-            request.page(),
-            request.size()
-        );
+        Country country = countryService.getCountryByCode(request.countryCode());
 
-        // 2. 전체 개수 조회 (페이지 정보를 위해)
-        long totalElements = holidayQueryRepository.count(
-            country,
-            request.startDate(),
-            request.endDate(),
-            typeValues
-        );
+        int typeMask = HolidayType.toMask(request.types());
+
+        // 1. 페이지 크기 + 1 건 조회 (마지막 1건은 다음 페이지 존재 여부 판단용, 응답 DTO 로 바로 조회)
+        List<HolidayItemDto> holidays = cursor == null
+            ? holidayQueryRepository.searchWithPaging(
+                country,
+                request.startDate(),
+                request.endDate(),
+                typeMask,
+                (long) request.page() * request.size(),
+                request.size() + 1)
+            : holidayQueryRepository.searchAfter(
+                country,
+                request.startDate(),
+                request.endDate(),
+                typeMask,
+                cursor.date(),
+                cursor.id(),
+                request.size() + 1);
+
+        boolean hasNext = holidays.size() > request.size();
+        List<HolidayItemDto> pageHolidays = hasNext ? holidays.subList(0, request.size()) : holidays;
+
+        // 2. 전체 개수 조회 (슬라이스 모드면 생략, 그 외에는 조건별 캐시 사용)
+        Long totalElements = slice
+            ? null
+            : holidayCountCache.get(
+                country.getId(),
+                request.startDate(),
+                request.endDate(),
+                request.types(),
+                () -> holidayQueryRepository.count(
+                    country,
+                    request.startDate(),
+                    request.endDate(),
+                    typeMask
+                ));
 
         // 3. 변환 및 반환
         return holidayConverter.toSearchResponseWithPaging(
-            holidays,
+            pageHolidays,
             request.page(),
             request.size(),
-            totalElements
+            totalElements,
+            isFirst,
+            hasNext
         );
     }
 
@@ -162,6 +418,11 @@ public class HolidayServiceImpl implements HolidayService {
         int deletedCount = holidayRepository.deleteByCountryAndDateBetween(country, startDate,
             endDate);
 
+        // DB 가 더 이상 마지막 응답과 같지 않으므로 지문도 삭제 (다음 동기화에서 다시 저장)
+        countryYearSyncStateRepository.deleteByCountryAndYear(country, request.year());
+
+        eventPublisher.publishEvent(HolidayDataChangedEvent.of(country, request.year()));
+
         return HolidayDeleteResponse.builder()
             .deletedCount(deletedCount)
             .build();
@@ -169,55 +430,187 @@ public class HolidayServiceImpl implements HolidayService {
 
     private HolidaySyncResponse syncHolidays(int startYear, int endYear) {
 
+        return syncHolidays(countryService.getCountryList(), startYear, endYear, new SyncProgress());
+    }
+
+    /**
+     * 국가 × 연도 전체 동기화 (끝나면 검색 인덱스 전체 재적재)
+     */
+    private HolidaySyncResponse syncHolidays(
+        List<Country> countryList,
+        int startYear,
+        int endYear,
+        SyncProgress progress
+    ) {
+
+        log.info("공휴일 데이터 적재 시작: {}개국, {}년 ~ {}년", countryList.size(), startYear, endYear);
+
+        List<SyncTarget> targets = new ArrayList<>(countryList.size() * (endYear - startYear + 1));
+        for (Country country : countryList) {
+            for (int year = startYear; year <= endYear; year++) {
+                targets.add(new SyncTarget(country, year));
+            }
+        }
+
+        return syncTargets(targets, progress, true);
+    }
+
+    private HolidaySyncResponse syncTargets(List<SyncTarget> targets, SyncProgress progress, boolean rebuildIndex) {
+
+        return syncTargets(targets, progress, rebuildIndex, new HashMap<>());
+    }
+
+    /**
+     * 국가·연도 목록 동기화 (전체 동기화와 주기 스케줄러 공용)
+     * <p>
+     * 외부 API 응답을 모두 모은 뒤 한 트랜잭션에서 저장하지 않고, 국가·연도 단위로 도착하는 대로 각각 짧은 트랜잭션에서 upsert 후
+     * 커밋합니다. 동시 호출 수(fetchConcurrency)와 저장 대기 버퍼(writeBuffer)로 메모리에 올라오는 응답 수를 제한하므로, 국가 ×
+     * 연도 수가 늘어도 힙 사용량과 락 점유 시간은 한 국가·연도 분량으로 유지됩니다.
+     * <p>
+     * 국가·연도 하나를 처리할 때마다 누적 성공·실패 수를 progress 에 기록합니다. (merge 방식은 묶음 반영 시점에 한꺼번에 증가)
+     * <p>
+     * 반영을 건너뛴 국가·연도는 조회 시각과 다음 조회 예정 시각만 JDBC 배치로 갱신합니다.
+     * <p>
+     * 조회·반영에 실패한 국가·연도는 재시도 큐에 쌓고, 재시도 큐에 있던 국가·연도가 성공하면 큐에서 지웁니다.
+     * <p>
+     * 임대 작업 안에서 실행 중이면 묶음을 반영하기 전마다 임대 보유 여부를 확인하고, 잃었으면 외부 API 조회를 멈추고 남은 묶음을
+     * 반영하지 않은 채 SYNC_LEASE_LOST 로 중단합니다. (임대를 가져간 노드가 다시 동기화)
+     *
+     * @param rebuildIndex 끝난 뒤 검색 인덱스 전체 재적재 여부 (전체 동기화만)
+     * @param outcomes     국가·연도별 결과를 기록할 맵 (키는 buildStateKey)
+     */
+    private HolidaySyncResponse syncTargets(List<SyncTarget> targets, SyncProgress progress, boolean rebuildIndex,
+        Map<String, SyncOutcome> outcomes) {
+
         LocalDateTime startTime = LocalDateTime.now();
 
-        log.info("공휴일 데이터 적재 시작: {}년 ~ {}년", startYear, endYear);
+        int startYear = targets.stream().mapToInt(SyncTarget::year).min().orElse(DateUtil.getTodayYear());
+        int endYear = targets.stream().mapToInt(SyncTarget::year).max().orElse(DateUtil.getTodayYear());
+        long countryCount = targets.stream().map(t -> t.country().getId()).distinct().count();
 
-        List<Country> countryList = countryService.getCountryList();
+        // 마지막으로 반영한 응답 지문 (국가·연도별 한 번의 조회로 미리 적재)
+        Map<String, Long> fingerprints = countryYearSyncStateRepository.findByYearBetween(startYear, endYear)
+            .stream()
+            .filter(state -> state.getFingerprint() != null)    // 조회만 실패하고 반영한 적 없는 행 제외
+            .collect(Collectors.toMap(
+                state -> buildStateKey(state.getCountry().getId(), state.getYear()),
+                CountryYearSyncState::getFingerprint
+            ));
 
-        // 1. 외부 API 병렬 호출 → 모든 응답을 한 번에 가져옴
-        List<CountryYearHolidays> allResponses = fetchAllHolidaysReactive(
-            countryList, startYear, endYear
-        ).block(); // <- 여기까지만 Reactor 사용
+        // 재시도 큐에 있는 국가·연도 (성공하면 제거)
+        Map<String, RetryItem> retrying = loadRetrying();
+        List<Failure> failures = new ArrayList<>();
 
         int totalCount = 0;
         int successCount = 0;
         int failCount = 0;
+        int skippedCount = 0;
+
+        // entity 방식은 국가·연도마다, merge 방식은 mergeBatchSize 개씩 묶어 한 트랜잭션으로 반영
+        int batchSize = isMergeEngine() ? Math.max(mergeBatchSize, 1) : 1;
+        List<PendingWrite> pending = new ArrayList<>(batchSize);
+
+        // 변경이 없어 반영을 건너뛴 국가·연도 (조회 시각만 갱신)
+        List<SyncCheck> checks = new ArrayList<>();
 
-        // 2. 이후는 전부 동기 + JPA + @Transactional 안에서 수행
-        for (CountryYearHolidays cyh : allResponses) {
+        LeaseService.Lease lease = leaseService.currentLease();
+
+        progress.start(targets.size());
+
+        // 1. 외부 API 응답을 스트리밍으로 받아 도착하는 대로 저장 (버퍼가 차면 API 호출도 대기, 임대를 잃으면 조회 중단)
+        for (CountryYearHolidays cyh : fetchAllHolidaysReactive(targets)
+            .takeWhile(next -> !isLeaseLost(lease))
+            .toIterable(writeBuffer)) {
             totalCount++;
 
             Country country = cyh.country();
             int year = cyh.year();
-            List<HolidayResponse> responses = cyh.responses();
+            List<Holiday> holidays = cyh.holidays();
 
             try {
-                if (responses == null || responses.isEmpty()) {
+                if (cyh.error() != null) {
+                    failCount++;
+                    outcomes.put(buildStateKey(country.getId(), year), SyncOutcome.FAILED);
+                    checks.add(toFailedCheck(country, year));
+                    failures.add(toFailure(country, year, cyh.error()));
+                    continue;
+                }
+
+                if (holidays == null || holidays.isEmpty()) {
                     log.warn("공휴일 응답 없음: {} - {}", country.getCode(), year);
                     failCount++;
+                    outcomes.put(buildStateKey(country.getId(), year), SyncOutcome.FAILED);
+                    checks.add(toFailedCheck(country, year));
                     continue;
                 }
 
-                SyncResult result = syncHolidaysByYearSync(country, year, responses);
-                successCount++;
+                // 2. 변경 없음(304)이고 DB 에도 데이터가 있으면 upsert 생략 (삭제된 경우에는 캐시된 본문으로 다시 저장)
+                Long lastFingerprint = fingerprints.get(buildStateKey(country.getId(), year));
+                if (cyh.notModified() && holidayRepository.existsByCountryAndDateBetween(
+                    country, LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31))) {
+                    successCount++;
+                    skippedCount++;
+                    outcomes.put(buildStateKey(country.getId(), year), SyncOutcome.SKIPPED);
+                    checks.add(toSyncCheck(country, year,
+                        lastFingerprint != null ? lastFingerprint : cyh.fingerprint()));
+                    log.debug("변경 없음: {} - {}", country.getCode(), year);
+                    continue;
+                }
 
-                log.debug("동기화 성공: {} - {} (old: {}, new: {}, +{}, -{})",
-                    country.getCode(),
-                    year,
-                    result.oldCount(),
-                    result.newCount(),
-                    result.actualAddedCount(),
-                    result.actualDeletedCount()
-                );
+                // 3. 응답 지문이 마지막 반영 때와 같으면 기존 데이터 조회·비교 없이 생략
+                long fingerprint = cyh.fingerprint();
+                if (Objects.equals(lastFingerprint, fingerprint)) {
+                    successCount++;
+                    skippedCount++;
+                    outcomes.put(buildStateKey(country.getId(), year), SyncOutcome.SKIPPED);
+                    checks.add(toSyncCheck(country, year, fingerprint));
+                    log.debug("응답 지문 일치: {} - {}", country.getCode(), year);
+                    continue;
+                }
+
+                // 4. 저장 대기열에 추가, 묶음이 차면 반영
+                pending.add(new PendingWrite(country, year, holidays, fingerprint));
+                if (pending.size() >= batchSize && !isLeaseLost(lease)) {
+                    int written = writePending(pending, failures, outcomes);
+                    successCount += written;
+                    failCount += pending.size() - written;
+                    pending.clear();
+                }
+                if (checks.size() >= writeBuffer && !isLeaseLost(lease)) {
+                    flushChecks(checks);
+                }
 
             } catch (Exception e) {
                 failCount++;
+                outcomes.put(buildStateKey(country.getId(), year), SyncOutcome.FAILED);
+                checks.add(toFailedCheck(country, year));
+                failures.add(toFailure(country, year, e));
                 log.warn("동기화 실패: {} - {} ({})",
                     country.getCode(), year, e.getMessage(), e);
+            } finally {
+                progress.update(successCount, failCount);
             }
         }
 
+        if (isLeaseLost(lease)) {
+            log.warn("동기화 임대를 잃어 중단합니다: 처리 {}건 중 미반영 {}건", totalCount, pending.size());
+            throw new BusinessException(ErrorCode.SYNC_LEASE_LOST);
+        }
+
+        if (!pending.isEmpty()) {
+            int written = writePending(pending, failures, outcomes);
+            successCount += written;
+            failCount += pending.size() - written;
+            progress.update(successCount, failCount);
+        }
+        flushChecks(checks);
+        flushRetries(targets, retrying, failures);
+
+        // 국가·연도별 갱신과 별개로 마지막에 검색 인덱스 전체 재적재 (부분 갱신 실패분 복구)
+        if (rebuildIndex) {
+            eventPublisher.publishEvent(HolidayDataChangedEvent.all());
+        }
+
         LocalDateTime end = LocalDateTime.now();
         long duration = ChronoUnit.SECONDS.between(startTime, end);
 
@@ -225,7 +618,8 @@ public class HolidayServiceImpl implements HolidayService {
             .totalCount(totalCount)
             .successCount(successCount)
             .failCount(failCount)
-            .countryCount(countryList.size())
+            .skippedCount(skippedCount)
+            .countryCount((int) countryCount)
             .yearRange(startYear + "-" + endYear)
             .startTime(startTime.toString())
             .endTime(end.toString())
@@ -233,39 +627,130 @@ public class HolidayServiceImpl implements HolidayService {
             .build();
     }
 
-    private Mono<List<CountryYearHolidays>> fetchAllHolidaysReactive(
-        List<Country> countryList,
-        int startYear,
-        int endYear
-    ) {
+    /**
+     * 저장 대기 중인 국가·연도를 한 트랜잭션으로 반영하고 성공한 국가·연도 수를 반환합니다.
+     * <p>
+     * 묶음 반영이 실패하면 국가·연도별 트랜잭션으로 다시 시도해, 문제가 있는 국가·연도만 실패로 남기고(failures) 나머지는 커밋합니다.
+     * 국가·연도별 결과는 outcomes 에 기록합니다.
+     */
+    private int writePending(List<PendingWrite> writes, List<Failure> failures, Map<String, SyncOutcome> outcomes) {
+
+        try {
+            List<SyncResult> results = transactionTemplate.execute(status -> {
+                List<SyncResult> synced = writeInTransaction(writes);
+                for (PendingWrite write : writes) {
+                    recordFingerprint(write.country(), write.year(), write.fingerprint());
+                    eventPublisher.publishEvent(HolidayDataChangedEvent.of(write.country(), write.year()));
+                }
+                return synced;
+            });
+
+            for (int i = 0; i < writes.size(); i++) {
+                SyncResult result = results.get(i);
+                outcomes.put(buildStateKey(writes.get(i).country().getId(), writes.get(i).year()), SyncOutcome.SUCCESS);
+                log.debug("동기화 성공: {} - {} (old: {}, new: {}, +{}, -{})",
+                    writes.get(i).country().getCode(),
+                    writes.get(i).year(),
+                    result.oldCount(),
+                    result.newCount(),
+                    result.actualAddedCount(),
+                    result.actualDeletedCount()
+                );
+            }
+            return writes.size();
+
+        } catch (Exception e) {
+            if (writes.size() == 1) {
+                PendingWrite write = writes.get(0);
+                log.warn("동기화 실패: {} - {} ({})",
+                    write.country().getCode(), write.year(), e.getMessage(), e);
+                failures.add(toFailure(write.country(), write.year(), e));
+                outcomes.put(buildStateKey(write.country().getId(), write.year()), SyncOutcome.FAILED);
+                return 0;
+            }
+
+            log.warn("묶음 반영 실패, 국가·연도별로 재시도: {}건 ({})", writes.size(), e.getMessage());
+            int written = 0;
+            for (PendingWrite write : writes) {
+                written += writePending(List.of(write), failures, outcomes);
+            }
+            return written;
+        }
+    }
+
+    /**
+     * 설정된 방식으로 국가·연도 묶음을 반영 (호출 측 트랜잭션 안에서 실행)
+     */
+    private List<SyncResult> writeInTransaction(List<PendingWrite> writes) {
+
+        if (!isMergeEngine()) {
+            return writes.stream()
+                .map(w -> syncHolidaysByYearSync(w.country(), w.year(), w.holidays()))
+                .toList();
+        }
 
-        return Flux.fromIterable(countryList)
-            .flatMap(country ->
-                Flux.range(startYear, endYear - startYear + 1)
-                    .flatMap(year ->
-                        nagerApiClientReactive.fetchPublicHolidays(country.getCode(), year)
-                            .onErrorResume(ex -> {
-                                log.warn("공휴일 API 실패: {} - {} ({})",
-                                    country.getCode(), year, ex.getMessage());
-                                // 실패한 경우 빈 리스트로 대체
-                                return Mono.just(List.of());
-                            })
-                            .map(responses ->
-                                CountryYearHolidays.builder()
-                                    .country(country)
-                                    .year(year)
-                                    .responses(responses)
-                                    .build()
-                            )
-                    )
-            )
-            .collectList();
+        List<CountryYearRows> batch = writes.stream()
+            .map(w -> new CountryYearRows(w.country(), w.year(), HolidayDiff.distinct(w.holidays())))
+            .toList();
+
+        return holidayBulkRepository.merge(batch).stream()
+            .map(this::toSyncResult)
+            .toList();
+    }
+
+    private boolean isMergeEngine() {
+
+        return "merge".equalsIgnoreCase(syncEngine);
+    }
+
+    private SyncResult toSyncResult(MergeCount count) {
+
+        return SyncResult.builder()
+            .oldCount(count.oldCount())
+            .newCount(count.newCount())
+            .actualAddedCount(count.addedCount())
+            .actualDeletedCount(count.deletedCount())
+            .build();
+    }
+
+    /**
+     * 국가 × 연도 조합을 최대 fetchConcurrency 개씩 동시에 호출하는 스트림
+     * <p>
+     * 구독자가 요청한 만큼만 호출을 진행하므로(backpressure) 저장이 밀리면 API 호출도 함께 멈춥니다.
+     */
+    private Flux<CountryYearHolidays> fetchAllHolidaysReactive(List<SyncTarget> targets) {
+
+        return Flux.fromIterable(targets)
+            .flatMap(task ->
+                    holidaySourceReactive.fetchHolidayRows(task.country(), task.year())
+                        .map(result ->
+                            CountryYearHolidays.builder()
+                                .country(task.country())
+                                .year(task.year())
+                                .holidays(result.body().holidays())
+                                .fingerprint(result.body().fingerprint())
+                                .notModified(result.notModified())
+                                .build()
+                        )
+                        .onErrorResume(ex -> {
+                            log.warn("공휴일 API 실패: {} - {} ({})",
+                                task.country().getCode(), task.year(), ex.getMessage());
+                            // 실패한 경우 빈 리스트로 대체 (재시도 큐 적재)
+                            return Mono.just(CountryYearHolidays.builder()
+                                .country(task.country())
+                                .year(task.year())
+                                .holidays(List.of())
+                                .error(ex)
+                                .build());
+                        }),
+                fetchConcurrency
+            );
     }
 
     private SyncResult syncHolidaysByYearSync(
         Country country,
         int year,
-        List<HolidayResponse> holidayResponses
+        List<Holiday> newHolidays
     ) {
 
         LocalDate startDate = LocalDate.of(year, 1, 1);
@@ -275,143 +760,176 @@ public class HolidayServiceImpl implements HolidayService {
         List<Holiday> oldHolidays = holidayRepository.findByCountryAndDateBetween(
             country, startDate, endDate);
 
-        return upsert(oldHolidays, holidayResponses, country);
+        return upsert(oldHolidays, newHolidays);
     }
 
     private SyncResult syncHolidaysByYear(Country country, Integer year) {
 
-        LocalDate startDate = LocalDate.of(year, 1, 1);
-        LocalDate endDate = LocalDate.of(year, 12, 31);
-
-        // 기존 데이터 조회
-        List<Holiday> oldHolidays = holidayRepository.findByCountryAndDateBetween(
-            country, startDate, endDate);
-
         // API로 새 데이터 가져오기
-        List<HolidayResponse> holidayResponses = nagerApiClient.fetchPublicHolidays(
+        List<HolidayResponse> holidayResponses = holidaySource.fetchPublicHolidays(
             country.getCode(), year);
 
-        return upsert(oldHolidays, holidayResponses, country);
+        SyncResult result = writeInTransaction(List.of(
+            new PendingWrite(country, year, toNewHolidays(holidayResponses, country), 0L)
+        )).get(0);
+        recordFingerprint(country, year, HolidayFingerprint.of(holidayResponses));
+
+        return result;
     }
 
-    private SyncResult upsert(
-        List<Holiday> oldHolidays,
-        List<HolidayResponse> holidayResponses,
-        Country country) {
+    /**
+     * 반영한 응답의 지문 저장 (upsert 와 같은 트랜잭션)
+     */
+    private void recordFingerprint(Country country, int year, long fingerprint) {
+
+        LocalDateTime now = LocalDateTime.now();
+
+        LocalDateTime nextSyncAt = syncFreshnessPolicy.nextSyncAt(year, now);
+
+        countryYearSyncStateRepository.findByCountryAndYear(country, year)
+            .ifPresentOrElse(
+                state -> {
+                    state.updateFingerprint(fingerprint, now);
+                    state.markChecked(now, nextSyncAt);
+                },
+                () -> countryYearSyncStateRepository.save(CountryYearSyncState.builder()
+                    .country(country)
+                    .year(year)
+                    .fingerprint(fingerprint)
+                    .syncedAt(now)
+                    .checkedAt(now)
+                    .nextSyncAt(nextSyncAt)
+                    .build())
+            );
+    }
 
-        // 1. 유효성 검사
-        if (holidayResponses == null || holidayResponses.isEmpty()) {
-            throw new BusinessException(ErrorCode.HOLIDAY_API_CALL_FAILED);
-        }
+    private SyncCheck toSyncCheck(Country country, int year, long fingerprint) {
 
-        // 2. Response → Entity 변환
-        List<Holiday> newHolidays = holidayResponses.stream()
-            .map(r -> holidayConverter.toEntity(r, country))
-            .collect(Collectors.toMap(
-                this::buildKey,
-                h -> h,
-                (h1, h2) -> h1   // 중복 key 발생 시 첫 번째 값 유지
-            ))
-            .values()
-            .stream()
-            .toList();
+        LocalDateTime now = LocalDateTime.now();
+        return new SyncCheck(country.getId(), year, fingerprint, now, syncFreshnessPolicy.nextSyncAt(year, now));
+    }
 
-        // 3. Key 기준 Map 생성
-        Map<String, Holiday> oldMap = oldHolidays.stream()
-            .collect(Collectors.toMap(
-                this::buildKey,
-                h -> h
-            ));
+    /**
+     * 조회 실패: 상태 행을 retry-delay 뒤로 미룸 (실패한 국가·연도가 매 주기 맨 앞을 차지하지 않도록, 행이 없으면 지문 없이 새로 만듦)
+     */
+    private SyncCheck toFailedCheck(Country country, int year) {
 
-        Map<String, Holiday> newMap = newHolidays.stream()
-            .collect(Collectors.toMap(
-                this::buildKey,
-                h -> h
-            ));
+        LocalDateTime now = LocalDateTime.now();
+        return new SyncCheck(country.getId(), year, null, now, syncFreshnessPolicy.retryAt(now));
+    }
 
-        int insertCount = 0;
-        int updateCount = 0;
-        int deleteCount = 0;
+    private Failure toFailure(Country country, int year, Throwable error) {
 
-        // 결과 저장 리스트
-        List<Holiday> toSave = new ArrayList<>();
+        // 서킷이 열렸거나 호출 허가를 받지 못해 호출하지 않은 경우는 시도 횟수를 늘리지 않음
+        boolean attempted = !(error instanceof NagerCircuitBreaker.OpenException
+            || error instanceof NagerRequestLimiter.AcquireTimeoutException);
+        return new Failure(country.getId(), year, attempted, error.toString());
+    }
 
-        // 4. INSERT 또는 UPDATE 처리
-        for (Map.Entry<String, Holiday> entry : newMap.entrySet()) {
-            String key = entry.getKey();
-            Holiday newHoliday = entry.getValue();
+    private Map<String, RetryItem> loadRetrying() {
 
-            if (!oldMap.containsKey(key)) {
-                // INSERT
-                toSave.add(newHoliday);
-                insertCount++;
-            } else {
-                Holiday oldHoliday = oldMap.get(key);
+        try {
+            return syncRetryQueueRepository.findAll().stream()
+                .collect(Collectors.toMap(item -> buildStateKey(item.countryId(), item.year()), item -> item));
+        } catch (Exception e) {
+            log.warn("재시도 큐 조회 실패 ({})", e.getMessage());
+            return Map.of();
+        }
+    }
 
-                // 내용이 다르면 UPDATE
-                if (!isSameContent(oldHoliday, newHoliday)) {
-                    oldHoliday.updateEntity(newHoliday);
-                    toSave.add(oldHoliday);
-                    updateCount++;
+    /**
+     * 실패한 국가·연도는 재시도 큐에 쌓고, 재시도 큐에 있다가 이번에 성공한 국가·연도는 제거 (실패해도 동기화 결과에는 영향 없음)
+     */
+    private void flushRetries(List<SyncTarget> targets, Map<String, RetryItem> retrying, List<Failure> failures) {
+
+        try {
+            Set<String> failed = new HashSet<>();
+            for (Failure failure : failures) {
+                failed.add(buildStateKey(failure.countryId(), failure.year()));
+            }
+
+            List<RetryItem> resolved = new ArrayList<>();
+            for (SyncTarget target : targets) {
+                String key = buildStateKey(target.country().getId(), target.year());
+                RetryItem item = retrying.get(key);
+                if (item != null && !failed.contains(key)) {
+                    resolved.add(item);
                 }
             }
-        }
 
-        // 5. DELETE 처리 — newMap에 없는 oldMap 요소 삭제
-        List<Holiday> toDelete = oldMap.keySet().stream()
-            .filter(key -> !newMap.containsKey(key))
-            .map(oldMap::get)
-            .toList();
+            syncRetryQueueRepository.remove(resolved);
+            syncRetryQueueRepository.recordFailures(failures, retryInitialDelayMillis, retryMaxDelayMillis);
+            if (!failures.isEmpty()) {
+                log.info("재시도 큐 적재: {}건", failures.size());
+            }
+        } catch (Exception e) {
+            log.warn("재시도 큐 갱신 실패 ({})", e.getMessage());
+        }
+    }
 
-        deleteCount = toDelete.size();
+    /**
+     * 반영을 건너뛴 국가·연도의 조회 시각 갱신 (실패해도 동기화 결과에는 영향 없음, 다음 주기에 다시 조회될 뿐)
+     */
+    private void flushChecks(List<SyncCheck> checks) {
 
-        if (!toDelete.isEmpty()) {
-            holidayRepository.deleteAll(toDelete);
+        if (checks.isEmpty()) {
+            return;
+        }
+        try {
+            holidayBulkRepository.markChecked(checks);
+        } catch (Exception e) {
+            log.warn("조회 시각 갱신 실패: {}건 ({})", checks.size(), e.getMessage());
         }
+        checks.clear();
+    }
+
+    private static boolean isLeaseLost(LeaseService.Lease lease) {
 
-        if (!toSave.isEmpty()) {
-            holidayRepository.saveAll(toSave);
+        return lease != null && !lease.isHeld();
+    }
+
+    private String buildStateKey(Long countryId, int year) {
+
+        return countryId + "|" + year;
+    }
+
+    private SyncResult upsert(List<Holiday> oldHolidays, List<Holiday> newHolidays) {
+
+        // 1. 자연 키(HolidayKey) 기준 추가·수정·삭제 분류 (수정 대상 기존 엔티티에는 새 값 반영)
+        HolidayDiff diff = HolidayDiff.of(oldHolidays, newHolidays);
+
+        // 2. DELETE / INSERT·UPDATE 반영
+        if (!diff.toDelete().isEmpty()) {
+            holidayRepository.deleteAll(diff.toDelete());
         }
 
-        int newCount = newMap.size();
-        int oldCount = oldHolidays.size();
+        if (!diff.toSave().isEmpty()) {
+            holidayRepository.saveAll(diff.toSave());
+        }
 
         return SyncResult.builder()
-            .oldCount(oldCount)
-            .newCount(newCount)
-            .actualAddedCount(insertCount)
-            .actualDeletedCount(deleteCount)
+            .oldCount(diff.oldCount())
+            .newCount(diff.newCount())
+            .actualAddedCount(diff.insertCount())
+            .actualDeletedCount(diff.toDelete().size())
             .build();
     }
 
-    private String buildKey(Holiday h) {
-
-        return h.getCountry().getCode()
-            + "|" + h.getDate()
-            + "|" + normalize(h.getName());
-    }
+    /**
+     * 블로킹 조회 응답을 엔티티로 변환 (저장 전이므로 영속화되지 않은 상태, 같은 키 중복은 호출 측에서 정리)
+     * <p>
+     * 국가·연도 묶음 동기화는 HolidayJsonDecoder 가 응답 본문에서 바로 엔티티를 만들므로 이 변환을 거치지 않습니다.
+     */
+    private List<Holiday> toNewHolidays(List<HolidayResponse> holidayResponses, Country country) {
 
-    private String normalize(String value) {
+        if (holidayResponses == null || holidayResponses.isEmpty()) {
+            throw new BusinessException(ErrorCode.HOLIDAY_API_CALL_FAILED);
+        }
 
-        if (value == null) {
-            return "";
+        List<Holiday> holidays = new ArrayList<>(holidayResponses.size());
+        for (HolidayResponse r : holidayResponses) {
+            holidays.add(holidayConverter.toEntity(r, country));
         }
-        return value.trim()
-            .replace("’", "'")      // 특수 작은따옴표 통일
-            .replace("‘", "'")
-            .replace("`", "'")
-            .replace("´", "'")
-            .replace("“", "\"")     // 큰따옴표도 통일 (예방적 대응)
-            .replace("”", "\"");
-    }
-
-    private boolean isSameContent(Holiday oldH, Holiday newH) {
-
-        return Objects.equals(oldH.getLocalName(), newH.getLocalName()) &&
-            Objects.equals(oldH.getName(), newH.getName()) &&
-            Objects.equals(oldH.getFixed(), newH.getFixed()) &&
-            Objects.equals(oldH.getCounties(), newH.getCounties()) &&
-            Objects.equals(oldH.getLaunchYear(), newH.getLaunchYear()) &&
-            Objects.equals(oldH.getTypes(), newH.getTypes());
+        return holidays;
     }
 }
@@ -0,0 +1,29 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.utility.HolidaySnapshot;
+
+/**
+ * 국가 + 공휴일 전체 데이터를 바이너리 스냅샷({@link HolidaySnapshot})으로 내보내고 적재하는 서비스입니다.
+ * <p>
+ * 미리 만들어 둔 스냅샷으로 새 노드를 기동하면 외부 API 호출과 JPA 엔티티 처리 없이 데이터가 채워집니다.
+ */
+public interface HolidaySnapshotService {
+
+    /**
+     * 현재 DB 의 국가·공휴일 전체를 스냅샷으로 씁니다.
+     *
+     * @param out 출력 스트림 (닫지 않음)
+     */
+    void exportSnapshot(OutputStream out) throws IOException;
+
+    /**
+     * 국가·공휴일 테이블이 비어 있으면 스냅샷 파일을 메모리 매핑해 JDBC 배치로 적재합니다. (스냅샷의 ID 유지)
+     *
+     * @param path 스냅샷 파일
+     * @return 적재 여부 (DB 가 비어 있지 않으면 false, 파일이 손상되었으면 SNAPSHOT_INVALID)
+     */
+    boolean importSnapshot(Path path);
+}
@@ -0,0 +1,113 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.configuration.IdSequenceMigration;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.event.CountryDataChangedEvent;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.event.HolidayDataChangedEvent;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.exception.BusinessException;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.exception.ErrorCode;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository.HolidaySnapshotRepository;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.utility.HolidaySnapshot;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.utility.HolidaySnapshot.InvalidSnapshotException;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.utility.HolidaySnapshot.SnapshotHoliday;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 바이너리 스냅샷 내보내기 / 적재
+ * <p>
+ * 적재는 한 트랜잭션에서 국가를 먼저 넣고 공휴일을 insert-batch-size 개씩 JDBC 배치로 넣습니다. 스냅샷의 ID 를 그대로 쓰므로 적재 후
+ * ID 시퀀스를 보정하고, 국가 레지스트리와 검색 인덱스를 다시 적재합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HolidaySnapshotServiceImpl implements HolidaySnapshotService {
+
+    private final HolidaySnapshotRepository holidaySnapshotRepository;
+    private final IdSequenceMigration idSequenceMigration;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    // 공휴일 적재 시 한 번의 JDBC 배치로 보내는 행 수
+    @Value("${holiday.snapshot.insert-batch-size:1000}")
+    private int insertBatchSize;
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportSnapshot(OutputStream out) throws IOException {
+
+        HolidaySnapshot.write(out,
+            holidaySnapshotRepository.findAllCountries(),
+            holidaySnapshotRepository.findAllHolidays(),
+            System.currentTimeMillis());
+    }
+
+    @Override
+    public boolean importSnapshot(Path path) {
+
+        long startedAt = System.nanoTime();
+        int[] counts = new int[2];    // 국가, 공휴일
+
+        Boolean loaded;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            loaded = transactionTemplate.execute(status -> {
+                if (!holidaySnapshotRepository.isEmpty()) {
+                    return false;
+                }
+
+                int batchSize = Math.max(insertBatchSize, 1);
+                List<SnapshotHoliday> batch = new ArrayList<>(batchSize);
+                HolidaySnapshot.read(buffer,
+                    countries -> {
+                        holidaySnapshotRepository.insertCountries(countries);
+                        counts[0] = countries.size();
+                    },
+                    holiday -> {
+                        batch.add(holiday);
+                        if (batch.size() >= batchSize) {
+                            holidaySnapshotRepository.insertHolidays(batch);
+                            counts[1] += batch.size();
+                            batch.clear();
+                        }
+                    });
+                if (!batch.isEmpty()) {
+                    holidaySnapshotRepository.insertHolidays(batch);
+                    counts[1] += batch.size();
+                }
+                return true;
+            });
+
+        } catch (IOException | InvalidSnapshotException e) {
+            log.error("[스냅샷 적재 실패] {} ({})", path, e.getMessage());
+            throw new BusinessException(ErrorCode.SNAPSHOT_INVALID);
+        }
+
+        if (!Boolean.TRUE.equals(loaded)) {
+            log.info("국가·공휴일 데이터가 이미 있어 스냅샷을 적재하지 않습니다: {}", path);
+            return false;
+        }
+
+        idSequenceMigration.alignSequences();
+        eventPublisher.publishEvent(new CountryDataChangedEvent());
+        eventPublisher.publishEvent(HolidayDataChangedEvent.all());
+
+        log.info("스냅샷 적재 완료: 국가 {}개, 공휴일 {}개, {}ms",
+            counts[0], counts[1], (System.nanoTime() - startedAt) / 1_000_000);
+        return true;
+    }
+}
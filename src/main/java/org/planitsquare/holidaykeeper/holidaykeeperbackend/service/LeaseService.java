@@ -0,0 +1,46 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.service;
+
+/**
+ * 여러 노드(레플리카) 중 한 노드만 작업을 실행하도록 DB 임대(lease)를 획득·유지·반납하는 서비스입니다.
+ * <p>
+ * 작업이 실행되는 동안 주기적으로 임대를 연장(heartbeat)하고, 노드가 죽어 연장이 멈추면 ttl 이 지난 뒤 다른 노드가 가져갈 수
+ * 있습니다. 연장이 늦어져 임대를 잃을 수도 있으므로, 오래 걸리는 작업은 {@link #currentLease()} 로 묶음 사이마다 보유 여부를 확인하고
+ * 잃었으면 더 반영하지 않고 중단합니다.
+ */
+public interface LeaseService {
+
+    /**
+     * 실행 중인 작업이 보유한 임대
+     */
+    interface Lease {
+
+        /**
+         * 아직 보유 중인지 (다른 노드가 가져갔거나, 마지막 연장 뒤 ttl 이 지나면 false)
+         */
+        boolean isHeld();
+    }
+
+    /**
+     * 공휴일·국가 동기화용 임대 (스케줄러, 기동 시 초기화, 백그라운드 전체 동기화 공용)
+     */
+    String HOLIDAY_SYNC = "holiday-sync";
+
+    /**
+     * 임대를 획득하면 작업을 실행하고 반납합니다. 다른 노드가 보유 중이면 실행하지 않습니다.
+     *
+     * @param leaseName 임대 이름
+     * @param task      실행할 작업
+     * @return 실행 여부 (임대 획득 실패 시 false)
+     */
+    boolean runWithLease(String leaseName, Runnable task);
+
+    /**
+     * 현재 스레드에서 실행 중인 임대 작업의 임대 (임대 없이 실행 중이면 null)
+     */
+    Lease currentLease();
+
+    /**
+     * 이 노드의 임대 소유자 ID
+     */
+    String getOwnerId();
+}
@@ -0,0 +1,154 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.service;
+
+import jakarta.annotation.PreDestroy;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository.SyncLeaseRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * DB 임대 기반 단일 노드 실행
+ * <p>
+ * 소유자 ID 는 호스트명 + 무작위 접미사로 정해 같은 호스트의 여러 프로세스도 구분합니다. 임대 연장은 별도 스레드가
+ * heartbeat-interval 마다 수행하므로 작업 스레드가 오래 걸려도 임대가 유지됩니다.
+ * <p>
+ * 연장이 거부되면(다른 노드가 가져감) 즉시, 연장이 계속 실패하면 마지막 연장 뒤 ttl 이 지난 시점부터 작업 스레드의 임대를 잃은 것으로
+ * 표시합니다.
+ */
+@Slf4j
+@Service
+public class LeaseServiceImpl implements LeaseService {
+
+    private final SyncLeaseRepository syncLeaseRepository;
+    private final String ownerId;
+    private final long ttlMillis;
+    private final long heartbeatMillis;
+
+    // 현재 스레드에서 실행 중인 임대 작업의 임대
+    private final ThreadLocal<HeldLease> currentLease = new ThreadLocal<>();
+
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "sync-lease-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public LeaseServiceImpl(
+        SyncLeaseRepository syncLeaseRepository,
+        @Value("${holiday.sync.lease.owner-id:}") String ownerId,
+        @Value("${holiday.sync.lease.ttl:60000}") long ttlMillis,
+        @Value("${holiday.sync.lease.heartbeat-interval:20000}") long heartbeatMillis
+    ) {
+
+        this.syncLeaseRepository = syncLeaseRepository;
+        this.ownerId = ownerId.isBlank() ? defaultOwnerId() : ownerId;
+        this.ttlMillis = ttlMillis;
+        this.heartbeatMillis = Math.max(Math.min(heartbeatMillis, ttlMillis / 2), 1);
+    }
+
+    @PreDestroy
+    void shutdown() {
+
+        heartbeat.shutdownNow();
+    }
+
+    @Override
+    public boolean runWithLease(String leaseName, Runnable task) {
+
+        // 획득 요청 전 시각을 기준으로 만료를 계산 (DB 의 만료 시각보다 늦지 않도록)
+        HeldLease lease = new HeldLease(leaseName, System.nanoTime());
+        if (!syncLeaseRepository.tryAcquire(leaseName, ownerId, ttlMillis)) {
+            log.info("임대 획득 실패, 다른 노드에서 실행 중: {} (소유자 {})",
+                leaseName, syncLeaseRepository.findOwner(leaseName));
+            return false;
+        }
+
+        log.debug("임대 획득: {} ({})", leaseName, ownerId);
+        ScheduledFuture<?> beat = heartbeat.scheduleWithFixedDelay(
+            () -> renew(lease), heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+
+        HeldLease previous = currentLease.get();
+        currentLease.set(lease);
+        try {
+            task.run();
+            return true;
+        } finally {
+            if (previous == null) {
+                currentLease.remove();
+            } else {
+                currentLease.set(previous);
+            }
+            beat.cancel(false);
+            syncLeaseRepository.release(leaseName, ownerId);
+            log.debug("임대 반납: {} ({})", leaseName, ownerId);
+        }
+    }
+
+    @Override
+    public Lease currentLease() {
+
+        return currentLease.get();
+    }
+
+    @Override
+    public String getOwnerId() {
+
+        return ownerId;
+    }
+
+    private void renew(HeldLease lease) {
+
+        if (lease.lost) {
+            return;
+        }
+        try {
+            long requestedAt = System.nanoTime();
+            if (syncLeaseRepository.renew(lease.name, ownerId, ttlMillis)) {
+                lease.renewedAtNanos = requestedAt;
+            } else {
+                lease.lost = true;
+                log.warn("임대를 잃었습니다 (만료 후 다른 노드가 획득), 작업은 다음 묶음부터 반영하지 않습니다: {} ({})",
+                    lease.name, ownerId);
+            }
+        } catch (Exception e) {
+            log.warn("임대 연장 실패: {} ({})", lease.name, e.getMessage());
+        }
+    }
+
+    private final class HeldLease implements Lease {
+
+        private final String name;
+        private volatile long renewedAtNanos;
+        private volatile boolean lost;
+
+        private HeldLease(String name, long acquiredAtNanos) {
+
+            this.name = name;
+            this.renewedAtNanos = acquiredAtNanos;
+        }
+
+        @Override
+        public boolean isHeld() {
+
+            return !lost && System.nanoTime() - renewedAtNanos < TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        }
+    }
+
+    private static String defaultOwnerId() {
+
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,91 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.utility.DateUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 국가·연도별 공휴일 재조회 주기 (연도 구간별 TTL + 지터)
+ * <p>
+ * 올해·내년은 중간 정정이 잦으므로 짧게, 최근 연도는 주 단위로, 그 이전 연도는 드물게 다시 조회합니다. 다음 조회 시각은 TTL 에서 최대
+ * jitter 비율만큼 무작위로 앞당겨, 같은 시각에 적재된 국가·연도가 다음에도 한꺼번에 몰리지 않게 합니다.
+ */
+@Component
+public class SyncFreshnessPolicy {
+
+    // 올해·내년 재조회 주기
+    @Value("${holiday.sync.schedule.ttl.current:6h}")
+    private Duration currentTtl;
+
+    // 최근 연도(올해 이전 recent-years 년) 재조회 주기
+    @Value("${holiday.sync.schedule.ttl.recent:7d}")
+    private Duration recentTtl;
+
+    // 그 이전 연도 재조회 주기
+    @Value("${holiday.sync.schedule.ttl.old:30d}")
+    private Duration oldTtl;
+
+    @Value("${holiday.sync.schedule.recent-years:2}")
+    private int recentYears;
+
+    // 스케줄러가 관리하는 과거 연도 수 (올해 제외)
+    @Value("${holiday.sync.schedule.past-years:5}")
+    private int pastYears;
+
+    // 스케줄러가 관리하는 미래 연도 수 (올해 제외)
+    @Value("${holiday.sync.schedule.future-years:1}")
+    private int futureYears;
+
+    // 조회 실패 시 다시 시도하기까지 대기 시간
+    @Value("${holiday.sync.schedule.retry-delay:1h}")
+    private Duration retryDelay;
+
+    // TTL 대비 최대 앞당김 비율 (0 ~ 1)
+    @Value("${holiday.sync.schedule.jitter:0.2}")
+    private double jitter;
+
+    public int firstYear() {
+
+        return DateUtil.getTodayYear() - pastYears;
+    }
+
+    public int lastYear() {
+
+        return DateUtil.getTodayYear() + futureYears;
+    }
+
+    public Duration ttl(int year) {
+
+        int thisYear = DateUtil.getTodayYear();
+        if (year >= thisYear) {
+            return currentTtl;
+        }
+        if (year >= thisYear - recentYears) {
+            return recentTtl;
+        }
+        return oldTtl;
+    }
+
+    /**
+     * 지금 조회를 마친 국가·연도의 다음 조회 시각
+     */
+    public LocalDateTime nextSyncAt(int year, LocalDateTime checkedAt) {
+
+        long ttlMillis = ttl(year).toMillis();
+        double ratio = Math.min(Math.max(jitter, 0), 1);
+        long earlier = (long) (ttlMillis * ratio * ThreadLocalRandom.current().nextDouble());
+
+        return checkedAt.plus(Duration.ofMillis(ttlMillis - earlier));
+    }
+
+    /**
+     * 조회에 실패한 국가·연도의 다음 조회 시각
+     */
+    public LocalDateTime retryAt(LocalDateTime failedAt) {
+
+        return failedAt.plus(retryDelay);
+    }
+}
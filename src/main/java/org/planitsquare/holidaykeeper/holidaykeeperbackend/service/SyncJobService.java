@@ -0,0 +1,36 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.service;
+
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.response.SyncJobResponse;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 전체 공휴일 동기화를 요청 스레드가 아닌 백그라운드 작업으로 실행하고 진행 상황을 제공하는 서비스입니다.
+ * <p>
+ * 전체 동기화는 한 번에 하나만 실행되며, 실행 중에 들어온 요청은 새 작업을 만들지 않고 실행 중인 작업을 돌려줍니다.
+ */
+public interface SyncJobService {
+
+    /**
+     * 최근 6년 전체 동기화 작업을 시작합니다. 이미 실행 중인 작업이 있으면 그 작업을 반환합니다.
+     *
+     * @return 시작(또는 실행 중)된 작업의 현재 진행 상황
+     */
+    SyncJobResponse submitFullSync();
+
+    /**
+     * 작업 진행 상황 조회
+     *
+     * @param jobId 작업 ID
+     * @return 현재 진행 상황 (없는 작업이면 SYNC_JOB_NOT_FOUND)
+     */
+    SyncJobResponse getJob(String jobId);
+
+    /**
+     * 작업 진행 상황을 SSE 로 구독합니다. 구독 즉시 현재 상황을 보내고, 진행 중에는 주기적으로 progress 이벤트를, 끝나면
+     * completed / failed 이벤트를 보낸 뒤 스트림을 닫습니다.
+     *
+     * @param jobId 작업 ID
+     * @return SSE 스트림 (없는 작업이면 SYNC_JOB_NOT_FOUND)
+     */
+    SseEmitter subscribe(String jobId);
+}
@@ -0,0 +1,274 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.exception.BusinessException;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.exception.ErrorCode;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.response.HolidaySyncResponse;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.response.SyncJobResponse;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.enums.SyncJobStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 전체 동기화 작업 실행기
+ * <p>
+ * 작업은 전용 스레드 하나에서 동기화 임대(lease)를 획득한 뒤 공유 작업 큐에 적재되어 모든 노드가 나눠 처리하고, 작업 상태는
+ * 메모리에만 보관합니다. (최근 retention 개의 끝난 작업까지 조회 가능) SSE 구독자에게는 별도 스레드가 progressInterval 마다 진행
+ * 상황을 보내므로, 느린 구독자가 있어도 동기화 스레드는 막히지 않습니다.
+ */
+@Slf4j
+@Service
+public class SyncJobServiceImpl implements SyncJobService {
+
+    private final SyncWorkService syncWorkService;
+    private final LeaseService leaseService;
+    private final long sseTimeoutMillis;
+    private final long progressIntervalMillis;
+    private final int retention;
+
+    private final ExecutorService jobExecutor = Executors.newSingleThreadExecutor(
+        daemonThread("holiday-sync-job"));
+    private final ScheduledExecutorService progressPublisher = Executors.newSingleThreadScheduledExecutor(
+        daemonThread("holiday-sync-progress"));
+
+    // 작업 ID → 작업 (시작 순서 유지, this 로 동기화)
+    private final Map<String, SyncJob> jobs = new LinkedHashMap<>();
+
+    // 실행 중인 작업 (없으면 null, this 로 동기화)
+    private SyncJob running;
+
+    public SyncJobServiceImpl(
+        SyncWorkService syncWorkService,
+        LeaseService leaseService,
+        @Value("${holiday.sync.job.sse-timeout:1800000}") long sseTimeoutMillis,
+        @Value("${holiday.sync.job.progress-interval:1000}") long progressIntervalMillis,
+        @Value("${holiday.sync.job.retention:20}") int retention
+    ) {
+
+        this.syncWorkService = syncWorkService;
+        this.leaseService = leaseService;
+        this.sseTimeoutMillis = sseTimeoutMillis;
+        this.progressIntervalMillis = progressIntervalMillis;
+        this.retention = Math.max(retention, 1);
+    }
+
+    /**
+     * 작업 하나의 상태와 SSE 구독자
+     */
+    private static final class SyncJob {
+
+        private final String id = UUID.randomUUID().toString();
+        private final SyncProgress progress = new SyncProgress();
+        private final LocalDateTime startTime = LocalDateTime.now();
+        private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+
+        private volatile SyncJobStatus status = SyncJobStatus.RUNNING;
+        private volatile LocalDateTime endTime;
+        private volatile HolidaySyncResponse result;
+        private volatile String errorMessage;
+
+        SyncJobResponse toResponse() {
+
+            return SyncJobResponse.builder()
+                .jobId(id)
+                .status(status)
+                .totalCount(progress.getTotalCount())
+                .doneCount(progress.getDoneCount())
+                .failedCount(progress.getFailedCount())
+                .remainingCount(progress.getRemainingCount())
+                .throughputPerSecond(progress.getThroughputPerSecond())
+                .etaSeconds(status.isFinished() ? Long.valueOf(0L) : progress.getEtaSeconds())
+                .startTime(startTime.toString())
+                .endTime(endTime == null ? null : endTime.toString())
+                .result(result)
+                .errorMessage(errorMessage)
+                .build();
+        }
+    }
+
+    @PostConstruct
+    void startProgressPublisher() {
+
+        progressPublisher.scheduleWithFixedDelay(
+            this::publishProgress, progressIntervalMillis, progressIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+
+        progressPublisher.shutdownNow();
+        jobExecutor.shutdownNow();
+    }
+
+    @Override
+    public synchronized SyncJobResponse submitFullSync() {
+
+        if (running != null) {
+            log.info("실행 중인 동기화 작업에 연결: {}", running.id);
+            return running.toResponse();
+        }
+
+        SyncJob job = new SyncJob();
+        jobs.put(job.id, job);
+        running = job;
+        evictFinishedJobs();
+
+        jobExecutor.execute(() -> run(job));
+
+        log.info("동기화 작업 시작: {}", job.id);
+        return job.toResponse();
+    }
+
+    @Override
+    public SyncJobResponse getJob(String jobId) {
+
+        return findJob(jobId).toResponse();
+    }
+
+    @Override
+    public SseEmitter subscribe(String jobId) {
+
+        SyncJob job = findJob(jobId);
+        SseEmitter emitter = new SseEmitter(sseTimeoutMillis);
+
+        if (job.status.isFinished()) {
+            sendFinished(job, emitter);
+            return emitter;
+        }
+
+        emitter.onCompletion(() -> job.emitters.remove(emitter));
+        emitter.onTimeout(() -> job.emitters.remove(emitter));
+        emitter.onError(e -> job.emitters.remove(emitter));
+        job.emitters.add(emitter);
+
+        if (!send(emitter, "progress", job.toResponse())) {
+            job.emitters.remove(emitter);
+        } else if (job.status.isFinished() && job.emitters.remove(emitter)) {
+            // 등록과 종료 사이에 작업이 끝났으면 종료 이벤트를 직접 보냄
+            sendFinished(job, emitter);
+        }
+        return emitter;
+    }
+
+    private void run(SyncJob job) {
+
+        try {
+            // 다른 노드가 동기화 중이면 실행하지 않고 실패 처리
+            boolean ran = leaseService.runWithLease(LeaseService.HOLIDAY_SYNC,
+                () -> job.result = syncWorkService.runFullSync(job.progress));
+            if (!ran) {
+                throw new BusinessException(ErrorCode.SYNC_LEASE_HELD);
+            }
+            job.endTime = LocalDateTime.now();
+            job.status = SyncJobStatus.COMPLETED;
+            log.info("동기화 작업 완료: {} (성공 {}, 실패 {})",
+                job.id, job.result.successCount(), job.result.failCount());
+
+        } catch (Exception e) {
+            job.errorMessage = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            job.endTime = LocalDateTime.now();
+            job.status = SyncJobStatus.FAILED;
+            log.error("동기화 작업 실패: {} ({})", job.id, e.getMessage(), e);
+
+        } finally {
+            synchronized (this) {
+                if (running == job) {
+                    running = null;
+                }
+            }
+            for (SseEmitter emitter : job.emitters) {
+                if (job.emitters.remove(emitter)) {
+                    sendFinished(job, emitter);
+                }
+            }
+        }
+    }
+
+    /**
+     * 실행 중인 작업의 구독자에게 진행 상황 전송 (전송 실패한 구독자는 제거)
+     */
+    private void publishProgress() {
+
+        SyncJob job;
+        synchronized (this) {
+            job = running;
+        }
+        if (job == null || job.emitters.isEmpty()) {
+            return;
+        }
+
+        SyncJobResponse response = job.toResponse();
+        for (SseEmitter emitter : job.emitters) {
+            if (!send(emitter, "progress", response)) {
+                job.emitters.remove(emitter);
+            }
+        }
+    }
+
+    private void sendFinished(SyncJob job, SseEmitter emitter) {
+
+        String eventName = job.status == SyncJobStatus.COMPLETED ? "completed" : "failed";
+        if (send(emitter, eventName, job.toResponse())) {
+            emitter.complete();
+        }
+    }
+
+    private boolean send(SseEmitter emitter, String eventName, SyncJobResponse response) {
+
+        try {
+            emitter.send(SseEmitter.event().name(eventName).data(response));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("SSE 전송 실패 ({})", e.getMessage());
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private synchronized SyncJob findJob(String jobId) {
+
+        SyncJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new BusinessException(ErrorCode.SYNC_JOB_NOT_FOUND);
+        }
+        return job;
+    }
+
+    /**
+     * 보관 개수를 넘으면 오래된 끝난 작업부터 제거
+     */
+    private void evictFinishedJobs() {
+
+        Iterator<SyncJob> iterator = jobs.values().iterator();
+        while (jobs.size() > retention && iterator.hasNext()) {
+            if (iterator.next().status.isFinished()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private static ThreadFactory daemonThread(String name) {
+
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
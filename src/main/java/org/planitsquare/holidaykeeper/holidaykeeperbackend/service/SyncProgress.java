@@ -0,0 +1,69 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.service;
+
+import lombok.Getter;
+
+/**
+ * 공휴일 동기화 진행 상황 (국가·연도 단위)
+ * <p>
+ * 동기화 스레드 하나가 기록하고 조회 스레드가 읽으므로 필드는 volatile 로만 공유합니다.
+ */
+@Getter
+public class SyncProgress {
+
+    private volatile int totalCount;
+    private volatile int doneCount;
+    private volatile int failedCount;
+
+    // 0: 시작 전
+    private volatile long startedNanos;
+
+    /**
+     * 처리할 국가·연도 수를 정하고 처리 속도 측정을 시작합니다.
+     */
+    public void start(int totalCount) {
+
+        this.totalCount = totalCount;
+        this.doneCount = 0;
+        this.failedCount = 0;
+        this.startedNanos = System.nanoTime();
+    }
+
+    /**
+     * 누적 성공·실패 국가·연도 수 기록
+     */
+    public void update(int doneCount, int failedCount) {
+
+        this.doneCount = doneCount;
+        this.failedCount = failedCount;
+    }
+
+    public int getRemainingCount() {
+
+        return Math.max(totalCount - doneCount - failedCount, 0);
+    }
+
+    /**
+     * 초당 처리한 국가·연도 수 (시작 전이면 0)
+     */
+    public double getThroughputPerSecond() {
+
+        long started = startedNanos;
+        if (started == 0) {
+            return 0;
+        }
+        double elapsedSeconds = (System.nanoTime() - started) / 1_000_000_000.0;
+        return elapsedSeconds > 0 ? (doneCount + failedCount) / elapsedSeconds : 0;
+    }
+
+    /**
+     * 현재 처리 속도 기준 남은 시간 (초), 아직 처리한 건이 없으면 null
+     */
+    public Long getEtaSeconds() {
+
+        double throughput = getThroughputPerSecond();
+        if (throughput <= 0) {
+            return null;
+        }
+        return (long) Math.ceil(getRemainingCount() / throughput);
+    }
+}
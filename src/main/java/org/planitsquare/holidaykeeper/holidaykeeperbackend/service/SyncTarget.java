@@ -0,0 +1,13 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.service;
+
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.Country;
+
+/**
+ * 동기화할 국가·연도 하나
+ */
+public record SyncTarget(
+    Country country,
+    int year
+) {
+
+}
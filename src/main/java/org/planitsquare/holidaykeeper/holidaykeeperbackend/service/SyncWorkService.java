@@ -0,0 +1,28 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.service;
+
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.response.HolidaySyncResponse;
+
+/**
+ * 전체 동기화를 노드 간 공유 작업 큐로 나눠 처리하는 서비스입니다.
+ * <p>
+ * 동기화 임대를 가진 노드가 국가·연도 항목을 큐에 적재하고, 모든 노드가 묶음 단위로 가져가 처리합니다. 처리 중인 노드가 죽으면 그 묶음은
+ * visibility timeout 뒤 다른 노드가 다시 가져갑니다.
+ */
+public interface SyncWorkService {
+
+    /**
+     * 최근 6년 전체 동기화를 큐에 적재하고, 이 노드도 처리에 참여하면서 모든 항목이 끝날 때까지 기다립니다. (동기화 임대를 보유한
+     * 상태에서 호출)
+     *
+     * @param progress 진행 상황 (모든 노드의 처리분을 합산해 기록)
+     * @return 모든 노드의 처리 결과 합계
+     */
+    HolidaySyncResponse runFullSync(SyncProgress progress);
+
+    /**
+     * 큐에 가져갈 항목이 없을 때까지 묶음 단위로 가져가 처리합니다. 다른 노드에서 전체 동기화가 끝났으면 검색 인덱스를 다시 적재합니다.
+     *
+     * @return 이 노드가 처리한 국가·연도 수
+     */
+    int processAvailable();
+}
@@ -0,0 +1,242 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.event.HolidayDataChangedEvent;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.exception.BusinessException;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.exception.ErrorCode;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.index.CountryRegistry;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.response.HolidaySyncResponse;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.Country;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.enums.SyncOutcome;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository.SyncWorkQueueRepository;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository.SyncWorkQueueRepository.CompletedItem;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository.SyncWorkQueueRepository.RunStatus;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository.SyncWorkQueueRepository.WorkItem;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.utility.DateUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 공유 작업 큐 기반 전체 동기화
+ * <p>
+ * 국가·연도 항목은 claim-size 개씩 가져가 {@link HolidayService#syncEachCountryYear(List)} 로 처리하고, 처리가 끝난 묶음만 완료로
+ * 표시합니다. 완료 표시 전에 노드가 죽은 묶음은 다시 처리될 수 있지만(최소 한 번 처리), 결과는 실제로 완료로 표시된 항목만 run 에
+ * 누적하므로 합계가 항목 수를 넘지 않습니다. 동기화 자체는 응답 지문 비교로 멱등입니다.
+ * <p>
+ * 검색 인덱스는 노드마다 메모리에 있으므로, 전체 동기화 run 이 끝나면 각 노드가 다음 폴링 때 종료를 보고 인덱스 전체를 다시 적재합니다.
+ * <p>
+ * run 을 적재·종료하는 노드는 임대를 보유한 노드뿐이므로, 기다리는 동안 임대를 잃으면 run 을 종료하지 않고 중단합니다. (임대를 가져간
+ * 노드가 새 run 을 적재하면서 이 run 을 정리)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SyncWorkServiceImpl implements SyncWorkService {
+
+    private final SyncWorkQueueRepository syncWorkQueueRepository;
+    private final HolidayService holidayService;
+    private final CountryService countryService;
+    private final CountryRegistry countryRegistry;
+    private final LeaseService leaseService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    // 전체 동기화 대상 과거 연도 수 (올해 제외, 로컬 제공처로 일괄 적재할 때 늘려 사용)
+    @Value("${holiday.sync.full.past-years:5}")
+    private int pastYears;
+
+    // 한 번에 가져가는 국가·연도 수
+    @Value("${holiday.sync.work-queue.claim-size:16}")
+    private int claimSize;
+
+    // 가져간 묶음을 이 시간 안에 완료하지 않으면 다른 노드가 다시 가져감 (ms)
+    @Value("${holiday.sync.work-queue.visibility-timeout:300000}")
+    private long visibilityTimeoutMillis;
+
+    // 국가·연도 하나를 가져갈 수 있는 최대 횟수 (넘으면 실패로 종료)
+    @Value("${holiday.sync.work-queue.max-attempts:3}")
+    private int maxAttempts;
+
+    // 다른 노드가 처리 중인 항목이 끝나기를 기다리는 간격 (ms)
+    @Value("${holiday.sync.work-queue.poll-interval:2000}")
+    private long pollIntervalMillis;
+
+    // 끝난 run 보관 일수
+    @Value("${holiday.sync.work-queue.retention-days:7}")
+    private int retentionDays;
+
+    // 이 노드가 마지막으로 확인한 run 종료 시각 (DB 시계)
+    private volatile LocalDateTime lastFinishedAt;
+
+    @Override
+    public HolidaySyncResponse runFullSync(SyncProgress progress) {
+
+        LocalDateTime startTime = LocalDateTime.now();
+        int startYear = DateUtil.getTodayYear() - Math.max(pastYears, 0);
+        int endYear = DateUtil.getTodayYear();
+
+        List<Country> countries = countryService.getCountryList();
+        List<WorkItem> items = new ArrayList<>(countries.size() * (endYear - startYear + 1));
+        for (Country country : countries) {
+            for (int year = startYear; year <= endYear; year++) {
+                items.add(new WorkItem(0L, null, country.getId(), year));
+            }
+        }
+
+        // 이전 임대 보유 노드가 끝내지 못한 run 은 정리하고 새 run 적재
+        String runId = UUID.randomUUID().toString();
+        transactionTemplate.executeWithoutResult(status -> {
+            syncWorkQueueRepository.cancelOtherRuns(runId, retentionDays);
+            syncWorkQueueRepository.enqueue(runId, items);
+        });
+        progress.start(items.size());
+        log.info("전체 동기화 작업 큐 적재: {} ({}개국, {}년 ~ {}년, {}건)",
+            runId, countries.size(), startYear, endYear, items.size());
+
+        LeaseService.Lease lease = leaseService.currentLease();
+        RunStatus run = awaitRun(runId, progress, lease);
+
+        ensureLeaseHeld(lease, runId);
+        transactionTemplate.executeWithoutResult(status -> syncWorkQueueRepository.finishRun(runId));
+        lastFinishedAt = syncWorkQueueRepository.findLatestFinishedAt();
+
+        // 국가·연도별 갱신과 별개로 마지막에 검색 인덱스 전체 재적재 (다른 노드는 run 종료를 보고 각자 재적재)
+        eventPublisher.publishEvent(HolidayDataChangedEvent.all());
+
+        LocalDateTime end = LocalDateTime.now();
+        return HolidaySyncResponse.builder()
+            .totalCount(run.totalCount())
+            .successCount(run.successCount())
+            .failCount(run.failCount() + run.abandonedCount())
+            .skippedCount(run.skippedCount())
+            .countryCount(countries.size())
+            .yearRange(startYear + "-" + endYear)
+            .startTime(startTime.toString())
+            .endTime(end.toString())
+            .durationSeconds(ChronoUnit.SECONDS.between(startTime, end))
+            .build();
+    }
+
+    @Override
+    public int processAvailable() {
+
+        int processed = drain();
+
+        LocalDateTime latest = syncWorkQueueRepository.findLatestFinishedAt();
+        if (latest != null && !latest.equals(lastFinishedAt)) {
+            // 기동 후 처음 확인한 경우는 기동 시 적재한 인덱스가 이미 최신
+            if (lastFinishedAt != null) {
+                log.info("다른 노드의 전체 동기화 종료 확인, 검색 인덱스 재적재");
+                eventPublisher.publishEvent(HolidayDataChangedEvent.all());
+            }
+            lastFinishedAt = latest;
+        }
+        return processed;
+    }
+
+    /**
+     * 이 노드도 항목을 처리하면서, 다른 노드가 가져간 항목까지 모두 끝날 때까지 대기
+     */
+    private RunStatus awaitRun(String runId, SyncProgress progress, LeaseService.Lease lease) {
+
+        while (true) {
+            ensureLeaseHeld(lease, runId);
+            drain();
+
+            RunStatus run = syncWorkQueueRepository.findRun(runId);
+            if (run == null) {
+                throw new IllegalStateException("동기화 작업 큐에서 run 이 사라졌습니다: " + runId);
+            }
+            progress.update(run.successCount(), run.failCount() + run.abandonedCount());
+            if (run.openCount() == 0) {
+                return run;
+            }
+
+            try {
+                Thread.sleep(pollIntervalMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("동기화 작업 대기 중 중단되었습니다.", e);
+            }
+        }
+    }
+
+    private void ensureLeaseHeld(LeaseService.Lease lease, String runId) {
+
+        if (lease != null && !lease.isHeld()) {
+            log.warn("동기화 임대를 잃어 전체 동기화를 중단합니다: {}", runId);
+            throw new BusinessException(ErrorCode.SYNC_LEASE_LOST);
+        }
+    }
+
+    /**
+     * 가져갈 항목이 없을 때까지 묶음 단위로 처리
+     */
+    private int drain() {
+
+        int processed = 0;
+        List<WorkItem> claimed;
+        while (!(claimed = syncWorkQueueRepository.claim(
+            leaseService.getOwnerId(), Math.max(claimSize, 1), visibilityTimeoutMillis, maxAttempts)).isEmpty()) {
+
+            // 한 묶음에 여러 run 의 항목이 섞일 수 있으므로 run 별로 처리
+            Map<String, List<WorkItem>> byRun = new LinkedHashMap<>();
+            for (WorkItem item : claimed) {
+                byRun.computeIfAbsent(item.runId(), key -> new ArrayList<>()).add(item);
+            }
+            for (Map.Entry<String, List<WorkItem>> entry : byRun.entrySet()) {
+                processed += process(entry.getKey(), entry.getValue());
+            }
+        }
+        return processed;
+    }
+
+    /**
+     * 묶음 하나를 동기화하고 완료로 표시합니다. 예상하지 못한 오류로 실패하면 완료 표시하지 않아 visibility timeout 뒤 다시
+     * 처리됩니다. 처리하는 사이 다른 노드가 다시 가져간 항목은 완료로 표시되지 않으므로 결과도 세지 않습니다.
+     */
+    private int process(String runId, List<WorkItem> items) {
+
+        List<SyncTarget> targets = new ArrayList<>(items.size());
+        List<WorkItem> targetItems = new ArrayList<>(items.size());
+        List<CompletedItem> completed = new ArrayList<>(items.size());
+        for (WorkItem item : items) {
+            Country country = countryRegistry.findById(item.countryId()).orElse(null);
+            if (country == null) {
+                completed.add(new CompletedItem(item, SyncOutcome.FAILED));
+                continue;
+            }
+            targets.add(new SyncTarget(country, item.year()));
+            targetItems.add(item);
+        }
+
+        List<SyncOutcome> outcomes;
+        try {
+            outcomes = targets.isEmpty() ? List.of() : holidayService.syncEachCountryYear(targets);
+        } catch (Exception e) {
+            log.warn("동기화 작업 묶음 처리 실패, visibility timeout 뒤 재시도: {} ({}건, {})",
+                runId, items.size(), e.getMessage(), e);
+            return 0;
+        }
+
+        for (int i = 0; i < targetItems.size(); i++) {
+            completed.add(new CompletedItem(targetItems.get(i), outcomes.get(i)));
+        }
+
+        transactionTemplate.executeWithoutResult(status -> syncWorkQueueRepository.complete(
+            runId, completed, leaseService.getOwnerId()));
+
+        log.debug("동기화 작업 묶음 완료: {} ({}건)", runId, items.size());
+        return items.size();
+    }
+}
@@ -0,0 +1,91 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.utility;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.Holiday;
+
+/**
+ * 한 국가·연도의 기존 공휴일과 새 공휴일 비교 결과
+ * <p>
+ * 새 공휴일을 HolidayKey 로 한 번만 맵에 담고(같은 키는 첫 번째 값 유지), 기존 공휴일을 순회하며 맵에서 꺼내는 방식으로 추가·수정·삭제를
+ * 한 번에 나눕니다. 내용이 달라진 기존 엔티티에는 새 값을 반영(updateEntity)하므로 toSave 에 담긴 엔티티를 그대로 저장하면 됩니다.
+ */
+public record HolidayDiff(
+    List<Holiday> toSave,    // 추가할 새 엔티티 + 수정된 기존 엔티티
+    List<Holiday> toDelete,  // 새 응답에 없는 기존 엔티티
+    int oldCount,
+    int newCount,
+    int insertCount,
+    int updateCount
+) {
+
+    public static HolidayDiff of(List<Holiday> oldHolidays, List<Holiday> newHolidays) {
+
+        Map<HolidayKey, Holiday> pending = distinctByKey(newHolidays);
+        int newCount = pending.size();
+
+        List<Holiday> toSave = new ArrayList<>(newCount);
+        List<Holiday> toDelete = new ArrayList<>();
+        int updateCount = 0;
+
+        for (Holiday oldHoliday : oldHolidays) {
+            Holiday newHoliday = pending.remove(HolidayKey.of(oldHoliday));
+
+            if (newHoliday == null) {
+                toDelete.add(oldHoliday);
+            } else if (!isSameContent(oldHoliday, newHoliday)) {
+                oldHoliday.updateEntity(newHoliday);
+                toSave.add(oldHoliday);
+                updateCount++;
+            }
+        }
+
+        // 기존에 없던 키만 남음
+        toSave.addAll(pending.values());
+
+        return new HolidayDiff(
+            toSave,
+            toDelete,
+            oldHolidays.size(),
+            newCount,
+            pending.size(),
+            updateCount
+        );
+    }
+
+    /**
+     * 같은 키는 첫 번째 값만 남긴 목록 (입력 순서 유지)
+     */
+    public static List<Holiday> distinct(List<Holiday> holidays) {
+
+        return new ArrayList<>(distinctByKey(holidays).values());
+    }
+
+    private static Map<HolidayKey, Holiday> distinctByKey(List<Holiday> holidays) {
+
+        Map<HolidayKey, Holiday> map = new LinkedHashMap<>(capacityFor(holidays.size()));
+        for (Holiday h : holidays) {
+            map.putIfAbsent(HolidayKey.of(h), h);
+        }
+        return map;
+    }
+
+    private static int capacityFor(int size) {
+
+        // 기본 load factor(0.75) 에서 재해싱 없이 담을 수 있는 크기
+        return size < 3 ? size + 1 : (int) (size / 0.75f) + 1;
+    }
+
+    private static boolean isSameContent(Holiday oldH, Holiday newH) {
+
+        return Objects.equals(oldH.getLocalName(), newH.getLocalName()) &&
+            Objects.equals(oldH.getName(), newH.getName()) &&
+            Objects.equals(oldH.getFixed(), newH.getFixed()) &&
+            Objects.equals(oldH.getCounties(), newH.getCounties()) &&
+            Objects.equals(oldH.getLaunchYear(), newH.getLaunchYear()) &&
+            Objects.equals(oldH.getTypeMask(), newH.getTypeMask());
+    }
+}
@@ -0,0 +1,145 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.utility;
+
+import java.util.Arrays;
+import java.util.List;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.external_api_dto.response.HolidayResponse;
+
+/**
+ * 국가·연도 공휴일 응답 묶음의 64비트 지문 (FNV-1a)
+ * <p>
+ * 저장에 쓰이는 필드를 하나씩 따로 해싱(배열은 ',' 로 이은 문자열 기준)한 뒤 정해진 필드 순서로 묶어 항목 해시를 만들고, 응답 순서에
+ * 영향받지 않도록 항목 해시를 정렬해 한 번 더 해싱합니다. 필드 단위로 해싱하므로 {@link HolidayJsonDecoder} 처럼 JSON 을 스트리밍으로
+ * 읽을 때도 필드가 어떤 순서로 오든 문자열을 만들지 않고 같은 지문을 계산할 수 있습니다. 지문이 같으면 저장 결과도 같다고 보고 동기화를
+ * 생략합니다.
+ */
+public class HolidayFingerprint {
+
+    // 필드 번호 (항목 해시에 섞는 순서)
+    public static final int DATE = 0;
+    public static final int LOCAL_NAME = 1;
+    public static final int NAME = 2;
+    public static final int FIXED = 3;
+    public static final int GLOBAL = 4;
+    public static final int COUNTIES = 5;
+    public static final int LAUNCH_YEAR = 6;
+    public static final int TYPES = 7;
+    public static final int FIELD_COUNT = 8;
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    // null 필드 (빈 문자열과 구분, 값에 나타나지 않는 제어 문자)
+    public static final long NULL_FIELD = mix(FNV_OFFSET_BASIS, '\u0000');
+
+    private HolidayFingerprint() {
+
+    }
+
+    public static long of(List<HolidayResponse> responses) {
+
+        long[] records = new long[responses.size()];
+        long[] fields = new long[FIELD_COUNT];
+
+        for (int i = 0; i < records.length; i++) {
+            HolidayResponse r = responses.get(i);
+            fields[DATE] = field(r.date());
+            fields[LOCAL_NAME] = field(r.localName());
+            fields[NAME] = field(r.name());
+            fields[FIXED] = field(r.fixed() == null ? null : r.fixed().toString());
+            fields[GLOBAL] = field(r.global() == null ? null : r.global().toString());
+            fields[COUNTIES] = arrayField(r.counties());
+            fields[LAUNCH_YEAR] = field(r.launchYear() == null ? null : r.launchYear().toString());
+            fields[TYPES] = arrayField(r.types());
+            records[i] = record(fields);
+        }
+        return combine(records, records.length);
+    }
+
+    /**
+     * 빈 문자열의 필드 해시 (이어서 mix 로 문자를 섞음)
+     */
+    public static long emptyField() {
+
+        return FNV_OFFSET_BASIS;
+    }
+
+    public static long mix(long hash, char c) {
+
+        hash ^= c;
+        return hash * FNV_PRIME;
+    }
+
+    public static long mix(long hash, char[] chars, int offset, int length) {
+
+        for (int i = offset; i < offset + length; i++) {
+            hash = mix(hash, chars[i]);
+        }
+        return hash;
+    }
+
+    /**
+     * 필드 해시 FIELD_COUNT 개를 필드 번호 순서로 묶은 항목 해시
+     */
+    public static long record(long[] fieldHashes) {
+
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < FIELD_COUNT; i++) {
+            hash = mixLong(hash, fieldHashes[i]);
+        }
+        return hash;
+    }
+
+    /**
+     * 항목 해시 앞쪽 count 개의 순서와 무관한 지문 (배열을 정렬함)
+     */
+    public static long combine(long[] recordHashes, int count) {
+
+        Arrays.sort(recordHashes, 0, count);
+
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < count; i++) {
+            hash = mixLong(hash, recordHashes[i]);
+        }
+        return hash;
+    }
+
+    private static long field(String value) {
+
+        if (value == null) {
+            return NULL_FIELD;
+        }
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < value.length(); i++) {
+            hash = mix(hash, value.charAt(i));
+        }
+        return hash;
+    }
+
+    // String.join(",", values) 의 해시와 같음 (null 원소는 "null")
+    private static long arrayField(String[] values) {
+
+        if (values == null) {
+            return NULL_FIELD;
+        }
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                hash = mix(hash, ',');
+            }
+            String value = String.valueOf(values[i]);
+            for (int j = 0; j < value.length(); j++) {
+                hash = mix(hash, value.charAt(j));
+            }
+        }
+        return hash;
+    }
+
+    private static long mixLong(long hash, long value) {
+
+        for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+            hash ^= (value >>> shift) & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,407 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.utility;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.Country;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.Holiday;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.enums.HolidayType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Nager 공휴일 JSON 배열을 저장할 엔티티로 바로 디코딩하는 스트리밍 디코더
+ * <p>
+ * Jackson 논블로킹 파서에 응답 버퍼를 도착하는 대로 넣고 토큰 단위로 처리하므로, 본문 전체를 문자열로 모으거나 HolidayResponse ·
+ * String[] 을 거치지 않습니다. 날짜는 파서 문자 버퍼에서 바로 숫자로 읽고, types 는 문자열 없이 비트마스크로, counties 는 원소를 이어
+ * 붙인 문자열 하나로 만들며, 같은 패스에서 {@link HolidayFingerprint} 지문도 계산합니다. 결과는 HolidayConverter.toEntity 와 같습니다.
+ * <p>
+ * 모르는 필드와 중첩 값은 건너뛰고, 빈 본문(204 No Content)은 빈 목록입니다. 최상위가 배열이 아니거나 날짜가 없거나 잘못된 경우
+ * {@link JsonParseException} 으로 실패합니다.
+ */
+public class HolidayJsonDecoder {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final char[] NULL_CHARS = "null".toCharArray();
+
+    private HolidayJsonDecoder() {
+
+    }
+
+    /**
+     * @param holidays    저장 전 엔티티 (응답 순서, 같은 키 중복은 호출 측에서 정리)
+     * @param fingerprint 응답 지문 ({@link HolidayFingerprint#of} 와 같은 값)
+     */
+    public record Rows(
+        List<Holiday> holidays,
+        long fingerprint
+    ) {
+
+    }
+
+    /**
+     * 버퍼가 도착하는 대로 디코딩 (각 버퍼는 처리 직후 반납)
+     */
+    public static Mono<Rows> decode(Flux<DataBuffer> body, Country country) {
+
+        return Mono.using(
+            () -> new Session(country),
+            session -> body
+                .doOnNext(session::feed)
+                .then(Mono.fromCallable(session::finish)),
+            Session::close
+        );
+    }
+
+    public static Rows decode(byte[] body, Country country) throws IOException {
+
+        try (Session session = new Session(country)) {
+            session.feed(ByteBuffer.wrap(body));
+            return session.finish();
+        }
+    }
+
+    /**
+     * 한 응답의 디코딩 상태 (스레드 안전하지 않음, 버퍼는 순서대로 넣어야 함)
+     */
+    public static final class Session implements AutoCloseable {
+
+        // 파싱 위치
+        private static final int BEFORE = 0;         // 최상위 배열 시작 전
+        private static final int IN_ARRAY = 1;       // 최상위 배열 안
+        private static final int IN_HOLIDAY = 2;     // 공휴일 객체 안
+        private static final int IN_FIELD_ARRAY = 3; // counties / types 배열 안
+        private static final int DONE = 4;           // 최상위 배열 끝
+
+        private final JsonParser parser;
+        private final ByteBufferFeeder feeder;
+        private final Country country;
+
+        private final List<Holiday> holidays = new ArrayList<>();
+        private long[] recordHashes = new long[64];
+        private final long[] fieldHashes = new long[HolidayFingerprint.FIELD_COUNT];
+        private final StringBuilder countiesBuilder = new StringBuilder();
+
+        private int position = BEFORE;
+        private int skipDepth;      // 건너뛰는 중인 객체·배열 깊이
+        private int field = -1;     // 현재 필드 (HolidayFingerprint 필드 번호, 모르는 필드는 -1)
+        private int arrayLength;
+
+        // 현재 공휴일 값
+        private LocalDate date;
+        private String localName;
+        private String name;
+        private Boolean fixed;
+        private Boolean global;
+        private String counties;
+        private Integer launchYear;
+        private int typeMask;
+
+        public Session(Country country) throws IOException {
+
+            this.parser = JSON_FACTORY.createNonBlockingByteBufferParser();
+            this.feeder = (ByteBufferFeeder) parser.getNonBlockingInputFeeder();
+            this.country = country;
+        }
+
+        /**
+         * 버퍼 하나를 끝까지 처리하고 반납
+         */
+        public void feed(DataBuffer buffer) {
+
+            try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+                while (iterator.hasNext()) {
+                    feed(iterator.next());
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                DataBufferUtils.release(buffer);
+            }
+        }
+
+        public void feed(ByteBuffer buffer) throws IOException {
+
+            feeder.feedInput(buffer);
+            drain();
+        }
+
+        public Rows finish() throws IOException {
+
+            feeder.endOfInput();
+            drain();
+
+            if (position != BEFORE && position != DONE) {
+                throw new JsonParseException(parser, "공휴일 JSON 이 중간에 끝났습니다.");
+            }
+            return new Rows(holidays, HolidayFingerprint.combine(recordHashes, holidays.size()));
+        }
+
+        @Override
+        public void close() {
+
+            try {
+                parser.close();
+            } catch (IOException ignored) {
+                // 메모리 버퍼만 사용
+            }
+        }
+
+        private void drain() throws IOException {
+
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                onToken(token);
+            }
+        }
+
+        private void onToken(JsonToken token) throws IOException {
+
+            if (skipDepth > 0) {
+                if (token.isStructStart()) {
+                    skipDepth++;
+                } else if (token.isStructEnd()) {
+                    skipDepth--;
+                }
+                return;
+            }
+
+            switch (position) {
+                case BEFORE -> {
+                    if (token != JsonToken.START_ARRAY) {
+                        throw new JsonParseException(parser, "공휴일 응답이 JSON 배열이 아닙니다.");
+                    }
+                    position = IN_ARRAY;
+                }
+                case IN_ARRAY -> {
+                    if (token == JsonToken.START_OBJECT) {
+                        beginHoliday();
+                        position = IN_HOLIDAY;
+                    } else if (token == JsonToken.END_ARRAY) {
+                        position = DONE;
+                    } else if (token.isStructStart()) {
+                        skipDepth = 1;
+                    }
+                }
+                case IN_HOLIDAY -> onHolidayToken(token);
+                case IN_FIELD_ARRAY -> onFieldArrayToken(token);
+                default -> {
+                    // 최상위 배열 뒤의 토큰은 무시
+                }
+            }
+        }
+
+        private void onHolidayToken(JsonToken token) throws IOException {
+
+            switch (token) {
+                case FIELD_NAME -> field = fieldOf(parser.currentName());
+                case END_OBJECT -> {
+                    endHoliday();
+                    position = IN_ARRAY;
+                }
+                case START_ARRAY -> {
+                    if (field == HolidayFingerprint.COUNTIES || field == HolidayFingerprint.TYPES) {
+                        arrayLength = 0;
+                        fieldHashes[field] = HolidayFingerprint.emptyField();
+                        position = IN_FIELD_ARRAY;
+                    } else {
+                        skipDepth = 1;
+                    }
+                }
+                case START_OBJECT -> skipDepth = 1;
+                default -> onValue(token);
+            }
+        }
+
+        private void onValue(JsonToken token) throws IOException {
+
+            if (field < 0) {
+                return;
+            }
+            if (token == JsonToken.VALUE_NULL) {
+                fieldHashes[field] = HolidayFingerprint.NULL_FIELD;
+                clearValue(field);
+                return;
+            }
+
+            char[] chars = parser.getTextCharacters();
+            int offset = parser.getTextOffset();
+            int length = parser.getTextLength();
+            fieldHashes[field] = HolidayFingerprint.mix(HolidayFingerprint.emptyField(), chars, offset, length);
+
+            switch (field) {
+                case HolidayFingerprint.DATE -> date = parseDate(chars, offset, length);
+                case HolidayFingerprint.LOCAL_NAME -> localName = parser.getText();
+                case HolidayFingerprint.NAME -> name = parser.getText();
+                case HolidayFingerprint.FIXED -> fixed = parser.getValueAsBoolean();
+                case HolidayFingerprint.GLOBAL -> global = parser.getValueAsBoolean();
+                case HolidayFingerprint.LAUNCH_YEAR -> launchYear = parser.getValueAsInt();
+                // 배열 대신 값 하나만 온 경우 원소 하나짜리 배열로 처리
+                case HolidayFingerprint.COUNTIES -> counties = length == 0 ? null : parser.getText();
+                case HolidayFingerprint.TYPES -> typeMask = HolidayType.bitOf(chars, offset, length);
+                default -> {
+                    // 저장하지 않는 필드
+                }
+            }
+        }
+
+        private void onFieldArrayToken(JsonToken token) throws IOException {
+
+            if (token == JsonToken.END_ARRAY) {
+                if (field == HolidayFingerprint.COUNTIES) {
+                    counties = arrayLength == 0 ? null : countiesBuilder.toString();
+                    countiesBuilder.setLength(0);
+                }
+                position = IN_HOLIDAY;
+                return;
+            }
+            if (token.isStructStart()) {
+                skipDepth = 1;
+                return;
+            }
+
+            // String.join(",", 배열) 과 같은 규칙 (null 원소는 "null")
+            char[] chars = NULL_CHARS;
+            int offset = 0;
+            int length = NULL_CHARS.length;
+            if (token != JsonToken.VALUE_NULL) {
+                chars = parser.getTextCharacters();
+                offset = parser.getTextOffset();
+                length = parser.getTextLength();
+            }
+
+            long hash = fieldHashes[field];
+            if (arrayLength++ > 0) {
+                hash = HolidayFingerprint.mix(hash, ',');
+                if (field == HolidayFingerprint.COUNTIES) {
+                    countiesBuilder.append(',');
+                }
+            }
+            fieldHashes[field] = HolidayFingerprint.mix(hash, chars, offset, length);
+
+            if (field == HolidayFingerprint.COUNTIES) {
+                countiesBuilder.append(chars, offset, length);
+            } else if (token != JsonToken.VALUE_NULL) {
+                typeMask |= HolidayType.bitOf(chars, offset, length);
+            }
+        }
+
+        private void beginHoliday() {
+
+            Arrays.fill(fieldHashes, HolidayFingerprint.NULL_FIELD);
+            field = -1;
+            date = null;
+            localName = null;
+            name = null;
+            fixed = null;
+            global = null;
+            counties = null;
+            launchYear = null;
+            typeMask = 0;
+        }
+
+        private void endHoliday() throws IOException {
+
+            if (date == null) {
+                throw new JsonParseException(parser, "날짜가 없는 공휴일이 있습니다.");
+            }
+
+            holidays.add(Holiday.builder()
+                .date(date)
+                .localName(localName)
+                .name(name)
+                .country(country)
+                .fixed(fixed)
+                .global(global)
+                .counties(counties)
+                .launchYear(launchYear)
+                .typeMask(typeMask)
+                .build());
+
+            if (holidays.size() > recordHashes.length) {
+                recordHashes = Arrays.copyOf(recordHashes, recordHashes.length * 2);
+            }
+            recordHashes[holidays.size() - 1] = HolidayFingerprint.record(fieldHashes);
+            field = -1;
+        }
+
+        private void clearValue(int field) {
+
+            switch (field) {
+                case HolidayFingerprint.DATE -> date = null;
+                case HolidayFingerprint.LOCAL_NAME -> localName = null;
+                case HolidayFingerprint.NAME -> name = null;
+                case HolidayFingerprint.FIXED -> fixed = null;
+                case HolidayFingerprint.GLOBAL -> global = null;
+                case HolidayFingerprint.COUNTIES -> counties = null;
+                case HolidayFingerprint.LAUNCH_YEAR -> launchYear = null;
+                case HolidayFingerprint.TYPES -> typeMask = 0;
+                default -> {
+                    // 저장하지 않는 필드
+                }
+            }
+        }
+
+        /**
+         * "yyyy-MM-dd" 는 문자 버퍼에서 바로 읽고, 그 밖의 형식은 LocalDate.parse 로 처리
+         */
+        private LocalDate parseDate(char[] chars, int offset, int length) throws JsonParseException {
+
+            try {
+                if (length == 10 && chars[offset + 4] == '-' && chars[offset + 7] == '-') {
+                    int year = digits(chars, offset, 4);
+                    int month = digits(chars, offset + 5, 2);
+                    int day = digits(chars, offset + 8, 2);
+                    if (year >= 0 && month >= 0 && day >= 0) {
+                        return LocalDate.of(year, month, day);
+                    }
+                }
+                return LocalDate.parse(new String(chars, offset, length));
+
+            } catch (DateTimeException e) {
+                throw new JsonParseException(parser, "잘못된 날짜: " + new String(chars, offset, length), e);
+            }
+        }
+
+        private static int digits(char[] chars, int offset, int count) {
+
+            int value = 0;
+            for (int i = offset; i < offset + count; i++) {
+                char c = chars[i];
+                if (c < '0' || c > '9') {
+                    return -1;
+                }
+                value = value * 10 + (c - '0');
+            }
+            return value;
+        }
+
+        private static int fieldOf(String name) {
+
+            return switch (name) {
+                case "date" -> HolidayFingerprint.DATE;
+                case "localName" -> HolidayFingerprint.LOCAL_NAME;
+                case "name" -> HolidayFingerprint.NAME;
+                case "fixed" -> HolidayFingerprint.FIXED;
+                case "global" -> HolidayFingerprint.GLOBAL;
+                case "counties" -> HolidayFingerprint.COUNTIES;
+                case "launchYear" -> HolidayFingerprint.LAUNCH_YEAR;
+                case "types" -> HolidayFingerprint.TYPES;
+                default -> -1;
+            };
+        }
+    }
+}
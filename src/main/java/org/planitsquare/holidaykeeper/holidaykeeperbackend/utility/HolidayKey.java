@@ -0,0 +1,148 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.utility;
+
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.Country;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.Holiday;
+
+/**
+ * 재동기화 비교용 공휴일 자연 키 (국가 ID, 날짜, 정규화된 영문명)
+ * <p>
+ * 정규화(앞뒤 공백 제거, 특수 따옴표 통일)한 문자열을 만들지 않고 원본 영문명을 한 번 순회하며 정규화된 문자 기준으로 해시를 계산합니다.
+ * 해시가 같을 때만 두 원본을 같은 규칙으로 한 글자씩 비교하므로(충돌 대비), 키 생성 시 추가 문자열 할당이 없습니다.
+ *
+ * @param countryId 국가 ID (없으면 0)
+ * @param epochDay  날짜 (LocalDate.toEpochDay)
+ * @param nameHash  정규화된 영문명의 해시
+ * @param name      원본 영문명 (null 이면 빈 문자열과 같게 취급)
+ */
+public record HolidayKey(
+    long countryId,
+    int epochDay,
+    int nameHash,
+    String name
+) {
+
+    public static HolidayKey of(Holiday holiday) {
+
+        Country country = holiday.getCountry();
+        long countryId = country == null || country.getId() == null ? 0L : country.getId();
+
+        return new HolidayKey(
+            countryId,
+            (int) holiday.getDate().toEpochDay(),
+            hashNormalized(holiday.getName()),
+            holiday.getName()
+        );
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof HolidayKey other)) {
+            return false;
+        }
+        return countryId == other.countryId
+            && epochDay == other.epochDay
+            && nameHash == other.nameHash
+            && equalsNormalized(name, other.name);
+    }
+
+    @Override
+    public int hashCode() {
+
+        int result = Long.hashCode(countryId);
+        result = 31 * result + epochDay;
+        return 31 * result + nameHash;
+    }
+
+    /**
+     * 정규화된 영문명 (country_holiday.name_key 저장값, null 이면 빈 문자열)
+     */
+    public static String normalizedName(String value) {
+
+        if (value == null) {
+            return "";
+        }
+        int start = trimStart(value);
+        int end = trimEnd(value, start);
+
+        char[] chars = new char[end - start];
+        for (int i = start; i < end; i++) {
+            chars[i - start] = normalize(value.charAt(i));
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 정규화된 문자열의 String.hashCode 와 같은 값
+     */
+    static int hashNormalized(String value) {
+
+        if (value == null) {
+            return 0;
+        }
+        int start = trimStart(value);
+        int end = trimEnd(value, start);
+
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + normalize(value.charAt(i));
+        }
+        return hash;
+    }
+
+    /**
+     * 두 원본 문자열을 정규화했을 때 같은지 (새 문자열 없이 비교)
+     */
+    static boolean equalsNormalized(String a, String b) {
+
+        String left = a == null ? "" : a;
+        String right = b == null ? "" : b;
+
+        int leftStart = trimStart(left);
+        int leftEnd = trimEnd(left, leftStart);
+        int rightStart = trimStart(right);
+        int rightEnd = trimEnd(right, rightStart);
+
+        if (leftEnd - leftStart != rightEnd - rightStart) {
+            return false;
+        }
+        for (int i = leftStart, j = rightStart; i < leftEnd; i++, j++) {
+            if (normalize(left.charAt(i)) != normalize(right.charAt(j))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 특수 작은따옴표·큰따옴표 통일
+    private static char normalize(char c) {
+
+        return switch (c) {
+            case '’', '‘', '`', '´' -> '\'';
+            case '“', '”' -> '"';
+            default -> c;
+        };
+    }
+
+    // String.trim 과 같은 기준 (' ' 이하 문자 제거)
+    private static int trimStart(String value) {
+
+        int start = 0;
+        while (start < value.length() && value.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    private static int trimEnd(String value, int start) {
+
+        int end = value.length();
+        while (end > start && value.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+}
@@ -0,0 +1,240 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.utility;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 국가 + 공휴일 전체 데이터의 바이너리 스냅샷 형식
+ * <p>
+ * 국가명·공휴일명·적용 지역 문자열은 앞쪽 사전에 한 번만 저장하고 행에는 사전 번호(int)만 둡니다. 날짜는 epoch day(int), 유형은
+ * 비트마스크(byte)로 저장하므로 전체 데이터가 수백 KB 안팎이고, 읽을 때 행마다 문자열을 새로 만들지 않습니다.
+ * <pre>
+ * magic(int) version(short) createdAt(long, epoch ms)
+ * stringCount(int) { byteLength(int) utf8 }*
+ * countryCount(int) { id(long) codeRef(int) nameRef(int) active(byte) }*
+ * holidayCount(int) { id(long) countryIndex(int) epochDay(int) localNameRef(int) nameRef(int) countiesRef(int, 없으면 -1)
+ *                     launchYear(short, 없으면 0) typeMask(byte) flags(byte: 1 fixed, 2 global) }*
+ * crc32(int, 앞의 모든 바이트)
+ * </pre>
+ */
+public class HolidaySnapshot {
+
+    // "HKSN"
+    private static final int MAGIC = 0x484B534E;
+    private static final short VERSION = 1;
+
+    private static final int NO_STRING = -1;
+    private static final byte FIXED = 1;
+    private static final byte GLOBAL = 1 << 1;
+
+    private HolidaySnapshot() {
+
+    }
+
+    public record SnapshotCountry(
+        long id,
+        String code,
+        String name,
+        boolean active
+    ) {
+
+    }
+
+    public record SnapshotHoliday(
+        long id,
+        long countryId,
+        int epochDay,
+        String localName,
+        String name,
+        boolean fixed,
+        boolean global,
+        String counties,        // 없으면 null
+        Integer launchYear,     // 없으면 null
+        int typeMask
+    ) {
+
+    }
+
+    /**
+     * 스냅샷 파일이 손상되었거나 형식이 다름
+     */
+    public static class InvalidSnapshotException extends RuntimeException {
+
+        public InvalidSnapshotException(String message) {
+
+            super(message);
+        }
+    }
+
+    /**
+     * 스냅샷 쓰기 (out 은 닫지 않음)
+     */
+    public static void write(OutputStream out, List<SnapshotCountry> countries, List<SnapshotHoliday> holidays,
+        long createdAtEpochMilli) throws IOException {
+
+        // 1. 문자열 사전
+        Map<String, Integer> dictionary = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+        Map<Long, Integer> countryIndex = new HashMap<>();
+        for (SnapshotCountry country : countries) {
+            ref(dictionary, strings, country.code());
+            ref(dictionary, strings, country.name());
+            countryIndex.put(country.id(), countryIndex.size());
+        }
+        for (SnapshotHoliday holiday : holidays) {
+            ref(dictionary, strings, holiday.localName());
+            ref(dictionary, strings, holiday.name());
+            ref(dictionary, strings, holiday.counties());
+        }
+
+        CRC32 crc = new CRC32();
+        DataOutputStream data = new DataOutputStream(
+            new CheckedOutputStream(new BufferedOutputStream(out), crc));
+
+        data.writeInt(MAGIC);
+        data.writeShort(VERSION);
+        data.writeLong(createdAtEpochMilli);
+
+        data.writeInt(strings.size());
+        for (String value : strings) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            data.writeInt(bytes.length);
+            data.write(bytes);
+        }
+
+        // 2. 국가
+        data.writeInt(countries.size());
+        for (SnapshotCountry country : countries) {
+            data.writeLong(country.id());
+            data.writeInt(dictionary.get(country.code()));
+            data.writeInt(dictionary.get(country.name()));
+            data.writeByte(country.active() ? 1 : 0);
+        }
+
+        // 3. 공휴일
+        data.writeInt(holidays.size());
+        for (SnapshotHoliday holiday : holidays) {
+            Integer index = countryIndex.get(holiday.countryId());
+            if (index == null) {
+                throw new IllegalArgumentException("국가가 없는 공휴일: " + holiday.id());
+            }
+            data.writeLong(holiday.id());
+            data.writeInt(index);
+            data.writeInt(holiday.epochDay());
+            data.writeInt(dictionary.get(holiday.localName()));
+            data.writeInt(dictionary.get(holiday.name()));
+            data.writeInt(holiday.counties() == null ? NO_STRING : dictionary.get(holiday.counties()));
+            data.writeShort(holiday.launchYear() == null ? 0 : holiday.launchYear());
+            data.writeByte(holiday.typeMask());
+            data.writeByte((holiday.fixed() ? FIXED : 0) | (holiday.global() ? GLOBAL : 0));
+        }
+
+        data.flush();
+        // CRC 는 검사 대상에서 제외하고 그대로 씀
+        new DataOutputStream(out).writeInt((int) crc.getValue());
+        out.flush();
+    }
+
+    /**
+     * 스냅샷 읽기 (메모리 매핑 버퍼 등, position 부터 limit 까지가 스냅샷)
+     * <p>
+     * 국가 목록을 먼저 넘기고, 공휴일은 한 건씩 넘기므로 호출 측이 묶음 단위로 저장할 수 있습니다.
+     *
+     * @return 스냅샷 생성 시각 (epoch ms)
+     */
+    public static long read(ByteBuffer source, Consumer<List<SnapshotCountry>> countriesConsumer,
+        Consumer<SnapshotHoliday> holidayConsumer) {
+
+        ByteBuffer buffer = source.slice();
+        if (buffer.remaining() < Integer.BYTES * 2) {
+            throw new InvalidSnapshotException("스냅샷이 너무 짧습니다.");
+        }
+        verifyChecksum(buffer);
+
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new InvalidSnapshotException("스냅샷 파일이 아닙니다.");
+            }
+            short version = buffer.getShort();
+            if (version != VERSION) {
+                throw new InvalidSnapshotException("지원하지 않는 스냅샷 버전: " + version);
+            }
+            long createdAt = buffer.getLong();
+
+            String[] strings = new String[buffer.getInt()];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[buffer.getInt()];
+                buffer.get(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+
+            long[] countryIds = new long[buffer.getInt()];
+            List<SnapshotCountry> countries = new ArrayList<>(countryIds.length);
+            for (int i = 0; i < countryIds.length; i++) {
+                countryIds[i] = buffer.getLong();
+                countries.add(new SnapshotCountry(
+                    countryIds[i], strings[buffer.getInt()], strings[buffer.getInt()], buffer.get() != 0));
+            }
+            countriesConsumer.accept(countries);
+
+            int holidayCount = buffer.getInt();
+            for (int i = 0; i < holidayCount; i++) {
+                long id = buffer.getLong();
+                long countryId = countryIds[buffer.getInt()];
+                int epochDay = buffer.getInt();
+                String localName = strings[buffer.getInt()];
+                String name = strings[buffer.getInt()];
+                int countiesRef = buffer.getInt();
+                short launchYear = buffer.getShort();
+                int typeMask = buffer.get() & 0xFF;
+                byte flags = buffer.get();
+
+                holidayConsumer.accept(new SnapshotHoliday(id, countryId, epochDay, localName, name,
+                    (flags & FIXED) != 0, (flags & GLOBAL) != 0,
+                    countiesRef == NO_STRING ? null : strings[countiesRef],
+                    launchYear == 0 ? null : (int) launchYear,
+                    typeMask));
+            }
+            return createdAt;
+
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException e) {
+            throw new InvalidSnapshotException("스냅샷 형식이 올바르지 않습니다: " + e);
+        }
+    }
+
+    /**
+     * 마지막 4바이트의 CRC32 와 나머지 바이트 비교 후, 버퍼 limit 을 CRC 앞으로 줄임
+     */
+    private static void verifyChecksum(ByteBuffer buffer) {
+
+        int bodyLength = buffer.limit() - Integer.BYTES;
+        int expected = buffer.getInt(bodyLength);
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().limit(bodyLength));
+        if ((int) crc.getValue() != expected) {
+            throw new InvalidSnapshotException("스냅샷 체크섬이 일치하지 않습니다.");
+        }
+        buffer.limit(bodyLength);
+    }
+
+    private static void ref(Map<String, Integer> dictionary, List<String> strings, String value) {
+
+        if (value != null && !dictionary.containsKey(value)) {
+            dictionary.put(value, strings.size());
+            strings.add(value);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.exception.BusinessException;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.exception.ErrorCode;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.external_api_dto.response.CountryResponse;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.external_api_dto.response.HolidayResponse;
+
+@DisplayName("LocalHolidaySource 단위 테스트")
+class LocalHolidaySourceTest {
+
+    private static final String COUNTRIES_JSON = """
+        [{"countryCode":"KR","name":"South Korea"},{"countryCode":"JP","name":"Japan"}]
+        """;
+
+    private static final String KR_2025_JSON = """
+        [{"date":"2025-01-01","localName":"새해","name":"New Year's Day","countryCode":"KR","fixed":false,
+          "global":true,"counties":null,"launchYear":null,"types":["Public"]},
+         {"date":"2025-03-01","localName":"삼일절","name":"Independence Movement Day","countryCode":"KR",
+          "fixed":false,"global":true,"counties":null,"launchYear":1949,"types":["Public","Bank"]}]
+        """;
+
+    @TempDir
+    private Path tempDir;
+
+    private LocalHolidaySource source;
+
+    @AfterEach
+    void tearDown() throws IOException {
+
+        if (source != null) {
+            source.close();
+        }
+    }
+
+    @Test
+    @DisplayName("디렉터리의 국가 목록과 국가·연도별 공휴일 파일을 읽는다 (파일이 없거나 비어 있으면 빈 리스트)")
+    void directory() throws IOException {
+
+        writeFiles(tempDir, Map.of(
+            "AvailableCountries.json", COUNTRIES_JSON,
+            "PublicHolidays/2025/KR.json", KR_2025_JSON,
+            "PublicHolidays/2025/JP.json", ""));
+        source = open(tempDir);
+
+        assertThat(source.fetchAvailableCountries()).containsExactly(
+            new CountryResponse("KR", "South Korea"), new CountryResponse("JP", "Japan"));
+
+        List<HolidayResponse> holidays = source.fetchPublicHolidays("KR", 2025);
+        assertThat(holidays).extracting(HolidayResponse::date).containsExactly("2025-01-01", "2025-03-01");
+        assertThat(holidays.get(1).launchYear()).isEqualTo(1949);
+        assertThat(holidays.get(1).types()).containsExactly("Public", "Bank");
+
+        assertThat(source.fetchPublicHolidays("JP", 2025)).isEmpty();
+        assertThat(source.fetchPublicHolidays("KR", 2024)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("zip 은 압축을 풀지 않고 읽으며, 최상위 폴더가 하나 더 있어도 된다")
+    void zipWithTopLevelFolder() throws IOException {
+
+        Path zip = tempDir.resolve("nager-export.zip");
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(zip))) {
+            putEntry(out, "export/AvailableCountries.json", COUNTRIES_JSON);
+            putEntry(out, "export/PublicHolidays/2025/KR.json", KR_2025_JSON);
+        }
+        source = open(zip);
+
+        assertThat(source.fetchAvailableCountries()).hasSize(2);
+        assertThat(source.fetchPublicHolidays("KR", 2025)).hasSize(2);
+        assertThat(new LocalHolidaySourceReactive(source).fetchPublicHolidaysConditional("KR", 2025).block())
+            .satisfies(result -> {
+                assertThat(result.body()).hasSize(2);
+                assertThat(result.notModified()).isFalse();
+            });
+    }
+
+    @Test
+    @DisplayName("JSON 배열이 아닌 파일은 공휴일 조회 실패로 처리한다")
+    void malformedFile() throws IOException {
+
+        writeFiles(tempDir, Map.of(
+            "AvailableCountries.json", COUNTRIES_JSON,
+            "PublicHolidays/2025/KR.json", "{\"status\":404}"));
+        source = open(tempDir);
+
+        assertThatThrownBy(() -> source.fetchPublicHolidays("KR", 2025))
+            .isInstanceOf(BusinessException.class)
+            .extracting("errorCode")
+            .isEqualTo(ErrorCode.HOLIDAY_API_CALL_FAILED);
+    }
+
+    private static LocalHolidaySource open(Path path) throws IOException {
+
+        LocalHolidaySource source = new LocalHolidaySource(new ObjectMapper(), path.toString());
+        source.open();
+        return source;
+    }
+
+    private static void writeFiles(Path dir, Map<String, String> files) throws IOException {
+
+        for (Map.Entry<String, String> file : files.entrySet()) {
+            Path path = dir.resolve(file.getKey());
+            Files.createDirectories(path.getParent());
+            Files.writeString(path, file.getValue());
+        }
+    }
+
+    private static void putEntry(ZipOutputStream out, String name, String content) throws IOException {
+
+        out.putNextEntry(new ZipEntry(name));
+        out.write(content.getBytes(StandardCharsets.UTF_8));
+        out.closeEntry();
+    }
+}
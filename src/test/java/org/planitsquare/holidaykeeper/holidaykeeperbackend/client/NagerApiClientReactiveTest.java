@@ -3,15 +3,24 @@ package org.planitsquare.holidaykeeper.holidaykeeperbackend.client;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.List;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.Country;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.external_api_dto.response.CountryResponse;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.external_api_dto.response.HolidayResponse;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.utility.HolidayFingerprint;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.test.StepVerifier;
 
 class NagerApiClientReactiveTest {
@@ -19,6 +28,9 @@ class NagerApiClientReactiveTest {
     private MockWebServer mockWebServer;
     private NagerApiClientReactive client;
 
+    @TempDir
+    Path cacheDir;
+
     @BeforeEach
     void setUp() throws Exception {
 
@@ -29,7 +41,14 @@ class NagerApiClientReactiveTest {
             .baseUrl(mockWebServer.url("/").toString())
             .build();
 
-        client = new NagerApiClientReactive(webClient);
+        client = new NagerApiClientReactive(
+            webClient,
+            new NagerRequestLimiter(100, 100, 8, 5000),
+            new NagerResponseCache(new ObjectMapper(), true, cacheDir.toString()),
+            new NagerRetryPolicy(3, 1, 10, 2_000),
+            new NagerCircuitBreaker(5, 60_000),
+            new ObjectMapper()
+        );
     }
 
     @AfterEach
@@ -60,4 +79,140 @@ class NagerApiClientReactiveTest {
             })
             .verifyComplete();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("MockWebServer — ETag 로 조건부 요청, 304 이면 캐시된 본문 반환")
+    void fetchPublicHolidays_notModified() throws Exception {
+
+        String json = new ObjectMapper().writeValueAsString(List.of(new HolidayResponse(
+            "2024-01-01", "신정", "New Year's Day", "KR", true, true, null, null, new String[]{"Public"})));
+
+        mockWebServer.enqueue(new MockResponse()
+            .setBody(json)
+            .addHeader("Content-Type", "application/json")
+            .addHeader("ETag", "\"v1\""));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(304));
+
+        StepVerifier.create(client.fetchPublicHolidaysConditional("KR", 2024))
+            .assertNext(result -> {
+                assertThat(result.notModified()).isFalse();
+                assertThat(result.body()).hasSize(1);
+            })
+            .verifyComplete();
+
+        StepVerifier.create(client.fetchPublicHolidaysConditional("KR", 2024))
+            .assertNext(result -> {
+                assertThat(result.notModified()).isTrue();
+                assertThat(result.body().get(0).name()).isEqualTo("New Year's Day");
+            })
+            .verifyComplete();
+
+        mockWebServer.takeRequest();
+        RecordedRequest conditional = mockWebServer.takeRequest();
+        assertThat(conditional.getHeader("If-None-Match")).isEqualTo("\"v1\"");
+    }
+
+    @Test
+    @DisplayName("MockWebServer — 공휴일 본문을 엔티티와 지문으로 바로 디코딩, 304 이면 캐시된 본문 디코딩")
+    void fetchHolidayRows_streaming() throws Exception {
+
+        Country korea = Country.builder().id(1L).code("KR").name("Korea").build();
+        List<HolidayResponse> responses = List.of(new HolidayResponse(
+            "2024-01-01", "신정", "New Year's Day", "KR", true, true, null, null, new String[]{"Public"}));
+        String json = new ObjectMapper().writeValueAsString(responses);
+
+        mockWebServer.enqueue(new MockResponse()
+            .setBody(json)
+            .addHeader("Content-Type", "application/json")
+            .addHeader("ETag", "\"v1\""));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(304));
+
+        StepVerifier.create(client.fetchHolidayRows(korea, 2024))
+            .assertNext(result -> {
+                assertThat(result.notModified()).isFalse();
+                assertThat(result.body().holidays()).hasSize(1);
+                assertThat(result.body().holidays().get(0).getDate()).isEqualTo(LocalDate.of(2024, 1, 1));
+                assertThat(result.body().fingerprint()).isEqualTo(HolidayFingerprint.of(responses));
+            })
+            .verifyComplete();
+
+        StepVerifier.create(client.fetchHolidayRows(korea, 2024))
+            .assertNext(result -> {
+                assertThat(result.notModified()).isTrue();
+                assertThat(result.body().holidays().get(0).getName()).isEqualTo("New Year's Day");
+                assertThat(result.body().fingerprint()).isEqualTo(HolidayFingerprint.of(responses));
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("MockWebServer — 503 응답은 백오프 후 재시도해 성공")
+    void fetchAvailableCountries_retryOnServerError() throws Exception {
+
+        String json = new ObjectMapper().writeValueAsString(List.of(new CountryResponse("KR", "Korea")));
+
+        mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(502));
+        mockWebServer.enqueue(new MockResponse()
+            .setBody(json)
+            .addHeader("Content-Type", "application/json"));
+
+        StepVerifier.create(client.fetchAvailableCountries())
+            .assertNext(list -> assertThat(list).hasSize(1))
+            .verifyComplete();
+
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("MockWebServer — 429 응답은 Retry-After 만큼 기다렸다가 재시도하고, 404 는 재시도하지 않음")
+    void fetchPublicHolidays_retryAfter() throws Exception {
+
+        mockWebServer.enqueue(new MockResponse().setResponseCode(429).addHeader("Retry-After", "1"));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(404));
+
+        long startNanos = System.nanoTime();
+        StepVerifier.create(client.fetchPublicHolidaysConditional("KR", 2024))
+            .expectError(WebClientResponseException.NotFound.class)
+            .verify();
+
+        assertThat(System.nanoTime() - startNanos).isGreaterThanOrEqualTo(Duration.ofSeconds(1).toNanos());
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("호출 허가 대기 시간 초과는 재시도하지 않고 서킷 실패로도 세지 않음")
+    void acquireTimeout_notRetriedNorCounted() throws Exception {
+
+        NagerRequestLimiter limiter = new NagerRequestLimiter(1000, 1000, 1, 50);
+        NagerCircuitBreaker breaker = new NagerCircuitBreaker(1, 60_000);
+        NagerApiClientReactive limitedClient = new NagerApiClientReactive(
+            WebClient.builder().baseUrl(mockWebServer.url("/").toString()).build(),
+            limiter,
+            new NagerResponseCache(new ObjectMapper(), false, cacheDir.toString()),
+            new NagerRetryPolicy(3, 1, 10, 2_000),
+            breaker,
+            new ObjectMapper()
+        );
+
+        // 동시 호출 허가를 모두 점유
+        NagerRequestLimiter.Permit held = limiter.acquire().block();
+
+        StepVerifier.create(limitedClient.fetchAvailableCountries())
+            .expectError(NagerRequestLimiter.AcquireTimeoutException.class)
+            .verify();
+
+        assertThat(breaker.getState()).isEqualTo(NagerCircuitBreaker.State.CLOSED);
+        assertThat(mockWebServer.getRequestCount()).isZero();
+        assertThat(limiter.getQueueDepth()).isZero();
+
+        held.release();
+        mockWebServer.enqueue(new MockResponse()
+            .setBody(new ObjectMapper().writeValueAsString(List.of(new CountryResponse("KR", "Korea"))))
+            .addHeader("Content-Type", "application/json"));
+
+        StepVerifier.create(limitedClient.fetchAvailableCountries())
+            .assertNext(list -> assertThat(list).hasSize(1))
+            .verifyComplete();
+    }
+}
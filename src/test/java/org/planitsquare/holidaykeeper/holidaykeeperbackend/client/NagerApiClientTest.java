@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
@@ -12,10 +14,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.exception.BusinessException;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.exception.ErrorCode;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.external_api_dto.response.CountryResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.RestTemplate;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,6 +31,19 @@ class NagerApiClientTest {
     @Mock
     private RestTemplate restTemplate;
 
+    @Spy
+    private NagerRequestLimiter nagerRequestLimiter = new NagerRequestLimiter(100, 100, 8, 5000);
+
+    @Spy
+    private NagerRetryPolicy nagerRetryPolicy = new NagerRetryPolicy(3, 1, 10, 1000);
+
+    @Spy
+    private NagerCircuitBreaker nagerCircuitBreaker = new NagerCircuitBreaker(5, 60_000);
+
+    // 비활성 상태(mock 기본값 false)로 두어 getForObject 경로를 검증
+    @Mock
+    private NagerResponseCache nagerResponseCache;
+
     @InjectMocks
     private NagerApiClient nagerApiClient;
     
@@ -90,4 +109,20 @@ class NagerApiClientTest {
         assertThat(result).isEmpty();
         assertThat(result).isNotNull();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("503 응답은 재시도해 성공하고, 404 는 재시도하지 않는다")
+    void retryOnlyTransientErrors() {
+        // given
+        when(restTemplate.getForObject(anyString(), eq(CountryResponse[].class)))
+            .thenThrow(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE))
+            .thenReturn(new CountryResponse[]{new CountryResponse("KR", "South Korea")})
+            .thenThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND));
+
+        // when & then
+        assertThat(nagerApiClient.fetchAvailableCountries()).hasSize(1);
+        assertThatThrownBy(() -> nagerApiClient.fetchAvailableCountries())
+            .isInstanceOf(BusinessException.class);
+        verify(restTemplate, times(3)).getForObject(anyString(), eq(CountryResponse[].class));
+    }
+}
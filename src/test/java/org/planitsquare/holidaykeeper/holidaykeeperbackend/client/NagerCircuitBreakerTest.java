@@ -0,0 +1,76 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.client.NagerCircuitBreaker.State;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@DisplayName("NagerCircuitBreaker 단위 테스트")
+class NagerCircuitBreakerTest {
+
+    @Test
+    @DisplayName("일시적 오류가 연속 threshold 번이면 열리고, 열린 동안에는 호출하지 않는다")
+    void opensAfterThreshold() {
+
+        NagerCircuitBreaker breaker = new NagerCircuitBreaker(2, 60_000);
+        AtomicInteger calls = new AtomicInteger();
+        Mono<String> failing = Mono.fromCallable(() -> {
+            calls.incrementAndGet();
+            throw new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE);
+        });
+
+        StepVerifier.create(breaker.protect(failing)).verifyError(HttpServerErrorException.class);
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+        StepVerifier.create(breaker.protect(failing)).verifyError(HttpServerErrorException.class);
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+
+        StepVerifier.create(breaker.protect(failing)).verifyError(NagerCircuitBreaker.OpenException.class);
+        assertThatThrownBy(() -> breaker.execute(() -> "ok")).isInstanceOf(NagerCircuitBreaker.OpenException.class);
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("404 처럼 제공처가 정상 응답한 오류는 실패로 세지 않는다")
+    void clientErrorIsNotFailure() {
+
+        NagerCircuitBreaker breaker = new NagerCircuitBreaker(1, 60_000);
+
+        assertThatThrownBy(() -> breaker.execute(() -> {
+            throw new HttpClientErrorException(HttpStatus.NOT_FOUND);
+        })).isInstanceOf(HttpClientErrorException.class);
+
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("open-duration 이 지나면 시험 호출 하나만 허용하고, 성공하면 닫힌다")
+    void halfOpenTrial() throws InterruptedException {
+
+        NagerCircuitBreaker breaker = new NagerCircuitBreaker(1, 50);
+        assertThatThrownBy(() -> breaker.execute(() -> {
+            throw new HttpServerErrorException(HttpStatus.BAD_GATEWAY);
+        })).isInstanceOf(HttpServerErrorException.class);
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+
+        Thread.sleep(100);
+        assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+
+        // 시험 호출이 끝나기 전의 다른 호출은 거절
+        String result = breaker.execute(() -> {
+            assertThatThrownBy(() -> breaker.execute(() -> "other"))
+                .isInstanceOf(NagerCircuitBreaker.OpenException.class);
+            return "trial";
+        });
+
+        assertThat(result).isEqualTo("trial");
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+    }
+}
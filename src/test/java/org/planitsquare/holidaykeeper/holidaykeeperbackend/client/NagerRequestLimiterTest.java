@@ -0,0 +1,84 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.client.NagerRequestLimiter.Permit;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@DisplayName("NagerRequestLimiter 단위 테스트")
+class NagerRequestLimiterTest {
+
+    @Test
+    @DisplayName("동시 호출 수를 넘는 요청은 대기열에서 기다렸다가 반납 시 진행")
+    void maxInFlight() {
+
+        NagerRequestLimiter limiter = new NagerRequestLimiter(1000, 1000, 1, 5000);
+
+        Permit first = limiter.acquire().block();
+        AtomicReference<Permit> second = new AtomicReference<>();
+        limiter.acquire().subscribe(second::set);
+
+        assertThat(second.get()).isNull();
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+        assertThat(limiter.getQueueDepth()).isEqualTo(1);
+
+        // 중복 반납은 한 번만 반영
+        first.release();
+        first.release();
+
+        assertThat(second.get()).isNotNull();
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+        assertThat(limiter.getQueueDepth()).isZero();
+    }
+
+    @Test
+    @DisplayName("burst 를 넘는 요청은 토큰이 채워질 때까지 대기")
+    void tokenBucket() {
+
+        NagerRequestLimiter limiter = new NagerRequestLimiter(5, 2, 10, 5000);
+
+        limiter.acquire().block();
+        limiter.acquire().block();
+
+        long startNanos = System.nanoTime();
+        limiter.acquire().block();
+        long waitedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+
+        // 초당 5개 → 다음 토큰까지 약 200ms
+        assertThat(waitedMillis).isGreaterThanOrEqualTo(150);
+    }
+
+    @Test
+    @DisplayName("호출이 실패해도 허가를 반납")
+    void limit_releaseOnError() {
+
+        NagerRequestLimiter limiter = new NagerRequestLimiter(1000, 1000, 1, 5000);
+
+        StepVerifier.create(limiter.limit(Mono.error(new IllegalStateException("429"))))
+            .verifyError(IllegalStateException.class);
+
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("대기 시간을 넘기면 AcquireTimeoutException 으로 실패하고 대기열에서 제거")
+    void acquire_timeout() {
+
+        NagerRequestLimiter limiter = new NagerRequestLimiter(1000, 1000, 1, 100);
+        limiter.acquire().block();
+
+        assertThatThrownBy(() -> limiter.acquire().block())
+            .isInstanceOf(NagerRequestLimiter.AcquireTimeoutException.class)
+            .hasNoCause();
+        assertThat(NagerRetryPolicy.isTransient(new NagerRequestLimiter.AcquireTimeoutException(Duration.ZERO)))
+            .isFalse();
+
+        assertThat(limiter.getQueueDepth()).isZero();
+    }
+}
@@ -0,0 +1,184 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.event.CountryDataChangedEvent;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.event.HolidayDataChangedEvent;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.response.HolidaySyncResponse;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.Country;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.enums.SyncOutcome;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.enums.WarmupStatus;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository.CountryRepository;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository.HolidayRepository;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.service.CountryService;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.service.HolidayService;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.service.HolidaySnapshotService;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.service.LeaseService;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.service.SyncProgress;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.service.SyncTarget;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.service.SyncWorkService;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.utility.DateUtil;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DataInitializer 백그라운드 적재 테스트")
+class DataInitializerTest {
+
+    @Mock
+    private CountryRepository countryRepository;
+    @Mock
+    private HolidayRepository holidayRepository;
+    @Mock
+    private CountryService countryService;
+    @Mock
+    private HolidayService holidayService;
+    @Mock
+    private HolidaySnapshotService holidaySnapshotService;
+    @Mock
+    private SyncWorkService syncWorkService;
+    @Mock
+    private LeaseService leaseService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private DataInitializer dataInitializer;
+
+    private Country korea;
+
+    @BeforeEach
+    void setUp() {
+
+        ReflectionTestUtils.setField(dataInitializer, "priorityCountries", new String[]{"KR", "US"});
+        ReflectionTestUtils.setField(dataInitializer, "minYears", 1);
+        ReflectionTestUtils.setField(dataInitializer, "retryIntervalMillis", 10L);
+        ReflectionTestUtils.setField(dataInitializer, "maxAttempts", 2);
+        ReflectionTestUtils.setField(dataInitializer, "maxDurationMillis", 60_000L);
+
+        korea = Country.builder().code("KR").name("South Korea").build();
+    }
+
+    @Test
+    @DisplayName("빈 DB 면 국가와 우선 국가의 올해를 먼저 적재해 준비 상태가 되고, 나머지는 작업 큐로 적재한다")
+    void emptyDatabase_minimumThenBackfill() {
+
+        when(leaseService.runWithLease(eq(LeaseService.HOLIDAY_SYNC), any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return true;
+        });
+        when(countryRepository.count()).thenReturn(0L, 2L);
+        when(countryRepository.findByCode("KR")).thenReturn(Optional.of(korea));
+        when(holidayRepository.count()).thenReturn(0L);
+        when(holidayRepository.existsByCountryAndDateBetween(eq(korea), any(), any())).thenReturn(false, true);
+        when(holidayService.syncEachCountryYear(anyList())).thenReturn(List.of(SyncOutcome.SUCCESS));
+        when(syncWorkService.runFullSync(any(SyncProgress.class))).thenReturn(
+            HolidaySyncResponse.builder().totalCount(12).successCount(12).failCount(0).build());
+
+        assertThat(new WarmupHealthIndicator(dataInitializer).health().getStatus())
+            .isEqualTo(WarmupHealthIndicator.WARMING);
+
+        dataInitializer.warmUp();
+
+        verify(countryService).syncCountries();
+        verify(holidayService).syncEachCountryYear(List.of(new SyncTarget(korea, DateUtil.getTodayYear())));
+        verify(syncWorkService).runFullSync(any(SyncProgress.class));
+        assertThat(dataInitializer.getStatus()).isEqualTo(WarmupStatus.COMPLETED);
+        assertThat(new WarmupHealthIndicator(dataInitializer).health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 적재 중이면 최소 데이터가 생길 때까지 기다렸다가, 적재 없이 로컬 캐시만 갱신한다")
+    void otherNodeLoading_waitsForMinimumDataset() {
+
+        when(leaseService.runWithLease(eq(LeaseService.HOLIDAY_SYNC), any())).thenReturn(false);
+        when(countryRepository.findByCode("KR")).thenReturn(Optional.empty(), Optional.of(korea));
+        when(countryRepository.count()).thenReturn(0L);
+        when(holidayRepository.existsByCountryAndDateBetween(eq(korea), any(), any())).thenReturn(true);
+
+        dataInitializer.warmUp();
+
+        verify(countryService, never()).syncCountries();
+        verify(holidayService, never()).syncEachCountryYear(anyList());
+        verify(syncWorkService, never()).runFullSync(any(SyncProgress.class));
+        verify(eventPublisher).publishEvent(new CountryDataChangedEvent());
+        verify(eventPublisher).publishEvent(HolidayDataChangedEvent.all());
+        assertThat(dataInitializer.getStatus()).isEqualTo(WarmupStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("우선 국가의 올해 응답이 계속 비어 있으면 max-attempts 번 시도 후 제외하고 준비 상태가 된다")
+    void emptyResponse_givesUpAfterMaxAttempts() {
+
+        when(leaseService.runWithLease(eq(LeaseService.HOLIDAY_SYNC), any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return true;
+        });
+        when(countryRepository.count()).thenReturn(2L);
+        when(countryRepository.findByCode("KR")).thenReturn(Optional.of(korea));
+        when(holidayRepository.count()).thenReturn(0L);
+        when(holidayRepository.existsByCountryAndDateBetween(eq(korea), any(), any())).thenReturn(false);
+        // 빈 응답은 FAILED 로 집계됨 (HolidayServiceImpl)
+        when(holidayService.syncEachCountryYear(anyList())).thenReturn(List.of(SyncOutcome.FAILED));
+        when(syncWorkService.runFullSync(any(SyncProgress.class))).thenReturn(
+            HolidaySyncResponse.builder().totalCount(12).successCount(11).failCount(1).build());
+
+        dataInitializer.warmUp();
+
+        verify(holidayService, times(2)).syncEachCountryYear(List.of(new SyncTarget(korea, DateUtil.getTodayYear())));
+        assertThat(dataInitializer.getStatus()).isEqualTo(WarmupStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("비활성화된 우선 국가는 최소 데이터에서 제외한다")
+    void retiredPriorityCountry_excluded() {
+
+        korea.retire();
+        when(leaseService.runWithLease(eq(LeaseService.HOLIDAY_SYNC), any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return true;
+        });
+        when(countryRepository.count()).thenReturn(2L);
+        when(countryRepository.findByCode("KR")).thenReturn(Optional.of(korea));
+        when(holidayRepository.count()).thenReturn(10L);
+
+        dataInitializer.warmUp();
+
+        verify(holidayService, never()).syncEachCountryYear(anyList());
+        verify(holidayRepository, never()).existsByCountryAndDateBetween(any(), any(), any());
+        assertThat(dataInitializer.getStatus()).isEqualTo(WarmupStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("max-duration 이 지나도 최소 데이터가 없으면 경고 후 준비 상태가 된다")
+    void maxDurationElapsed_becomesReady() {
+
+        ReflectionTestUtils.setField(dataInitializer, "maxDurationMillis", 30L);
+        when(leaseService.runWithLease(eq(LeaseService.HOLIDAY_SYNC), any())).thenReturn(false);
+        when(countryRepository.findByCode("KR")).thenReturn(Optional.of(korea));
+        when(holidayRepository.existsByCountryAndDateBetween(eq(korea), any(), any())).thenReturn(false);
+
+        dataInitializer.warmUp();
+
+        verify(eventPublisher).publishEvent(new CountryDataChangedEvent());
+        verify(eventPublisher).publishEvent(HolidayDataChangedEvent.all());
+        assertThat(dataInitializer.getStatus()).isEqualTo(WarmupStatus.COMPLETED);
+    }
+}
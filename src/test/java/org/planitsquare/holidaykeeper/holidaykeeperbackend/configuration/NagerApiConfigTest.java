@@ -0,0 +1,111 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+@DisplayName("NagerApiConfig 커넥션 풀 테스트")
+class NagerApiConfigTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private MockWebServer mockWebServer;
+    private ConnectionProvider connectionProvider;
+    private RestTemplate restTemplate;
+    private WebClient webClient;
+
+    @BeforeEach
+    void setUp() throws Exception {
+
+        Metrics.addRegistry(meterRegistry);
+
+        mockWebServer = new MockWebServer();
+        mockWebServer.start();
+
+        NagerApiConfig config = new NagerApiConfig();
+        ReflectionTestUtils.setField(config, "baseUrl", mockWebServer.url("/").toString());
+        ReflectionTestUtils.setField(config, "connectTimeout", 1000);
+        ReflectionTestUtils.setField(config, "readTimeout", 2000);
+        ReflectionTestUtils.setField(config, "maxConnections", 4);
+        ReflectionTestUtils.setField(config, "pendingAcquireMaxCount", 16);
+        ReflectionTestUtils.setField(config, "pendingAcquireTimeout", 1000L);
+        ReflectionTestUtils.setField(config, "maxIdleTime", 20_000L);
+        ReflectionTestUtils.setField(config, "maxLifeTime", 60_000L);
+        ReflectionTestUtils.setField(config, "evictInterval", 30_000L);
+        ReflectionTestUtils.setField(config, "http2", true);
+
+        connectionProvider = config.nagerConnectionProvider();
+        HttpClient httpClient = config.nagerHttpClient(connectionProvider);
+        restTemplate = config.nagerRestTemplate(new RestTemplateBuilder(), httpClient);
+        webClient = WebClient.builder()
+            .baseUrl(config.getBaseUrl())
+            .clientConnector(new ReactorClientHttpConnector(httpClient))
+            .build();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+
+        connectionProvider.disposeLater().block(Duration.ofSeconds(5));
+        mockWebServer.shutdown();
+        Metrics.removeRegistry(meterRegistry);
+        meterRegistry.close();
+    }
+
+    @Test
+    @DisplayName("블로킹·리액티브 클라이언트가 같은 풀의 연결을 재사용하고, 풀 현황을 메트릭으로 노출한다")
+    void sharedPool() throws Exception {
+
+        mockWebServer.enqueue(new MockResponse().setBody("[]").addHeader("Content-Type", "application/json"));
+        mockWebServer.enqueue(new MockResponse().setBody("[]").addHeader("Content-Type", "application/json"));
+
+        assertThat(restTemplate.getForObject(mockWebServer.url("/AvailableCountries").toString(), String.class))
+            .isEqualTo("[]");
+        waitForIdleConnection();
+
+        assertThat(webClient.get().uri("/AvailableCountries").retrieve().bodyToMono(String.class)
+            .block(Duration.ofSeconds(5)))
+            .isEqualTo("[]");
+
+        // 두 번째 요청이 같은 TCP 연결의 두 번째 요청
+        assertThat(mockWebServer.takeRequest().getSequenceNumber()).isZero();
+        assertThat(mockWebServer.takeRequest().getSequenceNumber()).isEqualTo(1);
+
+        assertThat(meterRegistry.find("reactor.netty.connection.provider.active.connections")
+            .tag("name", NagerApiConfig.POOL_NAME).gauge()).isNotNull();
+        assertThat(meterRegistry.find("reactor.netty.connection.provider.max.connections")
+            .tag("name", NagerApiConfig.POOL_NAME).gauge().value()).isEqualTo(4);
+    }
+
+    /**
+     * 응답을 읽은 뒤 연결이 풀로 반납되는 것은 비동기이므로 유휴 연결이 생길 때까지 대기
+     */
+    private void waitForIdleConnection() throws InterruptedException {
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (System.nanoTime() < deadline) {
+            Gauge idle = meterRegistry.find("reactor.netty.connection.provider.idle.connections")
+                .tag("name", NagerApiConfig.POOL_NAME).gauge();
+            if (idle != null && idle.value() >= 1) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.event.CountryDataChangedEvent;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.Country;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository.CountryRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CountryRegistry 단위 테스트")
+class CountryRegistryTest {
+
+    @Mock
+    private CountryRepository countryRepository;
+
+    @InjectMocks
+    private CountryRegistry countryRegistry;
+
+    private Country korea;
+    private Country legacy;
+
+    @BeforeEach
+    void setUp() {
+
+        korea = Country.builder().id(1L).code("KR").name("South Korea").build();
+        legacy = Country.builder().id(2L).code("x1").name("Legacy").build();
+    }
+
+    @Test
+    @DisplayName("첫 조회 시 한 번만 적재하고, 이후 조회는 DB 를 거치지 않는다")
+    void lazyLoadOnce() {
+
+        when(countryRepository.findAll()).thenReturn(List.of(korea, legacy));
+
+        assertThat(countryRegistry.findByCode("KR")).contains(korea);
+        assertThat(countryRegistry.findByCode("x1")).contains(legacy);
+        assertThat(countryRegistry.findById(2L)).contains(legacy);
+        assertThat(countryRegistry.findActive()).containsExactly(korea, legacy);
+
+        verify(countryRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("없는 코드·형식이 다른 코드는 빈 값")
+    void unknownCode() {
+
+        when(countryRepository.findAll()).thenReturn(List.of(korea));
+
+        assertThat(countryRegistry.findByCode("US")).isEmpty();
+        assertThat(countryRegistry.findByCode("kr")).isEmpty();
+        assertThat(countryRegistry.findByCode("KOR")).isEmpty();
+        assertThat(countryRegistry.findByCode(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("비활성 국가는 코드로 찾을 수 있지만 활성 목록에서는 제외")
+    void retiredCountry() {
+
+        legacy.retire();
+        when(countryRepository.findAll()).thenReturn(List.of(korea, legacy));
+
+        assertThat(countryRegistry.findByCode("x1")).contains(legacy);
+        assertThat(countryRegistry.findActive()).containsExactly(korea);
+    }
+
+    @Test
+    @DisplayName("국가 변경 이벤트 시 새 스냅샷으로 교체")
+    void reloadOnEvent() {
+
+        Country usa = Country.builder().id(3L).code("US").name("United States").build();
+        when(countryRepository.findAll())
+            .thenReturn(List.of(korea))
+            .thenReturn(List.of(usa));
+
+        assertThat(countryRegistry.findByCode("KR")).contains(korea);
+
+        countryRegistry.onCountryDataChanged(new CountryDataChangedEvent());
+
+        assertThat(countryRegistry.findByCode("KR")).isEmpty();
+        assertThat(countryRegistry.findByCode("US")).contains(usa);
+    }
+}
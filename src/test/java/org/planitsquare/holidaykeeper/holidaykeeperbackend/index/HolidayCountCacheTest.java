@@ -0,0 +1,80 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.event.HolidayDataChangedEvent;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.enums.HolidayType;
+
+@DisplayName("HolidayCountCache 단위 테스트")
+class HolidayCountCacheTest {
+
+    private final HolidayCountCache cache = new HolidayCountCache();
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    @Test
+    @DisplayName("타입 순서와 무관하게 같은 조건이면 캐시 적중")
+    void get_sameCondition() {
+
+        load(List.of(HolidayType.PUBLIC, HolidayType.BANK));
+        load(List.of(HolidayType.BANK, HolidayType.PUBLIC));
+
+        assertThat(loadCount).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("기간이 겹치는 국가·연도 변경 시에만 무효화")
+    void invalidate_overlappingYear() {
+
+        load(null);
+
+        cache.onHolidayDataChanged(new HolidayDataChangedEvent(1L, 2023));
+        cache.onHolidayDataChanged(new HolidayDataChangedEvent(2L, 2024));
+        load(null);
+        assertThat(loadCount).hasValue(1);
+
+        cache.onHolidayDataChanged(new HolidayDataChangedEvent(1L, 2024));
+        load(null);
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("전체 변경 이벤트는 모든 개수를 무효화")
+    void invalidate_all() {
+
+        load(null);
+
+        cache.onHolidayDataChanged(HolidayDataChangedEvent.all());
+        load(null);
+
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("계산 중에 무효화되면 그 값은 저장하지 않는다")
+    void get_invalidatedWhileLoading() {
+
+        long count = cache.get(1L, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), null,
+            () -> {
+                cache.onHolidayDataChanged(new HolidayDataChangedEvent(1L, 2024));
+                return 5L;
+            });
+        load(null);
+
+        assertThat(count).isEqualTo(5L);
+        assertThat(loadCount).hasValue(1);
+    }
+
+    private long load(List<HolidayType> types) {
+
+        return cache.get(1L, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), types,
+            () -> {
+                loadCount.incrementAndGet();
+                return 10L;
+            });
+    }
+}
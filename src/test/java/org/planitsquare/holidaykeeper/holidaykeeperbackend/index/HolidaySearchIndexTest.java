@@ -0,0 +1,164 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.event.HolidayDataChangedEvent;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.response.HolidaySearchResponse.HolidayItemDto;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.Country;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.Holiday;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.enums.HolidayType;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository.CountryRepository;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository.HolidayRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HolidaySearchIndex 단위 테스트")
+class HolidaySearchIndexTest {
+
+    @Mock
+    private HolidayRepository holidayRepository;
+    @Mock
+    private CountryRepository countryRepository;
+    @Mock
+    private CountryRegistry countryRegistry;
+
+    @InjectMocks
+    private HolidaySearchIndex holidaySearchIndex;
+
+    private Country korea;
+    private List<Holiday> holidays;
+
+    @BeforeEach
+    void setUp() {
+
+        korea = Country.builder()
+            .id(1L).code("KR").name("South Korea")
+            .build();
+
+        holidays = new ArrayList<>();
+        holidays.add(holiday(3L, LocalDate.of(2024, 3, 1), "Public"));
+        holidays.add(holiday(1L, LocalDate.of(2024, 1, 1), "Public"));
+        holidays.add(holiday(2L, LocalDate.of(2024, 1, 1), "Bank"));
+        holidays.add(holiday(4L, LocalDate.of(2025, 1, 1), "Public,Bank"));
+        holidays.add(holiday(5L, LocalDate.of(2025, 5, 5), "School"));
+    }
+
+    @Test
+    @DisplayName("적재 전에는 검색하지 않고 비어있는 결과를 반환")
+    void search_beforeReady() {
+
+        Optional<HolidaySearchIndex.SearchResult> result = holidaySearchIndex.search(
+            "KR", LocalDate.of(2024, 1, 1), LocalDate.of(2025, 12, 31), null, 0, 20);
+
+        assertThat(result).isEmpty();
+        assertThat(holidaySearchIndex.isReady()).isFalse();
+    }
+
+    @Test
+    @DisplayName("연도를 걸친 기간을 (날짜, ID) 순으로 페이징")
+    void search_paging() {
+
+        load();
+
+        HolidaySearchIndex.SearchResult first = holidaySearchIndex.search(
+            "KR", LocalDate.of(2024, 1, 1), LocalDate.of(2025, 12, 31), null, 0, 2).orElseThrow();
+        HolidaySearchIndex.SearchResult second = holidaySearchIndex.search(
+            "KR", LocalDate.of(2024, 1, 1), LocalDate.of(2025, 12, 31), null, 1, 2).orElseThrow();
+
+        assertThat(first.totalElements()).isEqualTo(5);
+        assertThat(first.holidays()).extracting(HolidayItemDto::id).containsExactly(1L, 2L);
+        assertThat(second.holidays()).extracting(HolidayItemDto::id).containsExactly(3L, 4L);
+        assertThat(first.holidays().get(0).countryName()).isEqualTo("South Korea");
+    }
+
+    @Test
+    @DisplayName("커서 이후부터 조회하고 전체 개수는 유지")
+    void searchAfter_cursor() {
+
+        load();
+
+        HolidaySearchIndex.SearchResult result = holidaySearchIndex.searchAfter(
+            "KR", LocalDate.of(2024, 1, 1), LocalDate.of(2025, 12, 31), null,
+            LocalDate.of(2024, 1, 1), 1L, 2).orElseThrow();
+
+        assertThat(result.totalElements()).isEqualTo(5);
+        assertThat(result.holidays()).extracting(HolidayItemDto::id).containsExactly(2L, 3L);
+        assertThat(result.hasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("기간 경계와 타입 필터 적용")
+    void search_rangeAndType() {
+
+        load();
+
+        HolidaySearchIndex.SearchResult result = holidaySearchIndex.search(
+            "KR", LocalDate.of(2024, 1, 2), LocalDate.of(2025, 1, 1),
+            List.of(HolidayType.PUBLIC), 0, 20).orElseThrow();
+
+        assertThat(result.totalElements()).isEqualTo(2);
+        assertThat(result.holidays()).extracting(HolidayItemDto::id).containsExactly(3L, 4L);
+    }
+
+    @Test
+    @DisplayName("인덱스에 없는 국가 코드는 DB 조회로 위임")
+    void search_unknownCountry() {
+
+        load();
+
+        assertThat(holidaySearchIndex.search(
+            "XX", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), null, 0, 20)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("국가·연도 변경 이벤트 시 해당 연도만 교체")
+    void reload_countryYear() {
+
+        load();
+
+        when(countryRegistry.findById(1L)).thenReturn(Optional.of(korea));
+        when(holidayRepository.findByCountryAndDateBetween(eq(korea), any(), any()))
+            .thenReturn(List.of());
+
+        holidaySearchIndex.onHolidayDataChanged(HolidayDataChangedEvent.of(korea, 2024));
+
+        HolidaySearchIndex.SearchResult result = holidaySearchIndex.search(
+            "KR", LocalDate.of(2024, 1, 1), LocalDate.of(2025, 12, 31), null, 0, 20).orElseThrow();
+
+        assertThat(result.totalElements()).isEqualTo(2);
+        assertThat(result.holidays()).extracting(HolidayItemDto::id).containsExactly(4L, 5L);
+    }
+
+    private void load() {
+
+        when(countryRepository.findAll()).thenReturn(List.of(korea));
+        when(holidayRepository.findAll()).thenReturn(holidays);
+
+        holidaySearchIndex.onApplicationReady();
+    }
+
+    private Holiday holiday(Long id, LocalDate date, String types) {
+
+        return Holiday.builder()
+            .id(id)
+            .date(date)
+            .localName("local-" + id)
+            .name("holiday-" + id)
+            .typeMask(HolidayType.toMask(types.split(",")))
+            .country(korea)
+            .build();
+    }
+}
@@ -0,0 +1,40 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.model.enums;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("HolidayType 비트마스크 단위 테스트")
+class HolidayTypeTest {
+
+    @Test
+    @DisplayName("외부 API 타입 값은 대소문자 무관하게 비트마스크로 변환되고, 알 수 없는 값은 무시")
+    void toMask_fromValues() {
+
+        int mask = HolidayType.toMask(new String[]{"Public", "bank", "Unknown"});
+
+        assertThat(mask).isEqualTo(HolidayType.PUBLIC.getBit() | HolidayType.BANK.getBit());
+    }
+
+    @Test
+    @DisplayName("비트마스크는 선언 순서대로 타입 값 목록과 집합으로 복원")
+    void valuesOf_roundTrip() {
+
+        int mask = HolidayType.toMask(List.of(HolidayType.OBSERVANCE, HolidayType.SCHOOL));
+
+        assertThat(HolidayType.valuesOf(mask)).containsExactly("School", "Observance");
+        assertThat(HolidayType.setOf(mask))
+            .containsExactlyInAnyOrder(HolidayType.SCHOOL, HolidayType.OBSERVANCE);
+        assertThat(HolidayType.valuesOf(0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 비트마스크는 캐시된 동일 인스턴스를 반환")
+    void valuesOf_cached() {
+
+        assertThat(HolidayType.valuesOf(3)).isSameAs(HolidayType.valuesOf(3));
+        assertThat(HolidayType.setOf(3)).isSameAs(HolidayType.setOf(3));
+    }
+}
@@ -0,0 +1,158 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.Country;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.CountryYearSyncState;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.Holiday;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.enums.HolidayType;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository.HolidayBulkRepository.CountryYearRows;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository.HolidayBulkRepository.MergeCount;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository.HolidayBulkRepository.SyncCheck;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest
+@Import(HolidayBulkRepository.class)
+@DisplayName("HolidayBulkRepository 집합 기반 동기화 테스트")
+class HolidayBulkRepositoryTest {
+
+    @Autowired
+    private HolidayBulkRepository holidayBulkRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Country korea;
+
+    @BeforeEach
+    void setUp() {
+
+        korea = entityManager.persist(Country.builder().code("KR").name("South Korea").build());
+
+        entityManager.persist(holiday(LocalDate.of(2024, 1, 1), "신정", "New Year’s Day"));
+        entityManager.persist(holiday(LocalDate.of(2024, 3, 1), "삼일절", "Old Holiday"));
+        entityManager.persist(holiday(LocalDate.of(2024, 5, 5), "어린이 날", "Children's Day"));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("정규화된 키로 비교해 삭제·수정·추가하고, 국가·연도별 건수를 돌려준다")
+    void merge_appliesDiffPerCountryYear() {
+
+        List<MergeCount> counts = holidayBulkRepository.merge(List.of(
+            new CountryYearRows(korea, 2024, List.of(
+                holiday(LocalDate.of(2024, 1, 1), "신정", "New Year's Day"),   // 따옴표만 다름 → 수정
+                holiday(LocalDate.of(2024, 5, 5), "어린이날", "Children's Day"), // 현지명 변경 → 수정
+                holiday(LocalDate.of(2024, 6, 6), "현충일", "Memorial Day")      // 추가
+            )),
+            new CountryYearRows(korea, 2025, List.of(
+                holiday(LocalDate.of(2025, 1, 1), "신정", "New Year's Day")
+            ))
+        ));
+
+        assertThat(counts.get(0)).isEqualTo(new MergeCount(3, 3, 1, 1, 2));
+        assertThat(counts.get(1)).isEqualTo(new MergeCount(0, 1, 1, 0, 0));
+
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+            "SELECT holiday_name, holiday_local_name FROM country_holiday ORDER BY holiday_date");
+        assertThat(rows).extracting(r -> r.get("HOLIDAY_NAME"))
+            .containsExactly("New Year's Day", "Children's Day", "Memorial Day", "New Year's Day");
+        assertThat(rows.get(1).get("HOLIDAY_LOCAL_NAME")).isEqualTo("어린이날");
+
+        // 스테이징 행은 반영 후 삭제
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM holiday_sync_staging", Long.class))
+            .isZero();
+    }
+
+    @Test
+    @DisplayName("응답이 기존 데이터와 같으면 아무것도 바꾸지 않는다")
+    void merge_noChange() {
+
+        List<MergeCount> counts = holidayBulkRepository.merge(List.of(
+            new CountryYearRows(korea, 2024, List.of(
+                holiday(LocalDate.of(2024, 1, 1), "신정", "New Year’s Day"),
+                holiday(LocalDate.of(2024, 3, 1), "삼일절", "Old Holiday"),
+                holiday(LocalDate.of(2024, 5, 5), "어린이 날", "Children's Day")
+            ))
+        ));
+
+        assertThat(counts).containsExactly(new MergeCount(3, 3, 0, 0, 0));
+    }
+
+    @Test
+    @DisplayName("name_key 는 엔티티 방식과 같은 규칙(탭·줄바꿈 포함 앞뒤 제거)으로 저장·비교한다")
+    void merge_matchesOnPersistedNameKey() {
+
+        List<MergeCount> counts = holidayBulkRepository.merge(List.of(
+            new CountryYearRows(korea, 2024, List.of(
+                holiday(LocalDate.of(2024, 1, 1), "신정", "\tNew Year’s Day\n"),
+                holiday(LocalDate.of(2024, 3, 1), "삼일절", "Old Holiday"),
+                holiday(LocalDate.of(2024, 5, 5), "어린이 날", "Children's Day"),
+                holiday(LocalDate.of(2024, 6, 6), "현충일", " Memorial “Day” ")
+            ))
+        ));
+
+        assertThat(counts).containsExactly(new MergeCount(3, 4, 1, 0, 1));
+        assertThat(jdbcTemplate.queryForList("SELECT name_key FROM country_holiday ORDER BY holiday_date", String.class))
+            .containsExactly("New Year's Day", "Old Holiday", "Children's Day", "Memorial \"Day\"");
+    }
+
+    @Test
+    @DisplayName("조회 시각 갱신: 상태 행이 있으면 시각만 바꾸고, 없으면 새로 만든다 (조회 실패면 지문·반영 시각 없이)")
+    void markChecked() {
+
+        LocalDateTime before = LocalDateTime.of(2025, 1, 1, 0, 0);
+        entityManager.persist(CountryYearSyncState.builder()
+            .country(korea).year(2024).fingerprint(7L).syncedAt(before).build());
+        entityManager.flush();
+
+        LocalDateTime now = LocalDateTime.of(2025, 2, 1, 12, 0);
+        holidayBulkRepository.markChecked(List.of(
+            new SyncCheck(korea.getId(), 2024, 99L, now, now.plusDays(7)),
+            new SyncCheck(korea.getId(), 2025, 11L, now, now.plusHours(6)),
+            new SyncCheck(korea.getId(), 2023, null, now, now.plusHours(1))
+        ));
+
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+            "SELECT sync_year, fingerprint, synced_at, next_sync_at FROM country_year_sync_state ORDER BY sync_year");
+
+        assertThat(rows).extracting(r -> ((Number) r.get("SYNC_YEAR")).intValue()).containsExactly(2023, 2024, 2025);
+        // 조회 실패한 새 행: 다음 조회 예정 시각만
+        assertThat(rows.get(0).get("FINGERPRINT")).isNull();
+        assertThat(rows.get(0).get("SYNCED_AT")).isNull();
+        assertThat(rows.get(0).get("NEXT_SYNC_AT")).isEqualTo(Timestamp.valueOf(now.plusHours(1)));
+        // 기존 행: 지문·반영 시각은 그대로
+        assertThat(((Number) rows.get(1).get("FINGERPRINT")).longValue()).isEqualTo(7L);
+        assertThat(rows.get(1).get("SYNCED_AT")).isEqualTo(Timestamp.valueOf(before));
+        assertThat(rows.get(1).get("NEXT_SYNC_AT")).isEqualTo(Timestamp.valueOf(now.plusDays(7)));
+        assertThat(((Number) rows.get(2).get("FINGERPRINT")).longValue()).isEqualTo(11L);
+        assertThat(rows.get(2).get("SYNCED_AT")).isEqualTo(Timestamp.valueOf(now));
+    }
+
+    private Holiday holiday(LocalDate date, String localName, String name) {
+
+        return Holiday.builder()
+            .date(date)
+            .localName(localName)
+            .name(name)
+            .country(korea)
+            .fixed(true)
+            .global(true)
+            .typeMask(HolidayType.PUBLIC.getBit())
+            .build();
+    }
+}
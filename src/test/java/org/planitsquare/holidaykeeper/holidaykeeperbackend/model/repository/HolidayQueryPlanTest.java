@@ -0,0 +1,210 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.configuration.QuerydslConfig;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.Country;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * country_holiday 조회 쿼리의 실행 계획 회귀 테스트
+ * <p>
+ * 엔티티에 선언된 인덱스로 생성된 스키마에서 저장소 메서드를 실제로 실행하고, Hibernate 가 만든 SQL 을 StatementInspector 로 가로채
+ * H2 EXPLAIN 으로 확인합니다. (H2 는 EXPLAIN 에 파라미터 바인딩을 요구하지 않으므로 ? 를 그대로 둠) 인덱스가 빠지거나 QueryDSL·JPQL
+ * 조건이 인덱스를 탈 수 없는 SQL 로 바뀌면 실패합니다.
+ */
+@DataJpaTest
+@Import({QuerydslConfig.class, HolidayQueryRepository.class})
+@DisplayName("country_holiday 실행 계획 테스트")
+class HolidayQueryPlanTest {
+
+    private static final String COUNTRY_DATE_INDEX = "IDX_HOLIDAY_COUNTRY_DATE";
+    private static final String NATURAL_KEY_INDEX = "UK_HOLIDAY_COUNTRY_DATE_NAME_KEY";
+    private static final String TABLE_SCAN = "tableScan";
+
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+    private static final LocalDate END = LocalDate.of(2024, 12, 31);
+    private static final int TYPE_MASK = 3;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private HolidayRepository holidayRepository;
+    @Autowired
+    private HolidayQueryRepository holidayQueryRepository;
+    @Autowired
+    private SqlCapture sqlCapture;
+
+    private Country country;
+
+    @TestConfiguration
+    static class SqlCaptureConfig {
+
+        @Bean
+        SqlCapture sqlCapture() {
+
+            return new SqlCapture();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer sqlCaptureCustomizer(SqlCapture sqlCapture) {
+
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlCapture);
+        }
+    }
+
+    /**
+     * Hibernate 가 실행하는 SQL 을 그대로 기록
+     */
+    static class SqlCapture implements StatementInspector {
+
+        private final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+
+            statements.add(sql);
+            return sql;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+
+        List<Object[]> countries = new ArrayList<>();
+        List<Object[]> holidays = new ArrayList<>();
+        long holidayId = 0;
+
+        for (long countryId = 1; countryId <= 20; countryId++) {
+            countries.add(new Object[]{countryId, "C" + (char) ('A' + countryId)});
+
+            LocalDate date = LocalDate.of(2020, 1, 1);
+            for (int n = 0; n < 200; n++) {
+                holidays.add(new Object[]{++holidayId, Date.valueOf(date), "Holiday " + n, "Holiday " + n, countryId,
+                    1 << (n % 6)});
+                date = date.plusDays(11);
+            }
+        }
+
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO country (country_id, country_code, country_name, created_at, updated_at) "
+                + "VALUES (?, ?, 'Country', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+            countries);
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO country_holiday (holiday_id, holiday_date, holiday_local_name, holiday_name, name_key, country_id, "
+                + "fixed, global, holiday_type_mask, created_at, updated_at) "
+                + "VALUES (?, ?, 'local', ?, ?, ?, FALSE, TRUE, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+            holidays);
+
+        country = entityManager.find(Country.class, 1L);
+    }
+
+    @Test
+    @DisplayName("findByCountryAndDateBetween - 국가+날짜 인덱스 사용")
+    void findByCountryAndDateBetween() {
+
+        String plan = explain(capture(() -> holidayRepository.findByCountryAndDateBetween(country, START, END)));
+
+        assertUsesIndex(plan, COUNTRY_DATE_INDEX, NATURAL_KEY_INDEX);
+    }
+
+    @Test
+    @DisplayName("deleteByCountryAndDateBetween - 국가+날짜 인덱스 사용")
+    void deleteByCountryAndDateBetween() {
+
+        String plan = explain(capture(() -> holidayRepository.deleteByCountryAndDateBetween(country, START, END)));
+
+        assertUsesIndex(plan, COUNTRY_DATE_INDEX, NATURAL_KEY_INDEX);
+    }
+
+    @Test
+    @DisplayName("searchWithPaging - 타입 비트 조건이 있어도 국가+날짜 인덱스 사용, 정렬은 인덱스 순서")
+    void searchWithPaging() {
+
+        String plan = explain(capture(
+            () -> holidayQueryRepository.searchWithPaging(country, START, END, TYPE_MASK, 40, 21)));
+
+        assertUsesIndex(plan, COUNTRY_DATE_INDEX);
+        assertThat(plan).containsIgnoringCase("index sorted");
+    }
+
+    @Test
+    @DisplayName("searchAfter - 키셋 조건에서 국가+날짜 인덱스 사용")
+    void searchAfter() {
+
+        String plan = explain(capture(() -> holidayQueryRepository.searchAfter(
+            country, START, END, TYPE_MASK, LocalDate.of(2024, 3, 1), 100L, 21)));
+
+        assertUsesIndex(plan, COUNTRY_DATE_INDEX);
+    }
+
+    @Test
+    @DisplayName("count - 국가+날짜 인덱스 사용")
+    void count() {
+
+        String plan = explain(capture(() -> holidayQueryRepository.count(country, START, END, TYPE_MASK)));
+
+        assertUsesIndex(plan, COUNTRY_DATE_INDEX, NATURAL_KEY_INDEX);
+    }
+
+    @Test
+    @DisplayName("자연 키 조회 - 유니크 인덱스 사용 (HolidayBulkRepository 의 JDBC MERGE 조인 조건)")
+    void naturalKeyLookup() {
+
+        String plan = explain("SELECT * FROM country_holiday "
+            + "WHERE country_id = 1 AND holiday_date = DATE '2020-01-01' AND name_key = 'Holiday 0'");
+
+        assertUsesIndex(plan, NATURAL_KEY_INDEX);
+    }
+
+    /**
+     * call 이 실행한 SQL 중 country_holiday 를 읽는 문장 하나를 반환
+     */
+    private String capture(Runnable call) {
+
+        sqlCapture.statements.clear();
+        call.run();
+
+        List<String> statements = sqlCapture.statements.stream()
+            .filter(sql -> sql.toLowerCase(Locale.ROOT).contains("country_holiday"))
+            .toList();
+        assertThat(statements).as("실행된 SQL: %s", sqlCapture.statements).hasSize(1);
+        return statements.get(0);
+    }
+
+    private String explain(String sql) {
+
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+    }
+
+    /**
+     * 전체 스캔이 아니고, 주어진 인덱스 중 하나로 country_id 조건을 찾는지 확인
+     */
+    private void assertUsesIndex(String plan, String... indexNames) {
+
+        assertThat(plan)
+            .as("실행 계획:\n%s", plan)
+            .doesNotContain(TABLE_SCAN)
+            .containsAnyOf(indexNames);
+    }
+}
@@ -0,0 +1,96 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.configuration.QuerydslConfig;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.response.HolidaySearchResponse.HolidayItemDto;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.Country;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.Holiday;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.enums.HolidayType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest
+@Import({QuerydslConfig.class, HolidayQueryRepository.class})
+@DisplayName("HolidayQueryRepository 검색 프로젝션 테스트")
+class HolidayQueryRepositoryTest {
+
+    @Autowired
+    private HolidayQueryRepository holidayQueryRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Country korea;
+
+    @BeforeEach
+    void setUp() {
+
+        korea = entityManager.persist(Country.builder().code("KR").name("South Korea").build());
+
+        entityManager.persist(holiday(LocalDate.of(2024, 5, 5), "어린이날", "Children's Day",
+            HolidayType.PUBLIC.getBit() | HolidayType.SCHOOL.getBit()));
+        entityManager.persist(holiday(LocalDate.of(2024, 1, 1), "신정", "New Year's Day",
+            HolidayType.PUBLIC.getBit()));
+        entityManager.persist(holiday(LocalDate.of(2024, 3, 1), "삼일절", "Independence Movement Day",
+            HolidayType.BANK.getBit()));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("필요한 컬럼만 DTO 로 조회하고, 국가 정보는 전달한 Country 에서 채우며, 엔티티를 영속성 컨텍스트에 올리지 않는다")
+    void searchWithPaging_projectsToDto() {
+
+        List<HolidayItemDto> items = holidayQueryRepository.searchWithPaging(
+            korea, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), 0, 0, 10);
+
+        assertThat(items).extracting(HolidayItemDto::name)
+            .containsExactly("New Year's Day", "Independence Movement Day", "Children's Day");
+        assertThat(items.get(2).localName()).isEqualTo("어린이날");
+        assertThat(items.get(2).types()).containsExactlyInAnyOrder("Public", "School");
+        assertThat(items).allSatisfy(item -> {
+            assertThat(item.id()).isNotNull();
+            assertThat(item.countryId()).isEqualTo(korea.getId());
+            assertThat(item.countryName()).isEqualTo("South Korea");
+        });
+
+        SessionImplementor session = entityManager.getEntityManager().unwrap(SessionImplementor.class);
+        assertThat(session.getPersistenceContext().getNumberOfManagedEntities()).isZero();
+    }
+
+    @Test
+    @DisplayName("키셋 조회도 타입 조건과 커서를 적용해 DTO 로 조회한다")
+    void searchAfter_projectsToDto() {
+
+        List<HolidayItemDto> first = holidayQueryRepository.searchWithPaging(
+            korea, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), HolidayType.PUBLIC.getBit(), 0, 1);
+
+        List<HolidayItemDto> next = holidayQueryRepository.searchAfter(
+            korea, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), HolidayType.PUBLIC.getBit(),
+            first.get(0).date(), first.get(0).id(), 10);
+
+        assertThat(first).extracting(HolidayItemDto::name).containsExactly("New Year's Day");
+        assertThat(next).extracting(HolidayItemDto::name).containsExactly("Children's Day");
+    }
+
+    private Holiday holiday(LocalDate date, String localName, String name, int typeMask) {
+
+        return Holiday.builder()
+            .date(date)
+            .localName(localName)
+            .name(name)
+            .country(korea)
+            .fixed(true)
+            .global(true)
+            .typeMask(typeMask)
+            .build();
+    }
+}
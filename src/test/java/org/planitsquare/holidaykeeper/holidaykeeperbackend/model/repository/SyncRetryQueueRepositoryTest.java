@@ -0,0 +1,75 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository.SyncRetryQueueRepository.Failure;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository.SyncRetryQueueRepository.RetryItem;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest
+@Import(SyncRetryQueueRepository.class)
+@DisplayName("SyncRetryQueueRepository 재시도 큐 테스트")
+class SyncRetryQueueRepositoryTest {
+
+    // 기록하자마자 시도 시각이 지난 것으로 만드는 값
+    private static final long DUE_NOW = -1_000;
+
+    private static final long MAX_DELAY = 3_600_000;
+
+    @Autowired
+    private SyncRetryQueueRepository syncRetryQueueRepository;
+
+    @Test
+    @DisplayName("실패를 기록하면 시도 시각이 지난 뒤에만 가져가고, 다시 실패하면 시도 횟수가 늘어난다")
+    void recordFailures_backoff() {
+
+        syncRetryQueueRepository.recordFailures(List.of(
+            new Failure(1L, 2024, true, "503 Service Unavailable"),
+            new Failure(2L, 2024, true, "503 Service Unavailable")), DUE_NOW, MAX_DELAY);
+        syncRetryQueueRepository.recordFailures(List.of(
+            new Failure(3L, 2024, true, "timeout")), 60_000, MAX_DELAY);
+
+        assertThat(syncRetryQueueRepository.findDue(10, 6))
+            .extracting(RetryItem::countryId)
+            .containsExactlyInAnyOrder(1L, 2L);
+
+        syncRetryQueueRepository.recordFailures(List.of(
+            new Failure(1L, 2024, true, "503 Service Unavailable")), DUE_NOW, MAX_DELAY);
+
+        assertThat(syncRetryQueueRepository.findAll())
+            .contains(new RetryItem(1L, 2024, 2), new RetryItem(2L, 2024, 1), new RetryItem(3L, 2024, 1));
+    }
+
+    @Test
+    @DisplayName("서킷이 열려 호출하지 않은 실패는 시도 횟수를 늘리지 않는다")
+    void recordFailures_notAttempted() {
+
+        syncRetryQueueRepository.recordFailures(List.of(
+            new Failure(1L, 2024, false, "circuit open")), DUE_NOW, MAX_DELAY);
+        syncRetryQueueRepository.recordFailures(List.of(
+            new Failure(1L, 2024, false, "circuit open")), DUE_NOW, MAX_DELAY);
+
+        assertThat(syncRetryQueueRepository.findAll()).containsExactly(new RetryItem(1L, 2024, 0));
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수에 이른 항목은 가져가지 않고, 제거한 항목은 남지 않는다")
+    void findDue_maxAttemptsAndRemove() {
+
+        Failure failure = new Failure(1L, 2024, true, "x".repeat(1_000));
+        syncRetryQueueRepository.recordFailures(List.of(failure, new Failure(1L, 2025, true, null)),
+            DUE_NOW, MAX_DELAY);
+        syncRetryQueueRepository.recordFailures(List.of(failure), DUE_NOW, MAX_DELAY);
+
+        List<RetryItem> due = syncRetryQueueRepository.findDue(10, 2);
+        assertThat(due).containsExactly(new RetryItem(1L, 2025, 1));
+
+        syncRetryQueueRepository.remove(due);
+        assertThat(syncRetryQueueRepository.findAll()).containsExactly(new RetryItem(1L, 2024, 2));
+    }
+}
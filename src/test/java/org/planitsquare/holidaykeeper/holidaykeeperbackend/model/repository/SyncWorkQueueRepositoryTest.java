@@ -0,0 +1,143 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.enums.SyncOutcome;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository.SyncWorkQueueRepository.CompletedItem;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository.SyncWorkQueueRepository.RunStatus;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository.SyncWorkQueueRepository.WorkItem;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest
+@Import(SyncWorkQueueRepository.class)
+@DisplayName("SyncWorkQueueRepository 작업 큐 테스트")
+class SyncWorkQueueRepositoryTest {
+
+    private static final String RUN_ID = "run-1";
+
+    // 가져가자마자 visibility timeout 이 지난 것으로 만드는 값 (노드 장애 재현)
+    private static final long EXPIRED = -1_000;
+
+    @Autowired
+    private SyncWorkQueueRepository syncWorkQueueRepository;
+
+    @BeforeEach
+    void setUp() {
+
+        List<WorkItem> items = new ArrayList<>();
+        for (int year = 2020; year <= 2024; year++) {
+            items.add(new WorkItem(0L, null, 1L, year));
+        }
+        syncWorkQueueRepository.enqueue(RUN_ID, items);
+    }
+
+    @Test
+    @DisplayName("두 노드가 나눠 가져가면 같은 항목을 중복으로 가져가지 않는다")
+    void claim_disjoint() {
+
+        List<WorkItem> nodeA = syncWorkQueueRepository.claim("node-a", 3, 60_000, 3);
+        List<WorkItem> nodeB = syncWorkQueueRepository.claim("node-b", 3, 60_000, 3);
+
+        assertThat(nodeA).hasSize(3);
+        assertThat(nodeB).hasSize(2);
+        assertThat(nodeA).extracting(WorkItem::workItemId)
+            .doesNotContainAnyElementsOf(nodeB.stream().map(WorkItem::workItemId).toList());
+        assertThat(syncWorkQueueRepository.claim("node-c", 3, 60_000, 3)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("visibility timeout 이 지난 항목은 다른 노드가 다시 가져가고, 이전 노드의 완료 표시는 무시된다")
+    void claim_reclaimExpired() {
+
+        List<WorkItem> crashed = syncWorkQueueRepository.claim("node-a", 5, EXPIRED, 3);
+        List<WorkItem> reclaimed = syncWorkQueueRepository.claim("node-b", 5, 60_000, 3);
+
+        assertThat(reclaimed).extracting(WorkItem::workItemId)
+            .containsExactlyElementsOf(crashed.stream().map(WorkItem::workItemId).toList());
+
+        // 늦게 끝난 이전 노드의 결과는 완료 표시도, 합계 누적도 되지 않음
+        syncWorkQueueRepository.complete(RUN_ID, completed(crashed, SyncOutcome.SUCCESS), "node-a");
+        RunStatus stale = syncWorkQueueRepository.findRun(RUN_ID);
+        assertThat(stale.openCount()).isEqualTo(5);
+        assertThat(stale.successCount()).isZero();
+
+        List<CompletedItem> results = new ArrayList<>(completed(reclaimed, SyncOutcome.SUCCESS));
+        results.set(0, new CompletedItem(reclaimed.get(0), SyncOutcome.FAILED));
+        results.set(1, new CompletedItem(reclaimed.get(1), SyncOutcome.SKIPPED));
+        results.set(2, new CompletedItem(reclaimed.get(2), SyncOutcome.SKIPPED));
+        syncWorkQueueRepository.complete(RUN_ID, results, "node-b");
+        RunStatus run = syncWorkQueueRepository.findRun(RUN_ID);
+        assertThat(run.openCount()).isZero();
+        assertThat(run.successCount()).isEqualTo(4);
+        assertThat(run.failCount()).isEqualTo(1);
+        assertThat(run.skippedCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("묶음 중 다른 노드가 다시 가져간 항목의 결과는 세지 않고, 완료로 표시된 항목만 센다")
+    void complete_countsOnlyCompletedItems() {
+
+        List<WorkItem> first = syncWorkQueueRepository.claim("node-a", 5, EXPIRED, 3);
+        // 앞의 두 항목만 node-b 가 다시 가져감
+        List<WorkItem> reclaimed = syncWorkQueueRepository.claim("node-b", 2, 60_000, 3);
+        assertThat(reclaimed).hasSize(2);
+
+        syncWorkQueueRepository.complete(RUN_ID, completed(first, SyncOutcome.SUCCESS), "node-a");
+
+        RunStatus run = syncWorkQueueRepository.findRun(RUN_ID);
+        assertThat(run.openCount()).isEqualTo(2);
+        assertThat(run.successCount()).isEqualTo(3);
+
+        syncWorkQueueRepository.complete(RUN_ID, completed(reclaimed, SyncOutcome.SKIPPED), "node-b");
+
+        run = syncWorkQueueRepository.findRun(RUN_ID);
+        assertThat(run.openCount()).isZero();
+        assertThat(run.successCount()).isEqualTo(run.totalCount());
+        assertThat(run.skippedCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수만큼 가져가고도 끝나지 않은 항목은 실패로 종료된다")
+    void claim_abandonExhausted() {
+
+        syncWorkQueueRepository.claim("node-a", 5, EXPIRED, 2);
+        syncWorkQueueRepository.claim("node-b", 5, EXPIRED, 2);
+
+        assertThat(syncWorkQueueRepository.claim("node-c", 5, 60_000, 2)).isEmpty();
+
+        RunStatus run = syncWorkQueueRepository.findRun(RUN_ID);
+        assertThat(run.openCount()).isZero();
+        assertThat(run.abandonedCount()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("run 을 종료하면 항목이 지워지고 종료 시각이 기록되며, 새 run 적재 시 이전 미완료 run 은 정리된다")
+    void finishAndCancelRuns() {
+
+        syncWorkQueueRepository.cancelOtherRuns("run-2", 7);
+        syncWorkQueueRepository.enqueue("run-2", List.of(new WorkItem(0L, null, 1L, 2024)));
+
+        assertThat(syncWorkQueueRepository.findRun(RUN_ID).finishedAt()).isNotNull();
+        assertThat(syncWorkQueueRepository.findRun(RUN_ID).openCount()).isZero();
+        assertThat(syncWorkQueueRepository.claim("node-a", 5, 60_000, 3))
+            .extracting(WorkItem::runId)
+            .containsExactly("run-2");
+
+        syncWorkQueueRepository.finishRun("run-2");
+
+        assertThat(syncWorkQueueRepository.findRun("run-2").openCount()).isZero();
+        assertThat(syncWorkQueueRepository.findLatestFinishedAt()).isNotNull();
+    }
+
+    private static List<CompletedItem> completed(List<WorkItem> items, SyncOutcome outcome) {
+
+        return items.stream().map(item -> new CompletedItem(item, outcome)).toList();
+    }
+}
@@ -18,13 +18,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.planitsquare.holidaykeeper.holidaykeeperbackend.client.NagerApiClient;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.client.HolidaySource;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.converter.CountryConverter;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.event.CountryDataChangedEvent;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.exception.BusinessException;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.exception.ErrorCode;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.index.CountryRegistry;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.response.CountrySyncResponse;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.Country;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.external_api_dto.response.CountryResponse;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository.CountryRepository;
+import org.springframework.context.ApplicationEventPublisher;
 
 
 @ExtendWith(MockitoExtension.class)
@@ -35,11 +39,17 @@ public class CountryServiceImplTest {
     private CountryRepository countryRepository;
 
     @Mock
-    private NagerApiClient nagerApiClient;
+    private HolidaySource holidaySource;
 
     @Mock
     private CountryConverter countryConverter;
 
+    @Mock
+    private CountryRegistry countryRegistry;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CountryServiceImpl countryService;
 
@@ -62,21 +72,22 @@ public class CountryServiceImplTest {
     // 1) getCountryByCode 테스트
     // ----------------------------------------------------------------
     @Test
-    @DisplayName("국가 코드 조회 - 존재하는 경우 반환")
+    @DisplayName("국가 코드 조회 - 존재하는 경우 레지스트리에서 반환 (DB 조회 없음)")
     void getCountryByCode_success() {
 
-        when(countryRepository.findByCode("KR")).thenReturn(Optional.of(korea));
+        when(countryRegistry.findByCode("KR")).thenReturn(Optional.of(korea));
 
         Country result = countryService.getCountryByCode("KR");
 
         assertThat(result).isEqualTo(korea);
+        verify(countryRepository, never()).findByCode(any());
     }
 
     @Test
     @DisplayName("국가 코드 조회 - 존재하지 않는 경우 BusinessException")
     void getCountryByCode_fail() {
 
-        when(countryRepository.findByCode("XX")).thenReturn(Optional.empty());
+        when(countryRegistry.findByCode("XX")).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> countryService.getCountryByCode("XX"))
             .isInstanceOf(BusinessException.class)
@@ -88,42 +99,84 @@ public class CountryServiceImplTest {
     // 2) getCountryList 테스트
     // ----------------------------------------------------------------
     @Test
-    @DisplayName("국가 목록 조회 - DB 데이터 반환")
+    @DisplayName("국가 목록 조회 - 레지스트리 데이터 반환")
     void getCountryList_success() {
 
-        when(countryRepository.findAll()).thenReturn(List.of(korea));
+        when(countryRegistry.findActive()).thenReturn(List.of(korea));
 
         List<Country> result = countryService.getCountryList();
 
         assertThat(result).hasSize(1);
         assertThat(result.get(0)).isEqualTo(korea);
-        verify(countryRepository, times(1)).findAll();
+        verify(countryRegistry, times(1)).findActive();
+        verify(countryRepository, never()).findAll();
     }
 
     // ----------------------------------------------------------------
     // 3) syncCountries 테스트
     // ----------------------------------------------------------------
     @Test
-    @DisplayName("syncCountries - 정상적으로 API 받아서 저장")
+    @DisplayName("syncCountries - 새 국가만 추가하고 기존 행은 삭제하지 않는다")
     void syncCountries_success() {
 
-        when(nagerApiClient.fetchAvailableCountries())
+        when(holidaySource.fetchAvailableCountries())
             .thenReturn(List.of(koreaResponse));
-
+        when(countryRepository.findAll())
+            .thenReturn(List.of());
         when(countryConverter.toEntity(koreaResponse))
             .thenReturn(korea);
 
-        countryService.syncCountries();
+        CountrySyncResponse result = countryService.syncCountries();
 
-        verify(countryRepository, times(1)).deleteAll();
-        verify(countryRepository, times(1)).saveAll(any());
+        assertThat(result.addedCodes()).containsExactly("KR");
+        assertThat(result.codesToFetch()).containsExactly("KR");
+        verify(countryRepository, never()).deleteAll();
+        verify(countryRepository, times(1)).saveAll(List.of(korea));
+        verify(eventPublisher, times(1)).publishEvent(new CountryDataChangedEvent());
+    }
+
+    @Test
+    @DisplayName("syncCountries - 국가 코드 기준으로 이름 변경·비활성화·재활성화만 반영")
+    void syncCountries_diff() {
+
+        Country turkey = Country.builder().id(2L).code("TR").name("Turkey").build();
+        Country yugoslavia = Country.builder().id(3L).code("YU").name("Yugoslavia").build();
+        Country kosovo = Country.builder().id(4L).code("XK").name("Kosovo").build();
+        kosovo.retire();
+
+        when(holidaySource.fetchAvailableCountries())
+            .thenReturn(List.of(
+                koreaResponse,
+                new CountryResponse("TR", "Türkiye"),
+                new CountryResponse("XK", "Kosovo")
+            ));
+        when(countryRepository.findAll())
+            .thenReturn(List.of(korea, turkey, yugoslavia, kosovo));
+
+        CountrySyncResponse result = countryService.syncCountries();
+
+        assertThat(result.addedCodes()).isEmpty();
+        assertThat(result.renamedCodes()).containsExactly("TR");
+        assertThat(result.retiredCodes()).containsExactly("YU");
+        assertThat(result.reactivatedCodes()).containsExactly("XK");
+        assertThat(result.unchangedCount()).isEqualTo(1);
+        assertThat(result.codesToFetch()).containsExactly("XK");
+
+        assertThat(turkey.getName()).isEqualTo("Türkiye");
+        assertThat(yugoslavia.getActive()).isFalse();
+        assertThat(kosovo.getActive()).isTrue();
+        assertThat(korea.getActive()).isTrue();
+
+        verify(countryRepository, never()).deleteAll();
+        verify(countryRepository, never()).saveAll(any());
+        verify(countryConverter, never()).toEntity(any());
     }
 
     @Test
     @DisplayName("syncCountries - API 응답 null → 예외 발생")
     void syncCountries_nullFail() {
 
-        when(nagerApiClient.fetchAvailableCountries())
+        when(holidaySource.fetchAvailableCountries())
             .thenReturn(null);
 
         assertThatThrownBy(() -> countryService.syncCountries())
@@ -138,7 +191,7 @@ public class CountryServiceImplTest {
     @DisplayName("syncCountries - API 응답 empty → 예외 발생")
     void syncCountries_emptyFail() {
 
-        when(nagerApiClient.fetchAvailableCountries())
+        when(holidaySource.fetchAvailableCountries())
             .thenReturn(Collections.emptyList());
 
         assertThatThrownBy(() -> countryService.syncCountries())
@@ -6,6 +6,7 @@ import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.index.CountryRegistry;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.Country;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository.CountryRepository;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -23,10 +24,14 @@ class CountryServiceIntegrationTest {
     @Autowired
     private CountryRepository countryRepository;
 
+    @Autowired
+    private CountryRegistry countryRegistry;
+
     @BeforeEach
     void setUp() {
 
         countryRepository.deleteAll();
+        countryRegistry.reload();
     }
 
     @Test
@@ -52,6 +57,7 @@ class CountryServiceIntegrationTest {
                 .name("South Korea")
                 .build()
         );
+        countryRegistry.reload(); // syncCountries 를 거치지 않고 직접 저장했으므로 레지스트리 재적재
 
         // when
         Country result = countryService.getCountryByCode("KR");
@@ -0,0 +1,223 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.response.HolidaySyncResponse;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.external_api_dto.response.CountryResponse;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.external_api_dto.response.HolidayResponse;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository.HolidayRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+/**
+ * 로컬 Mock Nager 서버를 대상으로 한 6년치 초기 적재 측정
+ * <p>
+ * Hibernate 통계로 엔티티 INSERT 수와 실제 준비된 JDBC 문장 수를 비교해, 공휴일 저장이 건별 INSERT 가 아니라 배치로 전송되는지
+ * 확인합니다. 운영 설정의 merge 방식도 같은 Mock 서버로 적재·재동기화를 확인합니다.
+ */
+@Slf4j
+@SpringBootTest(properties = {
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "spring.jpa.properties.hibernate.jdbc.batch_size=30",
+    "spring.jpa.properties.hibernate.order_inserts=true",
+    "spring.jpa.properties.hibernate.order_updates=true",
+    "nager.api.rate-limit.permits-per-second=1000",
+    "nager.api.rate-limit.burst=1000",
+    "logging.level.org.hibernate.SQL=INFO",
+    "logging.level.org.hibernate.orm.jdbc.bind=INFO"
+})
+@DirtiesContext
+@Sql(scripts = "/clean-database.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@DisplayName("HolidayService - 초기 적재 배치 INSERT 테스트")
+class HolidayInitialLoadTest {
+
+    private static final int COUNTRY_COUNT = 10;
+    private static final int HOLIDAYS_PER_YEAR = 40;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final MockWebServer MOCK_NAGER = startMockNager();
+
+    // 1 이면 Mock 응답에서 연도마다 마지막 공휴일을 빼고 첫 공휴일의 현지명을 바꿈 (재동기화 확인용)
+    private static volatile int revision;
+
+    @Autowired
+    private CountryService countryService;
+    @Autowired
+    private HolidayService holidayService;
+    @Autowired
+    private HolidayRepository holidayRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @DynamicPropertySource
+    static void nagerProperties(DynamicPropertyRegistry registry) {
+
+        registry.add("nager.api.base-url", () -> MOCK_NAGER.url("/api/v3").toString());
+    }
+
+    @AfterAll
+    static void tearDown() throws Exception {
+
+        MOCK_NAGER.shutdown();
+    }
+
+    @Test
+    @DisplayName("6년치 초기 적재 시 공휴일 INSERT 는 JDBC 배치로 묶여 전송된다")
+    void initialLoad_batchesInserts() {
+
+        // given
+        countryService.syncCountries();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        long startedAt = System.nanoTime();
+        HolidaySyncResponse response = holidayService.syncHolidaysFor6Years();
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        // then
+        long insertCount = statistics.getEntityInsertCount();
+        long statementCount = statistics.getPrepareStatementCount();
+
+        log.info("초기 적재: {}ms, 공휴일 {}건, 엔티티 INSERT {}건, 준비된 JDBC 문장 {}건",
+            elapsedMillis, holidayRepository.count(), insertCount, statementCount);
+
+        assertThat(response.failCount()).isZero();
+        assertThat(holidayRepository.count()).isEqualTo((long) COUNTRY_COUNT * 6 * HOLIDAYS_PER_YEAR);
+        assertThat(statementCount)
+            .as("건별 INSERT 라면 문장 수가 INSERT 수 이상이어야 한다")
+            .isLessThan(insertCount / 2);
+    }
+
+    @Nested
+    @TestPropertySource(properties = "holiday.sync.engine=merge")
+    @DisplayName("merge 방식 (운영 설정)")
+    class MergeEngine {
+
+        @AfterEach
+        void resetRevision() {
+
+            revision = 0;
+        }
+
+        @Test
+        @DisplayName("스테이징 테이블로 6년치를 적재하고, 응답이 바뀌면 수정·삭제를 반영하며 다시 실행해도 결과가 같다")
+        void mergeEngine_loadsAndResyncs() {
+
+            countryService.syncCountries();
+
+            HolidaySyncResponse initial = holidayService.syncHolidaysFor6Years();
+
+            assertThat(initial.failCount()).isZero();
+            assertThat(holidayRepository.count()).isEqualTo((long) COUNTRY_COUNT * 6 * HOLIDAYS_PER_YEAR);
+
+            revision = 1;
+            HolidaySyncResponse changed = holidayService.syncHolidaysFor6Years();
+            long changedCount = holidayRepository.count();
+
+            assertThat(changed.failCount()).isZero();
+            assertThat(changedCount).isEqualTo((long) COUNTRY_COUNT * 6 * (HOLIDAYS_PER_YEAR - 1));
+            assertThat(holidayRepository.findAll())
+                .filteredOn(holiday -> holiday.getName().equals("Holiday 0"))
+                .hasSize(COUNTRY_COUNT * 6)
+                .allSatisfy(holiday -> assertThat(holiday.getLocalName()).isEqualTo("새해 휴일"));
+
+            HolidaySyncResponse repeated = holidayService.syncHolidaysFor6Years();
+
+            assertThat(repeated.failCount()).isZero();
+            assertThat(holidayRepository.count()).isEqualTo(changedCount);
+        }
+    }
+
+    private static MockWebServer startMockNager() {
+
+        MockWebServer server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+
+                String path = request.getPath();
+                if (path == null) {
+                    return new MockResponse().setResponseCode(404);
+                }
+                if (path.endsWith("/AvailableCountries")) {
+                    return json(countries());
+                }
+
+                // /api/v3/PublicHolidays/{year}/{countryCode}
+                String[] segments = path.split("/");
+                if (segments.length >= 2 && path.contains("/PublicHolidays/")) {
+                    int year = Integer.parseInt(segments[segments.length - 2]);
+                    String countryCode = segments[segments.length - 1];
+                    return json(holidays(year, countryCode));
+                }
+                return new MockResponse().setResponseCode(404);
+            }
+        });
+
+        try {
+            server.start();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return server;
+    }
+
+    private static List<CountryResponse> countries() {
+
+        List<CountryResponse> countries = new ArrayList<>();
+        for (int i = 0; i < COUNTRY_COUNT; i++) {
+            countries.add(new CountryResponse("X" + (char) ('A' + i), "Country " + i));
+        }
+        return countries;
+    }
+
+    private static List<HolidayResponse> holidays(int year, String countryCode) {
+
+        List<HolidayResponse> holidays = new ArrayList<>();
+        LocalDate date = LocalDate.of(year, 1, 1);
+        int count = revision == 0 ? HOLIDAYS_PER_YEAR : HOLIDAYS_PER_YEAR - 1;
+        for (int n = 0; n < count; n++) {
+            String localName = revision == 1 && n == 0 ? "새해 휴일" : "휴일 " + n;
+            holidays.add(new HolidayResponse(
+                date.toString(), localName, "Holiday " + n, countryCode,
+                false, true, null, null, new String[]{"Public"}
+            ));
+            date = date.plusDays(7);
+        }
+        return holidays;
+    }
+
+    private static MockResponse json(Object body) {
+
+        try {
+            return new MockResponse()
+                .setBody(OBJECT_MAPPER.writeValueAsString(body))
+                .addHeader("Content-Type", "application/json");
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
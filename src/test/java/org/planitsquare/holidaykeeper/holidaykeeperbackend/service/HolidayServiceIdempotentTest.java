@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.index.CountryRegistry;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository.HolidayRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -22,10 +23,14 @@ class HolidayServiceIdempotentTest {
     private HolidayService holidayService;
     @Autowired
     private HolidayRepository holidayRepository;
+    @Autowired
+    private CountryRegistry countryRegistry;
 
     @BeforeEach
     void setup() {
 
+        // 정리 스크립트로 비운 국가 테이블을 레지스트리에도 반영
+        countryRegistry.reload();
     }
 
     @Test
@@ -2,36 +2,70 @@ package org.planitsquare.holidaykeeper.holidaykeeperbackend.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.planitsquare.holidaykeeper.holidaykeeperbackend.client.NagerApiClient;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.client.HolidaySource;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.client.HolidaySourceReactive;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.client.NagerFetchResult;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.converter.HolidayConverter;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.event.HolidayDataChangedEvent;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.exception.BusinessException;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.exception.ErrorCode;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.index.HolidayCountCache;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.index.HolidaySearchIndex;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.request.HolidayCursor;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.request.HolidayDeleteRequest;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.request.HolidayRefreshRequest;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.request.HolidaySearchRequest;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.response.HolidaySearchResponse;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.response.HolidaySearchResponse.HolidayItemDto;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.response.HolidaySyncResponse;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.Country;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.CountryYearSyncState;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.Holiday;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.enums.HolidayType;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.enums.SyncOutcome;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.external_api_dto.response.HolidayResponse;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository.CountryYearSyncStateRepository;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository.HolidayBulkRepository;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository.HolidayBulkRepository.MergeCount;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository.HolidayBulkRepository.SyncCheck;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository.HolidayQueryRepository;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository.HolidayRepository;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository.SyncRetryQueueRepository;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.utility.DateUtil;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.utility.HolidayFingerprint;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.utility.HolidayJsonDecoder.Rows;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("HolidayService 단위 테스트")
@@ -42,17 +76,38 @@ class HolidayServiceImplTest {
     @Mock
     private HolidayQueryRepository holidayQueryRepository;
     @Mock
+    private HolidayBulkRepository holidayBulkRepository;
+    @Mock
+    private CountryYearSyncStateRepository countryYearSyncStateRepository;
+    @Mock
+    private SyncRetryQueueRepository syncRetryQueueRepository;
+    @Mock
     private CountryService countryService;
     @Mock
-    private NagerApiClient nagerApiClient;
+    private HolidaySource holidaySource;
+    @Mock
+    private HolidaySourceReactive holidaySourceReactive;
+    @Mock
+    private TransactionTemplate transactionTemplate;
     @Mock
     private HolidayConverter holidayConverter;
+    @Mock
+    private HolidaySearchIndex holidaySearchIndex;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private SyncFreshnessPolicy syncFreshnessPolicy;
+    @Mock
+    private LeaseService leaseService;
+    @Spy
+    private HolidayCountCache holidayCountCache = new HolidayCountCache();
 
     @InjectMocks
     private HolidayServiceImpl holidayService;
 
     private Country korea;
     private Holiday h1, h2;
+    private HolidayItemDto item1, item2;
     private HolidayResponse r1, r2;
 
     @BeforeEach
@@ -67,7 +122,7 @@ class HolidayServiceImplTest {
             .date(LocalDate.of(2025, 1, 1))
             .localName("신정")
             .name("New Year")
-            .types("Public")
+            .typeMask(HolidayType.PUBLIC.getBit())
             .country(korea)
             .build();
 
@@ -76,10 +131,15 @@ class HolidayServiceImplTest {
             .date(LocalDate.of(2025, 3, 1))
             .localName("삼일절")
             .name("Independence Day")
-            .types("Public")
+            .typeMask(HolidayType.PUBLIC.getBit())
             .country(korea)
             .build();
 
+        item1 = new HolidayItemDto(1L, h1.getDate(), h1.getLocalName(), h1.getName(), 1L, "South Korea",
+            h1.getTypesList());
+        item2 = new HolidayItemDto(2L, h2.getDate(), h2.getLocalName(), h2.getName(), 1L, "South Korea",
+            h2.getTypesList());
+
         r1 = new HolidayResponse(
             "2025-01-01", "신정", "New Year", "KR",
             true, true, null, 1948, new String[] { "Public" }
@@ -108,24 +168,27 @@ class HolidayServiceImplTest {
                 "KR",
                 null,
                 0,
-                20
+                20,
+                null,
+                null
             );
 
             when(countryService.getCountryByCode("KR")).thenReturn(korea);
-            when(holidayQueryRepository.searchWithPaging(any(), any(), any(), any(), anyInt(),
+            when(holidayQueryRepository.searchWithPaging(any(), any(), any(), anyInt(), anyLong(),
                 anyInt()))
-                .thenReturn(List.of(h1, h2));
-            when(holidayQueryRepository.count(any(), any(), any(), any()))
+                .thenReturn(List.of(item1, item2));
+            when(holidayQueryRepository.count(any(), any(), any(), anyInt()))
                 .thenReturn(2L);
 
-            when(holidayConverter.toSearchResponseWithPaging(any(), anyInt(), anyInt(), anyLong()))
+            when(holidayConverter.toSearchResponseWithPaging(any(), anyInt(), anyInt(), any(),
+                anyBoolean(), anyBoolean()))
                 .thenReturn(
                     HolidaySearchResponse.builder()
                         .pageInfo(
                             HolidaySearchResponse.PageInfo.builder()
                                 .currentPage(0)
                                 .pageSize(20)
-                                .totalElements(2)
+                                .totalElements(2L)
                                 .totalPages(1)
                                 .isFirst(true)
                                 .isLast(true)
@@ -138,7 +201,175 @@ class HolidayServiceImplTest {
 
             HolidaySearchResponse res = holidayService.searchHolidays(req);
 
-            assertThat(res.pageInfo().totalElements()).isEqualTo(2);
+            assertThat(res.pageInfo().totalElements()).isEqualTo(2L);
+        }
+
+        @Test
+        @DisplayName("인메모리 인덱스 적중 시 DB 조회 없이 응답")
+        void search_indexHit() {
+
+            HolidaySearchRequest req = new HolidaySearchRequest(
+                LocalDate.of(2025, 1, 1),
+                LocalDate.of(2025, 12, 31),
+                "KR",
+                null,
+                0,
+                20,
+                null,
+                null
+            );
+
+            when(holidaySearchIndex.search(eq("KR"), any(), any(), any(), eq(0), eq(20)))
+                .thenReturn(Optional.of(
+                    new HolidaySearchIndex.SearchResult(Collections.emptyList(), 2L, false)));
+            when(holidayConverter.toSearchResponseWithPaging(any(), eq(0), eq(20), eq(2L), eq(true),
+                eq(false)))
+                .thenReturn(
+                    HolidaySearchResponse.builder()
+                        .pageInfo(
+                            HolidaySearchResponse.PageInfo.builder()
+                                .totalElements(2L)
+                                .build()
+                        )
+                        .holidays(Collections.emptyList())
+                        .build()
+                );
+
+            HolidaySearchResponse res = holidayService.searchHolidays(req);
+
+            assertThat(res.pageInfo().totalElements()).isEqualTo(2L);
+            verify(countryService, never()).getCountryByCode(any());
+            verify(holidayQueryRepository, never()).count(any(), any(), any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("커서 전달 시 OFFSET 대신 키셋 조회")
+        void search_withCursor() {
+
+            String cursor = new HolidayCursor(LocalDate.of(2025, 1, 1), 1L).encode();
+            HolidaySearchRequest req = new HolidaySearchRequest(
+                LocalDate.of(2025, 1, 1),
+                LocalDate.of(2025, 12, 31),
+                "KR",
+                null,
+                0,
+                20,
+                cursor,
+                null
+            );
+
+            when(countryService.getCountryByCode("KR")).thenReturn(korea);
+            when(holidayQueryRepository.searchAfter(eq(korea), any(), any(), anyInt(),
+                eq(LocalDate.of(2025, 1, 1)), eq(1L), eq(21)))
+                .thenReturn(List.of(item2));
+            when(holidayQueryRepository.count(any(), any(), any(), anyInt()))
+                .thenReturn(2L);
+            when(holidayConverter.toSearchResponseWithPaging(any(), eq(0), eq(20), eq(2L), eq(false),
+                eq(false)))
+                .thenReturn(
+                    HolidaySearchResponse.builder()
+                        .pageInfo(
+                            HolidaySearchResponse.PageInfo.builder()
+                                .totalElements(2L)
+                                .isLast(true)
+                                .build()
+                        )
+                        .holidays(Collections.emptyList())
+                        .build()
+                );
+
+            HolidaySearchResponse res = holidayService.searchHolidays(req);
+
+            assertThat(res.pageInfo().isLast()).isTrue();
+            verify(holidayQueryRepository, never())
+                .searchWithPaging(any(), any(), any(), anyInt(), anyLong(), anyInt());
+        }
+
+        @Test
+        @DisplayName("슬라이스 모드는 COUNT 없이 hasNext 만 계산")
+        void search_slice() {
+
+            HolidaySearchRequest req = new HolidaySearchRequest(
+                LocalDate.of(2025, 1, 1),
+                LocalDate.of(2025, 12, 31),
+                "KR",
+                null,
+                0,
+                1,
+                null,
+                true
+            );
+
+            when(countryService.getCountryByCode("KR")).thenReturn(korea);
+            when(holidayQueryRepository.searchWithPaging(any(), any(), any(), any(), eq(0L), eq(2)))
+                .thenReturn(List.of(item1, item2));
+            when(holidayConverter.toSearchResponseWithPaging(any(), eq(0), eq(1), isNull(), eq(true),
+                eq(true)))
+                .thenReturn(
+                    HolidaySearchResponse.builder()
+                        .pageInfo(
+                            HolidaySearchResponse.PageInfo.builder()
+                                .hasNext(true)
+                                .build()
+                        )
+                        .holidays(Collections.emptyList())
+                        .build()
+                );
+
+            HolidaySearchResponse res = holidayService.searchHolidays(req);
+
+            assertThat(res.pageInfo().hasNext()).isTrue();
+            assertThat(res.pageInfo().totalElements()).isNull();
+            verify(holidayQueryRepository, never()).count(any(), any(), any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("같은 조건의 전체 개수는 캐시에서 재사용")
+        void search_countCached() {
+
+            HolidaySearchRequest req = new HolidaySearchRequest(
+                LocalDate.of(2025, 1, 1),
+                LocalDate.of(2025, 12, 31),
+                "KR",
+                null,
+                0,
+                20,
+                null,
+                null
+            );
+
+            when(countryService.getCountryByCode("KR")).thenReturn(korea);
+            when(holidayQueryRepository.searchWithPaging(any(), any(), any(), anyInt(), anyLong(),
+                anyInt()))
+                .thenReturn(List.of(item1, item2));
+            when(holidayQueryRepository.count(any(), any(), any(), anyInt()))
+                .thenReturn(2L);
+
+            holidayService.searchHolidays(req);
+            holidayService.searchHolidays(req);
+
+            verify(holidayQueryRepository, times(1)).count(any(), any(), any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("해석할 수 없는 커서 → INVALID_CURSOR")
+        void search_invalid_cursor() {
+
+            HolidaySearchRequest req = new HolidaySearchRequest(
+                LocalDate.of(2025, 1, 1),
+                LocalDate.of(2025, 12, 31),
+                "KR",
+                null,
+                0,
+                20,
+                "not-a-cursor",
+                null
+            );
+
+            assertThatThrownBy(() -> holidayService.searchHolidays(req))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_CURSOR);
         }
 
         @Test
@@ -154,7 +385,9 @@ class HolidayServiceImplTest {
                 "XX",
                 null,
                 0,
-                20
+                20,
+                null,
+                null
             );
 
             assertThatThrownBy(() -> holidayService.searchHolidays(req))
@@ -174,7 +407,9 @@ class HolidayServiceImplTest {
                     "KR",
                     null,
                     0,
-                    20
+                    20,
+                    null,
+                    null
                 )
             ).isInstanceOf(BusinessException.class)
                 .extracting("errorCode")
@@ -190,7 +425,7 @@ class HolidayServiceImplTest {
                     LocalDate.of(2025, 1, 1),
                     LocalDate.of(2030, 1, 1),
                     "KR",
-                    null, 0, 20
+                    null, 0, 20, null, null
                 )
             ).isInstanceOf(BusinessException.class)
                 .extracting("errorCode")
@@ -198,6 +433,286 @@ class HolidayServiceImplTest {
         }
     }
 
+    // ===========================================================
+    // SYNC TESTS
+    // ===========================================================
+    @Nested
+    @DisplayName("syncHolidaysFor2Years 메서드는")
+    class Describe_sync {
+
+        @BeforeEach
+        void setUp() {
+
+            ReflectionTestUtils.setField(holidayService, "fetchConcurrency", 2);
+            ReflectionTestUtils.setField(holidayService, "writeBuffer", 1);
+        }
+
+        @Test
+        @DisplayName("국가·연도별로 각각 트랜잭션을 커밋하고, 실패한 국가·연도는 건너뛴다")
+        void sync_perCountryYearTransaction() {
+
+            int thisYear = DateUtil.getTodayYear();
+
+            when(countryService.getCountryList()).thenReturn(List.of(korea));
+            when(holidaySourceReactive.fetchHolidayRows(korea, thisYear - 1))
+                .thenReturn(Mono.just(new NagerFetchResult<>(rows(List.of(h1), List.of(r1)), false)));
+            when(holidaySourceReactive.fetchHolidayRows(korea, thisYear))
+                .thenReturn(Mono.error(new IllegalStateException("timeout")));
+            when(transactionTemplate.execute(any()))
+                .thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+            when(holidayRepository.findByCountryAndDateBetween(any(), any(), any()))
+                .thenReturn(List.of());
+
+            HolidaySyncResponse res = holidayService.syncHolidaysFor2Years();
+
+            assertThat(res.totalCount()).isEqualTo(2);
+            assertThat(res.successCount()).isEqualTo(1);
+            assertThat(res.failCount()).isEqualTo(1);
+
+            verify(transactionTemplate, times(1)).execute(any());
+            verify(eventPublisher).publishEvent(new HolidayDataChangedEvent(1L, thisYear - 1));
+            verify(eventPublisher).publishEvent(HolidayDataChangedEvent.all());
+        }
+
+        @Test
+        @DisplayName("304 응답이고 DB 에 데이터가 있으면 upsert 를 건너뛰고, DB 가 비어 있으면 캐시된 본문으로 저장")
+        void sync_notModified() {
+
+            int thisYear = DateUtil.getTodayYear();
+
+            when(countryService.getCountryList()).thenReturn(List.of(korea));
+            when(holidaySourceReactive.fetchHolidayRows(eq(korea), anyInt()))
+                .thenReturn(Mono.just(new NagerFetchResult<>(rows(List.of(h1), List.of(r1)), true)));
+            when(holidayRepository.existsByCountryAndDateBetween(
+                korea, LocalDate.of(thisYear - 1, 1, 1), LocalDate.of(thisYear - 1, 12, 31)))
+                .thenReturn(true);
+            when(holidayRepository.existsByCountryAndDateBetween(
+                korea, LocalDate.of(thisYear, 1, 1), LocalDate.of(thisYear, 12, 31)))
+                .thenReturn(false);
+            when(transactionTemplate.execute(any()))
+                .thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+            when(holidayRepository.findByCountryAndDateBetween(any(), any(), any()))
+                .thenReturn(List.of());
+
+            HolidaySyncResponse res = holidayService.syncHolidaysFor2Years();
+
+            assertThat(res.successCount()).isEqualTo(2);
+            assertThat(res.skippedCount()).isEqualTo(1);
+            verify(transactionTemplate, times(1)).execute(any());
+        }
+
+        @Test
+        @DisplayName("응답 지문이 마지막 반영 때와 같으면 기존 데이터 조회 없이 건너뛴다")
+        void sync_fingerprintMatch() {
+
+            int thisYear = DateUtil.getTodayYear();
+
+            when(countryService.getCountryList()).thenReturn(List.of(korea));
+            when(countryYearSyncStateRepository.findByYearBetween(thisYear - 1, thisYear))
+                .thenReturn(List.of(
+                    syncState(thisYear - 1, HolidayFingerprint.of(List.of(r1, r2))),
+                    syncState(thisYear, HolidayFingerprint.of(List.of(r1)))
+                ));
+            // 순서가 달라도 같은 응답이면 지문 일치
+            when(holidaySourceReactive.fetchHolidayRows(korea, thisYear - 1))
+                .thenReturn(Mono.just(new NagerFetchResult<>(rows(List.of(h2, h1), List.of(r2, r1)), false)));
+            when(holidaySourceReactive.fetchHolidayRows(korea, thisYear))
+                .thenReturn(Mono.just(new NagerFetchResult<>(rows(List.of(h1), List.of(r1)), false)));
+
+            HolidaySyncResponse res = holidayService.syncHolidaysFor2Years();
+
+            assertThat(res.successCount()).isEqualTo(2);
+            assertThat(res.skippedCount()).isEqualTo(2);
+            verify(holidayRepository, never()).findByCountryAndDateBetween(any(), any(), any());
+            verify(transactionTemplate, never()).execute(any());
+        }
+
+        @Test
+        @DisplayName("syncEachCountryYear 는 국가·연도별 결과를 요청 순서대로 반환한다")
+        void sync_eachCountryYear() {
+
+            int thisYear = DateUtil.getTodayYear();
+
+            when(countryYearSyncStateRepository.findByYearBetween(thisYear - 2, thisYear))
+                .thenReturn(List.of(syncState(thisYear - 1, HolidayFingerprint.of(List.of(r1)))));
+            when(holidaySourceReactive.fetchHolidayRows(korea, thisYear - 2))
+                .thenReturn(Mono.error(new IllegalStateException("503")));
+            when(holidaySourceReactive.fetchHolidayRows(korea, thisYear - 1))
+                .thenReturn(Mono.just(new NagerFetchResult<>(rows(List.of(h1), List.of(r1)), false)));
+            when(holidaySourceReactive.fetchHolidayRows(korea, thisYear))
+                .thenReturn(Mono.just(new NagerFetchResult<>(rows(List.of(h1), List.of(r1)), false)));
+            when(transactionTemplate.execute(any()))
+                .thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+            when(holidayRepository.findByCountryAndDateBetween(any(), any(), any()))
+                .thenReturn(List.of());
+
+            List<SyncOutcome> outcomes = holidayService.syncEachCountryYear(List.of(
+                new SyncTarget(korea, thisYear),
+                new SyncTarget(korea, thisYear - 1),
+                new SyncTarget(korea, thisYear - 2)
+            ));
+
+            assertThat(outcomes).containsExactly(SyncOutcome.SUCCESS, SyncOutcome.SKIPPED, SyncOutcome.FAILED);
+        }
+
+        @Test
+        @DisplayName("임대 작업 중 임대를 잃었으면 반영하지 않고 SYNC_LEASE_LOST 로 중단한다")
+        void sync_leaseLost() {
+
+            when(leaseService.currentLease()).thenReturn(() -> false);
+            when(countryService.getCountryList()).thenReturn(List.of(korea));
+            when(holidaySourceReactive.fetchHolidayRows(eq(korea), anyInt()))
+                .thenReturn(Mono.just(new NagerFetchResult<>(rows(List.of(h1), List.of(r1)), false)));
+
+            assertThatThrownBy(() -> holidayService.syncHolidaysFor2Years())
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.SYNC_LEASE_LOST);
+
+            verify(transactionTemplate, never()).execute(any());
+            verify(holidayBulkRepository, never()).markChecked(any());
+            verify(syncRetryQueueRepository, never()).recordFailures(any(), anyLong(), anyLong());
+        }
+
+        @Test
+        @DisplayName("merge 방식은 여러 국가·연도를 한 트랜잭션에서 집합 기반으로 반영한다")
+        void sync_mergeEngine() {
+
+            ReflectionTestUtils.setField(holidayService, "syncEngine", "merge");
+            ReflectionTestUtils.setField(holidayService, "mergeBatchSize", 2);
+
+            when(countryService.getCountryList()).thenReturn(List.of(korea));
+            when(holidaySourceReactive.fetchHolidayRows(eq(korea), anyInt()))
+                .thenReturn(Mono.just(new NagerFetchResult<>(rows(List.of(h1), List.of(r1)), false)));
+            when(transactionTemplate.execute(any()))
+                .thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+            when(holidayBulkRepository.merge(any()))
+                .thenReturn(List.of(
+                    new MergeCount(0, 1, 1, 0, 0),
+                    new MergeCount(1, 1, 0, 0, 1)
+                ));
+
+            HolidaySyncResponse res = holidayService.syncHolidaysFor2Years();
+
+            assertThat(res.successCount()).isEqualTo(2);
+            assertThat(res.failCount()).isZero();
+            verify(transactionTemplate, times(1)).execute(any());
+            verify(holidayBulkRepository, times(1)).merge(any());
+            verify(holidayRepository, never()).findByCountryAndDateBetween(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("syncDueCountryYears 는 상태가 없거나 예정 시각이 지난 국가·연도만 오래 기다린 순서로 limit 개 동기화한다")
+        void sync_dueCountryYears() {
+
+            int thisYear = DateUtil.getTodayYear();
+            LocalDateTime now = LocalDateTime.now();
+
+            when(syncFreshnessPolicy.firstYear()).thenReturn(thisYear - 3);
+            when(syncFreshnessPolicy.lastYear()).thenReturn(thisYear);
+            when(countryService.getCountryList()).thenReturn(List.of(korea));
+            // thisYear - 3: 상태 없음, thisYear - 2: 1시간 지남, thisYear - 1: 10분 지남, thisYear: 아직
+            when(countryYearSyncStateRepository.findByYearBetween(anyInt(), anyInt()))
+                .thenReturn(List.of(
+                    syncState(thisYear - 2, HolidayFingerprint.of(List.of(r1)), now.minusHours(1)),
+                    syncState(thisYear - 1, HolidayFingerprint.of(List.of(r1)), now.minusMinutes(10)),
+                    syncState(thisYear, HolidayFingerprint.of(List.of(r1)), now.plusHours(1))
+                ));
+            when(holidaySourceReactive.fetchHolidayRows(eq(korea), anyInt()))
+                .thenReturn(Mono.just(new NagerFetchResult<>(rows(List.of(h1), List.of(r1)), false)));
+            when(transactionTemplate.execute(any()))
+                .thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+            when(holidayRepository.findByCountryAndDateBetween(any(), any(), any()))
+                .thenReturn(List.of());
+
+            HolidaySyncResponse res = holidayService.syncDueCountryYears(2);
+
+            assertThat(res.totalCount()).isEqualTo(2);
+            assertThat(res.successCount()).isEqualTo(2);
+            assertThat(res.skippedCount()).isEqualTo(1);
+
+            verify(holidaySourceReactive).fetchHolidayRows(korea, thisYear - 3);
+            verify(holidaySourceReactive).fetchHolidayRows(korea, thisYear - 2);
+            verify(holidaySourceReactive, never()).fetchHolidayRows(korea, thisYear - 1);
+            verify(holidaySourceReactive, never()).fetchHolidayRows(korea, thisYear);
+            // 변경 없는 국가·연도는 조회 시각만 갱신, 주기 동기화는 인덱스 전체 재적재 안 함
+            verify(holidayBulkRepository).markChecked(any());
+            verify(eventPublisher, never()).publishEvent(HolidayDataChangedEvent.all());
+        }
+
+        @Test
+        @DisplayName("조회에 실패한 국가·연도는 반영한 적이 없어도 지문 없이 retry-delay 뒤 재조회로 기록한다")
+        void sync_failedWithoutState_recordsRetryAt() {
+
+            int thisYear = DateUtil.getTodayYear();
+            LocalDateTime retryAt = LocalDateTime.now().plusMinutes(30);
+
+            when(syncFreshnessPolicy.firstYear()).thenReturn(thisYear - 1);
+            when(syncFreshnessPolicy.lastYear()).thenReturn(thisYear);
+            when(syncFreshnessPolicy.retryAt(any())).thenReturn(retryAt);
+            when(countryService.getCountryList()).thenReturn(List.of(korea));
+            // thisYear - 1: 이전에도 실패해 지문 없는 행, thisYear: 상태 없음
+            when(countryYearSyncStateRepository.findByYearBetween(anyInt(), anyInt()))
+                .thenReturn(List.of(CountryYearSyncState.builder()
+                    .country(korea)
+                    .year(thisYear - 1)
+                    .nextSyncAt(LocalDateTime.now().minusMinutes(1))
+                    .build()));
+            when(holidaySourceReactive.fetchHolidayRows(eq(korea), anyInt()))
+                .thenReturn(Mono.error(new IllegalStateException("503")));
+
+            HolidaySyncResponse res = holidayService.syncDueCountryYears(10);
+
+            assertThat(res.failCount()).isEqualTo(2);
+            ArgumentCaptor<List<SyncCheck>> checks = ArgumentCaptor.captor();
+            verify(holidayBulkRepository).markChecked(checks.capture());
+            assertThat(checks.getValue())
+                .extracting(SyncCheck::year, SyncCheck::fingerprint, SyncCheck::nextSyncAt)
+                .containsExactlyInAnyOrder(
+                    tuple(thisYear - 1, null, retryAt),
+                    tuple(thisYear, null, retryAt)
+                );
+        }
+
+        @Test
+        @DisplayName("syncDueCountryYears 는 예정 시각이 지난 국가·연도가 없으면 외부 API 를 호출하지 않는다")
+        void sync_nothingDue() {
+
+            int thisYear = DateUtil.getTodayYear();
+
+            when(syncFreshnessPolicy.firstYear()).thenReturn(thisYear);
+            when(syncFreshnessPolicy.lastYear()).thenReturn(thisYear);
+            when(countryService.getCountryList()).thenReturn(List.of(korea));
+            when(countryYearSyncStateRepository.findByYearBetween(thisYear, thisYear))
+                .thenReturn(List.of(syncState(thisYear, 1L, LocalDateTime.now().plusHours(1))));
+
+            assertThat(holidayService.syncDueCountryYears(10)).isNull();
+            verify(holidaySourceReactive, never()).fetchHolidayRows(any(), anyInt());
+        }
+
+        private Rows rows(List<Holiday> holidays, List<HolidayResponse> responses) {
+
+            return new Rows(holidays, HolidayFingerprint.of(responses));
+        }
+
+        private CountryYearSyncState syncState(int year, long fingerprint) {
+
+            return syncState(year, fingerprint, null);
+        }
+
+        private CountryYearSyncState syncState(int year, long fingerprint, LocalDateTime nextSyncAt) {
+
+            return CountryYearSyncState.builder()
+                .country(korea)
+                .year(year)
+                .fingerprint(fingerprint)
+                .syncedAt(LocalDateTime.now())
+                .nextSyncAt(nextSyncAt)
+                .build();
+        }
+    }
+
     // ===========================================================
     // REFRESH TESTS (PRIVATE syncByYear 간접 테스트)
     // ===========================================================
@@ -210,7 +725,7 @@ class HolidayServiceImplTest {
         void refresh_success() {
 
             when(countryService.getCountryByCode("KR")).thenReturn(korea);
-            when(nagerApiClient.fetchPublicHolidays("KR", 2025))
+            when(holidaySource.fetchPublicHolidays("KR", 2025))
                 .thenReturn(List.of(r1));
 
             when(holidayRepository.findByCountryAndDateBetween(any(), any(), any()))
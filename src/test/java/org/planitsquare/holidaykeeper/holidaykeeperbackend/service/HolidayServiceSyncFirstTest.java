@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.index.CountryRegistry;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.Country;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository.CountryRepository;
 import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository.HolidayRepository;
@@ -26,6 +27,8 @@ class HolidayServiceSyncFirstTest {
     private HolidayRepository holidayRepository;
     @Autowired
     private CountryRepository countryRepository;
+    @Autowired
+    private CountryRegistry countryRegistry;
 
     @BeforeEach
     void setup() {
@@ -33,6 +36,7 @@ class HolidayServiceSyncFirstTest {
         countryRepository.save(Country.builder().code("KR").name("South Korea").build());
         countryRepository.save(Country.builder().code("US").name("United States").build());
         countryRepository.save(Country.builder().code("AL").name("Albania").build());
+        countryRegistry.reload();
     }
 
     @Test
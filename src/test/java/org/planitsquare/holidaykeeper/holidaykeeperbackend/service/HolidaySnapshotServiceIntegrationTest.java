@@ -0,0 +1,303 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.client.HolidaySource;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.client.HolidaySourceReactive;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.configuration.DataInitializer;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.exception.BusinessException;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.exception.ErrorCode;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.Country;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.Holiday;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.enums.WarmupStatus;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository.CountryRepository;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository.HolidayRepository;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.utility.HolidayKey;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 바이너리 스냅샷 내보내기 → 빈 DB 적재 통합 테스트
+ * <p>
+ * 실제 H2 에 국가 120개 · 공휴일 12,000건(7년치 규모)을 넣고 exportSnapshot 으로 받은 파일을 빈 DB 에 importSnapshot 으로
+ * 적재합니다. 외부 API(HolidaySource)는 Mock 으로 두고 호출되지 않는지 확인합니다.
+ */
+@Slf4j
+@SpringBootTest(properties = {
+    "holiday.snapshot.insert-batch-size=500",
+    "logging.level.org.hibernate.SQL=INFO",
+    "logging.level.org.hibernate.orm.jdbc.bind=INFO"
+})
+@DirtiesContext
+@Sql(scripts = "/clean-database.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@DisplayName("HolidaySnapshotService 통합 테스트")
+class HolidaySnapshotServiceIntegrationTest {
+
+    private static final int COUNTRY_COUNT = 120;
+    private static final int HOLIDAYS_PER_COUNTRY = 100;
+
+    // 스냅샷의 공휴일 한 건 크기 (id, countryIndex, epochDay, localNameRef, nameRef, countiesRef, launchYear, typeMask, flags)
+    private static final int HOLIDAY_ROW_BYTES = 8 + 4 + 4 + 4 + 4 + 4 + 2 + 1 + 1;
+
+    private static final String SELECT_COUNTRIES_SQL =
+        "SELECT country_id, country_code, country_name, active FROM country ORDER BY country_id";
+
+    private static final String SELECT_HOLIDAYS_SQL =
+        "SELECT holiday_id, country_id, holiday_date, holiday_local_name, holiday_name, name_key, fixed, global, "
+            + "counties, holiday_launch_year, holiday_type_mask FROM country_holiday ORDER BY holiday_id";
+
+    @Autowired
+    private HolidaySnapshotService holidaySnapshotService;
+    @Autowired
+    private DataInitializer dataInitializer;
+    @Autowired
+    private CountryRepository countryRepository;
+    @Autowired
+    private HolidayRepository holidayRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private HolidaySource holidaySource;
+    @MockitoBean
+    private HolidaySourceReactive holidaySourceReactive;
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    @DisplayName("내보낸 스냅샷을 빈 DB 에 적재하면 ID·컬럼·name_key 가 원본과 같다")
+    void exportThenImport_restoresRows() throws IOException {
+
+        // given
+        seed();
+        List<Map<String, Object>> countries = jdbcTemplate.queryForList(SELECT_COUNTRIES_SQL);
+        List<Map<String, Object>> holidays = jdbcTemplate.queryForList(SELECT_HOLIDAYS_SQL);
+        Path snapshot = exportToFile();
+        clearTables();
+
+        // when
+        long startedAt = System.nanoTime();
+        boolean loaded = holidaySnapshotService.importSnapshot(snapshot);
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        log.info("스냅샷 적재: 국가 {}개, 공휴일 {}건, 파일 {}바이트, {}ms",
+            countries.size(), holidays.size(), Files.size(snapshot), elapsedMillis);
+
+        // then
+        assertThat(loaded).isTrue();
+        assertThat(jdbcTemplate.queryForList(SELECT_COUNTRIES_SQL)).isEqualTo(countries);
+        assertThat(jdbcTemplate.queryForList(SELECT_HOLIDAYS_SQL)).isEqualTo(holidays);
+
+        // name_key 는 스냅샷에 없으므로 적재 시 영문명으로 다시 계산됨
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT name_key FROM country_holiday WHERE holiday_id = 1", String.class))
+            .isEqualTo(HolidayKey.normalizedName("New Year’s Day"))
+            .isNotEqualTo("New Year’s Day");
+    }
+
+    @Test
+    @DisplayName("적재 후 JPA 로 새 국가·공휴일을 저장해도 ID 가 충돌하지 않는다 (ID 시퀀스 보정)")
+    void importThenSave_noIdCollision() throws IOException {
+
+        // given
+        seed();
+        Path snapshot = exportToFile();
+        clearTables();
+        holidaySnapshotService.importSnapshot(snapshot);
+
+        // when
+        Country country = countryRepository.save(Country.builder().code("ZZ").name("New Country").build());
+        Holiday holiday = holidayRepository.save(Holiday.builder()
+            .date(LocalDate.of(2025, 1, 1))
+            .localName("새해")
+            .name("New Year's Day")
+            .country(country)
+            .fixed(true)
+            .global(true)
+            .typeMask(1)
+            .build());
+
+        // then
+        assertThat(country.getId()).isGreaterThan(COUNTRY_COUNT);
+        assertThat(holiday.getId()).isGreaterThan((long) COUNTRY_COUNT * HOLIDAYS_PER_COUNTRY);
+        assertThat(sequenceBaseValue("COUNTRY_SEQ")).isGreaterThan(COUNTRY_COUNT);
+        assertThat(sequenceBaseValue("COUNTRY_HOLIDAY_SEQ"))
+            .isGreaterThan((long) COUNTRY_COUNT * HOLIDAYS_PER_COUNTRY);
+        assertThat(countryRepository.count()).isEqualTo(COUNTRY_COUNT + 1);
+        assertThat(holidayRepository.count()).isEqualTo((long) COUNTRY_COUNT * HOLIDAYS_PER_COUNTRY + 1);
+    }
+
+    @Test
+    @DisplayName("국가·공휴일 테이블이 비어 있지 않으면 적재하지 않는다")
+    void nonEmptyDatabase_notLoaded() throws IOException {
+
+        // given
+        seed();
+        Path snapshot = exportToFile();
+        clearTables();
+        jdbcTemplate.update("INSERT INTO country (country_id, country_code, country_name, active, created_at, updated_at) "
+            + "VALUES (999, 'ZZ', 'Existing', TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+
+        // when
+        boolean loaded = holidaySnapshotService.importSnapshot(snapshot);
+
+        // then
+        assertThat(loaded).isFalse();
+        assertThat(countryRepository.count()).isEqualTo(1);
+        assertThat(holidayRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("체크섬이 맞지 않는 파일은 적재하지 않는다")
+    void corruptedChecksum_leavesTablesEmpty() throws IOException {
+
+        // given
+        seed();
+        byte[] bytes = Files.readAllBytes(exportToFile());
+        clearTables();
+        bytes[bytes.length / 2] ^= 1;
+        Path snapshot = Files.write(tempDir.resolve("corrupted.snapshot"), bytes);
+
+        // when, then
+        assertThatThrownBy(() -> holidaySnapshotService.importSnapshot(snapshot))
+            .isInstanceOf(BusinessException.class)
+            .extracting(e -> ((BusinessException) e).getErrorCode())
+            .isEqualTo(ErrorCode.SNAPSHOT_INVALID);
+        assertThat(countryRepository.count()).isZero();
+        assertThat(holidayRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("체크섬은 맞지만 공휴일 중간에서 끊긴 파일은 앞서 넣은 배치까지 모두 롤백한다")
+    void truncatedHolidays_rollsBackInsertedBatches() throws IOException {
+
+        // given: 마지막 공휴일 10건을 잘라내고 체크섬을 다시 계산 (국가와 앞쪽 공휴일 배치는 적재된 뒤 실패)
+        seed();
+        byte[] bytes = Files.readAllBytes(exportToFile());
+        clearTables();
+        byte[] body = Arrays.copyOf(bytes, bytes.length - Integer.BYTES - 10 * HOLIDAY_ROW_BYTES);
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        Path snapshot = Files.write(tempDir.resolve("truncated.snapshot"), ByteBuffer.allocate(body.length + Integer.BYTES)
+            .put(body)
+            .putInt((int) crc.getValue())
+            .array());
+
+        // when, then
+        assertThatThrownBy(() -> holidaySnapshotService.importSnapshot(snapshot))
+            .isInstanceOf(BusinessException.class)
+            .extracting(e -> ((BusinessException) e).getErrorCode())
+            .isEqualTo(ErrorCode.SNAPSHOT_INVALID);
+        assertThat(countryRepository.count()).isZero();
+        assertThat(holidayRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("snapshot-path 가 있으면 기동 시 외부 API 없이 스냅샷을 적재하고 바로 준비 완료가 된다")
+    void dataInitializer_loadsSnapshotOnStartup() throws IOException {
+
+        // given
+        seed();
+        Path snapshot = exportToFile();
+        clearTables();
+        ReflectionTestUtils.setField(dataInitializer, "snapshotPath", snapshot.toString());
+        ReflectionTestUtils.setField(dataInitializer, "enabled", true);
+        ReflectionTestUtils.setField(dataInitializer, "status", WarmupStatus.WARMING);
+
+        // when
+        dataInitializer.run();
+
+        // then
+        assertThat(dataInitializer.getStatus()).isEqualTo(WarmupStatus.COMPLETED);
+        assertThat(countryRepository.count()).isEqualTo(COUNTRY_COUNT);
+        assertThat(holidayRepository.count()).isEqualTo((long) COUNTRY_COUNT * HOLIDAYS_PER_COUNTRY);
+        verifyNoInteractions(holidaySource, holidaySourceReactive);
+    }
+
+    /**
+     * 국가 120개(1개 비활성) × 공휴일 100건, ID 는 1부터 (ID 시퀀스와 겹치도록)
+     */
+    private void seed() {
+
+        List<Object[]> countries = new ArrayList<>();
+        List<Object[]> holidays = new ArrayList<>();
+        long holidayId = 0;
+
+        for (int c = 0; c < COUNTRY_COUNT; c++) {
+            long countryId = c + 1;
+            String code = "" + (char) ('A' + c / 26) + (char) ('A' + c % 26);
+            countries.add(new Object[]{countryId, code, "Country " + code, c != 1});
+
+            LocalDate date = LocalDate.of(2020, 1, 1);
+            for (int n = 0; n < HOLIDAYS_PER_COUNTRY; n++) {
+                String name = n == 0 ? "New Year’s Day" : "Holiday " + n;
+                holidays.add(new Object[]{
+                    ++holidayId,
+                    Date.valueOf(date),
+                    "공휴일 " + n,
+                    name,
+                    HolidayKey.normalizedName(name),
+                    countryId,
+                    n % 2 == 0,
+                    n % 5 != 0,
+                    n % 5 == 0 ? code + "-01," + code + "-02" : null,
+                    n % 3 == 0 ? 1950 + n : null,
+                    1 << (n % 6)
+                });
+                date = date.plusDays(25);
+            }
+        }
+
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO country (country_id, country_code, country_name, active, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+            countries);
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO country_holiday (holiday_id, holiday_date, holiday_local_name, holiday_name, name_key, "
+                + "country_id, fixed, global, counties, holiday_launch_year, holiday_type_mask, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+            holidays);
+    }
+
+    private Path exportToFile() throws IOException {
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        holidaySnapshotService.exportSnapshot(out);
+        return Files.write(tempDir.resolve("holidays.snapshot"), out.toByteArray());
+    }
+
+    private void clearTables() {
+
+        jdbcTemplate.update("DELETE FROM country_holiday");
+        jdbcTemplate.update("DELETE FROM country");
+    }
+
+    private long sequenceBaseValue(String sequenceName) {
+
+        return jdbcTemplate.queryForObject(
+            "SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = ?", Long.class, sequenceName);
+    }
+}
@@ -0,0 +1,204 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.repository.SyncLeaseRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * 하나의 H2 파일 DB 를 공유하는 애플리케이션 컨텍스트 두 개(노드 A, B)로 임대 동작을 검증합니다.
+ */
+@DisplayName("LeaseService 다중 노드 테스트")
+class LeaseServiceMultiNodeTest {
+
+    @TempDir
+    Path tempDir;
+
+    private AnnotationConfigApplicationContext nodeA;
+    private AnnotationConfigApplicationContext nodeB;
+
+    @Configuration
+    @Import({SyncLeaseRepository.class, LeaseServiceImpl.class})
+    static class LeaseNodeConfig {
+
+        @Bean
+        DataSource dataSource(@Value("${test.db-url}") String url) {
+
+            return new DriverManagerDataSource(url, "sa", "");
+        }
+
+        @Bean
+        JdbcTemplate jdbcTemplate(DataSource dataSource) {
+
+            return new JdbcTemplate(dataSource);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+
+        String url = "jdbc:h2:file:" + tempDir.resolve("leasedb").toAbsolutePath() + ";AUTO_SERVER=TRUE";
+        nodeA = startNode(url, "node-a");
+        nodeB = startNode(url, "node-b");
+    }
+
+    @AfterEach
+    void tearDown() {
+
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    @DisplayName("한 노드가 임대를 보유하는 동안 다른 노드는 실행하지 않고, 반납 후에는 실행한다")
+    void onlyOneNodeRuns() throws Exception {
+
+        LeaseService a = nodeA.getBean(LeaseService.class);
+        LeaseService b = nodeB.getBean(LeaseService.class);
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+
+        CompletableFuture<Boolean> runA = CompletableFuture.supplyAsync(() ->
+            a.runWithLease(LeaseService.HOLIDAY_SYNC, () -> {
+                started.countDown();
+                waitFor(finish);
+            }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        AtomicInteger ranOnB = new AtomicInteger();
+        assertThat(b.runWithLease(LeaseService.HOLIDAY_SYNC, ranOnB::incrementAndGet)).isFalse();
+        assertThat(nodeB.getBean(SyncLeaseRepository.class).findOwner(LeaseService.HOLIDAY_SYNC))
+            .isEqualTo("node-a");
+
+        finish.countDown();
+        assertThat(runA.get(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(b.runWithLease(LeaseService.HOLIDAY_SYNC, ranOnB::incrementAndGet)).isTrue();
+        assertThat(ranOnB).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("실행 중에는 heartbeat 로 ttl 보다 오래 임대가 유지된다")
+    void heartbeatKeepsLease() throws Exception {
+
+        LeaseService a = nodeA.getBean(LeaseService.class);
+        LeaseService b = nodeB.getBean(LeaseService.class);
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+
+        CompletableFuture<Boolean> runA = CompletableFuture.supplyAsync(() ->
+            a.runWithLease(LeaseService.HOLIDAY_SYNC, () -> {
+                started.countDown();
+                waitFor(finish);
+            }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // ttl(500ms) 의 두 배 이상 지나도 B 는 획득하지 못함
+        long until = System.currentTimeMillis() + 1_200;
+        while (System.currentTimeMillis() < until) {
+            assertThat(b.runWithLease(LeaseService.HOLIDAY_SYNC, () -> { })).isFalse();
+            Thread.sleep(100);
+        }
+
+        finish.countDown();
+        assertThat(runA.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("죽은 노드의 임대는 ttl 이 지나면 다른 노드가 가져간다")
+    void deadOwnerExpires() {
+
+        // 임대를 획득한 뒤 반납·연장 없이 사라진 노드
+        nodeA.getBean(SyncLeaseRepository.class).tryAcquire(LeaseService.HOLIDAY_SYNC, "node-a", 500);
+        nodeA.close();
+
+        LeaseService b = nodeB.getBean(LeaseService.class);
+        assertThat(b.runWithLease(LeaseService.HOLIDAY_SYNC, () -> { })).isFalse();
+
+        await().atMost(Duration.ofSeconds(5))
+            .pollInterval(Duration.ofMillis(100))
+            .until(() -> b.runWithLease(LeaseService.HOLIDAY_SYNC, () -> { }));
+    }
+
+    @Test
+    @DisplayName("실행 중 다른 노드가 임대를 가져가면 작업 스레드의 임대가 보유 중이 아님으로 바뀐다")
+    void leaseLostIsVisibleToTask() throws Exception {
+
+        LeaseService a = nodeA.getBean(LeaseService.class);
+        SyncLeaseRepository repositoryB = nodeB.getBean(SyncLeaseRepository.class);
+
+        AtomicReference<LeaseService.Lease> lease = new AtomicReference<>();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+
+        CompletableFuture<Boolean> runA = CompletableFuture.supplyAsync(() ->
+            a.runWithLease(LeaseService.HOLIDAY_SYNC, () -> {
+                lease.set(a.currentLease());
+                started.countDown();
+                waitFor(finish);
+            }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(lease.get().isHeld()).isTrue();
+
+        // A 의 연장이 늦어 만료된 사이 B 가 가져간 상황
+        repositoryB.release(LeaseService.HOLIDAY_SYNC, "node-a");
+        assertThat(repositoryB.tryAcquire(LeaseService.HOLIDAY_SYNC, "node-b", 60_000)).isTrue();
+
+        await().atMost(Duration.ofSeconds(5))
+            .pollInterval(Duration.ofMillis(50))
+            .until(() -> !lease.get().isHeld());
+
+        finish.countDown();
+        assertThat(runA.get(5, TimeUnit.SECONDS)).isTrue();
+        // 작업이 끝나면 현재 스레드의 임대는 없음, B 의 임대는 그대로
+        assertThat(a.currentLease()).isNull();
+        assertThat(repositoryB.findOwner(LeaseService.HOLIDAY_SYNC)).isEqualTo("node-b");
+    }
+
+    private AnnotationConfigApplicationContext startNode(String url, String ownerId) {
+
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("lease", Map.of(
+            "test.db-url", url,
+            "holiday.sync.lease.owner-id", ownerId,
+            "holiday.sync.lease.ttl", "500",
+            "holiday.sync.lease.heartbeat-interval", "100"
+        )));
+        context.register(LeaseNodeConfig.class);
+        context.refresh();
+        return context;
+    }
+
+    private static void waitFor(CountDownLatch latch) {
+
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.exception.BusinessException;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.exception.ErrorCode;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.response.HolidaySyncResponse;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.dto.response.SyncJobResponse;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.enums.SyncJobStatus;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SyncJobService 단위 테스트")
+class SyncJobServiceImplTest {
+
+    @Mock
+    private SyncWorkService syncWorkService;
+
+    @Mock
+    private LeaseService leaseService;
+
+    private SyncJobServiceImpl syncJobService;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+
+        syncJobService = new SyncJobServiceImpl(syncWorkService, leaseService, 60_000, 100, 20);
+    }
+
+    @AfterEach
+    void tearDown() {
+
+        release.countDown();
+        syncJobService.shutdown();
+    }
+
+    @Test
+    @DisplayName("실행 중에 다시 요청하면 새 작업을 만들지 않고 같은 작업을 반환한다")
+    void duplicateSubmitAttaches() {
+
+        leaseAcquired();
+
+        when(syncWorkService.runFullSync(any(SyncProgress.class))).thenAnswer(invocation -> {
+            SyncProgress progress = invocation.getArgument(0);
+            progress.start(10);
+            progress.update(6, 1);
+            release.await(5, TimeUnit.SECONDS);
+            progress.update(9, 1);
+            return HolidaySyncResponse.builder().totalCount(10).successCount(9).failCount(1).build();
+        });
+
+        SyncJobResponse first = syncJobService.submitFullSync();
+        SyncJobResponse second = syncJobService.submitFullSync();
+
+        assertThat(second.jobId()).isEqualTo(first.jobId());
+        assertThat(second.status()).isEqualTo(SyncJobStatus.RUNNING);
+
+        await().atMost(Duration.ofSeconds(5))
+            .until(() -> syncJobService.getJob(first.jobId()).doneCount() == 6);
+
+        SyncJobResponse running = syncJobService.getJob(first.jobId());
+        assertThat(running.failedCount()).isEqualTo(1);
+        assertThat(running.remainingCount()).isEqualTo(3);
+        assertThat(running.result()).isNull();
+
+        release.countDown();
+
+        SyncJobResponse done = awaitFinished(first.jobId());
+        assertThat(done.status()).isEqualTo(SyncJobStatus.COMPLETED);
+        assertThat(done.remainingCount()).isZero();
+        assertThat(done.etaSeconds()).isZero();
+        assertThat(done.endTime()).isNotNull();
+        assertThat(done.result().successCount()).isEqualTo(9);
+
+        verify(syncWorkService, times(1)).runFullSync(any(SyncProgress.class));
+    }
+
+    @Test
+    @DisplayName("작업이 실패하면 FAILED 로 남고, 다음 요청은 새 작업을 시작한다")
+    void failedJobThenNewJob() {
+
+        leaseAcquired();
+
+        when(syncWorkService.runFullSync(any(SyncProgress.class)))
+            .thenThrow(new IllegalStateException("boom"))
+            .thenReturn(HolidaySyncResponse.builder().totalCount(0).successCount(0).failCount(0).build());
+
+        SyncJobResponse failed = syncJobService.submitFullSync();
+        SyncJobResponse failedDone = awaitFinished(failed.jobId());
+
+        assertThat(failedDone.status()).isEqualTo(SyncJobStatus.FAILED);
+        assertThat(failedDone.errorMessage()).isEqualTo("boom");
+
+        SyncJobResponse next = syncJobService.submitFullSync();
+
+        assertThat(next.jobId()).isNotEqualTo(failed.jobId());
+        assertThat(awaitFinished(next.jobId()).status()).isEqualTo(SyncJobStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 동기화 임대를 보유 중이면 동기화하지 않고 FAILED")
+    void leaseHeldByOtherNode() {
+
+        when(leaseService.runWithLease(eq(LeaseService.HOLIDAY_SYNC), any())).thenReturn(false);
+
+        SyncJobResponse job = syncJobService.submitFullSync();
+        SyncJobResponse done = awaitFinished(job.jobId());
+
+        assertThat(done.status()).isEqualTo(SyncJobStatus.FAILED);
+        assertThat(done.errorMessage()).isEqualTo(ErrorCode.SYNC_LEASE_HELD.getMessage());
+        verify(syncWorkService, never()).runFullSync(any(SyncProgress.class));
+    }
+
+    @Test
+    @DisplayName("없는 작업 ID 는 SYNC_JOB_NOT_FOUND")
+    void unknownJob() {
+
+        assertThatThrownBy(() -> syncJobService.getJob("unknown"))
+            .isInstanceOf(BusinessException.class)
+            .extracting("errorCode")
+            .isEqualTo(ErrorCode.SYNC_JOB_NOT_FOUND);
+    }
+
+    private void leaseAcquired() {
+
+        when(leaseService.runWithLease(eq(LeaseService.HOLIDAY_SYNC), any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return true;
+        });
+    }
+
+    private SyncJobResponse awaitFinished(String jobId) {
+
+        await().atMost(Duration.ofSeconds(5))
+            .until(() -> syncJobService.getJob(jobId).status().isFinished());
+        return syncJobService.getJob(jobId);
+    }
+}
@@ -0,0 +1,49 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.external_api_dto.response.HolidayResponse;
+
+@DisplayName("HolidayFingerprint 단위 테스트")
+class HolidayFingerprintTest {
+
+    private final HolidayResponse newYear = new HolidayResponse(
+        "2025-01-01", "신정", "New Year", "KR", true, true, null, 1948, new String[]{"Public"});
+
+    private final HolidayResponse independence = new HolidayResponse(
+        "2025-03-01", "삼일절", "Independence Day", "KR", true, true, null, 1948, new String[]{"Public"});
+
+    @Test
+    @DisplayName("응답 순서와 무관하게 같은 지문")
+    void sameContent_anyOrder() {
+
+        assertThat(HolidayFingerprint.of(List.of(newYear, independence)))
+            .isEqualTo(HolidayFingerprint.of(List.of(independence, newYear)));
+    }
+
+    @Test
+    @DisplayName("저장되는 필드가 하나라도 바뀌면 다른 지문")
+    void changedField() {
+
+        HolidayResponse bankHoliday = new HolidayResponse(
+            "2025-01-01", "신정", "New Year", "KR", true, true, null, 1948, new String[]{"Public", "Bank"});
+
+        assertThat(HolidayFingerprint.of(List.of(newYear)))
+            .isNotEqualTo(HolidayFingerprint.of(List.of(bankHoliday)));
+    }
+
+    @Test
+    @DisplayName("필드 경계가 달라지면 다른 지문 (null 과 빈 문자열 구분)")
+    void fieldBoundary() {
+
+        HolidayResponse a = new HolidayResponse("2025-01-01", "ab", "c", "KR", true, true, null, null, null);
+        HolidayResponse b = new HolidayResponse("2025-01-01", "a", "bc", "KR", true, true, null, null, null);
+        HolidayResponse empty = new HolidayResponse("2025-01-01", "ab", "c", "KR", true, true, new String[]{}, null, null);
+
+        assertThat(HolidayFingerprint.of(List.of(a))).isNotEqualTo(HolidayFingerprint.of(List.of(b)));
+        assertThat(HolidayFingerprint.of(List.of(a))).isNotEqualTo(HolidayFingerprint.of(List.of(empty)));
+    }
+}
@@ -0,0 +1,109 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.converter.HolidayConverter;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.Country;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.Holiday;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.external_api_dto.response.HolidayResponse;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.utility.HolidayJsonDecoder.Rows;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+@DisplayName("HolidayJsonDecoder 단위 테스트")
+class HolidayJsonDecoderTest {
+
+    // 필드 순서가 섞여 있고, 모르는 필드·중첩 값·null 이 포함된 응답
+    private static final String BODY = """
+        [
+          {"date":"2025-01-01","localName":"신정","name":"New Year","countryCode":"KR","fixed":true,
+           "global":true,"counties":null,"launchYear":1948,"types":["Public"]},
+          {"types":["Public","Bank"],"name":"Independence Day","date":"2025-03-01","unknown":{"a":[1,{"b":2}]},
+           "localName":"삼일절","global":false,"fixed":false,"counties":["KR-11","KR-26"],"launchYear":null},
+          {"date":"2025-05-05","localName":"","name":"Children's Day","countryCode":"KR","fixed":true,
+           "global":true,"counties":[],"launchYear":null,"types":["Public","Unknown"],"extra":[[]]}
+        ]
+        """;
+
+    private final Country korea = Country.builder().id(1L).code("KR").name("South Korea").build();
+
+    @Test
+    @DisplayName("HolidayResponse 를 거쳐 변환한 엔티티·지문과 같다")
+    void sameAsTwoStage() throws Exception {
+
+        // 스프링 부트 기본 ObjectMapper 처럼 모르는 필드 무시
+        ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        List<HolidayResponse> responses = Arrays.asList(objectMapper.readValue(BODY, HolidayResponse[].class));
+        HolidayConverter converter = new HolidayConverter();
+        List<Holiday> expected = new ArrayList<>();
+        for (HolidayResponse response : responses) {
+            expected.add(converter.toEntity(response, korea));
+        }
+
+        Rows rows = HolidayJsonDecoder.decode(BODY.getBytes(StandardCharsets.UTF_8), korea);
+
+        assertThat(rows.holidays()).usingRecursiveFieldByFieldElementComparator().isEqualTo(expected);
+        assertThat(rows.fingerprint()).isEqualTo(HolidayFingerprint.of(responses));
+    }
+
+    @Test
+    @DisplayName("버퍼가 멀티바이트 문자 중간에서 나뉘어 도착해도 같은 결과")
+    void splitBuffers() throws Exception {
+
+        byte[] bytes = BODY.getBytes(StandardCharsets.UTF_8);
+        List<DataBuffer> buffers = new ArrayList<>();
+        for (int i = 0; i < bytes.length; i += 3) {
+            buffers.add(DefaultDataBufferFactory.sharedInstance.wrap(
+                Arrays.copyOfRange(bytes, i, Math.min(i + 3, bytes.length))));
+        }
+
+        Rows expected = HolidayJsonDecoder.decode(bytes, korea);
+        Rows rows = HolidayJsonDecoder.decode(Flux.fromIterable(buffers), korea).block();
+
+        assertThat(rows.holidays()).usingRecursiveFieldByFieldElementComparator().isEqualTo(expected.holidays());
+        assertThat(rows.fingerprint()).isEqualTo(expected.fingerprint());
+    }
+
+    @Test
+    @DisplayName("빈 본문과 빈 배열은 빈 목록")
+    void empty() throws Exception {
+
+        long emptyFingerprint = HolidayFingerprint.of(List.of());
+
+        assertThat(HolidayJsonDecoder.decode(new byte[0], korea))
+            .isEqualTo(new Rows(List.of(), emptyFingerprint));
+        assertThat(HolidayJsonDecoder.decode("[]".getBytes(StandardCharsets.UTF_8), korea))
+            .isEqualTo(new Rows(List.of(), emptyFingerprint));
+    }
+
+    @Test
+    @DisplayName("배열이 아니거나, 날짜가 없거나, 중간에 끝나면 JsonParseException")
+    void malformed() {
+
+        assertThatThrownBy(() -> HolidayJsonDecoder.decode(bytes("{\"date\":\"2025-01-01\"}"), korea))
+            .isInstanceOf(JsonParseException.class);
+        assertThatThrownBy(() -> HolidayJsonDecoder.decode(bytes("[{\"name\":\"New Year\"}]"), korea))
+            .isInstanceOf(JsonParseException.class);
+        assertThatThrownBy(() -> HolidayJsonDecoder.decode(bytes("[{\"date\":\"2025-13-01\"}]"), korea))
+            .isInstanceOf(JsonParseException.class);
+        assertThatThrownBy(() -> HolidayJsonDecoder.decode(bytes("[{\"date\":\"2025-01-01\""), korea))
+            .isInstanceOf(JsonParseException.class);
+    }
+
+    private static byte[] bytes(String json) {
+
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+}
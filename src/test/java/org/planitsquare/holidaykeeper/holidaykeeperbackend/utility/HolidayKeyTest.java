@@ -0,0 +1,107 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.Country;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.model.entity.Holiday;
+
+@DisplayName("HolidayKey / HolidayDiff 단위 테스트")
+class HolidayKeyTest {
+
+    private final Country korea = Country.builder().id(1L).code("KR").name("South Korea").build();
+    private final Country japan = Country.builder().id(2L).code("JP").name("Japan").build();
+
+    @Test
+    @DisplayName("앞뒤 공백과 특수 따옴표만 다르면 같은 키")
+    void normalizedNameEquals() {
+
+        HolidayKey curly = HolidayKey.of(holiday(korea, LocalDate.of(2025, 1, 1), "  New Year’s “Day” "));
+        HolidayKey straight = HolidayKey.of(holiday(korea, LocalDate.of(2025, 1, 1), "New Year's \"Day\""));
+
+        assertThat(curly).isEqualTo(straight);
+        assertThat(curly.hashCode()).isEqualTo(straight.hashCode());
+        assertThat(curly.nameHash()).isEqualTo("New Year's \"Day\"".hashCode());
+    }
+
+    @Test
+    @DisplayName("normalizedName 은 키 비교와 같은 규칙으로 정규화한 문자열 (' ' 이하 제어 문자도 앞뒤에서 제거)")
+    void normalizedName() {
+
+        assertThat(HolidayKey.normalizedName("\t New Year’s “Day”\n")).isEqualTo("New Year's \"Day\"");
+        assertThat(HolidayKey.normalizedName(null)).isEmpty();
+        assertThat(HolidayKey.normalizedName("Aa").hashCode()).isEqualTo(HolidayKey.hashNormalized("Aa"));
+    }
+
+    @Test
+    @DisplayName("국가·날짜·영문명 중 하나라도 다르면 다른 키 (null 영문명은 빈 문자열과 같음)")
+    void differentKey() {
+
+        HolidayKey base = HolidayKey.of(holiday(korea, LocalDate.of(2025, 1, 1), "New Year"));
+
+        assertThat(base).isNotEqualTo(HolidayKey.of(holiday(japan, LocalDate.of(2025, 1, 1), "New Year")));
+        assertThat(base).isNotEqualTo(HolidayKey.of(holiday(korea, LocalDate.of(2025, 1, 2), "New Year")));
+        assertThat(base).isNotEqualTo(HolidayKey.of(holiday(korea, LocalDate.of(2025, 1, 1), "New Years")));
+        assertThat(HolidayKey.of(holiday(korea, LocalDate.of(2025, 1, 1), null)))
+            .isEqualTo(HolidayKey.of(holiday(korea, LocalDate.of(2025, 1, 1), " ")));
+    }
+
+    @Test
+    @DisplayName("해시가 충돌해도 정규화된 영문명이 다르면 다른 키")
+    void hashCollision() {
+
+        // "Aa" 와 "BB" 는 String.hashCode 가 같음
+        HolidayKey aa = HolidayKey.of(holiday(korea, LocalDate.of(2025, 1, 1), "Aa"));
+        HolidayKey bb = HolidayKey.of(holiday(korea, LocalDate.of(2025, 1, 1), "BB"));
+
+        assertThat(aa.hashCode()).isEqualTo(bb.hashCode());
+        assertThat(aa).isNotEqualTo(bb);
+    }
+
+    @Test
+    @DisplayName("HolidayDiff 는 추가·수정·삭제를 나누고, 새 목록의 중복 키는 첫 번째 값만 사용한다")
+    void diff() {
+
+        Holiday kept = holiday(korea, LocalDate.of(2025, 1, 1), "New Year");
+        Holiday changed = holiday(korea, LocalDate.of(2025, 3, 1), "Independence Day");
+        Holiday removed = holiday(korea, LocalDate.of(2025, 5, 5), "Children's Day");
+
+        Holiday changedNew = holiday(korea, LocalDate.of(2025, 3, 1), "3·1절", "Independence Day");
+        Holiday added = holiday(korea, LocalDate.of(2025, 6, 6), "Memorial Day");
+        Holiday addedDuplicate = holiday(korea, LocalDate.of(2025, 6, 6), "중복", "Memorial Day");
+
+        HolidayDiff diff = HolidayDiff.of(
+            List.of(kept, changed, removed),
+            List.of(holiday(korea, LocalDate.of(2025, 1, 1), "New Year"), changedNew, added, addedDuplicate)
+        );
+
+        assertThat(diff.oldCount()).isEqualTo(3);
+        assertThat(diff.newCount()).isEqualTo(3);
+        assertThat(diff.insertCount()).isEqualTo(1);
+        assertThat(diff.updateCount()).isEqualTo(1);
+        assertThat(diff.toDelete()).containsExactly(removed);
+        assertThat(diff.toSave()).containsExactly(changed, added);
+        assertThat(changed.getLocalName()).isEqualTo("3·1절");
+    }
+
+    private Holiday holiday(Country country, LocalDate date, String name) {
+
+        return holiday(country, date, "현지명", name);
+    }
+
+    private Holiday holiday(Country country, LocalDate date, String localName, String name) {
+
+        return Holiday.builder()
+            .date(date)
+            .localName(localName)
+            .name(name)
+            .country(country)
+            .fixed(true)
+            .global(true)
+            .typeMask(1)
+            .build();
+    }
+}
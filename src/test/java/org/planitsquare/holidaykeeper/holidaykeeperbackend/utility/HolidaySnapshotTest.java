@@ -0,0 +1,90 @@
+package org.planitsquare.holidaykeeper.holidaykeeperbackend.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.utility.HolidaySnapshot.InvalidSnapshotException;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.utility.HolidaySnapshot.SnapshotCountry;
+import org.planitsquare.holidaykeeper.holidaykeeperbackend.utility.HolidaySnapshot.SnapshotHoliday;
+
+@DisplayName("HolidaySnapshot 단위 테스트")
+class HolidaySnapshotTest {
+
+    private final List<SnapshotCountry> countries = List.of(
+        new SnapshotCountry(1L, "KR", "South Korea", true),
+        new SnapshotCountry(51L, "JP", "Japan", false));
+
+    private final List<SnapshotHoliday> holidays = List.of(
+        new SnapshotHoliday(10L, 1L, epochDay(2025, 1, 1), "새해", "New Year's Day",
+            true, true, null, null, 1),
+        new SnapshotHoliday(11L, 51L, epochDay(2025, 1, 1), "元日", "New Year's Day",
+            false, false, "JP-01,JP-13", 1948, 0b101));
+
+    @Test
+    @DisplayName("쓴 스냅샷을 읽으면 국가·공휴일이 그대로 복원된다 (없는 지역·시작 연도 포함)")
+    void roundTrip() throws IOException {
+
+        byte[] bytes = write();
+
+        List<SnapshotCountry> readCountries = new ArrayList<>();
+        List<SnapshotHoliday> readHolidays = new ArrayList<>();
+        long createdAt = HolidaySnapshot.read(ByteBuffer.wrap(bytes), readCountries::addAll, readHolidays::add);
+
+        assertThat(createdAt).isEqualTo(1_700_000_000_000L);
+        assertThat(readCountries).containsExactlyElementsOf(countries);
+        assertThat(readHolidays).containsExactlyElementsOf(holidays);
+    }
+
+    @Test
+    @DisplayName("같은 문자열은 사전에 한 번만 저장된다")
+    void dictionaryReuse() throws IOException {
+
+        List<SnapshotHoliday> repeated = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            repeated.add(new SnapshotHoliday(i, 1L, epochDay(2025, 1, 1) + i, "새해", "New Year's Day",
+                true, true, null, null, 1));
+        }
+
+        ByteArrayOutputStream one = new ByteArrayOutputStream();
+        HolidaySnapshot.write(one, countries, repeated.subList(0, 1), 0L);
+        ByteArrayOutputStream hundred = new ByteArrayOutputStream();
+        HolidaySnapshot.write(hundred, countries, repeated, 0L);
+
+        // 행 하나당 고정 길이(8 + 4 * 5 + 2 + 1 + 1)만 늘어남
+        assertThat(hundred.size() - one.size()).isEqualTo(99 * 32);
+    }
+
+    @Test
+    @DisplayName("한 바이트라도 손상되면 체크섬 오류로 읽지 않는다")
+    void corrupted() throws IOException {
+
+        byte[] bytes = write();
+        bytes[bytes.length / 2] ^= 0x01;
+
+        List<SnapshotHoliday> readHolidays = new ArrayList<>();
+        assertThatThrownBy(() -> HolidaySnapshot.read(ByteBuffer.wrap(bytes), list -> {
+        }, readHolidays::add))
+            .isInstanceOf(InvalidSnapshotException.class);
+        assertThat(readHolidays).isEmpty();
+    }
+
+    private byte[] write() throws IOException {
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        HolidaySnapshot.write(out, countries, holidays, 1_700_000_000_000L);
+        return out.toByteArray();
+    }
+
+    private static int epochDay(int year, int month, int day) {
+
+        return (int) LocalDate.of(year, month, day).toEpochDay();
+    }
+}
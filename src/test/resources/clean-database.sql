@@ -1,4 +1,6 @@
 DELETE
+FROM country_year_sync_state;
+DELETE
 FROM country_holiday;
 DELETE
 FROM country;
\ No newline at end of file